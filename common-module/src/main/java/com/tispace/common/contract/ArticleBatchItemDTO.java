@@ -0,0 +1,28 @@
+package com.tispace.common.contract;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result for one requested id of a batch get, in request order")
+public class ArticleBatchItemDTO {
+	
+	@Schema(description = "Requested article ID", example = "01234567-89ab-7def-0123-456789abcdef")
+	private UUID id;
+	
+	@Schema(description = "Whether an article with this ID exists", example = "true")
+	private boolean found;
+	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "The article; absent when not found")
+	private ArticleDTO article;
+}
@@ -0,0 +1,30 @@
+package com.tispace.common.contract;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Ids of the articles to fetch in one request")
+public class ArticleBatchRequestDTO {
+	
+	@NotEmpty(message = "At least one article ID is required")
+	@Size(max = 100, message = "Cannot request more than 100 articles at once")
+	@ArraySchema(
+		schema = @Schema(description = "Article ID", example = "01234567-89ab-7def-0123-456789abcdef"),
+		maxItems = 100
+	)
+	private List<@NotNull(message = "Article ID is required") UUID> ids;
+}
@@ -0,0 +1,26 @@
+package com.tispace.common.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Articles inserted after a change feed position, in feed order")
+public class ArticleChangesDTO {
+	
+	@Schema(description = "Inserted articles, oldest change first")
+	private List<ArticleDTO> content;
+	
+	@Schema(description = "Whether more changes follow right away; if not, poll again later or follow the stream")
+	private boolean hasMore;
+	
+	@Schema(description = "Feed position after this batch, always present; pass it as 'since' or as Last-Event-ID to continue", example = "YzF8ODgwfDAwMDAwMDAwLTAwMDAtMDAwMC0wMDAwLTAwMDAwMDAwMDAwMA")
+	private String nextCursor;
+}
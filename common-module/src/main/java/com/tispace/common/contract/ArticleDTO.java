@@ -1,6 +1,7 @@
 package com.tispace.common.contract;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -10,6 +11,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -44,6 +46,22 @@ public class ArticleDTO {
 	@Schema(description = "Category of the article", example = "technology")
 	private String category;
 	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Detected ISO 639-1 language code, omitted when undetermined", example = "en")
+	private String language;
+	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Normalized keywords extracted from title and description", example = "[\"chip\", \"launch\"]")
+	private List<String> keywords;
+	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "URL-friendly slug derived from the title", example = "breaking-new-technology-released")
+	private String slug;
+	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Estimated reading time in minutes", example = "1")
+	private Integer readingTimeMinutes;
+	
 	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
 	@Schema(description = "Timestamp when the article was created in the system", example = "2025-01-18T12:00:00.000")
 	private LocalDateTime createdAt;
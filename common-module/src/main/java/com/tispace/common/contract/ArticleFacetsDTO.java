@@ -0,0 +1,68 @@
+package com.tispace.common.contract;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Article counts per category and per publication day")
+public class ArticleFacetsDTO {
+	
+	@Schema(description = "Category the total and histogram are restricted to; absent for all articles", example = "technology")
+	private String category;
+	
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@Schema(description = "First publication day counted, inclusive; absent when unbounded", example = "2025-01-01")
+	private LocalDate from;
+	
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@Schema(description = "Last publication day counted, inclusive; absent when unbounded", example = "2025-01-31")
+	private LocalDate to;
+	
+	@Schema(description = "Articles published in the range, in the category if one was requested", example = "1280")
+	private long total;
+	
+	@Schema(description = "Articles published in the range per category, most articles first; not restricted by the category filter")
+	private List<CategoryCount> categories;
+	
+	@Schema(description = "Articles published per day in the range, oldest day first; days without articles are omitted")
+	private List<DayCount> histogram;
+	
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(description = "Article count of one category")
+	public static class CategoryCount {
+		
+		@Schema(description = "Category", example = "technology")
+		private String category;
+		
+		@Schema(description = "Articles in the category", example = "640")
+		private long count;
+	}
+	
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(description = "Article count of one publication day")
+	public static class DayCount {
+		
+		@JsonFormat(pattern = "yyyy-MM-dd")
+		@Schema(description = "Publication day", example = "2025-01-18")
+		private LocalDate day;
+		
+		@Schema(description = "Articles published on the day", example = "42")
+		private long count;
+	}
+}
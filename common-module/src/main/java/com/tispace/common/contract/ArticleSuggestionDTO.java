@@ -0,0 +1,29 @@
+package com.tispace.common.contract;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Article title matching a type-ahead prefix")
+public class ArticleSuggestionDTO {
+	
+	@Schema(description = "Unique identifier of the article", example = "01234567-89ab-7def-0123-456789abcdef")
+	private UUID id;
+	
+	@Schema(description = "Title of the article", example = "Breaking: New Technology Released")
+	private String title;
+	
+	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	@Schema(description = "Publication date and time of the article; newer titles are suggested first", example = "2025-01-18T10:00:00")
+	private LocalDateTime publishedAt;
+}
@@ -0,0 +1,23 @@
+package com.tispace.common.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Newest articles of one category")
+public class CategoryArticlesDTO {
+	
+	@Schema(description = "Category", example = "technology")
+	private String category;
+	
+	@Schema(description = "Newest articles of the category, newest first")
+	private List<ArticleDTO> articles;
+}
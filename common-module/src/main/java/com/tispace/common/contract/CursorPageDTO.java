@@ -0,0 +1,34 @@
+package com.tispace.common.contract;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of a cursor-paginated listing")
+public class CursorPageDTO<T> {
+	
+	@Schema(description = "Items of this page")
+	private List<T> content;
+	
+	@Schema(description = "Requested page size", example = "20")
+	private int size;
+	
+	@Schema(description = "Whether more items follow this page", example = "true")
+	private boolean hasNext;
+	
+	@Schema(description = "Opaque cursor for the next page; absent on the last page", example = "djF8UFVCTElTSEVEX0FUfERFU0N8MHwyMDI1LTAxLTE4VDEwOjAwfDAxMjM0NTY3LTg5YWItN2RlZi0wMTIzLTQ1Njc4OWFiY2RlZnw")
+	private String nextCursor;
+	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Total number of items, exact or estimated depending on the requested count mode; absent when count=none", example = "1250")
+	private Long totalElements;
+}
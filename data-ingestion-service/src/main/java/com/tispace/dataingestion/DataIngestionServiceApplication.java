@@ -1,6 +1,18 @@
 package com.tispace.dataingestion;
 
+import com.tispace.dataingestion.config.AdaptiveConcurrencyProperties;
+import com.tispace.dataingestion.config.ArticleCacheProperties;
+import com.tispace.dataingestion.config.ArticleExportProperties;
+import com.tispace.dataingestion.config.ArticleFeedProperties;
+import com.tispace.dataingestion.config.ArticleHotWindowProperties;
+import com.tispace.dataingestion.config.ArticleResponseCacheProperties;
+import com.tispace.dataingestion.config.ArticleSuggestProperties;
+import com.tispace.dataingestion.config.BackfillProperties;
+import com.tispace.dataingestion.config.DataSourcePoolProperties;
+import com.tispace.dataingestion.config.GroupCommitProperties;
 import com.tispace.dataingestion.config.InternalSecurityProperties;
+import com.tispace.dataingestion.config.NewsApiKeyPoolProperties;
+import com.tispace.dataingestion.config.ReadReplicaProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -11,7 +23,11 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @SpringBootApplication(scanBasePackages = {"com.tispace.dataingestion", "com.tispace.common"})
 @EntityScan(basePackages = "com.tispace.dataingestion.domain.entity")
 @EnableJpaRepositories(basePackages = "com.tispace.dataingestion.infrastructure.repository")
-@EnableConfigurationProperties(InternalSecurityProperties.class)
+@EnableConfigurationProperties({InternalSecurityProperties.class, BackfillProperties.class, GroupCommitProperties.class,
+	NewsApiKeyPoolProperties.class, ArticleCacheProperties.class, ArticleSuggestProperties.class,
+	ArticleExportProperties.class, ArticleHotWindowProperties.class, ArticleResponseCacheProperties.class,
+	ArticleFeedProperties.class, ReadReplicaProperties.class, DataSourcePoolProperties.class,
+	AdaptiveConcurrencyProperties.class})
 @EnableScheduling
 public class DataIngestionServiceApplication {
 	
@@ -0,0 +1,46 @@
+package com.tispace.dataingestion.actuator;
+
+import com.tispace.dataingestion.config.BackfillProperties;
+import com.tispace.dataingestion.service.BackfillService;
+import com.tispace.dataingestion.service.BackfillStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * One-off backfill command. Runs a single backfill on startup and exits, e.g.:
+ * {@code java -jar data-ingestion-service.jar --scheduler.enabled=false --backfill.command.enabled=true
+ * --backfill.command.keyword=ai --backfill.command.from=2025-01-01T00:00:00 --backfill.command.to=2025-02-01T00:00:00}
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "backfill.command.enabled", havingValue = "true")
+public class BackfillCommandRunner implements ApplicationRunner {
+
+    private final BackfillService backfillService;
+    private final BackfillProperties properties;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        BackfillProperties.Command command = properties.getCommand();
+        LocalDateTime from = BackfillEndpoint.parse("backfill.command.from", command.getFrom());
+        LocalDateTime to = BackfillEndpoint.parse("backfill.command.to", command.getTo());
+
+        BackfillStatus status = backfillService.run(new BackfillService.BackfillRequest(
+                command.getKeyword(), command.getCategory(), from, to));
+
+        int exitCode = status.state() == BackfillStatus.State.COMPLETED ? 0 : 1;
+        log.info("Backfill command finished with state={}, exiting with code {}", status.state(), exitCode);
+        System.exit(SpringApplication.exit(applicationContext, (ExitCodeGenerator) () -> exitCode));
+    }
+}
@@ -0,0 +1,53 @@
+package com.tispace.dataingestion.actuator;
+
+import com.tispace.dataingestion.service.BackfillService;
+import com.tispace.dataingestion.service.BackfillStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Actuator endpoint to trigger and observe historical backfills.
+ * POST /actuator/backfill {"keyword": "...", "category": "...", "from": "2025-01-01T00:00:00", "to": "2025-02-01T00:00:00"}
+ * starts a backfill; GET /actuator/backfill returns the latest job status.
+ * Protected by the internal token like every non-health actuator endpoint.
+ */
+@Component
+@Endpoint(id = "backfill")
+@RequiredArgsConstructor
+public class BackfillEndpoint {
+
+    private final BackfillService backfillService;
+
+    @ReadOperation
+    @Nullable
+    public BackfillStatus status() {
+        return backfillService.getStatus().orElse(null);
+    }
+
+    @WriteOperation
+    public BackfillStatus start(String keyword, @Nullable String category, String from, String to) {
+        return backfillService.start(new BackfillService.BackfillRequest(
+                keyword, category, parse("from", from), parse("to", to)));
+    }
+
+    static LocalDateTime parse(String name, String value) {
+        if (value == null || value.isBlank()) {
+            throw new InvalidEndpointRequestException("Missing '" + name + "'", "Missing " + name);
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException(
+                    "Invalid '" + name + "': expected ISO local date-time (e.g. 2025-01-01T00:00:00)",
+                    "Invalid " + name);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 public class NewsApiAdapter {
 	
 	private String status;
+	private Integer totalResults;
 	private List<ArticleResponse> articles;
 	
 	@Data
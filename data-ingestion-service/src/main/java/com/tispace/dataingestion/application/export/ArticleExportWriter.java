@@ -0,0 +1,29 @@
+package com.tispace.dataingestion.application.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tispace.common.contract.ArticleDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes exported articles to a stream one at a time. Implementations buffer a bounded amount of output and
+ * never hold on to written articles.
+ */
+public interface ArticleExportWriter {
+
+    void write(ArticleDTO article) throws IOException;
+
+    /**
+     * Writes out anything still buffered. Does not close the underlying stream.
+     */
+    void finish() throws IOException;
+
+    static ArticleExportWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonArticleWriter(out, objectMapper);
+            case CSV -> new CsvArticleWriter(out);
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.tispace.dataingestion.application.export;
+
+import com.tispace.common.contract.ArticleDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV with a header row: fields containing a separator, quote or line break are quoted, and records end
+ * with CRLF. Keywords are joined with {@code ;} into a single field; absent values are empty fields.
+ */
+final class CsvArticleWriter implements ArticleExportWriter {
+
+    static final String HEADER = "id,title,description,author,published_at,category,language,keywords,slug,"
+            + "reading_time_minutes,created_at,updated_at";
+
+    private static final String RECORD_END = "\r\n";
+    private static final String KEYWORD_SEPARATOR = ";";
+    private static final int BUFFER_CHARS = 8192;
+
+    // same patterns as the JSON representation
+    private static final DateTimeFormatter PUBLISHED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final DateTimeFormatter AUDIT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    private final Writer writer;
+
+    CsvArticleWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_CHARS);
+        writer.write(HEADER);
+        writer.write(RECORD_END);
+    }
+
+    @Override
+    public void write(ArticleDTO article) throws IOException {
+        field(article.getId() != null ? article.getId().toString() : null, false);
+        field(article.getTitle(), true);
+        field(article.getDescription(), true);
+        field(article.getAuthor(), true);
+        field(format(article.getPublishedAt(), PUBLISHED_AT), true);
+        field(article.getCategory(), true);
+        field(article.getLanguage(), true);
+        field(keywords(article.getKeywords()), true);
+        field(article.getSlug(), true);
+        field(article.getReadingTimeMinutes() != null ? article.getReadingTimeMinutes().toString() : null, true);
+        field(format(article.getCreatedAt(), AUDIT_TIMESTAMP), true);
+        field(format(article.getUpdatedAt(), AUDIT_TIMESTAMP), true);
+        writer.write(RECORD_END);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void field(String value, boolean separated) throws IOException {
+        if (separated) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String keywords(List<String> keywords) {
+        return keywords != null ? String.join(KEYWORD_SEPARATOR, keywords) : null;
+    }
+
+    private static String format(LocalDateTime value, DateTimeFormatter formatter) {
+        return value != null ? formatter.format(value) : null;
+    }
+}
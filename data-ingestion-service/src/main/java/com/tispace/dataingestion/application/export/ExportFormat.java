@@ -0,0 +1,37 @@
+package com.tispace.dataingestion.application.export;
+
+import com.tispace.common.exception.BusinessException;
+import org.springframework.http.MediaType;
+
+/**
+ * Wire format of an article export.
+ */
+public enum ExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        return switch (value == null ? "" : value.trim().toLowerCase()) {
+            case "ndjson" -> NDJSON;
+            case "csv" -> CSV;
+            default -> throw new BusinessException("Invalid export format: " + value + ". Must be 'ndjson' or 'csv'");
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.tispace.dataingestion.application.filter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * Criteria of an article listing: member of any of {@code categories}, published in
+ * {@code [publishedFrom, publishedTo)}, written by {@code author} (case-insensitive). Every criterion is optional.
+ * Categories are kept sorted and distinct, so requests for the same listing get equal filters.
+ */
+public record ArticleFilter(List<String> categories,
+                            LocalDateTime publishedFrom,
+                            LocalDateTime publishedTo,
+                            String author) {
+
+    public static final ArticleFilter NONE = new ArticleFilter(List.of(), null, null, null);
+
+    public ArticleFilter {
+        categories = List.copyOf(new TreeSet<>(categories));
+    }
+
+    /**
+     * @param categories normalized categories
+     * @param author     normalized author, or {@code null}
+     */
+    public static ArticleFilter of(Collection<String> categories, LocalDateTime publishedFrom,
+                                   LocalDateTime publishedTo, String author) {
+        return new ArticleFilter(List.copyOf(categories), publishedFrom, publishedTo, author);
+    }
+
+    /**
+     * The listing of a single category as requested, or of all articles if it is blank.
+     */
+    public static ArticleFilter category(String category) {
+        String normalized = StringUtils.trimToNull(category);
+        return normalized != null ? new ArticleFilter(List.of(normalized), null, null, null) : NONE;
+    }
+
+    /**
+     * The only category, or {@code null} when the listing spans all or several categories.
+     */
+    public String category() {
+        return categories.size() == 1 ? categories.getFirst() : null;
+    }
+
+    /**
+     * Whether nothing but at most one category is filtered: the listings that have a topic counter, a dataset
+     * version and a hot window of their own.
+     */
+    public boolean isCategoryOnly() {
+        return categories.size() <= 1 && publishedFrom == null && publishedTo == null && author == null;
+    }
+
+    /**
+     * Short stable identity of the listing for cursors: {@code null} for all articles, the category for a single
+     * category, a digest of {@link #toString()} otherwise.
+     */
+    public String key() {
+        if (isCategoryOnly()) {
+            return category();
+        }
+        return "~" + DigestUtils.md5DigestAsHex(toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Stable form for ETags and logs. */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(";");
+        joiner.add("category=" + String.join(",", categories));
+        joiner.add("from=" + (publishedFrom != null ? publishedFrom : ""));
+        joiner.add("to=" + (publishedTo != null ? publishedTo : ""));
+        joiner.add("author=" + (author != null ? author : ""));
+        return joiner.toString();
+    }
+}
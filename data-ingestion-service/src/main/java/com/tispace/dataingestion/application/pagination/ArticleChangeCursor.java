@@ -0,0 +1,59 @@
+package com.tispace.dataingestion.application.pagination;
+
+import com.tispace.common.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in the article change feed: the {@code (inserted_xid, id)} of the last inserted article seen, or
+ * {@code (xmin, nil UUID)} for "every insert committed before transaction {@code xmin}". Positions are global, so a
+ * cursor is valid with any category filter, and they compare the way PostgreSQL orders the pair.
+ */
+public record ArticleChangeCursor(long xid, UUID id) implements Comparable<ArticleChangeCursor> {
+
+    private static final String VERSION = "c1";
+    private static final String SEPARATOR = "|";
+    private static final UUID NIL = new UUID(0L, 0L);
+
+    /**
+     * Position before every article inserted by transaction {@code xid} or later.
+     */
+    public static ArticleChangeCursor before(long xid) {
+        return new ArticleChangeCursor(xid, NIL);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, Long.toUnsignedString(xid), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unsupported cursor format");
+            }
+            return new ArticleChangeCursor(Long.parseUnsignedLong(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+
+    // xid8 and uuid both compare unsigned, unlike Long and UUID
+    @Override
+    public int compareTo(ArticleChangeCursor other) {
+        int byXid = Long.compareUnsigned(xid, other.xid);
+        if (byXid != 0) {
+            return byXid;
+        }
+        int byHigh = Long.compareUnsigned(id.getMostSignificantBits(), other.id.getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(id.getLeastSignificantBits(), other.id.getLeastSignificantBits());
+    }
+
+    public boolean isAfter(ArticleChangeCursor other) {
+        return compareTo(other) > 0;
+    }
+}
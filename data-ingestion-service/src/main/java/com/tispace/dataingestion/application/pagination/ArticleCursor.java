@@ -0,0 +1,69 @@
+package com.tispace.dataingestion.application.pagination;
+
+import com.tispace.common.exception.BusinessException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Opaque position in a keyset-paginated article listing: the {@code (sortKey, id)} of the last row returned,
+ * plus the sort and filter it was issued for, so a cursor cannot be replayed against a different listing. The filter
+ * is held as ArticleFilter#key(), which is the category itself for single-category listings.
+ * {@code nullKeys} marks that the listing has moved past all rows with a non-null sort key.
+ */
+public record ArticleCursor(KeysetSortField field,
+                            Sort.Direction direction,
+                            String filter,
+                            boolean nullKeys,
+                            LocalDateTime sortValue,
+                            UUID id) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    private static final String NONE = "";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                field.name(),
+                direction.name(),
+                nullKeys ? "1" : "0",
+                sortValue != null ? sortValue.toString() : NONE,
+                id.toString(),
+                filter != null ? filter : NONE);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // filter is last and may itself contain the separator
+            String[] parts = raw.split("\\|", 7);
+            if (parts.length != 7 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unsupported cursor format");
+            }
+            return new ArticleCursor(
+                    KeysetSortField.valueOf(parts[1]),
+                    Sort.Direction.valueOf(parts[2]),
+                    parts[6].isEmpty() ? null : parts[6],
+                    "1".equals(parts[3]),
+                    parts[4].isEmpty() ? null : LocalDateTime.parse(parts[4]),
+                    UUID.fromString(parts[5]));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Rejects cursors issued for a different sort or filter than the current request.
+     */
+    public void requireMatches(KeysetSortField expectedField, Sort.Direction expectedDirection, String expectedFilter) {
+        if (field != expectedField || direction != expectedDirection || !Objects.equals(filter, expectedFilter)) {
+            throw new BusinessException("Cursor does not match the requested sort or filter");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.tispace.dataingestion.application.pagination;
+
+import com.tispace.common.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Opaque position in ranked search results: the {@code (rank, id)} of the last hit returned, plus the query and
+ * category it was issued for. The query is kept as a hash only, which is enough to reject a cursor replayed
+ * against a different search without letting long queries inflate the token.
+ */
+public record ArticleSearchCursor(int queryHash,
+                                  String category,
+                                  float rank,
+                                  UUID id) {
+
+    private static final String VERSION = "s1";
+    private static final String SEPARATOR = "|";
+    private static final String NONE = "";
+
+    public static ArticleSearchCursor after(String query, String category, float rank, UUID id) {
+        return new ArticleSearchCursor(query.hashCode(), category, rank, id);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                Integer.toHexString(queryHash),
+                // Float.toString round-trips, so the seek compares against the exact stored rank
+                Float.toString(rank),
+                id.toString(),
+                category != null ? category : NONE);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // category is last and may itself contain the separator
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unsupported cursor format");
+            }
+            float rank = Float.parseFloat(parts[2]);
+            if (!Float.isFinite(rank)) {
+                throw new IllegalArgumentException("rank out of range");
+            }
+            return new ArticleSearchCursor(
+                    Integer.parseUnsignedInt(parts[1], 16),
+                    parts[4].isEmpty() ? null : parts[4],
+                    rank,
+                    UUID.fromString(parts[3]));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Rejects cursors issued for a different query or category than the current request.
+     */
+    public void requireMatches(String expectedQuery, String expectedCategory) {
+        if (queryHash != expectedQuery.hashCode() || !Objects.equals(category, expectedCategory)) {
+            throw new BusinessException("Cursor does not match the requested query or category");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.tispace.dataingestion.application.pagination;
+
+import com.tispace.common.exception.BusinessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+
+/**
+ * Maps a whitelisted API sort onto the ordering the offset listing queries actually use, so every accepted
+ * (sort, category) combination is read in index order instead of being sorted:
+ * <ul>
+ *   <li>every sort gets the id as tie-breaker, matching the {@code (key, id)} indexes;</li>
+ *   <li>text fields sort on their truncated, case-folded sort-key columns;</li>
+ *   <li>category listings are rooted on article_topics, whose index only covers publishedAt and id,
+ *       so other sorts are rejected together with a category.</li>
+ * </ul>
+ */
+public final class ArticleSortPlan {
+
+    private static final String ID = "id";
+    private static final String PUBLISHED_AT = "publishedAt";
+    private static final String TOPIC_ARTICLE_ID = "articleId";
+
+    private static final Map<String, String> SORT_KEY_PROPERTIES = Map.of(
+            "title", "titleSortKey",
+            "author", "authorSortKey",
+            "description", "descriptionSortKey"
+    );
+
+    private static final String CATEGORY_SORT_FIELDS = ID + ", " + PUBLISHED_AT;
+
+    private ArticleSortPlan() {
+    }
+
+    /**
+     * @param category normalized category filter, or {@code null}
+     * @return the pageable to pass to the listing query; unsorted pageables are returned unchanged
+     */
+    public static Pageable plan(Pageable pageable, String category) {
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            return pageable;
+        }
+        if (sort.stream().count() > 1) {
+            throw new BusinessException("Only a single sort field is supported");
+        }
+
+        Sort.Order order = sort.iterator().next();
+        Sort.Direction direction = order.getDirection();
+        String property = order.getProperty();
+
+        Sort planned;
+        if (category != null) {
+            planned = switch (property) {
+                case PUBLISHED_AT -> Sort.by(direction, PUBLISHED_AT, TOPIC_ARTICLE_ID);
+                case ID -> Sort.by(direction, TOPIC_ARTICLE_ID);
+                default -> throw new BusinessException("Sorting by " + property
+                        + " is not supported together with a category filter. Supported fields are: " + CATEGORY_SORT_FIELDS);
+            };
+        } else if (ID.equals(property)) {
+            planned = Sort.by(direction, ID);
+        } else {
+            planned = Sort.by(direction, SORT_KEY_PROPERTIES.getOrDefault(property, property), ID);
+        }
+
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), planned);
+    }
+}
@@ -0,0 +1,27 @@
+package com.tispace.dataingestion.application.pagination;
+
+import com.tispace.common.exception.BusinessException;
+
+/**
+ * How a listing reports its total: an exact {@code count(*)}, a maintained estimate, or not at all
+ * (only whether another page follows).
+ */
+public enum CountMode {
+
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public String headerValue() {
+        return name().toLowerCase();
+    }
+
+    public static CountMode from(String value) {
+        return switch (value == null ? "" : value.trim().toLowerCase()) {
+            case "exact" -> EXACT;
+            case "estimated" -> ESTIMATED;
+            case "none" -> NONE;
+            default -> throw new BusinessException("Invalid count mode: " + value + ". Must be 'exact', 'estimated' or 'none'");
+        };
+    }
+}
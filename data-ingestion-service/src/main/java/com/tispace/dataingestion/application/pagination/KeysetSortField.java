@@ -0,0 +1,117 @@
+package com.tispace.dataingestion.application.pagination;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.common.exception.BusinessException;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Sort fields usable with cursor pagination: each is backed by a composite {@code (column, id)} index,
+ * with the UUIDv7 id as tie-breaker. Title, author and description seek on their generated sort-key columns.
+ * Cursors of the text fields carry no sort key: the database derives those keys with its own case folding and
+ * truncation, so the seek reads the key back from the cursor's row instead of trusting a copy made in Java.
+ */
+public enum KeysetSortField {
+
+    PUBLISHED_AT("publishedAt", "published_at", true, true, false),
+    CREATED_AT("createdAt", "created_at", false, false, false),
+    UPDATED_AT("updatedAt", "updated_at", false, false, false),
+    TITLE("title", "title_sort_key", false, false, true),
+    AUTHOR("author", "author_sort_key", true, false, true),
+    DESCRIPTION("description", "description_sort_key", true, false, true),
+    CATEGORY("category", "category", true, false, true),
+    ID("id", "id", false, true, false);
+
+    private static final String SUPPORTED_FIELDS = Arrays.stream(values())
+            .map(KeysetSortField::getProperty)
+            .sorted()
+            .collect(Collectors.joining(", "));
+
+    private final String property;
+    private final String column;
+    private final boolean nullable;
+    private final boolean topicIndexed;
+    private final boolean text;
+
+    KeysetSortField(String property, String column, boolean nullable, boolean topicIndexed, boolean text) {
+        this.property = property;
+        this.column = column;
+        this.nullable = nullable;
+        this.topicIndexed = topicIndexed;
+        this.text = text;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    /**
+     * Whether category listings can seek on this field through the article_topics index.
+     */
+    public boolean isTopicIndexed() {
+        return topicIndexed;
+    }
+
+    public boolean isId() {
+        return this == ID;
+    }
+
+    /**
+     * Whether the seek reads the sort key from the cursor's row rather than from the cursor.
+     */
+    public boolean isText() {
+        return text;
+    }
+
+    /**
+     * Sort key the cursor carries for the article; {@code null} for {@link #ID}, whose key is the id itself, and for
+     * the text fields.
+     */
+    public LocalDateTime keyOf(ArticleDTO article) {
+        return valueOf(article) instanceof LocalDateTime key ? key : null;
+    }
+
+    /**
+     * Whether the article is listed among the rows without a sort key, after all keyed rows.
+     */
+    public boolean hasNullKey(ArticleDTO article) {
+        return nullable && valueOf(article) == null;
+    }
+
+    private Object valueOf(ArticleDTO article) {
+        return switch (this) {
+            case PUBLISHED_AT -> article.getPublishedAt();
+            case CREATED_AT -> article.getCreatedAt();
+            case UPDATED_AT -> article.getUpdatedAt();
+            case TITLE -> article.getTitle();
+            case AUTHOR -> article.getAuthor();
+            case DESCRIPTION -> article.getDescription();
+            case CATEGORY -> article.getCategory();
+            case ID -> article.getId();
+        };
+    }
+
+    public static KeysetSortField from(Sort sort) {
+        Sort.Order order = sort.stream().findFirst()
+                .orElseThrow(() -> new BusinessException("Cursor pagination requires a sort field"));
+        if (sort.stream().count() > 1) {
+            throw new BusinessException("Cursor pagination supports a single sort field");
+        }
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(order.getProperty()))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException("Cursor pagination does not support sort field: "
+                        + order.getProperty() + ". Supported fields are: " + SUPPORTED_FIELDS));
+    }
+}
@@ -0,0 +1,96 @@
+package com.tispace.dataingestion.application.projection;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sparse fieldset of an article response: the ArticleDTO properties a client asked for. Repositories leave the
+ * columns of other properties unread, and responses are serialized through the {@link #FILTER_ID} property filter
+ * so those properties are left out rather than sent as null. {@code id} is always part of a fieldset.
+ */
+public final class ArticleFields {
+
+    /** Id of the Jackson property filter that ArticleDTO is serialized through. */
+    public static final String FILTER_ID = "articleFields";
+
+    /** Every ArticleDTO property, in declaration order. */
+    public static final List<String> PROPERTIES = List.of(
+            "id", "title", "description", "author", "publishedAt", "category",
+            "language", "keywords", "slug", "readingTimeMinutes", "createdAt", "updatedAt"
+    );
+
+    public static final ArticleFields ALL = new ArticleFields(Set.copyOf(PROPERTIES));
+
+    private static final String ID = "id";
+
+    private final Set<String> properties;
+
+    private ArticleFields(Set<String> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @param properties ArticleDTO properties, already validated; {@code id} is added
+     */
+    public static ArticleFields of(Collection<String> properties) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String property : PROPERTIES) {
+            if (property.equals(ID) || properties.contains(property)) {
+                selected.add(property);
+            }
+        }
+        return selected.size() == PROPERTIES.size() ? ALL : new ArticleFields(selected);
+    }
+
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    public boolean includes(String property) {
+        return properties.contains(property);
+    }
+
+    /**
+     * This fieldset plus a property the caller needs to read itself, such as a cursor key.
+     */
+    public ArticleFields with(String property) {
+        if (includes(property)) {
+            return this;
+        }
+        Set<String> extended = new LinkedHashSet<>(properties);
+        extended.add(property);
+        return of(extended);
+    }
+
+    /**
+     * Filters for writing a response in this fieldset.
+     */
+    public FilterProvider filters() {
+        return new SimpleFilterProvider().addFilter(FILTER_ID, isAll()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(properties));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ArticleFields fields && properties.equals(fields.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(properties);
+    }
+
+    /** Stable form for cache keys and ETags: {@code *} or the properties in declaration order. */
+    @Override
+    public String toString() {
+        return isAll() ? "*" : String.join(",", properties);
+    }
+}
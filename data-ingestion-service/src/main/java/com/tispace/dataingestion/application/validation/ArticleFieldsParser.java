@@ -0,0 +1,52 @@
+package com.tispace.dataingestion.application.validation;
+
+import com.tispace.common.exception.BusinessException;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Parses the fields query parameter ("title,publishedAt") with whitelist validation.
+ * Only ArticleDTO properties are accepted, so the result can be used to build a select list.
+ */
+@Component
+public class ArticleFieldsParser {
+
+    private static final int MAX_FIELDS_STRING_LENGTH = 200;
+
+    private static final Set<String> VALID_FIELDS = Set.copyOf(ArticleFields.PROPERTIES);
+
+    // Stable order for error message (Set order is not guaranteed)
+    private static final String VALID_FIELDS_MESSAGE = VALID_FIELDS.stream()
+            .sorted()
+            .collect(Collectors.joining(", "));
+
+    public ArticleFields parse(String fieldsString) {
+        if (fieldsString == null || fieldsString.isBlank()) {
+            return ArticleFields.ALL;
+        }
+
+        if (fieldsString.length() > MAX_FIELDS_STRING_LENGTH) {
+            throw new BusinessException("Fields parameter cannot exceed " + MAX_FIELDS_STRING_LENGTH + " characters");
+        }
+
+        Set<String> fields = new HashSet<>();
+        for (String part : fieldsString.split(",", -1)) {
+            fields.add(validateField(part.trim()));
+        }
+        return ArticleFields.of(fields);
+    }
+
+    private String validateField(String field) {
+        if (field.isEmpty()) {
+            throw new BusinessException("Fields parameter must be a comma-separated list of field names (e.g., 'title,publishedAt')");
+        }
+        if (!VALID_FIELDS.contains(field)) {
+            throw new BusinessException("Invalid field: " + field + ". Valid fields are: " + VALID_FIELDS_MESSAGE);
+        }
+        return field;
+    }
+}
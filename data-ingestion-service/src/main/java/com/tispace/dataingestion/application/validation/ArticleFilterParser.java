@@ -0,0 +1,63 @@
+package com.tispace.dataingestion.application.validation;
+
+import com.tispace.common.exception.BusinessException;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds the listing filter from the category, publishedFrom, publishedTo and author query parameters.
+ * The number of categories is capped, so every filter compiles to one of a few bounded query shapes.
+ */
+@Component
+public class ArticleFilterParser {
+
+    public static final int MAX_CATEGORIES = 10;
+
+    private static final int MAX_CATEGORY_LENGTH = 100;
+    private static final int MAX_AUTHOR_LENGTH = 200;
+
+    /**
+     * @param categories category values as bound, each possibly comma-separated; blank entries are ignored
+     */
+    public ArticleFilter parse(List<String> categories, LocalDateTime publishedFrom, LocalDateTime publishedTo,
+                               String author) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (categories != null) {
+            for (String value : categories) {
+                if (value == null) {
+                    continue;
+                }
+                for (String part : value.split(",")) {
+                    String category = StringUtils.trimToNull(part);
+                    if (category == null) {
+                        continue;
+                    }
+                    if (category.length() > MAX_CATEGORY_LENGTH) {
+                        throw new BusinessException("Category cannot exceed " + MAX_CATEGORY_LENGTH + " characters");
+                    }
+                    normalized.add(category);
+                }
+            }
+        }
+        if (normalized.size() > MAX_CATEGORIES) {
+            throw new BusinessException("At most " + MAX_CATEGORIES + " categories can be filtered at once");
+        }
+
+        if (publishedFrom != null && publishedTo != null && !publishedFrom.isBefore(publishedTo)) {
+            throw new BusinessException("publishedFrom must be before publishedTo");
+        }
+
+        String normalizedAuthor = StringUtils.trimToNull(author);
+        if (normalizedAuthor != null && normalizedAuthor.length() > MAX_AUTHOR_LENGTH) {
+            throw new BusinessException("Author cannot exceed " + MAX_AUTHOR_LENGTH + " characters");
+        }
+
+        return ArticleFilter.of(normalized, publishedFrom, publishedTo, normalizedAuthor);
+    }
+}
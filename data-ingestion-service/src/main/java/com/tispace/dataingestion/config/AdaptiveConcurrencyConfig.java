@@ -0,0 +1,37 @@
+package com.tispace.dataingestion.config;
+
+import com.tispace.dataingestion.web.AdaptiveConcurrencyInterceptor;
+import com.tispace.dataingestion.web.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Adaptive concurrency limit in front of the article API, ahead of its per-endpoint rate limiters. Exposes
+ * {@code adaptive_concurrency_limit}, {@code adaptive_concurrency_in_flight} and
+ * {@code adaptive_concurrency_shed_total}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "adaptive-concurrency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConcurrencyConfig implements WebMvcConfigurer {
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	public AdaptiveConcurrencyConfig(AdaptiveConcurrencyLimiter limiter) {
+		this.limiter = limiter;
+	}
+
+	@Bean
+	public static AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(AdaptiveConcurrencyProperties properties,
+		MeterRegistry registry) {
+		return new AdaptiveConcurrencyLimiter(properties, registry);
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new AdaptiveConcurrencyInterceptor(limiter)).addPathPatterns("/api/articles/**");
+	}
+}
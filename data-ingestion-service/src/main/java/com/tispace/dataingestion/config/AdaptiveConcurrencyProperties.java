@@ -0,0 +1,42 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Adaptive concurrency limit of the article API, in cost units (a plain read costs 1). It starts at
+ * {@code initialLimit} and moves between {@code minLimit} and {@code maxLimit}: it shrinks when request latency rises
+ * above {@code rttTolerance} times the long-term latency of the same endpoint, averaged over about
+ * {@code longWindow} requests, and grows while latency holds. {@code smoothing} is the share of each new estimate
+ * taken over by the limit.
+ */
+@ConfigurationProperties(prefix = "adaptive-concurrency")
+@Validated
+@Data
+public class AdaptiveConcurrencyProperties {
+
+    private boolean enabled = true;
+
+    @Min(1)
+    private int initialLimit = 20;
+
+    @Min(1)
+    private int minLimit = 4;
+
+    @Min(1)
+    private int maxLimit = 200;
+
+    @DecimalMin("1.0")
+    private double rttTolerance = 1.5;
+
+    @Min(1)
+    private int longWindow = 600;
+
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax("1.0")
+    private double smoothing = 0.2;
+}
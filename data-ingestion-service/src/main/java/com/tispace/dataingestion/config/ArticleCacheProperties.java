@@ -0,0 +1,42 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * In-process article-by-id cache. {@code maximumSize} bounds the estimated heap taken by cached articles;
+ * {@code negativeTtl} is how long an id that was not found is answered from the cache.
+ * {@code httpMaxAge} is the {@code Cache-Control} max-age sent with article detail responses.
+ * {@code listenerCheckInterval} is how often the LISTEN connection that keeps the cache current is checked
+ * for a peer that stopped answering.
+ */
+@ConfigurationProperties(prefix = "article-cache")
+@Validated
+@Data
+public class ArticleCacheProperties {
+
+    private boolean enabled = true;
+
+    @NotNull
+    private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+    @NotNull
+    private Duration ttl = Duration.ofHours(1);
+
+    @NotNull
+    private Duration negativeTtl = Duration.ofSeconds(30);
+
+    @NotNull
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+
+    @NotNull
+    private Duration listenerCheckInterval = Duration.ofSeconds(30);
+
+    @NotNull
+    private Duration httpMaxAge = Duration.ofHours(24);
+}
@@ -0,0 +1,47 @@
+package com.tispace.dataingestion.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Async request handling for streamed responses (the article export). Without it Spring MVC falls back to a
+ * thread-per-request executor, and the servlet container's default async timeout cuts long exports off.
+ */
+@Configuration
+public class ArticleExportConfig implements WebMvcConfigurer {
+
+	public static final String ARTICLE_EXPORT_EXECUTOR_BEAN = "articleExportExecutor";
+
+	private final ThreadPoolTaskExecutor exportExecutor;
+	private final ArticleExportProperties properties;
+
+	public ArticleExportConfig(@Qualifier(ARTICLE_EXPORT_EXECUTOR_BEAN) ThreadPoolTaskExecutor exportExecutor,
+		ArticleExportProperties properties) {
+		this.exportExecutor = exportExecutor;
+		this.properties = properties;
+	}
+
+	@Bean(name = ARTICLE_EXPORT_EXECUTOR_BEAN)
+	public static ThreadPoolTaskExecutor articleExportExecutor(ArticleExportProperties properties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("article-export-");
+		executor.setCorePoolSize(properties.getMaxConcurrent());
+		executor.setMaxPoolSize(properties.getMaxConcurrent());
+		executor.setAllowCoreThreadTimeOut(true);
+		// keeps the request's trace id in the export's log lines
+		executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+		executor.initialize();
+		return executor;
+	}
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(exportExecutor);
+		configurer.setDefaultTimeout(properties.getTimeout().toMillis());
+	}
+}
@@ -0,0 +1,28 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Bulk article export. Every running export holds a pooled connection for its whole duration, so
+ * {@code maxConcurrent} caps how many run at once; {@code timeout} is the longest an export may stream.
+ */
+@ConfigurationProperties(prefix = "article-export")
+@Validated
+@Data
+public class ArticleExportProperties {
+
+    @Min(1)
+    private int maxConcurrent = 2;
+
+    @Min(1)
+    private int fetchSize = 1000;
+
+    @NotNull
+    private Duration timeout = Duration.ofMinutes(15);
+}
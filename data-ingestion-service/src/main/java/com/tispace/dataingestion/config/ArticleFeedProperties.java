@@ -0,0 +1,38 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Article change stream. {@code maxSubscribers} caps open streams per instance; {@code heartbeat} is how often idle
+ * streams get a comment, which keeps proxies from closing them and finds clients that went away; {@code timeout}
+ * ends a stream so the client reconnects with its last event id. A reconnecting subscriber is replayed at most
+ * {@code maxReplay} missed articles, beyond that it is told to page through the changes endpoint first.
+ */
+@ConfigurationProperties(prefix = "article-feed")
+@Validated
+@Data
+public class ArticleFeedProperties {
+
+    @Min(0)
+    private int maxSubscribers = 1000;
+
+    @NotNull
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    @NotNull
+    private Duration timeout = Duration.ofMinutes(30);
+
+    @Min(1)
+    @Max(1000)
+    private int pageSize = 200;
+
+    @Min(0)
+    private int maxReplay = 1000;
+}
@@ -0,0 +1,23 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * In-process window of the newest articles per category and overall. {@code size} is how many articles each window
+ * keeps, so newest-first listings are answered from memory while offset plus page size stays within it.
+ */
+@ConfigurationProperties(prefix = "article-hot-window")
+@Validated
+@Data
+public class ArticleHotWindowProperties {
+
+    private boolean enabled = true;
+
+    @Min(1)
+    @Max(5000)
+    private int size = 200;
+}
@@ -0,0 +1,31 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * In-process cache of serialized article detail and list responses. {@code maximumSize} bounds the bytes held by
+ * all encodings of all cached bodies; bodies smaller than {@code minCompressSize} are only kept uncompressed.
+ * {@code ttl} bounds how long a list page may miss edits of the articles on it.
+ */
+@ConfigurationProperties(prefix = "article-response-cache")
+@Validated
+@Data
+public class ArticleResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    @NotNull
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(10);
+
+    @NotNull
+    private DataSize minCompressSize = DataSize.ofKilobytes(1);
+}
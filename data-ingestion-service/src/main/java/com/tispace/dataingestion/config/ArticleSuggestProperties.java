@@ -0,0 +1,36 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * In-process title autocomplete index. {@code maximumSize} bounds its estimated heap: once reached, words not yet
+ * indexed are no longer added, while known words keep receiving newer titles. {@code topK} is how many titles
+ * each prefix keeps, and so the largest {@code limit} a request can get.
+ */
+@ConfigurationProperties(prefix = "article-suggest")
+@Validated
+@Data
+public class ArticleSuggestProperties {
+
+    private boolean enabled = true;
+
+    @NotNull
+    private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+    @Min(1)
+    @Max(64)
+    private int topK = 16;
+
+    // longer words are indexed by their first maxWordLength characters
+    @Min(2)
+    private int maxWordLength = 24;
+
+    @Min(1)
+    private int loadFetchSize = 1000;
+}
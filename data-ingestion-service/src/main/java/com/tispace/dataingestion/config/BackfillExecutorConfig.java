@@ -0,0 +1,28 @@
+package com.tispace.dataingestion.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Dedicated executor for backfill window fetches, sized by {@code backfill.parallelism}
+ * so concurrent NewsAPI calls never exceed the configured parallelism.
+ */
+@Configuration
+public class BackfillExecutorConfig {
+
+	public static final String BACKFILL_EXECUTOR_BEAN = "backfillExecutor";
+
+	@Bean(name = BACKFILL_EXECUTOR_BEAN)
+	public Executor backfillExecutor(BackfillProperties properties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("backfill-");
+		executor.setCorePoolSize(properties.getParallelism());
+		executor.setMaxPoolSize(properties.getParallelism());
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.initialize();
+		return executor;
+	}
+}
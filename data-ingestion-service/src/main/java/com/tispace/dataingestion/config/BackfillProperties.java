@@ -0,0 +1,53 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Historical backfill settings. Parallelism must stay within the {@code newsApi} bulkhead
+ * (maxConcurrentCalls), otherwise window fetches are rejected instead of queued. A window with more
+ * articles than one NewsAPI request returns is halved until it fits, down to {@code minWindow}.
+ */
+@ConfigurationProperties(prefix = "backfill")
+@Validated
+@Data
+public class BackfillProperties {
+
+    @NotNull
+    private Duration window = Duration.ofHours(6);
+
+    @NotNull
+    private Duration minWindow = Duration.ofMinutes(1);
+
+    @Min(1)
+    @Max(10)
+    private int parallelism = 4;
+
+    @Min(1)
+    private int maxWindows = 2000;
+
+    private Command command = new Command();
+
+    /**
+     * One-off command mode: runs a single backfill on startup and exits.
+     */
+    @Data
+    public static class Command {
+
+        private boolean enabled = false;
+
+        private String keyword;
+
+        private String category;
+
+        private String from;
+
+        private String to;
+    }
+}
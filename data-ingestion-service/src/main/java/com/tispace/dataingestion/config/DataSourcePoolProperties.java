@@ -0,0 +1,48 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Connection pools of the primary beside the API pool ({@code spring.datasource.hikari}), each copying its settings
+ * apart from those here. {@code ingestion} serves the batch article writes and backfill checkpoints, {@code coordination}
+ * the advisory locks that are held for a whole scheduled run. {@code maximumPoolSize} bounds the connections a workload
+ * can take from the database, {@code minimumIdle} is how many stay open between runs, and {@code connectionTimeout} is
+ * how long a caller waits for one before failing.
+ */
+@ConfigurationProperties(prefix = "datasource-pools")
+@Validated
+@Data
+public class DataSourcePoolProperties {
+
+    @Valid
+    @NotNull
+    private Pool ingestion = new Pool(6, 1, Duration.ofSeconds(30));
+
+    @Valid
+    @NotNull
+    private Pool coordination = new Pool(2, 1, Duration.ofSeconds(5));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+
+        @Min(1)
+        private int maximumPoolSize;
+
+        @Min(0)
+        private int minimumIdle;
+
+        @NotNull
+        private Duration connectionTimeout;
+    }
+}
@@ -0,0 +1,142 @@
+package com.tispace.dataingestion.config;
+
+import com.tispace.dataingestion.infrastructure.datasource.ReadReplicaRouter;
+import com.tispace.dataingestion.infrastructure.datasource.RequestConnectionUsage;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * One pool of the primary per workload, so that a long ingestion run cannot starve user requests of connections:
+ * the API pool built from {@code spring.datasource} backs JPA and the default JdbcTemplate, the ingestion pool the
+ * batch writes and the coordination pool the advisory locks. The latter two copy the API pool's settings apart from
+ * their {@code datasource-pools} overrides, and come with a JdbcTemplate and transaction manager of their own under
+ * the names below. Declaring them makes Boot's DataSource, JdbcTemplate and transaction manager back off, so the
+ * defaults are declared here as well. Each pool reports {@code hikaricp.*} metrics tagged with its pool name, and the
+ * time connections are held per request through RequestConnectionUsage.
+ */
+@Configuration
+public class DataSourcePoolsConfig {
+
+	public static final String API_DATA_SOURCE = "apiDataSource";
+	public static final String INGESTION_DATA_SOURCE = "ingestionDataSource";
+	public static final String INGESTION_JDBC_TEMPLATE = "ingestionJdbcTemplate";
+	public static final String INGESTION_TRANSACTION_MANAGER = "ingestionTransactionManager";
+	public static final String COORDINATION_DATA_SOURCE = "coordinationDataSource";
+	public static final String COORDINATION_JDBC_TEMPLATE = "coordinationJdbcTemplate";
+	public static final String COORDINATION_TRANSACTION_MANAGER = "coordinationTransactionManager";
+
+	@Bean(API_DATA_SOURCE)
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource apiDataSource(DataSourceProperties dataSourceProperties, MeterRegistry registry) {
+		HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		if (StringUtils.hasText(dataSourceProperties.getName())) {
+			dataSource.setPoolName(dataSourceProperties.getName());
+		}
+		// copied to every other pool along with the rest of the settings
+		dataSource.setMetricsTrackerFactory(new RequestConnectionUsage(new MicrometerMetricsTrackerFactory(registry)));
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier(API_DATA_SOURCE) DataSource apiDataSource,
+		ObjectProvider<ReadReplicaRouter> readReplicaRouter) {
+		ReadReplicaRouter router = readReplicaRouter.getIfAvailable();
+		// the connection is chosen at the first statement, once the transaction's read-only flag is set
+		return new LazyConnectionDataSourceProxy(router != null ? router.dataSource() : apiDataSource);
+	}
+
+	@Bean
+	@Primary
+	public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+		return new JdbcTemplate(dataSource);
+	}
+
+	@Bean
+	@Primary
+	public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+		ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+		JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+		transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+		return transactionManager;
+	}
+
+	@Bean(INGESTION_DATA_SOURCE)
+	public HikariDataSource ingestionDataSource(@Qualifier(API_DATA_SOURCE) DataSource apiDataSource,
+		DataSourcePoolProperties properties) {
+		return workloadPool(apiDataSource, "IngestionHikariPool", properties.getIngestion());
+	}
+
+	@Bean(INGESTION_JDBC_TEMPLATE)
+	public JdbcTemplate ingestionJdbcTemplate(@Qualifier(INGESTION_DATA_SOURCE) DataSource ingestionDataSource) {
+		return new JdbcTemplate(ingestionDataSource);
+	}
+
+	@Bean(INGESTION_TRANSACTION_MANAGER)
+	public JdbcTransactionManager ingestionTransactionManager(
+		@Qualifier(INGESTION_DATA_SOURCE) DataSource ingestionDataSource) {
+		return new JdbcTransactionManager(ingestionDataSource);
+	}
+
+	@Bean(COORDINATION_DATA_SOURCE)
+	public HikariDataSource coordinationDataSource(@Qualifier(API_DATA_SOURCE) DataSource apiDataSource,
+		DataSourcePoolProperties properties) {
+		return workloadPool(apiDataSource, "CoordinationHikariPool", properties.getCoordination());
+	}
+
+	@Bean(COORDINATION_JDBC_TEMPLATE)
+	public JdbcTemplate coordinationJdbcTemplate(
+		@Qualifier(COORDINATION_DATA_SOURCE) DataSource coordinationDataSource) {
+		return new JdbcTemplate(coordinationDataSource);
+	}
+
+	@Bean(COORDINATION_TRANSACTION_MANAGER)
+	public JdbcTransactionManager coordinationTransactionManager(
+		@Qualifier(COORDINATION_DATA_SOURCE) DataSource coordinationDataSource) {
+		return new JdbcTransactionManager(coordinationDataSource);
+	}
+
+	/**
+	 * The Hikari pool behind a DataSource bean, which other post-processors may have wrapped.
+	 */
+	static HikariDataSource hikari(DataSource dataSource) {
+		try {
+			return dataSource.unwrap(HikariDataSource.class);
+		} catch (SQLException e) {
+			throw new IllegalStateException("Expected a Hikari pool behind " + dataSource, e);
+		}
+	}
+
+	private static HikariDataSource workloadPool(DataSource apiDataSource, String poolName,
+		DataSourcePoolProperties.Pool pool) {
+		HikariDataSource api = hikari(apiDataSource);
+		// like the API pool, it opens its connections on first use
+		HikariDataSource dataSource = new HikariDataSource();
+		api.copyStateTo(dataSource);
+		dataSource.setPoolName(poolName);
+		dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+		dataSource.setMinimumIdle(Math.min(pool.getMinimumIdle(), pool.getMaximumPoolSize()));
+		dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+		return dataSource;
+	}
+}
@@ -0,0 +1,22 @@
+package com.tispace.dataingestion.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Dedicated fork-join pool for CPU-bound article enrichment, so enrichment does not
+ * compete with other users of the common pool.
+ */
+@Configuration
+public class EnrichmentExecutorConfig {
+
+	public static final String ENRICHMENT_POOL_BEAN = "enrichmentPool";
+
+	@Bean(name = ENRICHMENT_POOL_BEAN, destroyMethod = "shutdown")
+	public ForkJoinPool enrichmentPool(@Value("${enrichment.parallelism:4}") int parallelism) {
+		return new ForkJoinPool(Math.max(1, parallelism));
+	}
+}
@@ -0,0 +1,39 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Group-commit settings for article persistence. A flush happens when {@code maxBatchSize}
+ * rows are buffered or {@code maxDelay} has passed since the oldest buffered request.
+ * Synchronous writers give up after {@code writeTimeout}; their rows may still be flushed.
+ */
+@ConfigurationProperties(prefix = "persistence.group-commit")
+@Validated
+@Data
+public class GroupCommitProperties {
+
+    private boolean enabled = true;
+
+    @Min(1)
+    @Max(5000)
+    private int maxBatchSize = 500;
+
+    @NotNull
+    private Duration maxDelay = Duration.ofMillis(20);
+
+    @Min(1)
+    private int bufferCapacity = 5000;
+
+    @NotNull
+    private Duration offerTimeout = Duration.ofSeconds(10);
+
+    @NotNull
+    private Duration writeTimeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,44 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NewsAPI key pool. Keys listed here are used together with the single
+ * {@code external-api.news-api.api-key}; each key gets its own request budget per window.
+ */
+@ConfigurationProperties(prefix = "external-api.news-api.key-pool")
+@Validated
+@Data
+public class NewsApiKeyPoolProperties {
+
+    private List<String> keys = new ArrayList<>();
+
+    /**
+     * Requests allowed per key within one budget window (NewsAPI developer plan: 100 per day).
+     */
+    @Min(1)
+    private int requestsPerWindow = 100;
+
+    @NotNull
+    private Duration budgetWindow = Duration.ofDays(1);
+
+    /**
+     * How long a key is skipped after HTTP 429 when the response carries no Retry-After header.
+     */
+    @NotNull
+    private Duration rateLimitedQuarantine = Duration.ofHours(1);
+
+    /**
+     * How long a key is skipped after HTTP 401 (revoked or invalid key).
+     */
+    @NotNull
+    private Duration unauthorizedQuarantine = Duration.ofDays(1);
+}
@@ -0,0 +1,61 @@
+package com.tispace.dataingestion.config;
+
+import com.tispace.dataingestion.infrastructure.datasource.ReadReplicaRouter;
+import com.tispace.dataingestion.service.DatasetVersions;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * When {@code read-replicas.enabled} is set, the primary DataSource of DataSourcePoolsConfig routes through
+ * ReadReplicaRouter, which sends read-only transactions to the replicas and everything else to the API pool. Writes,
+ * statements outside a read-only transaction, the ingestion and coordination pools, Liquibase and the LISTEN
+ * connection stay on the primary, as do reads for {@code max-lag} after a dataset version moves, so that list pages
+ * are never tagged with a version the replica has not replayed yet. Replica pools copy the primary's pool settings, open read-only and do not hold up
+ * startup when a replica is down.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+	@Bean
+	public ReadReplicaRouter readReplicaRouter(
+		@Qualifier(DataSourcePoolsConfig.API_DATA_SOURCE) DataSource apiDataSource,
+		DataSourceProperties dataSourceProperties, ReadReplicaProperties properties, ObjectProvider<DatasetVersions> datasetVersions,
+		MeterRegistry registry) {
+		HikariDataSource primaryDataSource = DataSourcePoolsConfig.hikari(apiDataSource);
+		String primaryName = primaryDataSource.getPoolName() != null ? primaryDataSource.getPoolName() : "primary";
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		List<String> urls = properties.getUrls().stream().filter(StringUtils::hasText).map(String::trim).toList();
+		for (int i = 0; i < urls.size(); i++) {
+			HikariConfig config = new HikariConfig();
+			primaryDataSource.copyStateTo(config);
+			config.setJdbcUrl(urls.get(i));
+			config.setPoolName(primaryName + "-replica-" + (i + 1));
+			config.setUsername(properties.getUsername() != null
+				? properties.getUsername() : dataSourceProperties.determineUsername());
+			config.setPassword(properties.getPassword() != null
+				? properties.getPassword() : dataSourceProperties.determinePassword());
+			config.setReadOnly(true);
+			config.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+			// a replica that is down at startup is retried by the lag check instead of failing the application
+			config.setInitializationFailTimeout(-1);
+			replicas.put(config.getPoolName(), new HikariDataSource(config));
+		}
+		// looked up per read: DatasetVersions loads through the DataSource this router backs
+		return new ReadReplicaRouter(primaryName, apiDataSource, replicas, properties,
+			() -> datasetVersions.getObject().changes(), registry);
+	}
+}
@@ -0,0 +1,46 @@
+package com.tispace.dataingestion.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas for read-only transactions. Each of {@code urls} gets a pool configured like the primary's;
+ * {@code username} and {@code password} default to the primary's. A replica is used while its last check, run every
+ * {@code checkInterval}, found it reachable and at most {@code maxLag} behind; one that does not hand out a connection
+ * within {@code connectionTimeout} is skipped. For {@code readYourWritesWindow} after this instance inserts articles
+ * all reads go to the primary; zero turns that off, and listings may then trail new inserts by up to {@code maxLag}.
+ * After any instance's insert moves a dataset version, reads stay on the primary for {@code maxLag} regardless, so
+ * version-tagged pages are not built from a replica that has not replayed the insert.
+ */
+@ConfigurationProperties(prefix = "read-replicas")
+@Validated
+@Data
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    @NotNull
+    private List<String> urls = new ArrayList<>();
+
+    private String username;
+
+    private String password;
+
+    @NotNull
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    @NotNull
+    private Duration checkInterval = Duration.ofSeconds(2);
+
+    @NotNull
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    @NotNull
+    private Duration readYourWritesWindow = Duration.ZERO;
+}
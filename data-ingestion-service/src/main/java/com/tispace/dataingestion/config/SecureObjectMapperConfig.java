@@ -1,9 +1,12 @@
 package com.tispace.dataingestion.config;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.projection.ArticleFields;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -33,7 +36,16 @@ public class SecureObjectMapperConfig {
 		// Don't fail on null for primitives (for backward compatibility)
 		mapper.configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false);
 		
+		// Sparse fieldsets: articles are written through a property filter that keeps every field
+		// unless the writer is given the filters of an ArticleFields
+		mapper.addMixIn(ArticleDTO.class, ArticleFieldsFilterMixin.class);
+		mapper.setFilterProvider(ArticleFields.ALL.filters());
+		
 		return mapper;
 	}
+	
+	@JsonFilter(ArticleFields.FILTER_ID)
+	private abstract static class ArticleFieldsFilterMixin {
+	}
 }
 
@@ -12,6 +12,10 @@ public final class ApiConstants {
 	public static final int CONNECTION_REQUEST_TIMEOUT_MS = 5000;
 	public static final int MAX_TOTAL_CONNECTIONS = 100;
 	public static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+	
+	// Response header telling clients how totalElements was obtained: exact, estimated or none
+	public static final String TOTAL_COUNT_MODE_HEADER = "X-Total-Count-Mode";
+	
+	// A batch get takes one articleController rate-limiter permit per started group of this many ids
+	public static final int BATCH_IDS_PER_PERMIT = 20;
 }
-
-
@@ -16,6 +16,8 @@ public final class NewsApiConstants {
 	public static final String PARAM_QUERY = "q";
 	public static final String PARAM_PAGE_SIZE = "pageSize";
 	public static final String PARAM_SORT_BY = "sortBy";
+	public static final String PARAM_FROM = "from";
+	public static final String PARAM_TO = "to";
 }
 
 
@@ -1,27 +1,61 @@
 package com.tispace.dataingestion.controller;
 
+import com.tispace.common.contract.ArticleBatchItemDTO;
+import com.tispace.common.contract.ArticleBatchRequestDTO;
+import com.tispace.common.contract.ArticleChangesDTO;
 import com.tispace.common.contract.ArticleDTO;
+import com.tispace.common.contract.ArticleFacetsDTO;
+import com.tispace.common.contract.ArticleSuggestionDTO;
+import com.tispace.common.contract.CategoryArticlesDTO;
+import com.tispace.common.contract.CursorPageDTO;
 import com.tispace.common.contract.ErrorResponseDTO;
 import com.tispace.common.contract.SummaryDTO;
+import com.tispace.common.exception.RateLimitExceededException;
+import com.tispace.dataingestion.application.export.ExportFormat;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.ArticleChangeCursor;
+import com.tispace.dataingestion.application.pagination.CountMode;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.application.validation.ArticleFieldsParser;
+import com.tispace.dataingestion.application.validation.ArticleFilterParser;
 import com.tispace.dataingestion.application.validation.SortStringParser;
 import com.tispace.dataingestion.client.QueryServiceClient;
+import com.tispace.dataingestion.constants.ApiConstants;
 import com.tispace.dataingestion.controller.docs.ArticleApiDoc;
+import com.tispace.dataingestion.service.ArticleChangeFeed;
+import com.tispace.dataingestion.service.ArticleExportService;
+import com.tispace.dataingestion.service.ArticleFacets;
 import com.tispace.dataingestion.service.ArticleQueryService;
+import com.tispace.dataingestion.service.TitleSuggestIndex;
+import com.tispace.dataingestion.web.AdmissionCost;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -31,14 +65,28 @@ import java.util.UUID;
 @Validated
 public class ArticleController implements ArticleApiDoc {
 	
+	private static final String GZIP = "gzip";
+	private static final String LAST_EVENT_ID = "Last-Event-ID";
+	private static final String ARTICLE_RATE_LIMITER = "articleController";
+	private static final String RATE_LIMIT_MESSAGE = "Rate limit exceeded. Please try again later.";
+	
 	private final ArticleQueryService articleQueryService;
 	private final QueryServiceClient queryServiceClient;
 	private final SortStringParser sortStringParser;
+	private final ArticleFieldsParser articleFieldsParser;
+	private final ArticleFilterParser articleFilterParser;
+	private final ArticleEtags articleEtags;
+	private final ArticleResponseCache articleResponseCache;
+	private final TitleSuggestIndex titleSuggestIndex;
+	private final ArticleFacets articleFacets;
+	private final ArticleExportService articleExportService;
+	private final ArticleChangeFeed articleChangeFeed;
+	private final RateLimiterRegistry rateLimiterRegistry;
 
 	@GetMapping
 	@RateLimiter(name = "articleController", fallbackMethod = "getArticlesRateLimitFallback")
 	@Override
-	public ResponseEntity<Page<ArticleDTO>> getArticles(
+	public ResponseEntity<Slice<ArticleDTO>> getArticles(
 		@RequestParam(required = false, defaultValue = "0")
 		@Min(value = 0, message = "Page number must be non-negative")
 		Integer page,
@@ -50,33 +98,320 @@ public class ArticleController implements ArticleApiDoc {
         @Size(max = 50)
 		String sort,
 		@RequestParam(required = false)
-		@Size(max = 100, message = "Category cannot exceed 100 characters")
-		String category) {
+		List<String> category,
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime publishedFrom,
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime publishedTo,
+		@RequestParam(required = false)
+		@Size(max = 200, message = "Author cannot exceed 200 characters")
+		String author,
+		@RequestParam(required = false, defaultValue = "exact")
+		@Size(max = 16)
+		String count,
+		@RequestParam(required = false)
+		@Size(max = 200, message = "Fields cannot exceed 200 characters")
+		String fields,
+		ServletWebRequest request) throws IOException {
 		
         Sort sortObj = sortStringParser.parse(sort);
+        CountMode countMode = CountMode.from(count);
+        ArticleFields articleFields = articleFieldsParser.parse(fields);
+        ArticleFilter filter = articleFilterParser.parse(category, publishedFrom, publishedTo, author);
         Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size, sortObj);
 
-        log.debug("Fetching articles: page={}, size={}, sort={}, category={}", page, size, sort, category);
+        String etag = articleEtags.listEtag(filter.categories(), filter, page, size, sortObj, countMode, articleFields);
+        if (articleEtags.notModified(request, ArticleEtags.Endpoint.LIST, etag)) {
+            return null;
+        }
+
+        log.debug("Fetching articles: page={}, size={}, sort={}, filter={}, count={}, fields={}", page, size, sort,
+                filter, countMode, articleFields);
+
+        if (articleResponseCache.serves(request)) {
+            request.getResponse().setHeader(ApiConstants.TOTAL_COUNT_MODE_HEADER, countMode.headerValue());
+            articleResponseCache.write(request, ArticleResponseCache.Kind.LIST, etag, articleFields,
+                    () -> articleQueryService.getArticlesDTO(pageable, filter, countMode, articleFields));
+            return null;
+        }
 
-        Page<ArticleDTO> articles = articleQueryService.getArticlesDTO(pageable, category);
-        return ResponseEntity.ok(articles);
+        ArticleFieldsAdvice.select(request, articleFields);
+        Slice<ArticleDTO> articles = articleQueryService.getArticlesDTO(pageable, filter, countMode, articleFields);
+        return ResponseEntity.ok()
+                .header(ApiConstants.TOTAL_COUNT_MODE_HEADER, countMode.headerValue())
+                .body(articles);
     }
 	
+	@GetMapping(params = "cursor")
+	@RateLimiter(name = "articleController", fallbackMethod = "getArticlesByCursorRateLimitFallback")
+	@Override
+	public ResponseEntity<CursorPageDTO<ArticleDTO>> getArticlesByCursor(
+		@RequestParam
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String cursor,
+		@RequestParam(required = false, defaultValue = "20")
+		@Min(value = 1, message = "Page size must be at least 1")
+		@Max(value = 100, message = "Page size cannot exceed 100")
+		Integer size,
+		@RequestParam(required = false, defaultValue = "publishedAt,desc")
+		@Size(max = 50)
+		String sort,
+		@RequestParam(required = false)
+		List<String> category,
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime publishedFrom,
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime publishedTo,
+		@RequestParam(required = false)
+		@Size(max = 200, message = "Author cannot exceed 200 characters")
+		String author,
+		@RequestParam(required = false, defaultValue = "none")
+		@Size(max = 16)
+		String count,
+		@RequestParam(required = false)
+		@Size(max = 200, message = "Fields cannot exceed 200 characters")
+		String fields,
+		ServletWebRequest request) throws IOException {
+		
+		Sort sortObj = sortStringParser.parse(sort);
+		CountMode countMode = CountMode.from(count);
+		ArticleFields articleFields = articleFieldsParser.parse(fields);
+		ArticleFilter filter = articleFilterParser.parse(category, publishedFrom, publishedTo, author);
+		
+		String etag = articleEtags.listEtag(filter.categories(), filter, cursor, size, sortObj, countMode, articleFields);
+		if (articleEtags.notModified(request, ArticleEtags.Endpoint.LIST, etag)) {
+			return null;
+		}
+		
+		log.debug("Fetching articles by cursor: size={}, sort={}, filter={}, count={}, fields={}", size, sort, filter,
+			countMode, articleFields);
+		
+		if (articleResponseCache.serves(request)) {
+			request.getResponse().setHeader(ApiConstants.TOTAL_COUNT_MODE_HEADER, countMode.headerValue());
+			articleResponseCache.write(request, ArticleResponseCache.Kind.CURSOR, etag, articleFields,
+				() -> articleQueryService.getArticlesByCursor(cursor, size, sortObj, filter, countMode, articleFields));
+			return null;
+		}
+		
+		ArticleFieldsAdvice.select(request, articleFields);
+		CursorPageDTO<ArticleDTO> articles = articleQueryService.getArticlesByCursor(cursor, size, sortObj, filter,
+			countMode, articleFields);
+		return ResponseEntity.ok()
+			.header(ApiConstants.TOTAL_COUNT_MODE_HEADER, countMode.headerValue())
+			.body(articles);
+	}
+	
+	@GetMapping("/search")
+	@AdmissionCost(2)
+	@RateLimiter(name = "articleController", fallbackMethod = "searchArticlesRateLimitFallback")
+	@Override
+	public ResponseEntity<CursorPageDTO<ArticleDTO>> searchArticles(
+		@RequestParam(required = false)
+		@Size(max = 200, message = "Search query cannot exceed 200 characters")
+		String q,
+		@RequestParam(required = false)
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String cursor,
+		@RequestParam(required = false, defaultValue = "20")
+		@Min(value = 1, message = "Page size must be at least 1")
+		@Max(value = 100, message = "Page size cannot exceed 100")
+		Integer size,
+		@RequestParam(required = false)
+		@Size(max = 100, message = "Category cannot exceed 100 characters")
+		String category,
+		ServletWebRequest request) {
+		
+		String etag = articleEtags.listEtag(category, "search", q, cursor, size);
+		if (articleEtags.notModified(request, ArticleEtags.Endpoint.LIST, etag)) {
+			return null;
+		}
+		
+		log.debug("Searching articles: size={}, category={}", size, category);
+		
+		return ResponseEntity.ok(articleQueryService.searchArticles(q, cursor, size, category));
+	}
+	
+	@GetMapping("/suggest")
+	@RateLimiter(name = "articleSuggest", fallbackMethod = "suggestArticlesRateLimitFallback")
+	@Override
+	public ResponseEntity<List<ArticleSuggestionDTO>> suggestArticles(
+		@RequestParam(required = false)
+		@Size(max = 100, message = "Prefix cannot exceed 100 characters")
+		String prefix,
+		@RequestParam(required = false, defaultValue = "10")
+		@Min(value = 1, message = "Limit must be at least 1")
+		@Max(value = 20, message = "Limit cannot exceed 20")
+		Integer limit) {
+		
+		return ResponseEntity.ok(titleSuggestIndex.suggest(prefix, limit));
+	}
+	
+	@GetMapping("/top")
+	@RateLimiter(name = "articleController", fallbackMethod = "getTopArticlesRateLimitFallback")
+	@Override
+	public ResponseEntity<List<CategoryArticlesDTO>> getTopArticles(
+		@RequestParam(required = false, defaultValue = "5")
+		@Min(value = 1, message = "Limit must be at least 1")
+		@Max(value = 20, message = "Limit cannot exceed 20")
+		Integer limit) {
+		
+		return ResponseEntity.ok(articleQueryService.getTopArticlesPerCategory(limit));
+	}
+	
+	@GetMapping("/facets")
+	@RateLimiter(name = "articleController", fallbackMethod = "getArticleFacetsRateLimitFallback")
+	@Override
+	public ResponseEntity<ArticleFacetsDTO> getArticleFacets(
+		@RequestParam(required = false)
+		@Size(max = 100, message = "Category cannot exceed 100 characters")
+		String category,
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		LocalDate from,
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		LocalDate to,
+		ServletWebRequest request) {
+		
+		ArticleFacetsDTO facets = articleFacets.get(category, from, to);
+		if (articleEtags.notModified(request, ArticleEtags.Endpoint.LIST, articleEtags.contentEtag(facets))) {
+			return null;
+		}
+		return ResponseEntity.ok(facets);
+	}
+	
+	@GetMapping("/export")
+	@RateLimiter(name = "articleExport", fallbackMethod = "exportArticlesRateLimitFallback")
+	@Override
+	public ResponseEntity<StreamingResponseBody> exportArticles(
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime from,
+		@RequestParam(required = false)
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime to,
+		@RequestParam(required = false)
+		@Size(max = 100, message = "Category cannot exceed 100 characters")
+		String category,
+		@RequestParam(required = false, defaultValue = "ndjson")
+		@Size(max = 16)
+		String format,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+		String acceptEncoding) {
+		
+		ExportFormat exportFormat = ExportFormat.from(format);
+		ArticleExportService.ArticleExport export = articleExportService.open(from, to, category, exportFormat,
+			acceptsGzip(acceptEncoding));
+		
+		log.debug("Exporting articles: from={}, to={}, category={}, format={}", from, to, category, exportFormat);
+		
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+			.contentType(exportFormat.mediaType())
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("articles." + exportFormat.extension()).build().toString())
+			.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (export.gzip()) {
+			response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+		}
+		return response.body(export::writeTo);
+	}
+	
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@RateLimiter(name = "articleController", fallbackMethod = "streamArticlesRateLimitFallback")
+	@Override
+	public ResponseEntity<SseEmitter> streamArticles(
+		@RequestParam(required = false)
+		@Size(max = 100, message = "Category cannot exceed 100 characters")
+		String category,
+		@RequestParam(required = false)
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String since,
+		@RequestHeader(value = LAST_EVENT_ID, required = false)
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String lastEventId) {
+		
+		String resumeFrom = StringUtils.isNotBlank(lastEventId) ? lastEventId : since;
+		ArticleChangeCursor cursor = StringUtils.isNotBlank(resumeFrom) ? ArticleChangeCursor.decode(resumeFrom) : null;
+		
+		log.debug("Opening article stream: category={}, resuming={}", category, cursor != null);
+		
+		return ResponseEntity.ok(articleChangeFeed.subscribe(category, cursor));
+	}
+	
+	@GetMapping("/changes")
+	@RateLimiter(name = "articleController", fallbackMethod = "getArticleChangesRateLimitFallback")
+	@Override
+	public ResponseEntity<ArticleChangesDTO> getArticleChanges(
+		@RequestParam(required = false)
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String since,
+		@RequestParam(required = false)
+		@Size(max = 100, message = "Category cannot exceed 100 characters")
+		String category,
+		@RequestParam(required = false, defaultValue = "100")
+		@Min(value = 1, message = "Limit must be at least 1")
+		@Max(value = 200, message = "Limit cannot exceed 200")
+		Integer limit) {
+		
+		ArticleChangeCursor cursor = StringUtils.isNotBlank(since) ? ArticleChangeCursor.decode(since) : null;
+		return ResponseEntity.ok(articleChangeFeed.changes(cursor, category, limit));
+	}
+	
 	@GetMapping("/{id}")
 	@RateLimiter(name = "articleController", fallbackMethod = "getArticleByIdRateLimitFallback")
 	@Override
 	public ResponseEntity<ArticleDTO> getArticleById(
 		@PathVariable
 		@jakarta.validation.constraints.NotNull(message = "Article ID is required")
-		UUID id) {
+		UUID id,
+		@RequestParam(required = false)
+		@Size(max = 200, message = "Fields cannot exceed 200 characters")
+		String fields,
+		ServletWebRequest request) throws IOException {
+		
+		ArticleFields articleFields = articleFieldsParser.parse(fields);
 		
 		log.debug("Fetching article with id: {}", id);
 		
 		ArticleDTO article = articleQueryService.getArticleDTOById(id);
+		String etag = articleEtags.contentEtag(article, articleFields);
+		if (articleEtags.notModified(request, ArticleEtags.Endpoint.DETAIL, etag)) {
+			return null;
+		}
+		if (articleResponseCache.serves(request)) {
+			articleResponseCache.write(request, ArticleResponseCache.Kind.DETAIL, etag, articleFields, () -> article);
+			return null;
+		}
+		ArticleFieldsAdvice.select(request, articleFields);
 		return ResponseEntity.ok(article);
 	}
 	
+	@PostMapping("/batch")
+	@AdmissionCost(2)
+	@Override
+	public ResponseEntity<List<ArticleBatchItemDTO>> getArticlesByIds(
+		@RequestBody
+		@Valid
+		@jakarta.validation.constraints.NotNull(message = "Request body is required")
+		ArticleBatchRequestDTO request) {
+		
+		int permits = batchPermits(request.getIds().size());
+		if (!rateLimiterRegistry.rateLimiter(ARTICLE_RATE_LIMITER).acquirePermission(permits)) {
+			log.warn("Rate limit exceeded for getArticlesByIds. ids={}, permits={}", request.getIds().size(), permits);
+			throw new RateLimitExceededException(RATE_LIMIT_MESSAGE);
+		}
+		
+		log.debug("Fetching {} articles by id", request.getIds().size());
+		
+		return ResponseEntity.ok(articleQueryService.getArticleDTOsByIds(request.getIds()));
+	}
+	
 	@GetMapping("/{id}/summary")
+	@AdmissionCost(5)
 	@RateLimiter(name = "articleController", fallbackMethod = "getArticleSummaryRateLimitFallback")
 	@Override
 	public ResponseEntity<SummaryDTO> getArticleSummary(
@@ -86,6 +421,7 @@ public class ArticleController implements ArticleApiDoc {
 		
 		log.debug("Fetching summary for article with id: {}", id);
 		
+		// the read returns its connection before the query service call, which can wait seconds for the model
 		ArticleDTO article = articleQueryService.getArticleDTOById(id);
 		SummaryDTO summary = queryServiceClient.getArticleSummary(id, article);
 		return ResponseEntity.ok(summary);
@@ -93,14 +429,74 @@ public class ArticleController implements ArticleApiDoc {
 	
 	@SuppressWarnings("unused")
     private ResponseEntity<ErrorResponseDTO> getArticlesRateLimitFallback(
-            Integer page, Integer size, String sort, String category, RequestNotPermitted e) {
+            Integer page, Integer size, String sort, List<String> category, LocalDateTime publishedFrom,
+            LocalDateTime publishedTo, String author, String count, String fields, ServletWebRequest request,
+            RequestNotPermitted e) {
         log.warn("Rate limit exceeded for getArticles. page={}, size={}", page, size);
         return buildRateLimitResponse("/api/articles");
     }
 
+	@SuppressWarnings("unused")
+    private ResponseEntity<ErrorResponseDTO> getArticlesByCursorRateLimitFallback(
+            String cursor, Integer size, String sort, List<String> category, LocalDateTime publishedFrom,
+            LocalDateTime publishedTo, String author, String count, String fields, ServletWebRequest request,
+            RequestNotPermitted e) {
+        log.warn("Rate limit exceeded for getArticlesByCursor. size={}", size);
+        return buildRateLimitResponse("/api/articles");
+    }
+
+	@SuppressWarnings("unused")
+    private ResponseEntity<ErrorResponseDTO> searchArticlesRateLimitFallback(
+            String q, String cursor, Integer size, String category, ServletWebRequest request,
+            RequestNotPermitted e) {
+        log.warn("Rate limit exceeded for searchArticles. size={}", size);
+        return buildRateLimitResponse("/api/articles/search");
+    }
+
+	@SuppressWarnings("unused")
+    private ResponseEntity<ErrorResponseDTO> suggestArticlesRateLimitFallback(String prefix, Integer limit,
+            RequestNotPermitted e) {
+        log.warn("Rate limit exceeded for suggestArticles");
+        return buildRateLimitResponse("/api/articles/suggest");
+    }
+
+	@SuppressWarnings("unused")
+    private ResponseEntity<ErrorResponseDTO> getTopArticlesRateLimitFallback(Integer limit, RequestNotPermitted e) {
+        log.warn("Rate limit exceeded for getTopArticles");
+        return buildRateLimitResponse("/api/articles/top");
+    }
+
+	@SuppressWarnings("unused")
+    private ResponseEntity<ErrorResponseDTO> getArticleFacetsRateLimitFallback(String category, LocalDate from,
+            LocalDate to, ServletWebRequest request, RequestNotPermitted e) {
+        log.warn("Rate limit exceeded for getArticleFacets");
+        return buildRateLimitResponse("/api/articles/facets");
+    }
+
+	@SuppressWarnings("unused")
+    private ResponseEntity<ErrorResponseDTO> exportArticlesRateLimitFallback(LocalDateTime from, LocalDateTime to,
+            String category, String format, String acceptEncoding, RequestNotPermitted e) {
+        log.warn("Rate limit exceeded for exportArticles");
+        return buildRateLimitResponse("/api/articles/export");
+    }
+
+	@SuppressWarnings("unused")
+    private ResponseEntity<ErrorResponseDTO> streamArticlesRateLimitFallback(String category, String since,
+            String lastEventId, RequestNotPermitted e) {
+        log.warn("Rate limit exceeded for streamArticles");
+        return buildRateLimitResponse("/api/articles/stream");
+    }
 
 	@SuppressWarnings("unused")
-    private ResponseEntity<ErrorResponseDTO> getArticleByIdRateLimitFallback(UUID id, RequestNotPermitted e) {
+    private ResponseEntity<ErrorResponseDTO> getArticleChangesRateLimitFallback(String since, String category,
+            Integer limit, RequestNotPermitted e) {
+        log.warn("Rate limit exceeded for getArticleChanges");
+        return buildRateLimitResponse("/api/articles/changes");
+    }
+
+	@SuppressWarnings("unused")
+    private ResponseEntity<ErrorResponseDTO> getArticleByIdRateLimitFallback(UUID id, String fields,
+            ServletWebRequest request, RequestNotPermitted e) {
         log.warn("Rate limit exceeded for getArticleById. id={}", id);
         return buildRateLimitResponse("/api/articles/" + id);
     }
@@ -111,10 +507,20 @@ public class ArticleController implements ArticleApiDoc {
         return buildRateLimitResponse("/api/articles/" + id + "/summary");
     }
 
+    // gzip unless the client leaves it out or refuses it with q=0
+    static boolean acceptsGzip(String acceptEncoding) {
+        return ArticleResponseCache.acceptsEncoding(acceptEncoding, GZIP);
+    }
+
+    // a batch weighs as much as the single gets it replaces, in groups of BATCH_IDS_PER_PERMIT
+    static int batchPermits(int ids) {
+        return Math.max(1, (ids + ApiConstants.BATCH_IDS_PER_PERMIT - 1) / ApiConstants.BATCH_IDS_PER_PERMIT);
+    }
+
     private ResponseEntity<ErrorResponseDTO> buildRateLimitResponse(String path) {
         ErrorResponseDTO error = ErrorResponseDTO.builder()
                 .errorCode("RATE_LIMIT_EXCEEDED")
-                .message("Rate limit exceeded. Please try again later.")
+                .message(RATE_LIMIT_MESSAGE)
                 .timestamp(LocalDateTime.now())
                 .path(path)
                 .build();
@@ -0,0 +1,124 @@
+package com.tispace.dataingestion.controller;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.common.contract.ArticleFacetsDTO;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.config.ArticleCacheProperties;
+import com.tispace.dataingestion.service.DatasetVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Conditional GET support for the article endpoints. List ETags combine the dataset version of the requested
+ * scope with the normalized request parameters, so they are known before any query runs; detail and facet ETags
+ * hash the response content. Outcomes are counted in {@code article_conditional_requests_total}; the 304 ratio is
+ * {@code result=not_modified} over all results of an endpoint.
+ */
+@Component
+public class ArticleEtags {
+
+	enum Endpoint { LIST, DETAIL }
+
+	private enum Result { NOT_MODIFIED, MODIFIED, UNCONDITIONAL }
+
+	private final DatasetVersions datasetVersions;
+	private final CacheControl detailCacheControl;
+	private final Map<Endpoint, Map<Result, Counter>> counters = new EnumMap<>(Endpoint.class);
+
+	public ArticleEtags(DatasetVersions datasetVersions, ArticleCacheProperties properties, MeterRegistry registry) {
+		this.datasetVersions = datasetVersions;
+		this.detailCacheControl = CacheControl.maxAge(properties.getHttpMaxAge());
+		for (Endpoint endpoint : Endpoint.values()) {
+			Map<Result, Counter> byResult = new EnumMap<>(Result.class);
+			for (Result result : Result.values()) {
+				byResult.put(result, Counter.builder("article_conditional_requests_total")
+						.description("Article GET requests by conditional outcome")
+						.tag("endpoint", endpoint.name().toLowerCase())
+						.tag("result", result.name().toLowerCase())
+						.register(registry));
+			}
+			counters.put(endpoint, byResult);
+		}
+	}
+
+	/**
+	 * @param category   listing filter as requested; selects the dataset version
+	 * @param parameters every other request parameter that shapes the response, already normalized
+	 */
+	public String listEtag(String category, Object... parameters) {
+		return listEtag(String.valueOf(datasetVersions.current(category)), String.valueOf(category), parameters);
+	}
+
+	/**
+	 * A listing over several categories changes when any of them gains an article, including an existing article
+	 * newly linked to it, which moves only that category's version; so the tag carries the version of each
+	 * category as well as the unfiltered one.
+	 *
+	 * @param categories normalized categories of the listing filter, empty for all
+	 * @param parameters every other request parameter that shapes the response, already normalized
+	 */
+	public String listEtag(List<String> categories, Object... parameters) {
+		if (categories.size() <= 1) {
+			return listEtag(categories.isEmpty() ? null : categories.getFirst(), parameters);
+		}
+		StringJoiner versions = new StringJoiner(".");
+		versions.add(String.valueOf(datasetVersions.current(DatasetVersions.ALL)));
+		for (String category : categories) {
+			versions.add(String.valueOf(datasetVersions.current(category)));
+		}
+		return listEtag(versions.toString(), String.join(",", categories), parameters);
+	}
+
+	private static String listEtag(String version, String scope, Object... parameters) {
+		StringJoiner key = new StringJoiner("|");
+		key.add(scope);
+		for (Object parameter : parameters) {
+			key.add(String.valueOf(parameter));
+		}
+		return "\"" + version + "-" + md5(key.toString()) + "\"";
+	}
+
+	public String contentEtag(ArticleDTO article) {
+		return "\"" + md5(article.toString()) + "\"";
+	}
+	
+	// a sparse representation is a different entity, so it gets a different tag
+	public String contentEtag(ArticleDTO article, ArticleFields fields) {
+		return fields.isAll() ? contentEtag(article) : "\"" + md5(article + "|" + fields) + "\"";
+	}
+	
+	public String contentEtag(ArticleFacetsDTO facets) {
+		return "\"" + md5(facets.toString()) + "\"";
+	}
+
+	/**
+	 * Sets the validators and caching headers for the endpoint and checks {@code If-None-Match}. When this returns
+	 * {@code true} the response is already a 304 and the handler must return {@code null}.
+	 */
+	boolean notModified(ServletWebRequest request, Endpoint endpoint, String etag) {
+		CacheControl cacheControl = endpoint == Endpoint.DETAIL ? detailCacheControl : CacheControl.noCache();
+		if (request.getResponse() != null) {
+			request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+		}
+		boolean conditional = request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+		boolean notModified = request.checkNotModified(etag);
+		Result result = notModified ? Result.NOT_MODIFIED : conditional ? Result.MODIFIED : Result.UNCONDITIONAL;
+		counters.get(endpoint).get(result).increment();
+		return notModified;
+	}
+
+	private static String md5(String value) {
+		return DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8));
+	}
+}
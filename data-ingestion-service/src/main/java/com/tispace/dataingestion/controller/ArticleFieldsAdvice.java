@@ -0,0 +1,38 @@
+package com.tispace.dataingestion.controller;
+
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Writes article responses in the fieldset the handler selected with {@link #select}, leaving out the other
+ * ArticleDTO properties instead of sending them as null.
+ */
+@ControllerAdvice(assignableTypes = ArticleController.class)
+public class ArticleFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+	private static final String FIELDS_ATTRIBUTE = ArticleFieldsAdvice.class.getName() + ".fields";
+
+	static void select(ServletWebRequest request, ArticleFields fields) {
+		if (!fields.isAll()) {
+			request.setAttribute(FIELDS_ATTRIBUTE, fields, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	@Override
+	protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+			MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+		if (request instanceof ServletServerHttpRequest servletRequest
+				&& servletRequest.getServletRequest().getAttribute(FIELDS_ATTRIBUTE) instanceof ArticleFields fields) {
+			bodyContainer.setFilters(fields.filters());
+		}
+	}
+}
@@ -0,0 +1,235 @@
+package com.tispace.dataingestion.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.config.ArticleResponseCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized article detail and list responses, keyed by their ETag, so a repeated request is answered with bytes
+ * instead of a Jackson pass. List ETags carry the dataset version and the normalized parameters, detail ETags hash
+ * the article, so a key never outlives the content it names; list pages do miss edits of the articles on them, as
+ * their ETags do, for at most {@code ttl}.
+ * <p>
+ * Each body is kept as UTF-8 JSON and, from {@code minCompressSize} on, compressed once with gzip and deflate; the
+ * variant written follows {@code Accept-Encoding}. The bound is on the bytes of all variants. Bytes not sent thanks
+ * to compression and serialization time not spent on hits are counted.
+ */
+@Component
+public class ArticleResponseCache {
+
+	enum Kind { LIST, CURSOR, DETAIL }
+
+	static final String CACHE_NAME = "article_response";
+
+	static final String GZIP = "gzip";
+	static final String DEFLATE = "deflate";
+
+	// rough per-entry overhead of the cache node, key, ETag string and array headers
+	private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final long minCompressBytes;
+	private final Cache<Key, Entry> cache;
+	private final Counter gzipBytesSaved;
+	private final Counter deflateBytesSaved;
+	private final Counter serializationAvoided;
+	private final Timer encodeTimer;
+
+	public ArticleResponseCache(ObjectMapper objectMapper, ArticleResponseCacheProperties properties,
+			MeterRegistry registry) {
+		this.objectMapper = objectMapper;
+		this.enabled = properties.isEnabled();
+		this.minCompressBytes = properties.getMinCompressSize().toBytes();
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(properties.getMaximumSize().toBytes())
+				.weigher((Key key, Entry entry) -> entry.weight())
+				.expireAfterWrite(properties.getTtl())
+				.recordStats()
+				.build();
+		this.gzipBytesSaved = bytesSaved(registry, GZIP);
+		this.deflateBytesSaved = bytesSaved(registry, DEFLATE);
+		this.serializationAvoided = Counter.builder("article_response_cache_serialization_avoided_seconds_total")
+				.description("Serialization time the cached bodies would have taken on the requests they answered")
+				.baseUnit("seconds")
+				.register(registry);
+		this.encodeTimer = Timer.builder("article_response_cache_encode_seconds")
+				.description("Duration of serializing and compressing a body on a cache miss")
+				.register(registry);
+
+		CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+		Gauge.builder("article_response_cache_weight_bytes", cache,
+						c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+				.description("Bytes held by cached response bodies, all encodings included")
+				.baseUnit("bytes")
+				.register(registry);
+	}
+
+	/**
+	 * Whether the response to the request can be written by {@link #write}: the cache is enabled and the client
+	 * takes JSON.
+	 */
+	boolean serves(ServletWebRequest request) {
+		if (!enabled || request.getResponse() == null) {
+			return false;
+		}
+		String accept = request.getHeader(HttpHeaders.ACCEPT);
+		if (accept == null) {
+			return true;
+		}
+		try {
+			List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+			return mediaTypes.isEmpty() || mediaTypes.stream().anyMatch(MediaType.APPLICATION_JSON::isCompatibleWith);
+		} catch (InvalidMediaTypeException e) {
+			// left to content negotiation, which rejects it
+			return false;
+		}
+	}
+
+	/**
+	 * Writes the 200 response for the ETag, serializing {@code body} in {@code fields} on a miss. The ETag must
+	 * cover the fieldset. Concurrent misses for the same ETag share a single serialization; a failing {@code body}
+	 * is not cached and propagates before anything is written. Only call when {@link #serves} is {@code true}; the
+	 * handler must return {@code null} afterwards.
+	 */
+	void write(ServletWebRequest request, Kind kind, String etag, ArticleFields fields, Supplier<?> body)
+			throws IOException {
+		boolean[] encoded = {false};
+		Entry entry = cache.get(new Key(kind, etag), key -> {
+			encoded[0] = true;
+			return encode(body.get(), fields);
+		});
+		if (!encoded[0]) {
+			serializationAvoided.increment(entry.serializationNanos() / 1e9);
+		}
+
+		String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		byte[] bytes = entry.identity();
+		String encoding = null;
+		if (entry.gzip() != null && acceptsEncoding(acceptEncoding, GZIP)) {
+			bytes = entry.gzip();
+			encoding = GZIP;
+			gzipBytesSaved.increment(entry.identity().length - bytes.length);
+		} else if (entry.deflate() != null && acceptsEncoding(acceptEncoding, DEFLATE)) {
+			bytes = entry.deflate();
+			encoding = DEFLATE;
+			deflateBytesSaved.increment(entry.identity().length - bytes.length);
+		}
+
+		HttpServletResponse response = request.getResponse();
+		response.setStatus(HttpServletResponse.SC_OK);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (encoding != null) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+		}
+		response.setContentLength(bytes.length);
+		response.getOutputStream().write(bytes);
+	}
+
+	// the coding unless the client leaves it out or refuses it with q=0
+	static boolean acceptsEncoding(String acceptEncoding, String coding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String accepted : acceptEncoding.split(",")) {
+			String[] parts = accepted.split(";");
+			if (!coding.equalsIgnoreCase(parts[0].trim())) {
+				continue;
+			}
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim().replace(" ", "");
+				if (parameter.matches("(?i)q=0(\\.0{0,3})?")) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	long estimatedSize() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+	private Entry encode(Object body, ArticleFields fields) {
+		long start = System.nanoTime();
+		byte[] identity;
+		try {
+			identity = objectMapper.writer(fields.filters()).writeValueAsBytes(body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize article response", e);
+		}
+		long serializationNanos = System.nanoTime() - start;
+		byte[] gzip = null;
+		byte[] deflate = null;
+		if (identity.length >= minCompressBytes) {
+			gzip = smallerOrNull(identity, compress(identity, true));
+			deflate = smallerOrNull(identity, compress(identity, false));
+		}
+		encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return new Entry(identity, gzip, deflate, serializationNanos);
+	}
+
+	// compressed once per entry, so the slowest level is worth it
+	private static byte[] compress(byte[] identity, boolean gzip) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(identity.length / 4);
+		try (OutputStream out = gzip
+				? new GZIPOutputStream(buffer) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}
+				: new DeflaterOutputStream(buffer, new Deflater(Deflater.BEST_COMPRESSION))) {
+			out.write(identity);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return buffer.toByteArray();
+	}
+
+	private static byte[] smallerOrNull(byte[] identity, byte[] compressed) {
+		return compressed.length < identity.length ? compressed : null;
+	}
+
+	private static Counter bytesSaved(MeterRegistry registry, String encoding) {
+		return Counter.builder("article_response_cache_bytes_saved_total")
+				.description("Response bytes not sent because a compressed variant was written")
+				.baseUnit("bytes")
+				.tag("encoding", encoding)
+				.register(registry);
+	}
+
+	private record Key(Kind kind, String etag) {}
+
+	private record Entry(byte[] identity, byte[] gzip, byte[] deflate, long serializationNanos) {
+
+		int weight() {
+			long bytes = ENTRY_OVERHEAD_BYTES + identity.length + (gzip != null ? gzip.length : 0)
+					+ (deflate != null ? deflate.length : 0);
+			return (int) Math.min(Integer.MAX_VALUE, bytes);
+		}
+	}
+}
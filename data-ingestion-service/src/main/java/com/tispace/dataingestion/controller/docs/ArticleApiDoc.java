@@ -1,6 +1,13 @@
 package com.tispace.dataingestion.controller.docs;
 
+import com.tispace.common.contract.ArticleBatchItemDTO;
+import com.tispace.common.contract.ArticleBatchRequestDTO;
+import com.tispace.common.contract.ArticleChangesDTO;
 import com.tispace.common.contract.ArticleDTO;
+import com.tispace.common.contract.ArticleFacetsDTO;
+import com.tispace.common.contract.ArticleSuggestionDTO;
+import com.tispace.common.contract.CategoryArticlesDTO;
+import com.tispace.common.contract.CursorPageDTO;
 import com.tispace.common.contract.SummaryDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,13 +16,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Articles", description = "Public API for querying news articles and generating AI-powered summaries")
@@ -23,7 +39,17 @@ public interface ArticleApiDoc {
 	
 	@Operation(
 		summary = "Get paginated list of articles",
-		description = "Retrieves a paginated list of articles with optional filtering by category. Results are sorted by published date in descending order by default. Rate limited to prevent abuse."
+		description = "Retrieves a paginated list of articles, optionally filtered by categories, a publication time range and author; " +
+			"all filters combine into a single indexed query. Results are sorted by published date in descending order by default. " +
+			"The 'count' parameter selects how the total is reported: 'exact' runs count(*), 'estimated' uses maintained per-category counters " +
+			"or the table statistics, and 'none' omits totals and only reports whether a next page exists. " +
+			"Listings filtered beyond a single category estimate their total from the query plan. " +
+			"The X-Total-Count-Mode response header echoes the mode. " +
+			"Responses carry an ETag that changes when ingestion adds articles to the listed category; send it back in If-None-Match " +
+			"to get 304 Not Modified without the listing being queried. The first pages of the default newest-first listing, with " +
+			"or without a category, are answered from an in-memory window of recent articles, totals included. Serialized pages are cached " +
+			"by ETag and sent gzip- or deflate-compressed when Accept-Encoding allows it. 'fields' selects a sparse fieldset: only " +
+			"those columns are read and only those properties are returned. Rate limited to prevent abuse."
 	)
 	@ApiResponses(value = {
 		@ApiResponse(
@@ -31,6 +57,10 @@ public interface ArticleApiDoc {
 			description = "Successfully retrieved articles",
 			content = @Content(schema = @Schema(implementation = Page.class))
 		),
+		@ApiResponse(
+			responseCode = "304",
+			description = "Listing unchanged since the ETag sent in If-None-Match"
+		),
 		@ApiResponse(
 			responseCode = "400",
 			description = "Invalid request parameters"
@@ -44,7 +74,7 @@ public interface ArticleApiDoc {
 			description = "Internal server error"
 		)
 	})
-	ResponseEntity<Page<ArticleDTO>> getArticles(
+	ResponseEntity<Slice<ArticleDTO>> getArticles(
 		@Parameter(
 			description = "Page number (0-indexed). Default: 0",
 			example = "0"
@@ -59,22 +89,462 @@ public interface ArticleApiDoc {
 		@Max(value = 100, message = "Page size cannot exceed 100")
 		Integer size,
 		@Parameter(
-			description = "Sort field and direction (format: 'field,direction'). Default: 'publishedAt,desc'. Example: 'publishedAt,desc' or 'title,asc'",
+			description = "Sort field and direction (format: 'field,direction'). Default: 'publishedAt,desc'. Example: 'publishedAt,desc' or 'title,asc'. " +
+				"Text fields sort by their first 64 characters, case-insensitively. With a single category only 'publishedAt' and 'id' are supported",
 			example = "publishedAt,desc"
 		)
 		@Size(max = 50)
 		String sort,
 		@Parameter(
-			description = "Filter articles by category (optional)",
+			description = "Filter articles by category (optional). Repeat the parameter or separate by commas to list " +
+				"articles of any of up to 10 categories",
+			example = "technology"
+		)
+		List<String> category,
+		@Parameter(
+			description = "Only articles published at or after this time (optional, ISO date-time)",
+			example = "2025-01-18T00:00:00"
+		)
+		LocalDateTime publishedFrom,
+		@Parameter(
+			description = "Only articles published before this time (optional, ISO date-time)",
+			example = "2025-01-19T00:00:00"
+		)
+		LocalDateTime publishedTo,
+		@Parameter(
+			description = "Only articles by this author, compared case-insensitively (optional)",
+			example = "Jane Doe"
+		)
+		@Size(max = 200, message = "Author cannot exceed 200 characters")
+		String author,
+		@Parameter(
+			description = "Total count mode: 'exact', 'estimated' or 'none'. Default: 'exact'",
+			example = "exact"
+		)
+		@Size(max = 16)
+		String count,
+		@Parameter(
+			description = "Comma-separated fields to return (optional, default: all). Valid fields: id, title, description, " +
+				"author, publishedAt, category, language, keywords, slug, readingTimeMinutes, createdAt, updatedAt. " +
+				"id is always returned; columns of other fields are not read",
+			example = "title,publishedAt"
+		)
+		@Size(max = 200, message = "Fields cannot exceed 200 characters")
+		String fields,
+		@Parameter(hidden = true)
+		ServletWebRequest request
+	) throws IOException;
+	
+	@Operation(
+		summary = "Get articles with cursor pagination",
+		description = "Selected by the presence of the 'cursor' parameter: pass an empty cursor for the first page, then the returned nextCursor. " +
+			"Each page seeks directly past the previous one, so response time does not depend on how deep the client pages. " +
+			"Supported sort fields: publishedAt, createdAt, updatedAt, title, author, description, category, id; with a category filter only publishedAt and id. " +
+			"Articles without a value for the sort field are listed last in both directions. " +
+			"Accepts the same filters as the offset listing; a cursor is only valid with the sort and filters it was issued for. " +
+			"Totals are omitted unless requested with count=exact or count=estimated. " +
+			"Supports If-None-Match and compressed cached responses like the offset listing. Rate limited to prevent abuse."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Successfully retrieved articles",
+			content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+		),
+		@ApiResponse(
+			responseCode = "304",
+			description = "Page unchanged since the ETag sent in If-None-Match"
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Invalid cursor, unsupported sort field, or cursor issued for a different sort or category"
+		),
+		@ApiResponse(
+			responseCode = "429",
+			description = "Rate limit exceeded"
+		),
+		@ApiResponse(
+			responseCode = "500",
+			description = "Internal server error"
+		)
+	})
+	ResponseEntity<CursorPageDTO<ArticleDTO>> getArticlesByCursor(
+		@Parameter(
+			description = "Opaque cursor from the previous page's nextCursor; empty for the first page",
+			example = ""
+		)
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String cursor,
+		@Parameter(
+			description = "Page size. Default: 20",
+			example = "20"
+		)
+		@Min(value = 1, message = "Page size must be at least 1")
+		@Max(value = 100, message = "Page size cannot exceed 100")
+		Integer size,
+		@Parameter(
+			description = "Sort field and direction (format: 'field,direction'). Default: 'publishedAt,desc'. " +
+				"With a single category only 'publishedAt' and 'id' are supported",
+			example = "publishedAt,desc"
+		)
+		@Size(max = 50)
+		String sort,
+		@Parameter(
+			description = "Filter articles by category (optional). Repeat the parameter or separate by commas to list " +
+				"articles of any of up to 10 categories",
+			example = "technology"
+		)
+		List<String> category,
+		@Parameter(
+			description = "Only articles published at or after this time (optional, ISO date-time)",
+			example = "2025-01-18T00:00:00"
+		)
+		LocalDateTime publishedFrom,
+		@Parameter(
+			description = "Only articles published before this time (optional, ISO date-time)",
+			example = "2025-01-19T00:00:00"
+		)
+		LocalDateTime publishedTo,
+		@Parameter(
+			description = "Only articles by this author, compared case-insensitively (optional)",
+			example = "Jane Doe"
+		)
+		@Size(max = 200, message = "Author cannot exceed 200 characters")
+		String author,
+		@Parameter(
+			description = "Total count mode: 'exact', 'estimated' or 'none'. Default: 'none'",
+			example = "none"
+		)
+		@Size(max = 16)
+		String count,
+		@Parameter(
+			description = "Comma-separated fields to return (optional, default: all). Valid fields: id, title, description, " +
+				"author, publishedAt, category, language, keywords, slug, readingTimeMinutes, createdAt, updatedAt. " +
+				"id is always returned; columns of other fields are not read",
+			example = "title,publishedAt"
+		)
+		@Size(max = 200, message = "Fields cannot exceed 200 characters")
+		String fields,
+		@Parameter(hidden = true)
+		ServletWebRequest request
+	) throws IOException;
+	
+	@Operation(
+		summary = "Search articles",
+		description = "Full-text search over title and description with English stemming, ranked by relevance (title matches weigh more). " +
+			"The query accepts web-search syntax: \"quoted phrases\", 'or', and '-word' exclusions. " +
+			"Paginated like the cursor listing: pass an empty or no cursor for the first page, then the returned nextCursor, " +
+			"which is only valid with the query and category it was issued for. Totals are not reported. " +
+			"Supports If-None-Match like the listings. Rate limited to prevent abuse."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Matching articles, most relevant first",
+			content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+		),
+		@ApiResponse(
+			responseCode = "304",
+			description = "Results unchanged since the ETag sent in If-None-Match"
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Blank query, invalid cursor, or cursor issued for a different query or category"
+		),
+		@ApiResponse(
+			responseCode = "429",
+			description = "Rate limit exceeded"
+		),
+		@ApiResponse(
+			responseCode = "500",
+			description = "Internal server error"
+		)
+	})
+	ResponseEntity<CursorPageDTO<ArticleDTO>> searchArticles(
+		@Parameter(
+			description = "Search query",
+			required = true,
+			example = "\"electric vehicles\" -tesla"
+		)
+		@Size(max = 200, message = "Search query cannot exceed 200 characters")
+		String q,
+		@Parameter(
+			description = "Opaque cursor from the previous page's nextCursor; empty or absent for the first page",
+			example = ""
+		)
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String cursor,
+		@Parameter(
+			description = "Page size. Default: 20",
+			example = "20"
+		)
+		@Min(value = 1, message = "Page size must be at least 1")
+		@Max(value = 100, message = "Page size cannot exceed 100")
+		Integer size,
+		@Parameter(
+			description = "Only return articles of this category (optional)",
+			example = "technology"
+		)
+		@Size(max = 100, message = "Category cannot exceed 100 characters")
+		String category,
+		@Parameter(hidden = true)
+		ServletWebRequest request
+	);
+	
+	@Operation(
+		summary = "Suggest article titles",
+		description = "Type-ahead over article titles, answered from an in-memory index without querying the database. " +
+			"Returns the newest titles containing a word that starts with the last word of the prefix; earlier words must each " +
+			"start some word of the title. Matching ignores case and punctuation. A blank prefix returns an empty list. " +
+			"Rate limited separately from the other article endpoints, sized for one request per keystroke."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Matching titles, newest first"
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Prefix or limit out of range"
+		),
+		@ApiResponse(
+			responseCode = "429",
+			description = "Rate limit exceeded"
+		)
+	})
+	ResponseEntity<List<ArticleSuggestionDTO>> suggestArticles(
+		@Parameter(
+			description = "What the user has typed so far",
+			example = "electric veh"
+		)
+		@Size(max = 100, message = "Prefix cannot exceed 100 characters")
+		String prefix,
+		@Parameter(
+			description = "Maximum number of titles. Default: 10",
+			example = "10"
+		)
+		@Min(value = 1, message = "Limit must be at least 1")
+		@Max(value = 20, message = "Limit cannot exceed 20")
+		Integer limit
+	);
+	
+	@Operation(
+		summary = "Get newest articles per category",
+		description = "The newest articles of every category in one response, categories in name order. Answered from the " +
+			"in-memory window of recent articles, which follows ingestion with a short delay; read from the database while the " +
+			"window is disabled or still loading."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Newest articles per category"
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Limit out of range"
+		),
+		@ApiResponse(
+			responseCode = "429",
+			description = "Rate limit exceeded"
+		)
+	})
+	ResponseEntity<List<CategoryArticlesDTO>> getTopArticles(
+		@Parameter(
+			description = "Articles per category. Default: 5",
+			example = "5"
+		)
+		@Min(value = 1, message = "Limit must be at least 1")
+		@Max(value = 20, message = "Limit cannot exceed 20")
+		Integer limit
+	);
+	
+	@Operation(
+		summary = "Get article facets",
+		description = "Article counts per category and per publication day (UTC) over an optional day range, answered from " +
+			"aggregates that ingestion maintains as it inserts articles, without scanning articles. The category filter restricts " +
+			"the total and the histogram; the category counts always cover every category in the range. Articles without a " +
+			"publication date are not counted. Responses carry an ETag for If-None-Match revalidation."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Facet counts and daily histogram"
+		),
+		@ApiResponse(
+			responseCode = "304",
+			description = "Not modified (If-None-Match matched the current ETag)"
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Invalid date or 'from' after 'to'"
+		),
+		@ApiResponse(
+			responseCode = "429",
+			description = "Rate limit exceeded"
+		)
+	})
+	ResponseEntity<ArticleFacetsDTO> getArticleFacets(
+		@Parameter(
+			description = "Restrict the total and histogram to this category (optional)",
+			example = "technology"
+		)
+		@Size(max = 100, message = "Category cannot exceed 100 characters")
+		String category,
+		@Parameter(
+			description = "First publication day counted, inclusive (optional, ISO-8601 date)",
+			example = "2025-01-01"
+		)
+		LocalDate from,
+		@Parameter(
+			description = "Last publication day counted, inclusive (optional, ISO-8601 date)",
+			example = "2025-01-31"
+		)
+		LocalDate to,
+		@Parameter(hidden = true)
+		ServletWebRequest request
+	);
+	
+	@Operation(
+		summary = "Export articles",
+		description = "Streams every article published in [from, to) in a single response, oldest first, as NDJSON (one JSON " +
+			"object per line, same fields as the listing) or CSV with a header row. Rows are read through a database cursor and " +
+			"written as they arrive, so the response size is not bounded by memory. The body is gzip-compressed when the " +
+			"Accept-Encoding header allows it. Errors after the first byte cut the stream short instead of returning an error body. " +
+			"Only a few exports run at once and the endpoint is rate limited separately from the other article endpoints."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Export stream",
+			content = {
+				@Content(mediaType = "application/x-ndjson"),
+				@Content(mediaType = "text/csv")
+			}
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Invalid format or empty time range"
+		),
+		@ApiResponse(
+			responseCode = "429",
+			description = "Rate limit exceeded or too many exports running"
+		)
+	})
+	ResponseEntity<StreamingResponseBody> exportArticles(
+		@Parameter(
+			description = "Only articles published at or after this time (optional, ISO-8601)",
+			example = "2025-01-01T00:00:00"
+		)
+		LocalDateTime from,
+		@Parameter(
+			description = "Only articles published before this time (optional, ISO-8601)",
+			example = "2025-02-01T00:00:00"
+		)
+		LocalDateTime to,
+		@Parameter(
+			description = "Only export articles of this category (optional)",
+			example = "technology"
+		)
+		@Size(max = 100, message = "Category cannot exceed 100 characters")
+		String category,
+		@Parameter(
+			description = "Output format: 'ndjson' or 'csv'. Default: ndjson",
+			example = "csv"
+		)
+		@Size(max = 16)
+		String format,
+		@Parameter(hidden = true)
+		String acceptEncoding
+	);
+	
+	@Operation(
+		summary = "Stream newly inserted articles",
+		description = "Server-Sent Events stream of articles as ingestion commits them, optionally of one category only. " +
+			"Each 'article' event carries the article as JSON and a change feed position as its id; a 'ready' event marks the " +
+			"switch to live delivery and comments keep idle streams open. A client reconnecting with Last-Event-ID (or 'since') " +
+			"first gets every article it missed, then the live stream. When it missed too many, a 'resync' event with its last " +
+			"position ends the stream: page through /api/articles/changes from that position, then reconnect with the cursor it returned. " +
+			"Streams end after a while and are meant to be reconnected."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Event stream",
+			content = @Content(mediaType = "text/event-stream")
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Invalid cursor"
+		),
+		@ApiResponse(
+			responseCode = "429",
+			description = "Rate limit exceeded or too many open streams"
+		)
+	})
+	ResponseEntity<SseEmitter> streamArticles(
+		@Parameter(
+			description = "Only stream articles of this category (optional)",
 			example = "technology"
 		)
 		@Size(max = 100, message = "Category cannot exceed 100 characters")
-		String category
+		String category,
+		@Parameter(
+			description = "Resume after this change feed position, e.g. the nextCursor of /api/articles/changes (optional; Last-Event-ID takes precedence)"
+		)
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String since,
+		@Parameter(hidden = true)
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String lastEventId
+	);
+	
+	@Operation(
+		summary = "Get articles inserted since a change feed position",
+		description = "Delta sync: articles inserted after 'since', in the order the stream delivers them, at most 'limit' at a time. " +
+			"nextCursor is always returned; keep calling with it while hasMore is true. Without 'since' only the current position is " +
+			"returned, to start from. A position covers all categories, so the same cursor works with any category filter."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Successfully retrieved changes",
+			content = @Content(schema = @Schema(implementation = ArticleChangesDTO.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Invalid cursor"
+		),
+		@ApiResponse(
+			responseCode = "429",
+			description = "Rate limit exceeded"
+		)
+	})
+	ResponseEntity<ArticleChangesDTO> getArticleChanges(
+		@Parameter(
+			description = "Change feed position from nextCursor or a stream event id (optional)"
+		)
+		@Size(max = 512, message = "Cursor cannot exceed 512 characters")
+		String since,
+		@Parameter(
+			description = "Only return articles of this category (optional)",
+			example = "technology"
+		)
+		@Size(max = 100, message = "Category cannot exceed 100 characters")
+		String category,
+		@Parameter(
+			description = "Maximum number of articles (1-200). Default: 100",
+			example = "100"
+		)
+		@Min(value = 1, message = "Limit must be at least 1")
+		@Max(value = 200, message = "Limit cannot exceed 200")
+		Integer limit
 	);
 	
 	@Operation(
 		summary = "Get article by ID",
 		description = "Retrieves a single article by its unique identifier. " +
+			"Responses are cacheable (Cache-Control max-age) and carry an ETag hashed from the article content for If-None-Match revalidation. " +
+			"The serialized article is cached and sent gzip- or deflate-compressed when Accept-Encoding allows it. " +
 			"Rate limited to 100 requests per minute. " +
 			"Distributed tracing is propagated via OpenTelemetry trace context (traceId/spanId)."
 	)
@@ -84,6 +554,10 @@ public interface ArticleApiDoc {
 			description = "Successfully retrieved article",
 			content = @Content(schema = @Schema(implementation = ArticleDTO.class))
 		),
+		@ApiResponse(
+			responseCode = "304",
+			description = "Article unchanged since the ETag sent in If-None-Match"
+		),
 		@ApiResponse(
 			responseCode = "404",
 			description = "Article not found"
@@ -108,7 +582,48 @@ public interface ArticleApiDoc {
 			example = "01234567-89ab-7def-0123-456789abcdef"
 		)
 		@NotNull(message = "Article ID is required")
-		UUID id
+		UUID id,
+		@Parameter(
+			description = "Comma-separated fields to return (optional, default: all). Valid fields: id, title, description, " +
+				"author, publishedAt, category, language, keywords, slug, readingTimeMinutes, createdAt, updatedAt. " +
+				"id is always returned; columns of other fields are not read",
+			example = "title,publishedAt"
+		)
+		@Size(max = 200, message = "Fields cannot exceed 200 characters")
+		String fields,
+		@Parameter(hidden = true)
+		ServletWebRequest request
+	) throws IOException;
+	
+	@Operation(
+		summary = "Get articles by IDs",
+		description = "Fetches up to 100 articles in one request, for example a feed of saved article IDs. Returns one item per " +
+			"requested ID in request order; IDs without an article come back with found=false and no article. " +
+			"Cached articles are answered from memory and the rest are read with a single query. " +
+			"Shares the rate limit of the other article endpoints, taking one permit per started group of 20 IDs."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "One item per requested ID, in request order"
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Missing, empty or oversized ID list, or an invalid ID"
+		),
+		@ApiResponse(
+			responseCode = "429",
+			description = "Rate limit exceeded"
+		)
+	})
+	ResponseEntity<List<ArticleBatchItemDTO>> getArticlesByIds(
+		@io.swagger.v3.oas.annotations.parameters.RequestBody(
+			description = "Article IDs to fetch",
+			required = true
+		)
+		@Valid
+		@NotNull(message = "Request body is required")
+		ArticleBatchRequestDTO request
 	);
 	
 	@Operation(
@@ -0,0 +1,59 @@
+package com.tispace.dataingestion.domain.enrichment;
+
+import com.tispace.dataingestion.domain.entity.Article;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Computes the derived article fields stored at write time: language, keywords, slug and reading time.
+ * Pure CPU work with no shared state, safe to call from many threads.
+ */
+@Component
+public class ArticleEnricher {
+
+    static final int WORDS_PER_MINUTE = 200;
+    static final int MAX_KEYWORDS = 8;
+    static final int MAX_SLUG_LENGTH = 80;
+
+    public void enrich(Article article) {
+        List<String> titleTokens = TextTokenizer.tokenize(article.getTitle());
+        List<String> descriptionTokens = TextTokenizer.tokenize(article.getDescription());
+
+        List<String> allTokens = new ArrayList<>(titleTokens.size() + descriptionTokens.size());
+        allTokens.addAll(titleTokens);
+        allTokens.addAll(descriptionTokens);
+
+        article.setLanguage(LanguageDetector.detect(allTokens));
+        article.setKeywords(KeywordExtractor.extract(titleTokens, descriptionTokens, MAX_KEYWORDS));
+        article.setSlug(slugify(article.getTitle()));
+        article.setReadingTimeMinutes(readingTimeMinutes(allTokens.size()));
+    }
+
+    static int readingTimeMinutes(int words) {
+        return Math.max(1, (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+    }
+
+    static String slugify(String title) {
+        if (title == null) {
+            return null;
+        }
+
+        String ascii = Normalizer.normalize(title, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        String slug = ascii.replaceAll("[^a-z0-9]+", "-").replaceAll("(^-+|-+$)", "");
+
+        if (slug.length() > MAX_SLUG_LENGTH) {
+            slug = slug.substring(0, MAX_SLUG_LENGTH);
+            int lastDash = slug.lastIndexOf('-');
+            if (lastDash > 0) {
+                slug = slug.substring(0, lastDash);
+            }
+        }
+        return slug.isEmpty() ? null : slug;
+    }
+}
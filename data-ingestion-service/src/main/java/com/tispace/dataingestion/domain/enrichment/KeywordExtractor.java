@@ -0,0 +1,46 @@
+package com.tispace.dataingestion.domain.enrichment;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Term-frequency keyword extraction. Title terms weigh more than description terms;
+ * stop words of every supported language, short tokens and pure numbers are ignored.
+ */
+public final class KeywordExtractor {
+
+    private static final int MIN_LENGTH = 3;
+    private static final int TITLE_WEIGHT = 2;
+
+    private KeywordExtractor() {
+    }
+
+    public static List<String> extract(List<String> titleTokens, List<String> descriptionTokens, int limit) {
+        Map<String, Integer> scores = new HashMap<>();
+        addTerms(scores, titleTokens, TITLE_WEIGHT);
+        addTerms(scores, descriptionTokens, 1);
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.naturalOrder())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static void addTerms(Map<String, Integer> scores, List<String> tokens, int weight) {
+        for (String token : tokens) {
+            if (isCandidate(token)) {
+                scores.merge(token, weight, Integer::sum);
+            }
+        }
+    }
+
+    private static boolean isCandidate(String token) {
+        return token.length() >= MIN_LENGTH
+                && !StopWords.ALL.contains(token)
+                && !token.chars().allMatch(Character::isDigit);
+    }
+}
@@ -0,0 +1,47 @@
+package com.tispace.dataingestion.domain.enrichment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stop-word frequency language detection. Good enough for news titles and descriptions
+ * in the supported languages; returns {@code null} when the evidence is too weak or ambiguous.
+ */
+public final class LanguageDetector {
+
+    private static final int MIN_HITS = 2;
+
+    private LanguageDetector() {
+    }
+
+    /**
+     * @return ISO 639-1 code of the detected language, or {@code null} if undetermined
+     */
+    public static String detect(List<String> tokens) {
+        String best = null;
+        int bestHits = 0;
+        int secondHits = 0;
+
+        for (Map.Entry<String, Set<String>> language : StopWords.BY_LANGUAGE.entrySet()) {
+            int hits = 0;
+            for (String token : tokens) {
+                if (language.getValue().contains(token)) {
+                    hits++;
+                }
+            }
+            if (hits > bestHits) {
+                secondHits = bestHits;
+                bestHits = hits;
+                best = language.getKey();
+            } else if (hits > secondHits) {
+                secondHits = hits;
+            }
+        }
+
+        if (bestHits < MIN_HITS || bestHits == secondHits) {
+            return null;
+        }
+        return best;
+    }
+}
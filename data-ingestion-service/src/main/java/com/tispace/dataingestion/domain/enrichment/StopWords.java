@@ -0,0 +1,46 @@
+package com.tispace.dataingestion.domain.enrichment;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Most frequent function words per language. Used both as language-detection evidence
+ * and to exclude non-content words from extracted keywords.
+ */
+final class StopWords {
+
+    static final Map<String, Set<String>> BY_LANGUAGE = Map.of(
+            "en", Set.of("the", "and", "of", "to", "in", "is", "that", "for", "it", "with", "as", "was", "on",
+                    "are", "be", "by", "this", "from", "at", "or", "an", "have", "has", "not", "but", "will",
+                    "its", "their", "they", "after", "about", "more", "new", "into", "over", "how", "what", "why"),
+            "de", Set.of("der", "die", "und", "das", "ist", "nicht", "ein", "eine", "mit", "den", "dem", "des",
+                    "sich", "auf", "für", "von", "zu", "im", "auch", "wird", "sind", "bei", "nach", "wie", "aus",
+                    "über", "noch", "einen", "einer", "wurde", "oder"),
+            "fr", Set.of("le", "la", "les", "et", "des", "est", "une", "un", "du", "dans", "que", "pour", "qui",
+                    "sur", "au", "aux", "pas", "avec", "par", "plus", "ce", "cette", "sont", "ont", "été",
+                    "mais", "ses", "leur", "comme"),
+            "es", Set.of("el", "la", "los", "las", "y", "de", "que", "en", "un", "una", "es", "por", "con",
+                    "para", "del", "se", "su", "al", "como", "más", "pero", "sus", "fue", "este", "esta", "son",
+                    "ha", "han", "sobre"),
+            "it", Set.of("il", "lo", "la", "gli", "le", "di", "che", "e", "è", "un", "una", "per", "con", "del",
+                    "della", "non", "sono", "nel", "nella", "alla", "anche", "come", "più", "ma", "ha", "hanno",
+                    "questo", "questa"),
+            "pt", Set.of("o", "os", "as", "e", "de", "que", "do", "da", "dos", "das", "em", "um", "uma", "para",
+                    "com", "não", "no", "na", "por", "mais", "se", "foi", "são", "ao", "como", "mas", "seu",
+                    "sua"),
+            "nl", Set.of("de", "het", "een", "en", "van", "is", "dat", "op", "te", "in", "zijn", "niet", "met",
+                    "voor", "die", "er", "aan", "ook", "als", "bij", "om", "wordt", "naar", "maar", "nog", "door")
+    );
+
+    static final Set<String> ALL = union();
+
+    private StopWords() {
+    }
+
+    private static Set<String> union() {
+        Set<String> all = new HashSet<>();
+        BY_LANGUAGE.values().forEach(all::addAll);
+        return Set.copyOf(all);
+    }
+}
@@ -2,14 +2,23 @@ package com.tispace.dataingestion.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "articles", indexes = {
-	@Index(name = "idx_category", columnList = "category"),
-	@Index(name = "idx_published_at", columnList = "published_at")
+	@Index(name = "idx_articles_category_id", columnList = "category, id"),
+	@Index(name = "idx_articles_published_at_id", columnList = "published_at, id"),
+	@Index(name = "idx_articles_created_at_id", columnList = "created_at, id"),
+	@Index(name = "idx_articles_updated_at_id", columnList = "updated_at, id"),
+	@Index(name = "idx_articles_title_sort_key_id", columnList = "title_sort_key, id"),
+	@Index(name = "idx_articles_author_sort_key_id", columnList = "author_sort_key, id"),
+	@Index(name = "idx_articles_description_sort_key_id", columnList = "description_sort_key, id"),
+	@Index(name = "idx_articles_language_published_at", columnList = "language, published_at DESC")
 }, uniqueConstraints = {
 	@UniqueConstraint(name = "uk_articles_title_published_at", columnNames = {"title", "published_at"})
 })
@@ -39,5 +48,29 @@ public class Article extends BaseEntity {
 	
 	@Column(name = "category", columnDefinition = "TEXT")
 	private String category;
+	
+	// Derived at write time by ArticleEnricher
+	@Column(name = "language", columnDefinition = "TEXT")
+	private String language;
+	
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	@Column(name = "keywords")
+	private List<String> keywords;
+	
+	@Column(name = "slug", columnDefinition = "TEXT")
+	private String slug;
+	
+	@Column(name = "reading_time_minutes")
+	private Integer readingTimeMinutes;
+	
+	// Generated by the database from the text columns; used only for ordering
+	@Column(name = "title_sort_key", columnDefinition = "TEXT", insertable = false, updatable = false)
+	private String titleSortKey;
+	
+	@Column(name = "author_sort_key", columnDefinition = "TEXT", insertable = false, updatable = false)
+	private String authorSortKey;
+	
+	@Column(name = "description_sort_key", columnDefinition = "TEXT", insertable = false, updatable = false)
+	private String descriptionSortKey;
 }
 
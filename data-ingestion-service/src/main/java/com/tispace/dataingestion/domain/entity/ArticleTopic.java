@@ -0,0 +1,44 @@
+package com.tispace.dataingestion.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Topic membership of an article. Rows are written in bulk by ArticleBatchRepository;
+ * {@code publishedAt} is copied from the article so category listings can be served from the topic index.
+ */
+@Entity
+@Table(name = "article_topics", indexes = {
+	@Index(name = "idx_article_topics_topic_published_at", columnList = "topic, published_at, article_id"),
+	@Index(name = "idx_article_topics_article_id", columnList = "article_id")
+})
+@IdClass(ArticleTopic.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleTopic {
+	
+	@Id
+	@Column(name = "topic", nullable = false, columnDefinition = "TEXT")
+	private String topic;
+	
+	@Id
+	@Column(name = "article_id", columnDefinition = "UUID", nullable = false)
+	private UUID articleId;
+	
+	@Column(name = "published_at")
+	private LocalDateTime publishedAt;
+	
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+		private String topic;
+		private UUID articleId;
+	}
+}
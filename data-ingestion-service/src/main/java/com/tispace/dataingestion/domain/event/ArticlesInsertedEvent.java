@@ -0,0 +1,13 @@
+package com.tispace.dataingestion.domain.event;
+
+import com.tispace.dataingestion.domain.entity.Article;
+
+import java.util.List;
+
+/**
+ * Published by ArticleBatchRepository inside the inserting transaction, with only the rows that were actually
+ * inserted (duplicates skipped by ON CONFLICT are absent). Listeners that must not see uncommitted rows use
+ * {@code @TransactionalEventListener}.
+ */
+public record ArticlesInsertedEvent(List<Article> articles) {
+}
@@ -0,0 +1,287 @@
+package com.tispace.dataingestion.infrastructure.datasource;
+
+import com.tispace.dataingestion.config.ReadReplicaProperties;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Routes connections by the read-only flag of the current transaction, including a {@code Propagation.SUPPORTS}
+ * scope declared read-only: read-only work gets round robin one of the replicas whose last lag check passed, and the
+ * primary when none did, when the chosen replica cannot hand out a connection, within the read-your-writes window
+ * after this instance inserted articles, or for {@code max-lag} after a dataset version moved; everything else gets the
+ * primary. Behind a LazyConnectionDataSourceProxy it is asked only when the first statement runs, after the
+ * transaction has declared itself.
+ * <p>
+ * Dataset versions arrive by NOTIFY from the primary and tag list responses (ETag, response cache). A replica up to
+ * {@code max-lag} behind may not have replayed the commit yet, so a page read there would carry the new version with
+ * the old rows and be served as current until the next change. Reads stay on the primary until every replica in
+ * rotation is known to have caught up.
+ * <p>
+ * Lag is how long replay trails the newest transaction the replica has received. A replica that has replayed all it
+ * received counts as current, as does one that is not in recovery at all (a stand-in for local testing). Long
+ * queries on a replica, such as exports, can be cancelled by replay conflicts unless the replica allows for them
+ * ({@code max_standby_streaming_delay}, {@code hot_standby_feedback}).
+ */
+@Slf4j
+public class ReadReplicaRouter {
+
+    static final String LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() " +
+            "OR pg_last_wal_receive_lsn() <= pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadReplicaProperties properties;
+    private final DataSource dataSource = new RoutingDataSource();
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongSupplier datasetChanges;
+    private final AtomicLong seenDatasetChanges = new AtomicLong();
+    private final Counter readYourWritesReads;
+    private final Counter versionChangeReads;
+    private final Counter fallbackReads;
+
+    private Thread checker;
+    private volatile boolean running;
+    // System.nanoTime() until which reads stay on the primary
+    private volatile long primaryUntil = System.nanoTime();
+    // System.nanoTime() until which reads stay on the primary after a dataset version moved
+    private volatile long versionChangeUntil = System.nanoTime();
+
+    /**
+     * @param primaryName    pool name of {@code primary}, for the metrics
+     * @param replicas       replica pools by pool name
+     * @param datasetChanges how many times a dataset version has moved forward, see DatasetVersions#changes
+     */
+    public ReadReplicaRouter(String primaryName, DataSource primary, Map<String, DataSource> replicas,
+                             ReadReplicaProperties properties, LongSupplier datasetChanges, MeterRegistry registry) {
+        this.primary = primary;
+        this.properties = properties;
+        this.datasetChanges = datasetChanges;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource, registry)));
+        this.readYourWritesReads = routedCounter(registry, primaryName, "read_your_writes");
+        this.versionChangeReads = routedCounter(registry, primaryName, "version_change");
+        this.fallbackReads = routedCounter(registry, primaryName, "replicas_unavailable");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (running || replicas.isEmpty()) {
+            return;
+        }
+        running = true;
+        checker = Thread.ofPlatform()
+                .name("read-replica-check")
+                .daemon(true)
+                .start(this::checkLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (running) {
+            running = false;
+            checker.interrupt();
+            try {
+                checker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable pool) {
+                try {
+                    pool.close();
+                } catch (Exception e) {
+                    log.warn("Read replica pool {} did not close cleanly", replica.name, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Connections of the primary, or of a replica for read-only transactions.
+     */
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesInserted(ArticlesInsertedEvent event) {
+        long window = properties.getReadYourWritesWindow().toNanos();
+        if (window > 0) {
+            primaryUntil = System.nanoTime() + window;
+        }
+    }
+
+    /**
+     * Measures the lag of every replica once; runs on the check thread every {@code check-interval}.
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            replica.update(measureLag(replica), properties.getMaxLag());
+        }
+    }
+
+    private void checkLoop() {
+        while (running) {
+            try {
+                checkReplicas();
+                Thread.sleep(properties.getCheckInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Read replica check failed", e);
+            }
+        }
+    }
+
+    // seconds behind, NaN when the replica is unreachable or cannot tell
+    private double measureLag(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, properties.getConnectionTimeout().toSeconds()));
+            try (ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                if (!rs.next()) {
+                    return Double.NaN;
+                }
+                double lag = rs.getDouble(1);
+                return rs.wasNull() ? Double.NaN : lag;
+            }
+        } catch (SQLException e) {
+            log.debug("Read replica {} lag check failed", replica.name, e);
+            return Double.NaN;
+        }
+    }
+
+    private Connection readOnlyConnection() throws SQLException {
+        if (System.nanoTime() - primaryUntil < 0) {
+            readYourWritesReads.increment();
+            return primaryConnection();
+        }
+        long changes = datasetChanges.getAsLong();
+        long seen = seenDatasetChanges.get();
+        if (changes != seen && seenDatasetChanges.compareAndSet(seen, changes)) {
+            versionChangeUntil = System.nanoTime() + properties.getMaxLag().toNanos();
+        }
+        if (System.nanoTime() - versionChangeUntil < 0) {
+            versionChangeReads.increment();
+            return primaryConnection();
+        }
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.routed.increment();
+                return connection;
+            } catch (SQLException e) {
+                // out of rotation until the next check finds it back
+                replica.markUnavailable(e);
+            }
+        }
+        fallbackReads.increment();
+        return primaryConnection();
+    }
+
+    private Connection primaryConnection() throws SQLException {
+        Connection connection = primary.getConnection();
+        try {
+            connection.setReadOnly(true);
+            return connection;
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private static Counter routedCounter(MeterRegistry registry, String pool, String reason) {
+        return Counter.builder("read_replica_routed_total")
+                .description("Read-only transactions by the pool that served them and why")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private final class RoutingDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    ? readOnlyConnection() : primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Routed connections use the configured credentials");
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter routed;
+        private volatile boolean available;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(String name, DataSource dataSource, MeterRegistry registry) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.routed = routedCounter(registry, name, "replica");
+            Gauge.builder("read_replica_lag_seconds", this, replica -> replica.lagSeconds)
+                    .description("Replay lag of the read replica at its last check, NaN when unknown")
+                    .tag("pool", name)
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("read_replica_available", this, replica -> replica.available ? 1 : 0)
+                    .description("Whether the read replica takes read-only transactions")
+                    .tag("pool", name)
+                    .register(registry);
+        }
+
+        void update(double lag, Duration maxLag) {
+            lagSeconds = lag;
+            boolean nowAvailable = !Double.isNaN(lag) && lag <= maxLag.toMillis() / 1000.0;
+            if (nowAvailable && !available) {
+                log.info("Read replica {} is {}s behind, taking read-only transactions", name, lag);
+            } else if (!nowAvailable && available) {
+                log.warn("Read replica {} is {}, reads go to the primary", name,
+                        Double.isNaN(lag) ? "unreachable or cannot tell its lag" : lag + "s behind");
+            }
+            available = nowAvailable;
+        }
+
+        void markUnavailable(SQLException e) {
+            if (available) {
+                log.warn("Read replica {} refused a connection, reads go to the primary", name, e);
+            }
+            available = false;
+        }
+    }
+}
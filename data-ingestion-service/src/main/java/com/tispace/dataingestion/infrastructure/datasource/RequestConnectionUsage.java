@@ -0,0 +1,103 @@
+package com.tispace.dataingestion.infrastructure.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Hikari metrics tracker factory that, besides reporting to {@code delegate}, adds up how long connections were held
+ * on the current thread while a {@link Tally} is open there. Hikari reports a connection's usage when it goes back to
+ * the pool, on the thread that returns it, so a tally opened around a request covers every connection the request
+ * borrowed and returned, from any pool created with this factory.
+ */
+public class RequestConnectionUsage implements MetricsTrackerFactory {
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    private final MetricsTrackerFactory delegate;
+
+    public RequestConnectionUsage(MetricsTrackerFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Starts adding up connection usage on this thread until the returned tally is closed.
+     */
+    public static Tally open() {
+        Tally tally = new Tally(CURRENT.get());
+        CURRENT.set(tally);
+        return tally;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        IMetricsTracker tracker = delegate.create(poolName, poolStats);
+        return new IMetricsTracker() {
+
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                tracker.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                tracker.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                tracker.recordConnectionUsageMillis(elapsedBorrowedMillis);
+                Tally tally = CURRENT.get();
+                if (tally != null) {
+                    tally.heldMillis += elapsedBorrowedMillis;
+                    tally.connections++;
+                }
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                tracker.recordConnectionTimeout();
+            }
+
+            @Override
+            public void close() {
+                tracker.close();
+            }
+        };
+    }
+
+    /**
+     * Connection usage on one thread; only that thread updates it.
+     */
+    public static final class Tally implements AutoCloseable {
+
+        private final Tally outer;
+        private long heldMillis;
+        private int connections;
+
+        private Tally(Tally outer) {
+            this.outer = outer;
+        }
+
+        /** Total time connections returned since the tally opened were held, in milliseconds. */
+        public long heldMillis() {
+            return heldMillis;
+        }
+
+        /** Connections returned since the tally opened. */
+        public int connections() {
+            return connections;
+        }
+
+        @Override
+        public void close() {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                outer.heldMillis += heldMillis;
+                outer.connections += connections;
+                CURRENT.set(outer);
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.tispace.dataingestion.domain.entity.Article;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,9 +14,15 @@ import java.util.UUID;
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, UUID> {
 	
-	Page<Article> findByCategory(String category, Pageable pageable);
+	/**
+	 * Articles that belong to the topic, whichever topic first fetched them. Rooted on article_topics,
+	 * so sorts must name its properties ({@code publishedAt}, {@code articleId}) to walk
+	 * idx_article_topics_topic_published_at or the primary key; see ArticleSortPlan.
+	 */
+	@Query(value = "SELECT a FROM ArticleTopic t JOIN Article a ON a.id = t.articleId WHERE t.topic = :category",
+		countQuery = "SELECT COUNT(t) FROM ArticleTopic t WHERE t.topic = :category")
+	Page<Article> findByCategory(@Param("category") String category, Pageable pageable);
 	
 	Optional<Article> findTop1ByOrderByCreatedAtDesc();
 
 }
-
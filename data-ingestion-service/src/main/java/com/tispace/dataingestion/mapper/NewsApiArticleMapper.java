@@ -13,6 +13,13 @@ public interface NewsApiArticleMapper {
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "updatedAt", ignore = true)
 	@Mapping(target = "category", ignore = true)
+	@Mapping(target = "language", ignore = true)
+	@Mapping(target = "keywords", ignore = true)
+	@Mapping(target = "slug", ignore = true)
+	@Mapping(target = "readingTimeMinutes", ignore = true)
+	@Mapping(target = "titleSortKey", ignore = true)
+	@Mapping(target = "authorSortKey", ignore = true)
+	@Mapping(target = "descriptionSortKey", ignore = true)
 	@Mapping(target = "publishedAt", expression = "java(articleResponse.getPublishedAtLocalDateTime())")
 	Article toArticle(NewsApiAdapter.ArticleResponse articleResponse);
 	
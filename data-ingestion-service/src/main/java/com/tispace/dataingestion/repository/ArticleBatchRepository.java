@@ -1,30 +1,105 @@
 package com.tispace.dataingestion.repository;
 
 import com.github.f4b6a3.uuid.UuidCreator;
+import com.tispace.dataingestion.config.DataSourcePoolsConfig;
 import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class ArticleBatchRepository {
 
+    // Search document built from the bound title and description; same expression as the 014 backfill.
+    // Computed here instead of in a trigger so the bulk insert path stays a plain multi-row INSERT.
+    static final String SEARCH_VECTOR =
+            "setweight(to_tsvector('english', coalesce(?, '')), 'A') || " +
+                    "setweight(to_tsvector('english', coalesce(?, '')), 'B')";
+
     private static final String INSERT_SQL =
-            "INSERT INTO articles (id, title, description, author, published_at, category, created_at, updated_at) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "INSERT INTO articles (id, title, description, author, published_at, category, " +
+                    "language, keywords, slug, reading_time_minutes, search_vector, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + SEARCH_VECTOR + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
                     "ON CONFLICT (title, published_at) DO NOTHING";
 
+    private static final String MULTI_ROW_INSERT_PREFIX =
+            "INSERT INTO articles (id, title, description, author, published_at, category, " +
+                    "language, keywords, slug, reading_time_minutes, search_vector, created_at, updated_at) VALUES ";
+
+    private static final String MULTI_ROW_VALUES =
+            "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + SEARCH_VECTOR + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    private static final String MULTI_ROW_INSERT_SUFFIX = " ON CONFLICT (title, published_at) DO NOTHING RETURNING id";
+
+    private static final int COLUMNS_PER_ROW = 12;
+
+    // Links every input row to the stored article for its (title, published_at), including rows that were
+    // skipped as duplicates. Rows without published_at never conflict, so they are linked by their own id.
+    // Newly linked rows are added to the per-topic counters and per-day facets in the same statement, newly
+    // inserted articles to the '*' facets, and the dataset version of every topic that gained articles is
+    // bumped, plus the '*' version when any article was inserted.
+    private static final String INSERT_TOPICS_SQL =
+            "WITH input AS (" +
+                    "SELECT * FROM unnest(?::uuid[], ?::text[], ?::timestamp[], ?::text[]) AS t(id, title, published_at, topic) " +
+                    "WHERE t.topic IS NOT NULL), " +
+                    "linked AS (" +
+                    "INSERT INTO article_topics (article_id, topic, published_at) " +
+                    "SELECT a.id, i.topic, a.published_at FROM input i " +
+                    "JOIN articles a ON a.title = i.title AND a.published_at = i.published_at " +
+                    "UNION ALL " +
+                    "SELECT a.id, i.topic, NULL FROM input i " +
+                    "JOIN articles a ON a.id = i.id WHERE i.published_at IS NULL " +
+                    "ON CONFLICT (topic, article_id) DO NOTHING RETURNING topic, published_at), " +
+                    // ordered so concurrent writers lock counter and version rows in the same order
+                    "counted AS (" +
+                    "INSERT INTO article_topic_counts (topic, article_count) " +
+                    "SELECT topic, COUNT(*) FROM linked GROUP BY topic ORDER BY topic " +
+                    "ON CONFLICT (topic) DO UPDATE SET " +
+                    "article_count = article_topic_counts.article_count + EXCLUDED.article_count, " +
+                    "updated_at = CURRENT_TIMESTAMP RETURNING topic), " +
+                    // per-day facets: new memberships under their topic, newly inserted articles under '*'
+                    "faceted AS (" +
+                    "INSERT INTO article_facets (scope, day, article_count) " +
+                    "SELECT scope, day, COUNT(*) FROM (" +
+                    "SELECT topic AS scope, published_at::date AS day FROM linked " +
+                    "UNION ALL " +
+                    "SELECT '*', p::date FROM unnest(?::timestamp[]) AS p) f " +
+                    "WHERE day IS NOT NULL GROUP BY scope, day ORDER BY scope, day " +
+                    "ON CONFLICT (scope, day) DO UPDATE SET " +
+                    "article_count = article_facets.article_count + EXCLUDED.article_count, " +
+                    "updated_at = CURRENT_TIMESTAMP) " +
+                    "INSERT INTO dataset_versions (scope, version) " +
+                    "SELECT scope, 1 FROM (SELECT topic AS scope FROM counted UNION ALL SELECT '*' WHERE ?) s ORDER BY scope " +
+                    "ON CONFLICT (scope) DO UPDATE SET version = dataset_versions.version + 1, updated_at = CURRENT_TIMESTAMP";
+
+    // PostgreSQL caps bind parameters per statement at 65535
+    static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    // bulk writes take their connections from the ingestion pool, not the one serving API reads
+    @Qualifier(DataSourcePoolsConfig.INGESTION_JDBC_TEMPLATE)
     private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    @Transactional(transactionManager = DataSourcePoolsConfig.INGESTION_TRANSACTION_MANAGER)
     public int batchInsertIgnoreDuplicates(List<Article> articles) {
         if (articles == null || articles.isEmpty()) {
             return 0;
@@ -38,6 +113,7 @@ public class ArticleBatchRepository {
 
         final int batchSize = 50;
         int insertedTotal = 0;
+        List<Article> inserted = new ArrayList<>();
 
         for (int i = 0; i < articles.size(); i += batchSize) {
             int end = Math.min(i + batchSize, articles.size());
@@ -46,19 +122,7 @@ public class ArticleBatchRepository {
             int[] results = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
                 @Override
                 public void setValues(PreparedStatement ps, int idx) throws SQLException {
-                    Article a = batch.get(idx);
-                    ps.setObject(1, a.getId(), Types.OTHER);
-                    ps.setString(2, a.getTitle());
-                    ps.setString(3, a.getDescription());
-                    ps.setString(4, a.getAuthor());
-
-                    if (a.getPublishedAt() != null) {
-                        ps.setTimestamp(5, Timestamp.valueOf(a.getPublishedAt()));
-                    } else {
-                        ps.setNull(5, Types.TIMESTAMP);
-                    }
-
-                    ps.setString(6, a.getCategory());
+                    bindArticle(ps, 0, batch.get(idx));
                 }
 
                 @Override
@@ -67,17 +131,148 @@ public class ArticleBatchRepository {
                 }
             });
 
-            for (int r : results) {
+            for (int idx = 0; idx < results.length; idx++) {
+                int r = results[idx];
                 if (r == Statement.SUCCESS_NO_INFO) {
                     insertedTotal += 1;
+                    inserted.add(batch.get(idx));
                 } else if (r >= 0) {
                     insertedTotal += r;
+                    if (r > 0) {
+                        inserted.add(batch.get(idx));
+                    }
                 } else if (r == Statement.EXECUTE_FAILED) {
                     log.warn("Batch insert execution failed for one row in current batch");
                 }
             }
         }
 
+        insertTopicMemberships(articles, inserted);
+        publishInserted(inserted);
         return insertedTotal;
     }
+
+    /**
+     * Inserts all articles with multi-row statements in a single transaction, so one call costs
+     * one commit regardless of how many producers contributed rows.
+     *
+     * @return ids of the rows actually inserted; duplicates skipped by ON CONFLICT are absent
+     */
+    @Transactional(transactionManager = DataSourcePoolsConfig.INGESTION_TRANSACTION_MANAGER)
+    public Set<UUID> insertIgnoreDuplicatesReturningIds(List<Article> articles) {
+        Set<UUID> insertedIds = new HashSet<>();
+        if (articles == null || articles.isEmpty()) {
+            return insertedIds;
+        }
+
+        for (Article article : articles) {
+            if (article.getId() == null) {
+                article.setId(UuidCreator.getTimeOrderedEpoch());
+            }
+        }
+
+        RowCallbackHandler collectIds = rs -> insertedIds.add(rs.getObject(1, UUID.class));
+
+        for (int i = 0; i < articles.size(); i += MAX_ROWS_PER_STATEMENT) {
+            int end = Math.min(i + MAX_ROWS_PER_STATEMENT, articles.size());
+            List<Article> chunk = articles.subList(i, end);
+
+            PreparedStatementSetter binder = ps -> {
+                for (int row = 0; row < chunk.size(); row++) {
+                    bindArticle(ps, row * COLUMNS_PER_ROW, chunk.get(row));
+                }
+            };
+            jdbcTemplate.query(multiRowInsertSql(chunk.size()), binder, collectIds);
+        }
+
+        List<Article> inserted = articles.stream().filter(article -> insertedIds.contains(article.getId())).toList();
+        insertTopicMemberships(articles, inserted);
+        publishInserted(inserted);
+        return insertedIds;
+    }
+
+    /**
+     * Set-based membership insert for the topic each article was fetched under ({@code category}),
+     * together with the matching topic counter, per-day facet and dataset version increments, executed in the
+     * caller's transaction as a single statement. {@code inserted} are the articles whose rows were actually
+     * written; only they count towards the all-articles facets and version.
+     */
+    private void insertTopicMemberships(List<Article> articles, List<Article> inserted) {
+        int size = articles.size();
+        UUID[] ids = new UUID[size];
+        String[] titles = new String[size];
+        Timestamp[] publishedAt = new Timestamp[size];
+        String[] topics = new String[size];
+        for (int i = 0; i < size; i++) {
+            Article a = articles.get(i);
+            ids[i] = a.getId();
+            titles[i] = a.getTitle();
+            publishedAt[i] = a.getPublishedAt() != null ? Timestamp.valueOf(a.getPublishedAt()) : null;
+            topics[i] = a.getCategory();
+        }
+        Timestamp[] insertedPublishedAt = inserted.stream()
+                .map(Article::getPublishedAt)
+                .filter(Objects::nonNull)
+                .map(Timestamp::valueOf)
+                .toArray(Timestamp[]::new);
+
+        PreparedStatementSetter binder = ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("uuid", ids));
+            ps.setArray(2, connection.createArrayOf("text", titles));
+            ps.setArray(3, connection.createArrayOf("timestamp", publishedAt));
+            ps.setArray(4, connection.createArrayOf("text", topics));
+            ps.setArray(5, connection.createArrayOf("timestamp", insertedPublishedAt));
+            ps.setBoolean(6, !inserted.isEmpty());
+        };
+        int versionsBumped = jdbcTemplate.update(INSERT_TOPICS_SQL, binder);
+        log.debug("Topic memberships added for {} articles, {} dataset versions bumped", size, versionsBumped);
+    }
+
+    private void publishInserted(List<Article> inserted) {
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(new ArticlesInsertedEvent(inserted));
+        }
+    }
+
+    static String multiRowInsertSql(int rows) {
+        StringJoiner values = new StringJoiner(", ", MULTI_ROW_INSERT_PREFIX, MULTI_ROW_INSERT_SUFFIX);
+        for (int i = 0; i < rows; i++) {
+            values.add(MULTI_ROW_VALUES);
+        }
+        return values.toString();
+    }
+
+    private static void bindArticle(PreparedStatement ps, int offset, Article a) throws SQLException {
+        ps.setObject(offset + 1, a.getId(), Types.OTHER);
+        ps.setString(offset + 2, a.getTitle());
+        ps.setString(offset + 3, a.getDescription());
+        ps.setString(offset + 4, a.getAuthor());
+
+        if (a.getPublishedAt() != null) {
+            ps.setTimestamp(offset + 5, Timestamp.valueOf(a.getPublishedAt()));
+        } else {
+            ps.setNull(offset + 5, Types.TIMESTAMP);
+        }
+
+        ps.setString(offset + 6, a.getCategory());
+        ps.setString(offset + 7, a.getLanguage());
+
+        if (a.getKeywords() != null) {
+            ps.setArray(offset + 8, ps.getConnection().createArrayOf("text", a.getKeywords().toArray()));
+        } else {
+            ps.setNull(offset + 8, Types.ARRAY);
+        }
+
+        ps.setString(offset + 9, a.getSlug());
+
+        if (a.getReadingTimeMinutes() != null) {
+            ps.setInt(offset + 10, a.getReadingTimeMinutes());
+        } else {
+            ps.setNull(offset + 10, Types.INTEGER);
+        }
+
+        ps.setString(offset + 11, a.getTitle());
+        ps.setString(offset + 12, a.getDescription());
+    }
 }
@@ -0,0 +1,113 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.pagination.ArticleChangeCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the article change feed: inserted articles in {@code (inserted_xid, id)} order. Only rows inserted by
+ * transactions older than the xmin of the reading snapshot are returned; every such transaction has ended, so no
+ * later commit can add a row behind a position once it has been handed out, and a reader that resumes from its last
+ * position gets exactly the rows it has not seen. A long-running writing transaction holds the feed back until it
+ * ends. Rows written before the feed existed all sit at xid 0.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleChangeRepository {
+
+    private static final String HEAD_SQL = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text";
+
+    // the horizon is read in the same statement as the rows, so both come from one snapshot; the outer row is
+    // there even when no article qualifies, to carry the horizon
+    private static final String CHANGES_SQL_PREFIX = ArticleDtoRowMapper.COLUMNS +
+            ", a.inserted_xid::text, ARRAY(SELECT t.topic FROM article_topics t WHERE t.article_id = a.id ORDER BY t.topic), " +
+            "h.head::text FROM (SELECT pg_snapshot_xmin(pg_current_snapshot()) AS head) h LEFT JOIN LATERAL (" +
+            ArticleDtoRowMapper.COLUMNS + ", a.inserted_xid FROM articles a " +
+            "WHERE (a.inserted_xid, a.id) > (?::xid8, ?) AND a.inserted_xid < h.head";
+
+    private static final String UNTIL_PREDICATE = " AND (a.inserted_xid, a.id) <= (?::xid8, ?)";
+
+    private static final String TOPIC_PREDICATE =
+            " AND EXISTS (SELECT 1 FROM article_topics m WHERE m.article_id = a.id AND m.topic = ?)";
+
+    private static final String CHANGES_SQL_SUFFIX =
+            " ORDER BY a.inserted_xid, a.id LIMIT ?) a ON TRUE ORDER BY a.inserted_xid, a.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Position before everything not yet visible to the feed; a reader starting here sees only future inserts.
+     */
+    public ArticleChangeCursor head() {
+        return ArticleChangeCursor.before(Long.parseUnsignedLong(jdbcTemplate.queryForObject(HEAD_SQL, String.class)));
+    }
+
+    /**
+     * Up to {@code limit} articles inserted after {@code since}, oldest change first.
+     *
+     * @param until    inclusive upper bound, or {@code null} to read up to the current horizon
+     * @param category topic the articles must belong to, or {@code null} for all
+     */
+    public ChangePage findAfter(ArticleChangeCursor since, ArticleChangeCursor until, String category, int limit) {
+        List<Object> args = new ArrayList<>(List.of(Long.toUnsignedString(since.xid()), since.id()));
+        StringBuilder sql = new StringBuilder(CHANGES_SQL_PREFIX);
+        if (until != null) {
+            sql.append(UNTIL_PREDICATE);
+            args.add(Long.toUnsignedString(until.xid()));
+            args.add(until.id());
+        }
+        if (category != null) {
+            sql.append(TOPIC_PREDICATE);
+            args.add(category);
+        }
+        sql.append(CHANGES_SQL_SUFFIX);
+        args.add(limit + 1);
+
+        long[] head = {0};
+        List<ArticleChange> changes = new ArrayList<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            head[0] = Long.parseUnsignedLong(rs.getString(ArticleDtoRowMapper.COLUMN_COUNT + 3));
+            if (rs.getObject(1) == null) {
+                return;
+            }
+            Array topics = rs.getArray(ArticleDtoRowMapper.COLUMN_COUNT + 2);
+            ArticleDTO article = ArticleDtoRowMapper.INSTANCE.mapRow(rs, changes.size());
+            changes.add(new ArticleChange(
+                    new ArticleChangeCursor(Long.parseUnsignedLong(rs.getString(ArticleDtoRowMapper.COLUMN_COUNT + 1)),
+                            rs.getObject(1, UUID.class)),
+                    article,
+                    Arrays.asList((String[]) topics.getArray())));
+        }, args.toArray());
+
+        if (changes.size() > limit) {
+            List<ArticleChange> page = List.copyOf(changes.subList(0, limit));
+            return new ChangePage(page, true, page.getLast().position());
+        }
+        // everything up to the bound has been read, so the position moves to the bound itself
+        ArticleChangeCursor bound = ArticleChangeCursor.before(head[0]);
+        if (until != null && until.compareTo(bound) < 0) {
+            bound = until;
+        }
+        return new ChangePage(List.copyOf(changes), false, bound.isAfter(since) ? bound : since);
+    }
+
+    /**
+     * An inserted article, its feed position and the topics it belongs to.
+     */
+    public record ArticleChange(ArticleChangeCursor position, ArticleDTO article, List<String> topics) {
+    }
+
+    /**
+     * @param next position after the returned changes; past skipped rows of other topics too
+     */
+    public record ChangePage(List<ArticleChange> changes, boolean hasMore, ArticleChangeCursor next) {
+    }
+}
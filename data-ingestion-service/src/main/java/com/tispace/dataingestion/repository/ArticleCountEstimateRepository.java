@@ -0,0 +1,77 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cheap listing totals: per-topic counters in {@code article_topic_counts}, maintained by
+ * ArticleBatchRepository as memberships are inserted, and the planner's row estimates for the whole table and for
+ * filtered listings.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleCountEstimateRepository {
+
+    private static final String SELECT_TOPIC_COUNT_SQL =
+            "SELECT article_count FROM article_topic_counts WHERE topic = ?";
+
+    private static final String SELECT_TOPICS_SQL =
+            "SELECT topic FROM article_topic_counts WHERE article_count > 0";
+
+    private static final String SELECT_RELTUPLES_SQL =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = 'articles'::regclass";
+
+    // top node of EXPLAIN (FORMAT JSON) comes first
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Counter for the topic; a topic without a row has no articles, since the table is seeded from
+     * article_topics and every later membership insert updates it.
+     */
+    public long countByTopic(String topic) {
+        List<Long> counts = jdbcTemplate.queryForList(SELECT_TOPIC_COUNT_SQL, Long.class, topic);
+        return counts.isEmpty() ? 0L : Math.max(counts.getFirst(), 0L);
+    }
+
+    /**
+     * Every topic with at least one article.
+     */
+    public List<String> findTopics() {
+        return jdbcTemplate.queryForList(SELECT_TOPICS_SQL, String.class);
+    }
+
+    /**
+     * Row estimate of the articles table as of the last VACUUM/ANALYZE;
+     * empty if the table has never been analyzed.
+     */
+    public OptionalLong estimateArticles() {
+        List<Long> reltuples = jdbcTemplate.queryForList(SELECT_RELTUPLES_SQL, Long.class);
+        if (reltuples.isEmpty() || reltuples.getFirst() == null || reltuples.getFirst() < 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(reltuples.getFirst());
+    }
+
+    /**
+     * Planner row estimate of a filtered listing, taken from EXPLAIN without running the query;
+     * empty if the plan carries no estimate.
+     */
+    public OptionalLong estimateMatching(ArticleFilter filter) {
+        List<Object> args = new ArrayList<>();
+        String sql = "EXPLAIN (FORMAT JSON) SELECT 1 " + ArticleFilterSql.source(filter)
+                + ArticleFilterSql.where(ArticleFilterSql.predicates(filter, args));
+        String plan = String.join("\n", jdbcTemplate.queryForList(sql, String.class, args.toArray()));
+        Matcher rows = PLAN_ROWS.matcher(plan);
+        return rows.find() ? OptionalLong.of(Long.parseLong(rows.group(1))) : OptionalLong.empty();
+    }
+}
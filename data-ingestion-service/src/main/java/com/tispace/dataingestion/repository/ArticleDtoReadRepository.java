@@ -0,0 +1,144 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Read path for the article API that maps result sets straight into {@link ArticleDTO}: no entities are
+ * hydrated, tracked by a persistence context or copied by a mapper. Sorts are expected in the form produced by
+ * ArticleSortPlan and are translated through a fixed property-to-column whitelist.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleDtoReadRepository {
+
+    private static final String SELECT_BY_ID_SQL = ArticleDtoRowMapper.COLUMNS + "FROM articles a WHERE a.id = ?";
+
+    private static final String SELECT_BY_IDS_SQL = ArticleDtoRowMapper.COLUMNS + "FROM articles a WHERE a.id = ANY(?)";
+
+    private static final String COUNT_ALL_SQL = "SELECT COUNT(*) FROM articles";
+
+    private static final String COUNT_TOPIC_SQL = "SELECT COUNT(*) FROM article_topics WHERE topic = ?";
+
+    private static final Map<String, String> ARTICLE_COLUMNS = Map.of(
+            "id", "a.id",
+            "publishedAt", "a.published_at",
+            "createdAt", "a.created_at",
+            "updatedAt", "a.updated_at",
+            "category", "a.category",
+            "titleSortKey", "a.title_sort_key",
+            "authorSortKey", "a.author_sort_key",
+            "descriptionSortKey", "a.description_sort_key"
+    );
+
+    private static final Map<String, String> TOPIC_COLUMNS = Map.of(
+            "publishedAt", "t.published_at",
+            "articleId", "t.article_id"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<ArticleDTO> findById(UUID id) {
+        List<ArticleDTO> rows = jdbcTemplate.query(statement(SELECT_BY_ID_SQL, 1, id), ArticleDtoRowMapper.INSTANCE);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Articles with any of the given ids, in no particular order, in a single primary key lookup; ids without an
+     * article are left out.
+     */
+    public List<ArticleDTO> findByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        UUID[] values = ids.toArray(UUID[]::new);
+        PreparedStatementCreator statement = connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_BY_IDS_SQL);
+            ps.setFetchSize(values.length + 1);
+            ps.setArray(1, connection.createArrayOf("uuid", values));
+            return ps;
+        };
+        return jdbcTemplate.query(statement, ArticleDtoRowMapper.INSTANCE);
+    }
+
+    /**
+     * Page of the filtered listing, reading only the columns of {@code fields}; other properties are left null.
+     *
+     * @param sort planned sort for the filter's single category, if any (see ArticleSortPlan); unsorted means no
+     *             ORDER BY
+     */
+    public List<ArticleDTO> findPage(ArticleFilter filter, Sort sort, long offset, int limit, ArticleFields fields) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(ArticleDtoRowMapper.columns(fields))
+                .append(ArticleFilterSql.source(filter))
+                .append(ArticleFilterSql.where(ArticleFilterSql.predicates(filter, args)))
+                .append(orderBy(sort, ArticleFilterSql.topicRooted(filter) ? TOPIC_COLUMNS : ARTICLE_COLUMNS))
+                .append(" LIMIT ? OFFSET ?");
+        args.add(limit);
+        args.add(offset);
+
+        return jdbcTemplate.query(statement(sql.toString(), limit, args.toArray()), ArticleDtoRowMapper.INSTANCE);
+    }
+
+    /**
+     * Exact size of the listing; a category alone is counted on article_topics without joining articles.
+     */
+    public long count(ArticleFilter filter) {
+        Long count;
+        if (filter.isCategoryOnly()) {
+            count = filter.category() != null
+                    ? jdbcTemplate.queryForObject(COUNT_TOPIC_SQL, Long.class, filter.category())
+                    : jdbcTemplate.queryForObject(COUNT_ALL_SQL, Long.class);
+        } else {
+            List<Object> args = new ArrayList<>();
+            String sql = "SELECT COUNT(*) " + ArticleFilterSql.source(filter)
+                    + ArticleFilterSql.where(ArticleFilterSql.predicates(filter, args));
+            count = jdbcTemplate.queryForObject(sql, Long.class, args.toArray());
+        }
+        return count != null ? count : 0L;
+    }
+
+    private static String orderBy(Sort sort, Map<String, String> columns) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            String column = columns.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isDescending() ? " DESC" : " ASC"));
+        }
+        return orderBy.toString();
+    }
+
+    /**
+     * Sizes the driver fetch to the expected rows plus one, so a page arrives in a single round trip
+     * without the driver asking the server again for the end of the result.
+     */
+    private static PreparedStatementCreator statement(String sql, int expectedRows, Object... args) {
+        return connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(expectedRows + 1);
+            new ArgumentPreparedStatementSetter(args).setValues(ps);
+            return ps;
+        };
+    }
+}
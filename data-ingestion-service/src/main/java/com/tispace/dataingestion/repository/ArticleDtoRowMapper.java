@@ -0,0 +1,81 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Maps an article row selected with {@link #COLUMNS} straight into the API contract, without an entity in between.
+ * A sparse fieldset selects NULL in place of the columns it leaves out, so positions stay the same and PostgreSQL
+ * never reads (or detoasts) those values.
+ */
+final class ArticleDtoRowMapper implements RowMapper<ArticleDTO> {
+
+    static final ArticleDtoRowMapper INSTANCE = new ArticleDtoRowMapper();
+
+    // column of every ArticleFields property, in ArticleFields.PROPERTIES order
+    private static final List<String> PROPERTY_COLUMNS = List.of(
+            "a.id", "a.title", "a.description", "a.author", "a.published_at", "a.category",
+            "a.language", "a.keywords", "a.slug", "a.reading_time_minutes", "a.created_at", "a.updated_at"
+    );
+
+    static final String COLUMNS = columns(ArticleFields.ALL);
+
+    /** Number of columns in {@link #COLUMNS}; queries may select extra columns after them. */
+    static final int COLUMN_COUNT = 12;
+
+    private ArticleDtoRowMapper() {
+    }
+
+    /**
+     * Select list for the fieldset, in the shape of {@link #COLUMNS}.
+     */
+    static String columns(ArticleFields fields) {
+        StringJoiner select = new StringJoiner(", ", "SELECT ", " ");
+        for (int i = 0; i < PROPERTY_COLUMNS.size(); i++) {
+            select.add(fields.includes(ArticleFields.PROPERTIES.get(i)) ? PROPERTY_COLUMNS.get(i) : "NULL");
+        }
+        return select.toString();
+    }
+
+    @Override
+    public ArticleDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Array keywords = rs.getArray(8);
+        int readingTime = rs.getInt(10);
+        Integer readingTimeMinutes = rs.wasNull() ? null : readingTime;
+
+        return ArticleDTO.builder()
+                .id(rs.getObject(1, UUID.class))
+                .title(rs.getString(2))
+                .description(rs.getString(3))
+                .author(rs.getString(4))
+                .publishedAt(toLocalDateTime(rs.getTimestamp(5)))
+                .category(rs.getString(6))
+                .language(rs.getString(7))
+                .keywords(keywords != null ? toList((Object[]) keywords.getArray()) : null)
+                .slug(rs.getString(9))
+                .readingTimeMinutes(readingTimeMinutes)
+                .createdAt(toLocalDateTime(rs.getTimestamp(11)))
+                .updatedAt(toLocalDateTime(rs.getTimestamp(12)))
+                .build();
+    }
+
+    // drivers differ in the component type of the returned array (String[] on PostgreSQL, Object[] on H2)
+    private static List<String> toList(Object[] values) {
+        return Arrays.asList(Arrays.copyOf(values, values.length, String[].class));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
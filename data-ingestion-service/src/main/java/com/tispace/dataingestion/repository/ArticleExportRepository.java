@@ -0,0 +1,77 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.common.contract.ArticleDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * Streams articles published in a time range, oldest first, for the bulk export. Rows are handed to the caller
+ * one at a time and never collected, so memory does not grow with the size of the range.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleExportRepository {
+
+    private static final String ALL_ARTICLES = "FROM articles a";
+
+    private static final String TOPIC_SOURCE = "FROM article_topics t JOIN articles a ON a.id = t.article_id";
+
+    // (published_at, id) and (topic, published_at, article_id) indexes serve the range and the order
+    private static final String ARTICLE_ORDER = " ORDER BY a.published_at, a.id";
+    private static final String TOPIC_ORDER = " ORDER BY t.published_at, t.article_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Calls {@code consumer} for every article published in {@code [from, to)}, reading {@code fetchSize} rows
+     * per round trip. The read-only transaction is what lets the PostgreSQL driver fetch through a server-side
+     * cursor instead of materializing the whole result; an exception thrown by the consumer ends the scan.
+     *
+     * @param category normalized category, or {@code null} for all articles
+     * @param from     inclusive lower bound, or {@code null} for none
+     * @param to       exclusive upper bound, or {@code null} for none
+     */
+    @Transactional(readOnly = true)
+    public void forEachArticle(String category, LocalDateTime from, LocalDateTime to, int fetchSize,
+                               Consumer<ArticleDTO> consumer) {
+        List<Object> args = new ArrayList<>();
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        String publishedAt = category != null ? "t.published_at" : "a.published_at";
+        if (category != null) {
+            where.add("t.topic = ?");
+            args.add(category);
+        }
+        if (from != null) {
+            where.add(publishedAt + " >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            where.add(publishedAt + " < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        String query = ArticleDtoRowMapper.COLUMNS + (category != null ? TOPIC_SOURCE : ALL_ARTICLES) + where
+                + (category != null ? TOPIC_ORDER : ARTICLE_ORDER);
+        Object[] values = args.toArray();
+        PreparedStatementCreator statement = connection -> {
+            PreparedStatement ps = connection.prepareStatement(query);
+            ps.setFetchSize(fetchSize);
+            new ArgumentPreparedStatementSetter(values).setValues(ps);
+            return ps;
+        };
+        RowCallbackHandler handler = rs -> consumer.accept(ArticleDtoRowMapper.INSTANCE.mapRow(rs, 0));
+        jdbcTemplate.query(statement, handler);
+    }
+}
@@ -0,0 +1,30 @@
+package com.tispace.dataingestion.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Per-day article counts in {@code article_facets}, incremented by ArticleBatchRepository as articles are
+ * inserted and linked to topics.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleFacetRepository {
+
+    private static final String SELECT_ALL_SQL = "SELECT scope, day, article_count FROM article_facets";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record FacetRow(String scope, LocalDate day, long count) {}
+
+    public void forEachFacet(Consumer<FacetRow> consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(
+                new FacetRow(rs.getString(1), rs.getObject(2, LocalDate.class), rs.getLong(3)));
+        jdbcTemplate.query(SELECT_ALL_SQL, handler);
+    }
+}
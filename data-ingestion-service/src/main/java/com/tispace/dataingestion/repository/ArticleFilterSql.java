@@ -0,0 +1,74 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Source and predicates of an {@link ArticleFilter}, shared by the offset and keyset listings so a filter is one
+ * parameterized query whatever it combines. A single category roots the query on article_topics, whose
+ * {@code (topic, published_at, article_id)} index also serves the date range. Otherwise the query runs on
+ * articles: several categories become a semi-join on the article_topics primary key, the date range uses
+ * {@code (published_at, id)} and the author {@code (author_sort_key, published_at, id)}.
+ */
+final class ArticleFilterSql {
+
+    static final String TOPIC_SOURCE = "FROM article_topics t JOIN articles a ON a.id = t.article_id";
+
+    static final String ARTICLES_SOURCE = "FROM articles a";
+
+    private ArticleFilterSql() {
+    }
+
+    static boolean topicRooted(ArticleFilter filter) {
+        return filter.category() != null;
+    }
+
+    static String source(ArticleFilter filter) {
+        return topicRooted(filter) ? TOPIC_SOURCE : ARTICLES_SOURCE;
+    }
+
+    /**
+     * Predicates of the filter, in SQL order, with their arguments appended to {@code args}. The returned list
+     * is mutable so callers can add their own.
+     */
+    static List<String> predicates(ArticleFilter filter, List<Object> args) {
+        List<String> predicates = new ArrayList<>();
+        boolean topicRooted = topicRooted(filter);
+        String publishedAt = topicRooted ? "t.published_at" : "a.published_at";
+        if (topicRooted) {
+            predicates.add("t.topic = ?");
+            args.add(filter.category());
+        } else if (!filter.categories().isEmpty()) {
+            StringJoiner in = new StringJoiner(", ", "EXISTS (SELECT 1 FROM article_topics m "
+                    + "WHERE m.article_id = a.id AND m.topic IN (", "))");
+            for (String category : filter.categories()) {
+                in.add("?");
+                args.add(category);
+            }
+            predicates.add(in.toString());
+        }
+        if (filter.publishedFrom() != null) {
+            predicates.add(publishedAt + " >= ?");
+            args.add(Timestamp.valueOf(filter.publishedFrom()));
+        }
+        if (filter.publishedTo() != null) {
+            predicates.add(publishedAt + " < ?");
+            args.add(Timestamp.valueOf(filter.publishedTo()));
+        }
+        if (filter.author() != null) {
+            // the sort key narrows through its index, the full comparison settles truncated keys
+            predicates.add("a.author_sort_key = left(lower(?), 64) AND lower(a.author) = lower(?)");
+            args.add(filter.author());
+            args.add(filter.author());
+        }
+        return predicates;
+    }
+
+    static String where(List<String> predicates) {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+}
@@ -0,0 +1,119 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.application.pagination.KeysetSortField;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seek-based article listing: every page is an index range scan starting right after the previous page's
+ * last {@code (sortKey, id)}, so its cost does not grow with depth the way OFFSET does.
+ * Single-category listings are rooted on article_topics and walk its {@code (topic, published_at, article_id)}
+ * index or primary key, so they only support fields for which {@link KeysetSortField#isTopicIndexed()} holds;
+ * other filters are applied to the seek on articles (see ArticleFilterSql).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleKeysetRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rows of the filtered listing with a non-null sort key, strictly after {@code (afterKey, afterId)} in the given
+     * order, reading only the columns of {@code fields}; other properties are left null.
+     *
+     * @param afterId  id of the last row already returned, or {@code null} for the first page
+     * @param afterKey sort key of that row; ignored for {@link KeysetSortField#ID} and the text fields, whose key is
+     *                 read from the row itself
+     */
+    public List<ArticleDTO> findAfter(KeysetSortField field, Sort.Direction direction, ArticleFilter filter,
+                                      LocalDateTime afterKey, UUID afterId, int limit, ArticleFields fields) {
+        boolean topicRooted = topicRooted(field, filter);
+        String idColumn = topicRooted ? "t.article_id" : "a.id";
+        String keyColumn = field.isId() ? idColumn : (topicRooted ? "t." : "a.") + field.getColumn();
+        String order = direction.isDescending() ? "DESC" : "ASC";
+        String comparison = direction.isDescending() ? "<" : ">";
+
+        List<Object> args = new ArrayList<>();
+        List<String> predicates = ArticleFilterSql.predicates(filter, args);
+        if (field.isNullable()) {
+            predicates.add(keyColumn + " IS NOT NULL");
+        }
+        if (afterId != null) {
+            if (field.isId()) {
+                predicates.add(idColumn + " " + comparison + " ?");
+            } else if (field.isText()) {
+                // the stored key of the cursor's row, looked up by primary key before the seek starts
+                predicates.add("(" + keyColumn + ", " + idColumn + ") " + comparison + " ((SELECT k." + field.getColumn()
+                        + " FROM articles k WHERE k.id = ?), ?)");
+                args.add(afterId);
+            } else {
+                predicates.add("(" + keyColumn + ", " + idColumn + ") " + comparison + " (?, ?)");
+                args.add(Timestamp.valueOf(afterKey));
+            }
+            args.add(afterId);
+        }
+        StringBuilder sql = new StringBuilder(ArticleDtoRowMapper.columns(fields))
+                .append(ArticleFilterSql.source(filter))
+                .append(ArticleFilterSql.where(predicates))
+                .append(" ORDER BY ");
+        if (!field.isId()) {
+            sql.append(keyColumn).append(' ').append(order).append(", ");
+        }
+        sql.append(idColumn).append(' ').append(order).append(" LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), ArticleDtoRowMapper.INSTANCE, args.toArray());
+    }
+
+    /**
+     * Rows of the filtered listing whose (nullable) sort key is NULL, ordered by id in the given direction, reading
+     * only the columns of {@code fields}. They are listed after all keyed rows regardless of direction, so a listing
+     * never interleaves them.
+     *
+     * @param afterId id of the last NULL-key row already returned, or {@code null} to start from the first one
+     */
+    public List<ArticleDTO> findWithNullKeyAfter(KeysetSortField field, Sort.Direction direction, ArticleFilter filter,
+                                                 UUID afterId, int limit, ArticleFields fields) {
+        if (!field.isNullable()) {
+            throw new IllegalArgumentException("Sort field " + field + " is not nullable");
+        }
+        boolean topicRooted = topicRooted(field, filter);
+        String idColumn = topicRooted ? "t.article_id" : "a.id";
+        String keyColumn = (topicRooted ? "t." : "a.") + field.getColumn();
+        String order = direction.isDescending() ? "DESC" : "ASC";
+
+        List<Object> args = new ArrayList<>();
+        List<String> predicates = ArticleFilterSql.predicates(filter, args);
+        predicates.add(keyColumn + " IS NULL");
+        if (afterId != null) {
+            predicates.add(idColumn + (direction.isDescending() ? " < ?" : " > ?"));
+            args.add(afterId);
+        }
+        String sql = ArticleDtoRowMapper.columns(fields) + ArticleFilterSql.source(filter)
+                + ArticleFilterSql.where(predicates) + " ORDER BY " + idColumn + " " + order + " LIMIT ?";
+        args.add(limit);
+
+        return jdbcTemplate.query(sql, ArticleDtoRowMapper.INSTANCE, args.toArray());
+    }
+
+    private static boolean topicRooted(KeysetSortField field, ArticleFilter filter) {
+        if (!ArticleFilterSql.topicRooted(filter)) {
+            return false;
+        }
+        if (!field.isTopicIndexed()) {
+            throw new IllegalArgumentException("Sort field " + field + " cannot be combined with a category");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.common.contract.ArticleDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text search over the {@code search_vector} GIN index, ranked with {@code ts_rank_cd} and paginated by
+ * seeking past the last {@code (rank, id)}. Matching is index-driven; ranking sorts only the matched rows.
+ * Queries are parsed with {@code websearch_to_tsquery}, which accepts any user input ("quoted phrases",
+ * {@code or}, {@code -exclusions}) without raising syntax errors.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleSearchRepository {
+
+    // must match the text search configuration of ArticleBatchRepository.SEARCH_VECTOR
+    private static final String QUERY_SOURCE =
+            "FROM websearch_to_tsquery('english', ?) q(query) JOIN articles a ON a.search_vector @@ q.query";
+
+    private static final String TOPIC_FILTER = " JOIN article_topics t ON t.article_id = a.id AND t.topic = ?";
+
+    private static final String RANK = "ts_rank_cd(a.search_vector, q.query)";
+
+    private static final String SELECT_HITS =
+            ArticleDtoRowMapper.COLUMNS.stripTrailing() + ", " + RANK + " AS search_rank ";
+
+    private static final RowMapper<Hit> HIT_MAPPER = (rs, rowNum) ->
+            new Hit(ArticleDtoRowMapper.INSTANCE.mapRow(rs, rowNum), rs.getFloat(ArticleDtoRowMapper.COLUMN_COUNT + 1));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Matches ordered by rank, then id, both descending, strictly after {@code (afterRank, afterId)}.
+     *
+     * @param category topic the hits must belong to, or {@code null}
+     * @param afterId  id of the last hit already returned, or {@code null} for the first page
+     */
+    public List<Hit> search(String query, String category, float afterRank, UUID afterId, int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(SELECT_HITS).append(QUERY_SOURCE);
+        args.add(query);
+        if (category != null) {
+            sql.append(TOPIC_FILTER);
+            args.add(category);
+        }
+        if (afterId != null) {
+            sql.append(" WHERE (").append(RANK).append(", a.id) < (?::real, ?)");
+            args.add(afterRank);
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY search_rank DESC, a.id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), HIT_MAPPER, args.toArray());
+    }
+
+    /**
+     * A matching article and its {@code ts_rank_cd} score, which the next page's cursor seeks from.
+     */
+    public record Hit(ArticleDTO article, float rank) {
+    }
+}
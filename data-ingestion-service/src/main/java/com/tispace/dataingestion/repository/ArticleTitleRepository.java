@@ -0,0 +1,50 @@
+package com.tispace.dataingestion.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams article titles for building the in-process autocomplete index.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleTitleRepository {
+
+    // newest first, so the index spends its memory budget on recent vocabulary if the budget runs out
+    private static final String SELECT_TITLES_SQL =
+            "SELECT id, title, published_at FROM articles ORDER BY published_at DESC, id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Calls {@code consumer} for every article, reading {@code fetchSize} rows per round trip. The transaction is
+     * what lets the PostgreSQL driver fetch through a cursor instead of materializing the whole result.
+     */
+    @Transactional(readOnly = true)
+    public void forEachTitle(int fetchSize, Consumer<ArticleTitle> consumer) {
+        PreparedStatementCreator statement = connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_TITLES_SQL);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        };
+        RowCallbackHandler handler = rs -> {
+            Timestamp publishedAt = rs.getTimestamp(3);
+            consumer.accept(new ArticleTitle(rs.getObject(1, UUID.class), rs.getString(2),
+                    publishedAt != null ? publishedAt.toLocalDateTime() : null));
+        };
+        jdbcTemplate.query(statement, handler);
+    }
+
+    public record ArticleTitle(UUID id, String title, LocalDateTime publishedAt) {
+    }
+}
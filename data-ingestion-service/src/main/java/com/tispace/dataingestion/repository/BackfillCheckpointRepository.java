@@ -0,0 +1,59 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.dataingestion.config.DataSourcePoolsConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-window progress of historical backfills (table {@code backfill_checkpoints}), kept on the ingestion pool.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BackfillCheckpointRepository {
+
+    private static final String SELECT_COMPLETED_SQL =
+            "SELECT window_start, window_end FROM backfill_checkpoints " +
+                    "WHERE backfill_key = ? AND window_start >= ? AND window_start < ?";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO backfill_checkpoints (backfill_key, window_start, window_end, fetched_count, inserted_count, completed_at) " +
+                    "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+                    "ON CONFLICT (backfill_key, window_start) DO UPDATE SET " +
+                    "window_end = EXCLUDED.window_end, " +
+                    "fetched_count = EXCLUDED.fetched_count, " +
+                    "inserted_count = EXCLUDED.inserted_count, " +
+                    "completed_at = EXCLUDED.completed_at";
+
+    @Qualifier(DataSourcePoolsConfig.INGESTION_JDBC_TEMPLATE)
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Completed windows starting within {@code [from, to)}, as start mapped to the end they were completed up to.
+     * The last window of a range is cut off at its {@code to}, so its end can fall short of a later plan's.
+     */
+    public Map<LocalDateTime, LocalDateTime> findCompletedWindows(String backfillKey, LocalDateTime from, LocalDateTime to) {
+        Map<LocalDateTime, LocalDateTime> completed = new HashMap<>();
+        RowCallbackHandler collector = rs ->
+                completed.put(rs.getTimestamp(1).toLocalDateTime(), rs.getTimestamp(2).toLocalDateTime());
+        jdbcTemplate.query(SELECT_COMPLETED_SQL, collector, backfillKey, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return completed;
+    }
+
+    public void markCompleted(String backfillKey, LocalDateTime windowStart, LocalDateTime windowEnd,
+                              int fetchedCount, int insertedCount) {
+        jdbcTemplate.update(UPSERT_SQL,
+                backfillKey,
+                Timestamp.valueOf(windowStart),
+                Timestamp.valueOf(windowEnd),
+                fetchedCount,
+                insertedCount);
+    }
+}
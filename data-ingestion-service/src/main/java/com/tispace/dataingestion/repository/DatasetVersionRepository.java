@@ -0,0 +1,28 @@
+package com.tispace.dataingestion.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Listing versions in {@code dataset_versions}, bumped by ArticleBatchRepository as articles are linked to topics.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DatasetVersionRepository {
+
+    private static final String SELECT_ALL_SQL = "SELECT scope, version FROM dataset_versions";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, Long> findAll() {
+        Map<String, Long> versions = new HashMap<>();
+        RowCallbackHandler collect = rs -> versions.put(rs.getString(1), rs.getLong(2));
+        jdbcTemplate.query(SELECT_ALL_SQL, collect);
+        return versions;
+    }
+}
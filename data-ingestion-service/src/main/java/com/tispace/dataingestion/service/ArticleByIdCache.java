@@ -0,0 +1,126 @@
+package com.tispace.dataingestion.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.config.ArticleCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of articles by id. Caffeine's W-TinyLFU admission keeps frequently read articles
+ * when a scan of rarely read ids passes through, and the bound is on estimated bytes rather than entries.
+ * Ids that were not found are cached as well, for {@code negativeTtl} only. Entries are evicted when the row
+ * changes (see ArticleChangeListener); {@code ttl} only covers notifications missed while reconnecting.
+ */
+@Component
+public class ArticleByIdCache {
+
+    static final String CACHE_NAME = "article_by_id";
+
+    // rough per-entry overhead of the cache node, key, Optional and DTO fields, independent of text lengths
+    private static final int ENTRY_OVERHEAD_BYTES = 320;
+
+    // list slot plus String and backing array headers
+    private static final int KEYWORD_OVERHEAD_BYTES = 40;
+
+    private final boolean enabled;
+    private final Cache<UUID, Optional<ArticleDTO>> cache;
+
+    public ArticleByIdCache(ArticleCacheProperties properties, MeterRegistry registry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumSize().toBytes())
+                .weigher((UUID id, Optional<ArticleDTO> article) -> weigh(article))
+                .expireAfter(Expiry.<UUID, Optional<ArticleDTO>>creating((id, article) ->
+                        article.isPresent() ? properties.getTtl() : properties.getNegativeTtl()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder("article_cache_weight_bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Estimated heap taken by cached articles")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Cached article for the id, loading it with {@code loader} on a miss. Concurrent misses for the same id
+     * share a single load; a failing load is not cached.
+     */
+    public Optional<ArticleDTO> get(UUID id, Function<UUID, Optional<ArticleDTO>> loader) {
+        if (!enabled || id == null) {
+            return loader.apply(id);
+        }
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Cached articles for all {@code ids}, loading every miss with a single call to {@code loader}. The loader
+     * returns the articles it found; ids it leaves out are cached as not found. The result has an entry for every
+     * distinct id.
+     */
+    public Map<UUID, Optional<ArticleDTO>> getAll(Collection<UUID> ids,
+                                                  Function<Set<UUID>, Map<UUID, ArticleDTO>> loader) {
+        if (!enabled) {
+            return complete(ids, loader.apply(new LinkedHashSet<>(ids)));
+        }
+        return cache.getAll(ids, missing -> complete(missing, loader.apply(Set.copyOf(missing))));
+    }
+
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static Map<UUID, Optional<ArticleDTO>> complete(Collection<? extends UUID> ids, Map<UUID, ArticleDTO> found) {
+        Map<UUID, Optional<ArticleDTO>> result = new HashMap<>(ids.size() * 2);
+        for (UUID id : ids) {
+            result.put(id, Optional.ofNullable(found.get(id)));
+        }
+        return result;
+    }
+
+    static int weigh(Optional<ArticleDTO> article) {
+        if (article.isEmpty()) {
+            return ENTRY_OVERHEAD_BYTES;
+        }
+        ArticleDTO dto = article.get();
+        long chars = length(dto.getTitle()) + length(dto.getDescription()) + length(dto.getAuthor())
+                + length(dto.getCategory()) + length(dto.getLanguage()) + length(dto.getSlug());
+        long keywordHeaders = 0;
+        if (dto.getKeywords() != null) {
+            for (String keyword : dto.getKeywords()) {
+                chars += length(keyword);
+                keywordHeaders += KEYWORD_OVERHEAD_BYTES;
+            }
+        }
+        // strings are stored as Latin-1 or UTF-16; assume the worse case
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + keywordHeaders + 2 * chars);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,350 @@
+package com.tispace.dataingestion.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tispace.common.contract.ArticleChangesDTO;
+import com.tispace.common.exception.RateLimitExceededException;
+import com.tispace.dataingestion.application.pagination.ArticleChangeCursor;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.config.ArticleFeedProperties;
+import com.tispace.dataingestion.repository.ArticleChangeRepository;
+import com.tispace.dataingestion.repository.ArticleChangeRepository.ArticleChange;
+import com.tispace.dataingestion.repository.ArticleChangeRepository.ChangePage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes newly inserted articles to Server-Sent Event subscribers and answers delta requests from a feed position.
+ * <p>
+ * A single dispatcher thread per instance does all the work: woken by ArticleChangeListener whenever ingestion
+ * commits (the {@code '*'} dataset version moves), it reads the new changes once, serializes each article once and
+ * writes the same frame to every subscriber whose category matches. Subscribers are emitters, not threads. A
+ * subscriber that resumes from a position (its {@code Last-Event-ID}) is first replayed what it missed, filtered by
+ * its category, before it joins the live fan-out; every event id is a feed position, so the client always holds a
+ * cursor for exactly what it has seen. Without subscribers the feed does not query at all.
+ * <p>
+ * A commit's rows can stay out of the feed after its notification, while an older writing transaction is still
+ * open, and a read can fail; neither comes with another notification. So on every heartbeat tick the dispatcher
+ * reads again from its position while anyone is subscribed, which costs one query when nothing is new.
+ */
+@Component
+@Slf4j
+public class ArticleChangeFeed {
+
+    static final String ARTICLE_EVENT = "article";
+    static final String READY_EVENT = "ready";
+    static final String RESYNC_EVENT = "resync";
+
+    private static final Object WAKE_UP = new Object();
+
+    private final ArticleChangeRepository articleChangeRepository;
+    private final ObjectWriter articleWriter;
+    private final ArticleFeedProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<Object> inbox = new LinkedBlockingQueue<>();
+    private final AtomicLong signalledAt = new AtomicLong();
+    private final Timer fanoutTimer;
+    private final Counter eventsSent;
+
+    private Thread dispatcher;
+    private volatile boolean running;
+    // feed position the live subscribers have been served up to; dispatcher thread only, null while nobody listens
+    private ArticleChangeCursor position;
+    private long lastHeartbeat = System.nanoTime();
+
+    public ArticleChangeFeed(ArticleChangeRepository articleChangeRepository, ObjectMapper objectMapper,
+                             ArticleFeedProperties properties, MeterRegistry registry) {
+        this.articleChangeRepository = articleChangeRepository;
+        this.articleWriter = objectMapper.writer(ArticleFields.ALL.filters());
+        this.properties = properties;
+        this.fanoutTimer = Timer.builder("article_feed_fanout_seconds")
+                .description("Time from the commit notification to the new articles being written to every subscriber")
+                .register(registry);
+        this.eventsSent = Counter.builder("article_feed_events_sent_total")
+                .description("Article events written to stream subscribers")
+                .register(registry);
+        Gauge.builder("article_feed_subscribers", subscribers, Set::size)
+                .description("Open article change streams")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        dispatcher = Thread.ofPlatform()
+                .name("article-change-feed")
+                .daemon(true)
+                .start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Opens a stream of articles inserted from now on, or after {@code since} when resuming.
+     *
+     * @param category topic to follow, or blank for all articles
+     * @param since    last position the client has seen, or {@code null} to start at the current head
+     */
+    public SseEmitter subscribe(String category, ArticleChangeCursor since) {
+        if (subscribers.size() + inbox.size() >= properties.getMaxSubscribers()) {
+            throw new RateLimitExceededException("Too many open article streams. Please try again later.");
+        }
+        Subscriber subscriber = new Subscriber(newEmitter(properties.getTimeout().toMillis()),
+                StringUtils.trimToNull(category), since);
+        subscriber.emitter().onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter().onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter().onError(e -> subscribers.remove(subscriber));
+        inbox.add(subscriber);
+        return subscriber.emitter();
+    }
+
+    /**
+     * Up to {@code limit} articles inserted after {@code since}, or none plus the current head when {@code since}
+     * is {@code null}.
+     */
+    public ArticleChangesDTO changes(ArticleChangeCursor since, String category, int limit) {
+        if (since == null) {
+            return ArticleChangesDTO.builder()
+                    .content(List.of())
+                    .nextCursor(articleChangeRepository.head().encode())
+                    .build();
+        }
+        ChangePage page = articleChangeRepository.findAfter(since, null, StringUtils.trimToNull(category), limit);
+        return ArticleChangesDTO.builder()
+                .content(page.changes().stream().map(ArticleChange::article).toList())
+                .hasMore(page.hasMore())
+                .nextCursor(page.next().encode())
+                .build();
+    }
+
+    /**
+     * New articles may have been committed. Cheap and safe to call from the listener thread; signals arriving while
+     * the dispatcher is busy are coalesced.
+     */
+    public void signal() {
+        if (signalledAt.compareAndSet(0, System.nanoTime())) {
+            inbox.add(WAKE_UP);
+        }
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void dispatchLoop() {
+        long heartbeatNanos = properties.getHeartbeat().toNanos();
+        while (running) {
+            try {
+                List<Object> work = new ArrayList<>();
+                Object first = inbox.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    work.add(first);
+                    inbox.drainTo(work);
+                }
+                long signalled = signalledAt.getAndSet(0);
+                for (Object item : work) {
+                    if (item instanceof Subscriber subscriber) {
+                        join(subscriber);
+                    }
+                }
+                if (signalled != 0) {
+                    fanOut(signalled);
+                }
+                if (System.nanoTime() - lastHeartbeat >= heartbeatNanos) {
+                    heartbeat();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (DataAccessException e) {
+                // the position is unchanged, so the next signal or heartbeat picks up the same changes
+                log.warn("Article change feed could not read changes", e);
+            } catch (RuntimeException e) {
+                log.error("Article change feed dispatch failed", e);
+            }
+        }
+    }
+
+    // replays what a resuming subscriber missed up to the live position, then adds it to the fan-out
+    private void join(Subscriber subscriber) {
+        try {
+            replay(subscriber);
+        } catch (RuntimeException e) {
+            log.warn("Article stream could not be opened", e);
+            subscriber.emitter().completeWithError(e);
+        }
+    }
+
+    private void replay(Subscriber subscriber) {
+        if (position == null || subscribers.isEmpty()) {
+            position = articleChangeRepository.head();
+        }
+        ArticleChangeCursor since = subscriber.lastSeen();
+        int replayed = 0;
+        while (since != null && position.isAfter(since)) {
+            ChangePage page = articleChangeRepository.findAfter(since, position, subscriber.category(),
+                    properties.getPageSize());
+            replayed += page.changes().size();
+            if (replayed > properties.getMaxReplay()) {
+                // more than a stream should replay; the client pages through the changes endpoint from here
+                send(subscriber, SseEmitter.event().name(RESYNC_EVENT).id(since.encode()).data(since.encode()).build());
+                subscriber.emitter().complete();
+                return;
+            }
+            for (ArticleChange change : page.changes()) {
+                if (!send(subscriber, frame(change))) {
+                    return;
+                }
+                eventsSent.increment();
+            }
+            since = page.next();
+            subscriber.seen(since);
+        }
+        ArticleChangeCursor ready = since != null && since.isAfter(position) ? since : position;
+        subscriber.seen(ready);
+        if (send(subscriber, SseEmitter.event().name(READY_EVENT).id(ready.encode()).data(ready.encode()).build())) {
+            subscribers.add(subscriber);
+        }
+    }
+
+    private void fanOut(long signalled) {
+        if (subscribers.isEmpty()) {
+            // nothing to keep up with; the next subscriber starts from the head of its own
+            position = null;
+            return;
+        }
+        ChangePage page;
+        do {
+            page = articleChangeRepository.findAfter(position, null, null, properties.getPageSize());
+            for (ArticleChange change : page.changes()) {
+                Set<DataWithMediaType> frame = null;
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.wants(change)) {
+                        frame = frame != null ? frame : frame(change);
+                        if (send(subscriber, frame)) {
+                            eventsSent.increment();
+                        }
+                    }
+                }
+            }
+            position = page.next();
+        } while (page.hasMore() && !subscribers.isEmpty());
+        if (signalled != 0) {
+            fanoutTimer.record(System.nanoTime() - signalled, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void heartbeat() {
+        lastHeartbeat = System.nanoTime();
+        Set<DataWithMediaType> comment = SseEmitter.event().comment("").build();
+        for (Subscriber subscriber : subscribers) {
+            send(subscriber, comment);
+        }
+        if (!subscribers.isEmpty()) {
+            // catches up on rows that were held back at the last read, or that a failed read left behind
+            fanOut(0);
+        }
+    }
+
+    private Set<DataWithMediaType> frame(ArticleChange change) {
+        String json;
+        try {
+            json = articleWriter.writeValueAsString(change.article());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize article " + change.article().getId(), e);
+        }
+        return SseEmitter.event()
+                .name(ARTICLE_EVENT)
+                .id(change.position().encode())
+                .data(json)
+                .build();
+    }
+
+    // a subscriber whose write fails has gone away and is dropped
+    private boolean send(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        try {
+            subscriber.emitter().send(frame);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            return false;
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String category;
+        private volatile ArticleChangeCursor lastSeen;
+
+        private Subscriber(SseEmitter emitter, String category, ArticleChangeCursor lastSeen) {
+            this.emitter = emitter;
+            this.category = category;
+            this.lastSeen = lastSeen;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        String category() {
+            return category;
+        }
+
+        ArticleChangeCursor lastSeen() {
+            return lastSeen;
+        }
+
+        void seen(ArticleChangeCursor cursor) {
+            lastSeen = cursor;
+        }
+
+        // a subscriber resuming from a position ahead of this instance must not get those rows twice
+        boolean wants(ArticleChange change) {
+            if (!change.position().isAfter(lastSeen)) {
+                return false;
+            }
+            lastSeen = change.position();
+            return category == null || change.topics().contains(category);
+        }
+    }
+}
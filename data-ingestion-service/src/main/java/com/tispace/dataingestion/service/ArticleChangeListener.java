@@ -0,0 +1,188 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.dataingestion.config.ArticleCacheProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps in-process read state in step with the database on this and every other instance, over LISTEN on a
+ * dedicated connection outside the pool:
+ * <ul>
+ *     <li>{@code article_changed} (trigger on {@code articles}, id of an updated or deleted row) evicts the article
+ *     from {@link ArticleByIdCache};</li>
+ *     <li>{@code dataset_version} (trigger on {@code dataset_versions}, {@code scope=version}) advances
+ *     {@link DatasetVersions}; a new {@code '*'} version means articles were inserted and wakes
+ *     {@link ArticleChangeFeed}.</li>
+ * </ul>
+ * While the connection is down notifications are lost, so on every (re)connect the cache is dropped, the
+ * versions are reloaded and the change feed catches up. A connection whose peer went away without closing it
+ * (failover, NAT timeout) just stays silent, so it is checked every {@code listenerCheckInterval} and replaced
+ * when it does not answer. Not started on databases other than PostgreSQL.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleChangeListener {
+
+    static final String ARTICLE_CHANNEL = "article_changed";
+    static final String DATASET_VERSION_CHANNEL = "dataset_version";
+
+    private static final int POLL_MILLIS = 1000;
+    private static final int CHECK_TIMEOUT_SECONDS = 5;
+
+    private final ArticleByIdCache articleByIdCache;
+    private final DatasetVersions datasetVersions;
+    private final ArticleChangeFeed articleChangeFeed;
+    private final ArticleCacheProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+
+    private Thread listener;
+    private volatile boolean running;
+    private volatile Connection connection;
+
+    @PostConstruct
+    public void start() {
+        if (running) {
+            return;
+        }
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            log.info("LISTEN/NOTIFY disabled: datasource is not PostgreSQL, article cache and dataset versions are local only");
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform()
+                .name("article-change-listener")
+                .daemon(true)
+                .start(() -> listenLoop(url));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeQuietly(connection);
+        try {
+            listener.join(POLL_MILLIS * 5L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void listenLoop(String url) {
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(url, connectionProperties())) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + ARTICLE_CHANNEL);
+                    statement.execute("LISTEN " + DATASET_VERSION_CHANNEL);
+                }
+                articleByIdCache.invalidateAll();
+                datasetVersions.reload();
+                articleChangeFeed.signal();
+                log.info("Listening for article changes on channels {}, {}", ARTICLE_CHANNEL, DATASET_VERSION_CHANNEL);
+                receive(listening);
+            } catch (SQLException | DataAccessException e) {
+                if (!running) {
+                    return;
+                }
+                articleByIdCache.invalidateAll();
+                log.warn("Article change listener disconnected, reconnecting in {}", properties.getReconnectDelay(), e);
+                sleep(properties.getReconnectDelay().toMillis());
+            }
+        }
+    }
+
+    private void receive(Connection listening) throws SQLException {
+        PGConnection notifications = listening.unwrap(PGConnection.class);
+        long checkIntervalNanos = properties.getListenerCheckInterval().toNanos();
+        long lastCheck = System.nanoTime();
+        while (running) {
+            PGNotification[] received = notifications.getNotifications(POLL_MILLIS);
+            if (received != null) {
+                for (PGNotification notification : received) {
+                    onNotification(notification.getName(), notification.getParameter());
+                }
+            }
+            if (System.nanoTime() - lastCheck >= checkIntervalNanos) {
+                checkAlive(listening);
+                lastCheck = System.nanoTime();
+            }
+        }
+    }
+
+    // a round trip to the server; failing it goes down the reconnect path, which reloads what was missed
+    void checkAlive(Connection listening) throws SQLException {
+        if (!listening.isValid(CHECK_TIMEOUT_SECONDS)) {
+            throw new SQLException("Article change listener connection did not answer within "
+                    + CHECK_TIMEOUT_SECONDS + "s");
+        }
+    }
+
+    private Properties connectionProperties() {
+        Properties connectionProperties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            connectionProperties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            connectionProperties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+        return connectionProperties;
+    }
+
+    void onNotification(String channel, String payload) {
+        try {
+            if (DATASET_VERSION_CHANNEL.equals(channel)) {
+                // the scope is a topic name and may itself contain '='
+                int separator = payload.lastIndexOf('=');
+                String scope = payload.substring(0, separator);
+                datasetVersions.advance(scope, Long.parseLong(payload.substring(separator + 1)));
+                if (DatasetVersions.ALL.equals(scope)) {
+                    articleChangeFeed.signal();
+                }
+            } else {
+                articleByIdCache.invalidate(UUID.fromString(payload));
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("Ignoring {} notification with invalid payload: {}", channel, payload);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Closing article change listener connection failed", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.dataingestion.config.EnrichmentExecutorConfig;
+import com.tispace.dataingestion.domain.enrichment.ArticleEnricher;
+import com.tispace.dataingestion.domain.entity.Article;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Enrichment stage between validation and persistence. Derived fields are computed in parallel
+ * on a dedicated fork-join pool; small batches are enriched on the calling thread.
+ */
+@Service
+@Slf4j
+public class ArticleEnrichmentService {
+
+    private final ArticleEnricher articleEnricher;
+    private final ForkJoinPool enrichmentPool;
+    private final int parallelThreshold;
+
+    public ArticleEnrichmentService(ArticleEnricher articleEnricher,
+                                    @Qualifier(EnrichmentExecutorConfig.ENRICHMENT_POOL_BEAN) ForkJoinPool enrichmentPool,
+                                    @Value("${enrichment.parallel-threshold:16}") int parallelThreshold) {
+        this.articleEnricher = articleEnricher;
+        this.enrichmentPool = enrichmentPool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public void enrich(List<Article> articles) {
+        if (articles == null || articles.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        if (articles.size() < parallelThreshold) {
+            articles.forEach(articleEnricher::enrich);
+        } else {
+            // parallel streams run on the pool that invokes them
+            enrichmentPool.submit(() -> articles.parallelStream().forEach(articleEnricher::enrich)).join();
+        }
+        log.debug("Enriched {} articles in {} ms", articles.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
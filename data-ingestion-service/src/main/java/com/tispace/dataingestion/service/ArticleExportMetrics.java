@@ -0,0 +1,53 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.dataingestion.application.export.ExportFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class ArticleExportMetrics {
+
+    public enum Outcome { COMPLETED, CLIENT_ABORTED, FAILED }
+
+    private final MeterRegistry registry;
+    private final Counter rejected;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public ArticleExportMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        this.rejected = Counter.builder("article_export_rejected_total")
+                .description("Exports refused because the maximum number were already running")
+                .register(registry);
+
+        Gauge.builder("article_export_active", active, AtomicInteger::get)
+                .description("Exports currently streaming")
+                .register(registry);
+    }
+
+    public void onStart() { active.incrementAndGet(); }
+    public void onRejected() { rejected.increment(); }
+
+    public void onFinish(ExportFormat format, Outcome outcome, long rows, long durationNanos) {
+        active.decrementAndGet();
+        String formatTag = format.extension();
+        String outcomeTag = outcome.name().toLowerCase();
+        Timer.builder("article_export_duration_seconds")
+                .description("Duration of an export from the first row read to the last byte written")
+                .tag("format", formatTag)
+                .tag("outcome", outcomeTag)
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("article_export_rows_total")
+                .description("Articles written by exports")
+                .tag("format", formatTag)
+                .register(registry)
+                .increment(rows);
+    }
+}
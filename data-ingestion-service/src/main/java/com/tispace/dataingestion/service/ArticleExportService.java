@@ -0,0 +1,138 @@
+package com.tispace.dataingestion.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tispace.common.exception.BusinessException;
+import com.tispace.common.exception.RateLimitExceededException;
+import com.tispace.dataingestion.application.export.ArticleExportWriter;
+import com.tispace.dataingestion.application.export.ExportFormat;
+import com.tispace.dataingestion.config.ArticleExportProperties;
+import com.tispace.dataingestion.repository.ArticleExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk export of articles published in a time range, streamed from a database cursor straight to the response.
+ * Each running export holds a pooled connection, so at most {@code article-export.max-concurrent} run at once.
+ */
+@Service
+@Slf4j
+public class ArticleExportService {
+
+    private static final int GZIP_BUFFER_BYTES = 8192;
+
+    private final ArticleExportRepository articleExportRepository;
+    private final ObjectMapper objectMapper;
+    private final ArticleExportMetrics metrics;
+    private final int fetchSize;
+    private final Semaphore slots;
+
+    public ArticleExportService(ArticleExportRepository articleExportRepository, ObjectMapper objectMapper,
+                                ArticleExportMetrics metrics, ArticleExportProperties properties) {
+        this.articleExportRepository = articleExportRepository;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.fetchSize = properties.getFetchSize();
+        this.slots = new Semaphore(properties.getMaxConcurrent());
+    }
+
+    /**
+     * Validates the request and reserves an export slot, so that errors are reported before any output is
+     * committed. The returned export must be written exactly once; writing it releases the slot.
+     *
+     * @param from inclusive lower bound on {@code publishedAt}, or {@code null} for none
+     * @param to   exclusive upper bound on {@code publishedAt}, or {@code null} for none
+     */
+    public ArticleExport open(LocalDateTime from, LocalDateTime to, String category, ExportFormat format,
+                              boolean gzip) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BusinessException("Export range is empty: 'from' must be before 'to'");
+        }
+        if (!slots.tryAcquire()) {
+            metrics.onRejected();
+            throw new RateLimitExceededException("Too many exports are running. Please try again later.");
+        }
+        return new ArticleExport(StringUtils.trimToNull(category), from, to, format, gzip);
+    }
+
+    public final class ArticleExport {
+
+        private final String category;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final ExportFormat format;
+        private final boolean gzip;
+        private final AtomicBoolean written = new AtomicBoolean();
+
+        private ArticleExport(String category, LocalDateTime from, LocalDateTime to, ExportFormat format,
+                              boolean gzip) {
+            this.category = category;
+            this.from = from;
+            this.to = to;
+            this.format = format;
+            this.gzip = gzip;
+        }
+
+        public ExportFormat format() {
+            return format;
+        }
+
+        public boolean gzip() {
+            return gzip;
+        }
+
+        /**
+         * Streams the export to {@code out}. Once this has started the response is committed, so a failure can
+         * only cut the output short; a client that goes away ends the database scan.
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            if (!written.compareAndSet(false, true)) {
+                throw new IllegalStateException("Export already written");
+            }
+            long start = System.nanoTime();
+            long[] rows = {0};
+            ArticleExportMetrics.Outcome outcome = ArticleExportMetrics.Outcome.FAILED;
+            metrics.onStart();
+            try {
+                GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_BYTES) : null;
+                ArticleExportWriter writer = ArticleExportWriter.create(format,
+                        compressed != null ? compressed : out, objectMapper);
+                articleExportRepository.forEachArticle(category, from, to, fetchSize, article -> {
+                    try {
+                        writer.write(article);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                });
+                writer.finish();
+                if (compressed != null) {
+                    compressed.finish();
+                }
+                out.flush();
+                outcome = ArticleExportMetrics.Outcome.COMPLETED;
+            } catch (UncheckedIOException e) {
+                outcome = ArticleExportMetrics.Outcome.CLIENT_ABORTED;
+                throw e.getCause();
+            } catch (IOException e) {
+                outcome = ArticleExportMetrics.Outcome.CLIENT_ABORTED;
+                throw e;
+            } finally {
+                slots.release();
+                long durationNanos = System.nanoTime() - start;
+                metrics.onFinish(format, outcome, rows[0], durationNanos);
+                log.info("Article export {}: format={}, category={}, from={}, to={}, rows={}, durationMs={}",
+                        outcome.name().toLowerCase(), format.extension(), category, from, to, rows[0],
+                        durationNanos / 1_000_000);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.contract.ArticleFacetsDTO;
+import com.tispace.common.exception.BusinessException;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
+import com.tispace.dataingestion.repository.ArticleFacetRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Category counts and the daily publication histogram, answered from an in-memory copy of {@code article_facets}
+ * (one row per scope and day, kept by ingestion in the inserting statement). The copy is reloaded on the first
+ * request after it went stale: after a local ingestion commit, or when any dataset version advanced, which also
+ * covers ingestion on other instances. One request reloads while the others keep reading the previous copy.
+ * <p>
+ * Days are publication dates in UTC; articles without a publication date are not counted.
+ */
+@Component
+@Slf4j
+public class ArticleFacets {
+
+    private final ArticleFacetRepository articleFacetRepository;
+    private final DatasetVersions datasetVersions;
+    private final Timer refreshTimer;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+    private volatile boolean dirty = true;
+
+    public ArticleFacets(ArticleFacetRepository articleFacetRepository, DatasetVersions datasetVersions,
+                         MeterRegistry registry) {
+        this.articleFacetRepository = articleFacetRepository;
+        this.datasetVersions = datasetVersions;
+        this.refreshTimer = Timer.builder("article_facets_refresh_seconds")
+                .description("Duration of reloading the article facet snapshot")
+                .register(registry);
+        Gauge.builder("article_facets_snapshot_rows", this, facets -> facets.snapshot != null ? facets.snapshot.rows() : 0)
+                .description("Scope and day rows held by the article facet snapshot")
+                .baseUnit("rows")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesInserted(ArticlesInsertedEvent event) {
+        dirty = true;
+    }
+
+    /**
+     * @param category restricts the total and histogram; the category counts always cover every category
+     * @param from     first publication day, inclusive; {@code null} for unbounded
+     * @param to       last publication day, inclusive; {@code null} for unbounded
+     */
+    public ArticleFacetsDTO get(String category, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BusinessException("Parameter 'from' must not be after 'to'");
+        }
+        String normalizedCategory = StringUtils.trimToNull(category);
+        Snapshot current = current();
+        boolean unbounded = from == null && to == null;
+
+        NavigableMap<LocalDate, Long> days = range(
+                current.days().get(normalizedCategory != null ? normalizedCategory : DatasetVersions.ALL), from, to);
+        List<ArticleFacetsDTO.DayCount> histogram = new ArrayList<>(days.size());
+        long total = 0;
+        for (Map.Entry<LocalDate, Long> day : days.entrySet()) {
+            histogram.add(new ArticleFacetsDTO.DayCount(day.getKey(), day.getValue()));
+            total += day.getValue();
+        }
+
+        List<ArticleFacetsDTO.CategoryCount> categories = new ArrayList<>();
+        for (Map.Entry<String, NavigableMap<LocalDate, Long>> scope : current.days().entrySet()) {
+            if (DatasetVersions.ALL.equals(scope.getKey())) {
+                continue;
+            }
+            long count = unbounded ? current.totals().get(scope.getKey()) : sum(range(scope.getValue(), from, to));
+            if (count > 0) {
+                categories.add(new ArticleFacetsDTO.CategoryCount(scope.getKey(), count));
+            }
+        }
+        categories.sort(Comparator.comparingLong(ArticleFacetsDTO.CategoryCount::getCount).reversed()
+                .thenComparing(ArticleFacetsDTO.CategoryCount::getCategory));
+
+        return ArticleFacetsDTO.builder()
+                .category(normalizedCategory)
+                .from(from)
+                .to(to)
+                .total(total)
+                .categories(categories)
+                .histogram(histogram)
+                .build();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        if (!refreshLock.tryLock()) {
+            if (current != null) {
+                return current;
+            }
+            refreshLock.lock();
+        }
+        try {
+            Snapshot latest = snapshot;
+            return isFresh(latest) ? latest : refresh(latest);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean isFresh(Snapshot candidate) {
+        return candidate != null && !dirty && candidate.changes() == datasetVersions.changes();
+    }
+
+    private Snapshot refresh(Snapshot stale) {
+        // read before loading, so changes committed while loading leave the new snapshot stale
+        long changes = datasetVersions.changes();
+        dirty = false;
+        long start = System.nanoTime();
+        try {
+            Snapshot loaded = load(changes);
+            snapshot = loaded;
+            log.debug("Article facet snapshot reloaded: {} rows", loaded.rows());
+            return loaded;
+        } catch (DataAccessException e) {
+            dirty = true;
+            if (stale == null) {
+                throw e;
+            }
+            log.warn("Reloading article facets failed, serving the previous snapshot", e);
+            return stale;
+        } finally {
+            refreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Snapshot load(long changes) {
+        Map<String, NavigableMap<LocalDate, Long>> days = new HashMap<>();
+        int[] rows = {0};
+        articleFacetRepository.forEachFacet(row -> {
+            days.computeIfAbsent(row.scope(), scope -> new TreeMap<>()).merge(row.day(), row.count(), Long::sum);
+            rows[0]++;
+        });
+        Map<String, Long> totals = new HashMap<>();
+        days.forEach((scope, byDay) -> totals.put(scope, sum(byDay)));
+        return new Snapshot(changes, days, totals, rows[0]);
+    }
+
+    private static NavigableMap<LocalDate, Long> range(NavigableMap<LocalDate, Long> days, LocalDate from, LocalDate to) {
+        if (days == null) {
+            return Collections.emptyNavigableMap();
+        }
+        if (from != null && to != null) {
+            return days.subMap(from, true, to, true);
+        }
+        if (from != null) {
+            return days.tailMap(from, true);
+        }
+        return to != null ? days.headMap(to, true) : days;
+    }
+
+    private static long sum(Map<LocalDate, Long> days) {
+        long sum = 0;
+        for (long count : days.values()) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    private record Snapshot(long changes, Map<String, NavigableMap<LocalDate, Long>> days, Map<String, Long> totals,
+                            int rows) {}
+}
@@ -0,0 +1,247 @@
+package com.tispace.dataingestion.service;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.tispace.dataingestion.config.GroupCommitProperties;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.repository.ArticleBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces article writes from concurrent producers (scheduled ingestion, backfill windows)
+ * into shared multi-row INSERT statements, one transaction per flush.
+ * A flush is triggered by {@code maxBatchSize} buffered rows or {@code maxDelay} since the
+ * oldest request; each producer gets back the exact number of its own rows that were inserted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleGroupCommitWriter {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final ArticleBatchRepository articleBatchRepository;
+    private final GroupCommitMetrics metrics;
+    private final GroupCommitProperties properties;
+
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+
+    private Semaphore bufferPermits;
+    private Thread flusher;
+    private volatile boolean running;
+    // set once the flusher is gone; nothing queued after that would ever be completed
+    private volatile boolean closed;
+
+    private record PendingWrite(List<Article> articles, int permits, CompletableFuture<Integer> result) {}
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        bufferPermits = new Semaphore(properties.getBufferCapacity());
+        closed = false;
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("article-group-commit")
+                .daemon(true)
+                .start(this::flushLoop);
+        log.info("Article group-commit writer started: maxBatchSize={}, maxDelay={}, bufferCapacity={}",
+                properties.getMaxBatchSize(), properties.getMaxDelay(), properties.getBufferCapacity());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(properties.getMaxDelay().toMillis() + TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closed = true;
+        PendingWrite leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.result().completeExceptionally(new IllegalStateException("Group-commit writer stopped"));
+        }
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Blocking variant of {@link #submit(List)} for callers that persist synchronously; waits at most
+     * {@code writeTimeout}.
+     */
+    public int write(List<Article> articles) {
+        try {
+            return submit(articles).get(properties.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Group-commit write failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Group-commit write not completed within " + properties.getWriteTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a group-commit write", e);
+        }
+    }
+
+    /**
+     * Buffers articles for the next flush. Blocks up to {@code offerTimeout} while the buffer is full.
+     *
+     * @return future completed with the number of the given articles that were inserted
+     */
+    public CompletableFuture<Integer> submit(List<Article> articles) {
+        if (articles == null || articles.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        if (!running || closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Group-commit writer is not running"));
+        }
+
+        List<Article> rows = List.copyOf(articles);
+        for (Article article : rows) {
+            if (article.getId() == null) {
+                article.setId(UuidCreator.getTimeOrderedEpoch());
+            }
+        }
+
+        // a request larger than the whole buffer takes all of it rather than waiting forever
+        int permits = Math.min(rows.size(), properties.getBufferCapacity());
+        try {
+            if (!bufferPermits.tryAcquire(permits, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return CompletableFuture.failedFuture(new IllegalStateException(
+                        "Group-commit buffer is full, timed out after " + properties.getOfferTimeout()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        PendingWrite pending = new PendingWrite(rows, permits, new CompletableFuture<>());
+        metrics.onBuffered(permits);
+        queue.add(pending);
+        if (closed && queue.remove(pending)) {
+            // stop() drained the queue before this write got in
+            bufferPermits.release(permits);
+            metrics.onDrained(permits);
+            pending.result().completeExceptionally(new IllegalStateException("Group-commit writer stopped"));
+        }
+        return pending.result();
+    }
+
+    private void flushLoop() {
+        List<PendingWrite> group = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                collectGroup(group, first.articles().size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Throwable e) {
+                // the flusher must outlive any single failure, or every producer blocks
+                log.error("Group-commit flusher failed to collect a flush", e);
+            } finally {
+                if (!group.isEmpty()) {
+                    flush(group);
+                    group.clear();
+                }
+            }
+        }
+    }
+
+    private void collectGroup(List<PendingWrite> group, int rows) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.getMaxDelay().toNanos();
+        while (rows < properties.getMaxBatchSize()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            group.add(next);
+            rows += next.articles().size();
+        }
+    }
+
+    private void flush(List<PendingWrite> group) {
+        // rows leave the buffer once taken into a flush, so producers can refill it while the flush runs
+        int permits = group.stream().mapToInt(PendingWrite::permits).sum();
+        bufferPermits.release(permits);
+        metrics.onDrained(permits);
+
+        try {
+            if (!flushTogether(group) && group.size() > 1) {
+                // isolate the failing producer instead of failing everyone sharing the flush
+                for (PendingWrite pending : group) {
+                    flushTogether(List.of(pending));
+                }
+            }
+        } catch (Throwable e) {
+            metrics.onFlushError();
+            log.error("Group-commit flush failed: producers={}", group.size(), e);
+            for (PendingWrite pending : group) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private boolean flushTogether(List<PendingWrite> group) {
+        List<Article> rows = new ArrayList<>();
+        for (PendingWrite pending : group) {
+            rows.addAll(pending.articles());
+        }
+
+        long start = System.nanoTime();
+        try {
+            Set<UUID> insertedIds = articleBatchRepository.insertIgnoreDuplicatesReturningIds(rows);
+            metrics.onFlush(rows.size(), System.nanoTime() - start);
+
+            for (PendingWrite pending : group) {
+                int inserted = (int) pending.articles().stream()
+                        .filter(article -> insertedIds.contains(article.getId()))
+                        .count();
+                pending.result().complete(inserted);
+            }
+            log.debug("Group-commit flush: producers={}, rows={}, inserted={}", group.size(), rows.size(), insertedIds.size());
+            return true;
+        } catch (RuntimeException e) {
+            metrics.onFlushError();
+            if (group.size() == 1) {
+                log.error("Group-commit flush failed: rows={}", rows.size(), e);
+                group.getFirst().result().completeExceptionally(e);
+            } else {
+                log.warn("Group-commit flush failed for {} producers, retrying individually", group.size(), e);
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.ArticleSortPlan;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.config.ArticleHotWindowProperties;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
+import com.tispace.dataingestion.repository.ArticleCountEstimateRepository;
+import com.tispace.dataingestion.repository.ArticleDtoReadRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The newest articles of every category and of the unfiltered listing, held in memory so the default listing
+ * ({@code publishedAt,desc}, first pages) is answered without a query. Each window is read with the same query as
+ * the listing itself, so its order matches the database exactly, together with the listing total, and tagged with the
+ * dataset version it was read at; while that version is current, totals are answered from the window as well.
+ * <p>
+ * All windows form one immutable snapshot that is replaced as a whole. Windows are reloaded in the background: all
+ * of them after startup, the affected ones after each local ingestion commit, and any window whose dataset version
+ * has moved on (ingestion on another instance), which is served from the database until reloaded. Like list ETags,
+ * windows follow new articles, not edits of existing ones.
+ */
+@Component
+@Slf4j
+public class ArticleHotWindow {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "publishedAt");
+
+    private final ArticleDtoReadRepository articleDtoReadRepository;
+    private final ArticleCountEstimateRepository articleCountEstimateRepository;
+    private final DatasetVersions datasetVersions;
+    private final ArticleHotWindowProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer rebuildTimer;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("article-hot-window").daemon(true).factory());
+    private final Set<String> pendingScopes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    private volatile Map<String, Window> windows = Map.of();
+
+    public ArticleHotWindow(ArticleDtoReadRepository articleDtoReadRepository,
+                            ArticleCountEstimateRepository articleCountEstimateRepository,
+                            DatasetVersions datasetVersions, ArticleHotWindowProperties properties,
+                            MeterRegistry registry) {
+        this.articleDtoReadRepository = articleDtoReadRepository;
+        this.articleCountEstimateRepository = articleCountEstimateRepository;
+        this.datasetVersions = datasetVersions;
+        this.properties = properties;
+        this.hits = lookups(registry, "hit");
+        this.misses = lookups(registry, "miss");
+        this.rebuildTimer = Timer.builder("article_hot_window_rebuild_seconds")
+                .description("Duration of reloading hot windows and swapping in the new snapshot")
+                .register(registry);
+        Gauge.builder("article_hot_window_articles", this, window -> window.windows.values().stream()
+                        .mapToInt(w -> w.articles().size()).sum())
+                .description("Articles held by all hot windows")
+                .baseUnit("articles")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        if (!properties.isEnabled()) {
+            log.info("Article hot window disabled");
+            return;
+        }
+        refresher.execute(this::loadAll);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesInserted(ArticlesInsertedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Set<String> scopes = new HashSet<>();
+        scopes.add(DatasetVersions.ALL);
+        for (Article article : event.articles()) {
+            if (article.getCategory() != null) {
+                scopes.add(article.getCategory());
+            }
+        }
+        refresh(scopes);
+    }
+
+    /**
+     * Rows {@code [offset, offset + limit)} of the listing, if it is newest-first and the window of the category is
+     * current and covers them.
+     *
+     * @param category normalized category filter, or {@code null}
+     * @param sort     sort as requested, before ArticleSortPlan
+     */
+    public Optional<List<ArticleDTO>> find(String category, Sort sort, long offset, int limit) {
+        if (!properties.isEnabled() || !isNewestFirst(sort)) {
+            return Optional.empty();
+        }
+        Window window = current(category);
+        if (window == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        List<ArticleDTO> articles = window.articles();
+        if (offset + limit > articles.size() && !window.complete()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        int from = (int) Math.min(offset, articles.size());
+        return Optional.of(articles.subList(from, (int) Math.min(offset + limit, articles.size())));
+    }
+
+    /**
+     * Number of articles in the listing, counted when the current window of the category was read.
+     *
+     * @param category normalized category filter, or {@code null}
+     */
+    public OptionalLong total(String category) {
+        if (!properties.isEnabled()) {
+            return OptionalLong.empty();
+        }
+        Window window = current(category);
+        return window != null ? OptionalLong.of(window.total()) : OptionalLong.empty();
+    }
+
+    /**
+     * Newest {@code limit} articles of every category, by category name. Served from the current snapshot even where
+     * a window is being reloaded; read from the database when the window is disabled or not loaded yet.
+     */
+    public Map<String, List<ArticleDTO>> topPerCategory(int limit) {
+        Map<String, Window> current = windows;
+        Map<String, List<ArticleDTO>> top = new TreeMap<>();
+        if (!properties.isEnabled() || current.isEmpty()) {
+            for (String topic : articleCountEstimateRepository.findTopics()) {
+                top.put(topic, read(topic, limit, false).articles());
+            }
+            return top;
+        }
+        current.forEach((scope, window) -> {
+            if (!DatasetVersions.ALL.equals(scope) && !window.articles().isEmpty()) {
+                List<ArticleDTO> articles = window.articles();
+                top.put(scope, articles.subList(0, Math.min(limit, articles.size())));
+            }
+        });
+        return top;
+    }
+
+    // the window of the category if it is as recent as the dataset version; schedules a reload otherwise
+    private Window current(String category) {
+        String scope = category != null ? category : DatasetVersions.ALL;
+        Window window = windows.get(scope);
+        long version = datasetVersions.current(category);
+        if (window != null && window.version() == version) {
+            return window;
+        }
+        // unknown categories have no version and are not worth a window
+        if (window != null || version > 0) {
+            refresh(Set.of(scope));
+        }
+        return null;
+    }
+
+    void loadAll() {
+        try {
+            Set<String> scopes = new HashSet<>(articleCountEstimateRepository.findTopics());
+            scopes.add(DatasetVersions.ALL);
+            rebuild(scopes);
+            log.info("Article hot window loaded: {} windows of up to {} articles", scopes.size(), properties.getSize());
+        } catch (DataAccessException e) {
+            log.error("Loading the article hot window failed; listings are read from the database until ingestion reloads it", e);
+        }
+    }
+
+    private void refresh(Collection<String> scopes) {
+        pendingScopes.addAll(scopes);
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refresher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        refreshScheduled.set(false);
+        Set<String> scopes = new HashSet<>(pendingScopes);
+        pendingScopes.removeAll(scopes);
+        if (scopes.isEmpty()) {
+            return;
+        }
+        try {
+            rebuild(scopes);
+        } catch (DataAccessException e) {
+            log.warn("Reloading hot windows {} failed; they are served from the database until the next reload", scopes, e);
+        }
+    }
+
+    // runs on the refresher thread only, so snapshots are never replaced concurrently
+    void rebuild(Set<String> scopes) {
+        long start = System.nanoTime();
+        Map<String, Window> next = new HashMap<>(windows);
+        for (String scope : scopes) {
+            Window window = read(scope, properties.getSize(), true);
+            if (window.articles().isEmpty() && !DatasetVersions.ALL.equals(scope)) {
+                next.remove(scope);
+            } else {
+                next.put(scope, window);
+            }
+        }
+        windows = Map.copyOf(next);
+        rebuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Window read(String scope, int size, boolean countTotal) {
+        String category = DatasetVersions.ALL.equals(scope) ? null : scope;
+        // read before the rows, so a commit in between leaves the window stale rather than wrongly current
+        long version = datasetVersions.current(category);
+        Sort sort = ArticleSortPlan.plan(PageRequest.of(0, size, NEWEST_FIRST), category).getSort();
+        // one extra row tells whether the window holds the whole listing
+        List<ArticleDTO> rows = articleDtoReadRepository.findPage(ArticleFilter.category(category), sort, 0, size + 1,
+                ArticleFields.ALL);
+        boolean complete = rows.size() <= size;
+        long total = complete ? rows.size()
+                : countTotal ? articleDtoReadRepository.count(ArticleFilter.category(category)) : -1;
+        return new Window(version, List.copyOf(complete ? rows : rows.subList(0, size)), complete, total);
+    }
+
+    private static boolean isNewestFirst(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && NEWEST_FIRST.getOrderFor("publishedAt").equals(orders.getFirst());
+    }
+
+    private static Counter lookups(MeterRegistry registry, String result) {
+        return Counter.builder("article_hot_window_lookups_total")
+                .description("Newest-first listing pages by whether the hot window answered them")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record Window(long version, List<ArticleDTO> articles, boolean complete, long total) {}
+}
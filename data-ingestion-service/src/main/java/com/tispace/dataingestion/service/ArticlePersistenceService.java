@@ -11,6 +11,7 @@ import java.util.List;
 /**
  * Persists articles using batch UPSERT with ON CONFLICT DO NOTHING.
  * Handles duplicates efficiently in multi-instance deployments.
+ * When group commit is enabled, writes from concurrent callers share flushes via {@link ArticleGroupCommitWriter}.
  */
 @Service
 @RequiredArgsConstructor
@@ -18,13 +19,16 @@ import java.util.List;
 public class ArticlePersistenceService {
 
     private final ArticleBatchRepository articleBatchRepository;
+    private final ArticleGroupCommitWriter articleGroupCommitWriter;
 
     public int saveArticles(List<Article> articles) {
         if (articles == null || articles.isEmpty()) {
             return 0;
         }
 
-        int inserted = articleBatchRepository.batchInsertIgnoreDuplicates(articles);
+        int inserted = articleGroupCommitWriter.isEnabled()
+                ? articleGroupCommitWriter.write(articles)
+                : articleBatchRepository.batchInsertIgnoreDuplicates(articles);
 
         log.debug("Saved articles: inserted={}, skipped={}", inserted, articles.size() - inserted);
         return inserted;
@@ -1,20 +1,46 @@
 package com.tispace.dataingestion.service;
 
+import com.tispace.common.contract.ArticleBatchItemDTO;
 import com.tispace.common.contract.ArticleDTO;
-import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.common.contract.CategoryArticlesDTO;
+import com.tispace.common.contract.CursorPageDTO;
+import com.tispace.common.exception.BusinessException;
 import com.tispace.common.exception.NotFoundException;
-import com.tispace.dataingestion.application.mapper.ArticleMapper;
-import com.tispace.dataingestion.infrastructure.repository.ArticleRepository;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.ArticleCursor;
+import com.tispace.dataingestion.application.pagination.ArticleSearchCursor;
+import com.tispace.dataingestion.application.pagination.ArticleSortPlan;
+import com.tispace.dataingestion.application.pagination.CountMode;
+import com.tispace.dataingestion.application.pagination.KeysetSortField;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.repository.ArticleCountEstimateRepository;
+import com.tispace.dataingestion.repository.ArticleDtoReadRepository;
+import com.tispace.dataingestion.repository.ArticleKeysetRepository;
+import com.tispace.dataingestion.repository.ArticleSearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,32 +48,230 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ArticleQueryService {
 	
-	private final ArticleRepository articleRepository;
-	private final ArticleMapper articleMapper;
+	private final ArticleDtoReadRepository articleDtoReadRepository;
+	private final ArticleKeysetRepository articleKeysetRepository;
+	private final ArticleCountEstimateRepository articleCountEstimateRepository;
+	private final ArticleByIdCache articleByIdCache;
+	private final ArticleHotWindow articleHotWindow;
+	private final ArticleSearchRepository articleSearchRepository;
+	private final ArticleSearchMetrics articleSearchMetrics;
 	
+	/**
+	 * Offset listing narrowed by {@code filter}, read through the DTO projection without hydrating entities and
+	 * reading only the columns of {@code fields} where the page comes from the database; other properties may be null
+	 * and are meant to be left out when serializing. The exact {@code count(*)} runs only for {@link CountMode#EXACT};
+	 * {@link CountMode#NONE} returns a plain Slice and {@link CountMode#ESTIMATED} a Page whose total comes from the
+	 * topic counters or the planner estimate, corrected where the page itself proves it wrong. Filters beyond a single
+	 * category are always read from the database and estimated from the query plan. Runs without a transaction of its
+	 * own so that a page served by {@link ArticleHotWindow} does not check out a connection.
+	 */
 	@Retry(name = "database")
-	public Page<Article> getArticles(Pageable pageable, String category) {
-		String normalizedCategory = StringUtils.trimToNull(category);
-		if (normalizedCategory != null) {
-			return articleRepository.findByCategory(normalizedCategory, pageable);
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Slice<ArticleDTO> getArticlesDTO(Pageable pageable, ArticleFilter filter, CountMode countMode,
+	                                        ArticleFields fields) {
+		if (countMode == CountMode.EXACT) {
+			return exactPage(pageable, filter, fields);
+		}
+		// one extra row tells whether another page follows
+		List<ArticleDTO> rows = findPage(pageable, filter, pageable.getPageSize() + 1, fields);
+		boolean hasNext = rows.size() > pageable.getPageSize();
+		List<ArticleDTO> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+		if (countMode == CountMode.NONE) {
+			return new SliceImpl<>(content, pageable, hasNext);
 		}
-		return articleRepository.findAll(pageable);
+		
+		long seen = pageable.getOffset() + content.size();
+		long total = hasNext ? Math.max(estimateTotal(filter), seen + 1) : seen;
+		return new PageImpl<>(content, pageable, total);
 	}
 	
-	public Page<ArticleDTO> getArticlesDTO(Pageable pageable, String category) {
-		return getArticles(pageable, category)
-			.map(articleMapper::toDTO);
+	/**
+	 * Keyset-paginated listing narrowed by {@code filter}, reading only the columns of {@code fields} plus the sort key
+	 * the next cursor is built from. Rows with a NULL sort key come after all keyed rows in either direction. Cursors
+	 * are only accepted for the filter they were issued for.
+	 *
+	 * @param cursor {@code nextCursor} of the previous page, or blank for the first page
+	 */
+	@Retry(name = "database")
+	public CursorPageDTO<ArticleDTO> getArticlesByCursor(String cursor, int size, Sort sort, ArticleFilter filter,
+	                                                     CountMode countMode, ArticleFields fields) {
+		KeysetSortField field = KeysetSortField.from(sort);
+		if (filter.category() != null && !field.isTopicIndexed()) {
+			throw new BusinessException("Sorting by " + field.getProperty()
+				+ " is not supported together with a category filter. Supported fields are: id, publishedAt");
+		}
+		Sort.Direction direction = sort.iterator().next().getDirection();
+		
+		ArticleCursor after = null;
+		if (StringUtils.isNotBlank(cursor)) {
+			after = ArticleCursor.decode(cursor);
+			after.requireMatches(field, direction, filter.key());
+		}
+		
+		// one extra row tells whether another page follows
+		int limit = size + 1;
+		ArticleFields columns = fields.with(field.getProperty());
+		List<ArticleDTO> rows = new ArrayList<>();
+		boolean inNullKeys = after != null && after.nullKeys();
+		if (!inNullKeys) {
+			rows.addAll(articleKeysetRepository.findAfter(field, direction, filter,
+				after != null ? after.sortValue() : null, after != null ? after.id() : null, limit, columns));
+		}
+		if (field.isNullable() && rows.size() < limit) {
+			rows.addAll(articleKeysetRepository.findWithNullKeyAfter(field, direction, filter,
+				inNullKeys ? after.id() : null, limit - rows.size(), columns));
+		}
+		
+		boolean hasNext = rows.size() > size;
+		List<ArticleDTO> page = hasNext ? rows.subList(0, size) : rows;
+		String nextCursor = null;
+		if (hasNext) {
+			ArticleDTO last = page.getLast();
+			nextCursor = new ArticleCursor(field, direction, filter.key(), field.hasNullKey(last), field.keyOf(last),
+				last.getId()).encode();
+		}
+		
+		return CursorPageDTO.<ArticleDTO>builder()
+			.content(List.copyOf(page))
+			.size(size)
+			.hasNext(hasNext)
+			.nextCursor(nextCursor)
+			.totalElements(totalElements(filter, countMode))
+			.build();
 	}
 	
+	/**
+	 * Full-text search ranked by relevance, paginated with a cursor over {@code (rank, id)}. Totals are not
+	 * reported: counting all matches would cost as much as ranking them.
+	 *
+	 * @param cursor {@code nextCursor} of the previous page, or blank for the first page
+	 */
 	@Retry(name = "database")
-	public Article getArticleById(UUID id) {
-		return articleRepository.findById(id)
-			.orElseThrow(() -> new NotFoundException("Article", id));
+	public CursorPageDTO<ArticleDTO> searchArticles(String query, String cursor, int size, String category) {
+		String normalizedQuery = StringUtils.normalizeSpace(query);
+		if (StringUtils.isEmpty(normalizedQuery)) {
+			throw new BusinessException("Search query must not be blank");
+		}
+		String normalizedCategory = StringUtils.trimToNull(category);
+		
+		ArticleSearchCursor after = null;
+		if (StringUtils.isNotBlank(cursor)) {
+			after = ArticleSearchCursor.decode(cursor);
+			after.requireMatches(normalizedQuery, normalizedCategory);
+		}
+		
+		long start = System.nanoTime();
+		// one extra row tells whether another page follows
+		List<ArticleSearchRepository.Hit> hits = articleSearchRepository.search(normalizedQuery, normalizedCategory,
+			after != null ? after.rank() : 0f, after != null ? after.id() : null, size + 1);
+		boolean hasNext = hits.size() > size;
+		List<ArticleSearchRepository.Hit> page = hasNext ? hits.subList(0, size) : hits;
+		articleSearchMetrics.onSearch(normalizedCategory != null, page.size(), System.nanoTime() - start);
+		
+		String nextCursor = null;
+		if (hasNext) {
+			ArticleSearchRepository.Hit last = page.getLast();
+			nextCursor = ArticleSearchCursor.after(normalizedQuery, normalizedCategory, last.rank(),
+				last.article().getId()).encode();
+		}
+		
+		return CursorPageDTO.<ArticleDTO>builder()
+			.content(page.stream().map(ArticleSearchRepository.Hit::article).toList())
+			.size(size)
+			.hasNext(hasNext)
+			.nextCursor(nextCursor)
+			.build();
 	}
 	
+	/**
+	 * Served from {@link ArticleByIdCache}, including recent not-found answers. Runs without a transaction of its
+	 * own so that a cache hit does not check out a connection. Not read-only: misses are read from the primary, so a
+	 * lagging read replica cannot put back what an {@code article_changed} notification just evicted.
+	 */
+	@Retry(name = "database")
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public ArticleDTO getArticleDTOById(UUID id) {
-		Article article = getArticleById(id);
-		return articleMapper.toDTO(article);
+		return articleByIdCache.get(id, articleDtoReadRepository::findById)
+			.orElseThrow(() -> new NotFoundException("Article", id));
+	}
+	
+	/**
+	 * Articles for a batch of ids, one item per requested id in request order, marking ids without an article as
+	 * not found. Ids already in {@link ArticleByIdCache} are answered from it; the rest are read with one query,
+	 * from the primary like {@link #getArticleDTOById(UUID)}.
+	 */
+	@Retry(name = "database")
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public List<ArticleBatchItemDTO> getArticleDTOsByIds(List<UUID> ids) {
+		Map<UUID, Optional<ArticleDTO>> articles = articleByIdCache.getAll(new LinkedHashSet<>(ids), missing ->
+			articleDtoReadRepository.findByIds(missing).stream()
+				.collect(Collectors.toMap(ArticleDTO::getId, Function.identity())));
+		
+		List<ArticleBatchItemDTO> items = new ArrayList<>(ids.size());
+		for (UUID id : ids) {
+			ArticleDTO article = articles.get(id).orElse(null);
+			items.add(ArticleBatchItemDTO.builder()
+				.id(id)
+				.found(article != null)
+				.article(article)
+				.build());
+		}
+		return items;
+	}
+	
+	/**
+	 * Newest articles of every category, read from {@link ArticleHotWindow}.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public List<CategoryArticlesDTO> getTopArticlesPerCategory(int limit) {
+		List<CategoryArticlesDTO> top = new ArrayList<>();
+		articleHotWindow.topPerCategory(limit).forEach((category, articles) ->
+			top.add(new CategoryArticlesDTO(category, articles)));
+		return top;
+	}
+	
+	private Page<ArticleDTO> exactPage(Pageable pageable, ArticleFilter filter, ArticleFields fields) {
+		List<ArticleDTO> content = findPage(pageable, filter, pageable.getPageSize(), fields);
+		return PageableExecutionUtils.getPage(content, pageable, () -> exactTotal(filter));
+	}
+	
+	// newest-first pages inside the hot window are answered without a query, whatever the fieldset
+	private List<ArticleDTO> findPage(Pageable pageable, ArticleFilter filter, int limit, ArticleFields fields) {
+		Pageable planned = ArticleSortPlan.plan(pageable, filter.category());
+		Optional<List<ArticleDTO>> window = filter.isCategoryOnly()
+			? articleHotWindow.find(filter.category(), pageable.getSort(), planned.getOffset(), limit)
+			: Optional.empty();
+		return window.orElseGet(() -> articleDtoReadRepository.findPage(filter, planned.getSort(),
+			planned.getOffset(), limit, fields));
+	}
+	
+	private Long totalElements(ArticleFilter filter, CountMode countMode) {
+		return switch (countMode) {
+			case NONE -> null;
+			case ESTIMATED -> estimateTotal(filter);
+			case EXACT -> exactTotal(filter);
+		};
+	}
+	
+	private long exactTotal(ArticleFilter filter) {
+		OptionalLong counted = filter.isCategoryOnly() ? articleHotWindow.total(filter.category()) : OptionalLong.empty();
+		return counted.orElseGet(() -> articleDtoReadRepository.count(filter));
+	}
+	
+	private long estimateTotal(ArticleFilter filter) {
+		if (!filter.isCategoryOnly()) {
+			return articleCountEstimateRepository.estimateMatching(filter)
+				.orElseGet(() -> articleDtoReadRepository.count(filter));
+		}
+		String category = filter.category();
+		OptionalLong counted = articleHotWindow.total(category);
+		if (counted.isPresent()) {
+			return counted.getAsLong();
+		}
+		if (category != null) {
+			return articleCountEstimateRepository.countByTopic(category);
+		}
+		// reltuples is unset until the table is first analyzed
+		return articleCountEstimateRepository.estimateArticles().orElseGet(() -> articleDtoReadRepository.count(filter));
 	}
 }
-
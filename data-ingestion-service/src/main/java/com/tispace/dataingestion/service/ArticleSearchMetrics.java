@@ -0,0 +1,39 @@
+package com.tispace.dataingestion.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ArticleSearchMetrics {
+
+    private final Timer latencyAll;
+    private final Timer latencyByCategory;
+    private final DistributionSummary hits;
+
+    public ArticleSearchMetrics(MeterRegistry registry) {
+        this.latencyAll = latency(registry, "none");
+        this.latencyByCategory = latency(registry, "category");
+
+        this.hits = DistributionSummary.builder("article_search_hits")
+                .description("Hits returned per search page")
+                .baseUnit("articles")
+                .register(registry);
+    }
+
+    private static Timer latency(MeterRegistry registry, String filter) {
+        return Timer.builder("article_search_latency_seconds")
+                .description("Duration of a full-text search page query")
+                .tag("filter", filter)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void onSearch(boolean categoryFiltered, int hitCount, long durationNanos) {
+        (categoryFiltered ? latencyByCategory : latencyAll).record(durationNanos, TimeUnit.NANOSECONDS);
+        hits.record(hitCount);
+    }
+}
@@ -0,0 +1,313 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.exception.BusinessException;
+import com.tispace.dataingestion.config.BackfillExecutorConfig;
+import com.tispace.dataingestion.config.BackfillProperties;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.domain.validation.ArticleValidator;
+import com.tispace.dataingestion.repository.BackfillCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Historical backfill: splits {@code [from, to)} into fixed windows, fetches windows in parallel
+ * (bounded by {@code backfill.parallelism} and the {@code newsApi} rate limiter/bulkhead) and streams
+ * each window straight into the batch insert path. Completed windows are checkpointed, so re-running
+ * the same backfill resumes instead of refetching. One backfill runs per instance at a time.
+ * <p>
+ * NewsAPI returns one page per request, so a window with more matches than that is halved and each
+ * half fetched in turn, down to {@code backfill.min-window}. A window still truncated at that size
+ * keeps what was fetched but is counted as truncated and not checkpointed.
+ */
+@Service
+@Slf4j
+public class BackfillService {
+
+    private final ExternalApiClient externalApiClient;
+    private final ArticlePersistenceService articlePersistenceService;
+    private final ArticleValidator articleValidator;
+    private final ArticleEnrichmentService articleEnrichmentService;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final BackfillMetrics metrics;
+    private final BackfillProperties properties;
+    private final Executor backfillExecutor;
+
+    private final AtomicReference<Job> currentJob = new AtomicReference<>();
+
+    public BackfillService(ExternalApiClient externalApiClient,
+                           ArticlePersistenceService articlePersistenceService,
+                           ArticleValidator articleValidator,
+                           ArticleEnrichmentService articleEnrichmentService,
+                           BackfillCheckpointRepository checkpointRepository,
+                           BackfillMetrics metrics,
+                           BackfillProperties properties,
+                           @Qualifier(BackfillExecutorConfig.BACKFILL_EXECUTOR_BEAN) Executor backfillExecutor) {
+        this.externalApiClient = externalApiClient;
+        this.articlePersistenceService = articlePersistenceService;
+        this.articleValidator = articleValidator;
+        this.articleEnrichmentService = articleEnrichmentService;
+        this.checkpointRepository = checkpointRepository;
+        this.metrics = metrics;
+        this.properties = properties;
+        this.backfillExecutor = backfillExecutor;
+    }
+
+    public record BackfillRequest(String keyword, String category, LocalDateTime from, LocalDateTime to) {}
+
+    public record TimeWindow(LocalDateTime start, LocalDateTime end) {}
+
+    private record WindowResult(int fetched, int inserted, boolean truncated) {
+
+        WindowResult plus(WindowResult other) {
+            return new WindowResult(fetched + other.fetched, inserted + other.inserted, truncated || other.truncated);
+        }
+    }
+
+    /**
+     * Starts a backfill in the background and returns its initial status.
+     */
+    public BackfillStatus start(BackfillRequest request) {
+        Job job = register(request);
+        Thread.ofPlatform()
+                .name("backfill-coordinator")
+                .daemon(true)
+                .start(() -> execute(job));
+        return job.snapshot();
+    }
+
+    /**
+     * Runs a backfill on the calling thread and returns its final status.
+     */
+    public BackfillStatus run(BackfillRequest request) {
+        Job job = register(request);
+        execute(job);
+        return job.snapshot();
+    }
+
+    public Optional<BackfillStatus> getStatus() {
+        return Optional.ofNullable(currentJob.get()).map(Job::snapshot);
+    }
+
+    static List<TimeWindow> splitWindows(LocalDateTime from, LocalDateTime to, Duration window) {
+        List<TimeWindow> windows = new ArrayList<>();
+        LocalDateTime start = from;
+        while (start.isBefore(to)) {
+            LocalDateTime end = start.plus(window);
+            if (end.isAfter(to)) {
+                end = to;
+            }
+            windows.add(new TimeWindow(start, end));
+            start = end;
+        }
+        return windows;
+    }
+
+    static String backfillKey(String keyword, String category, Duration window) {
+        return keyword.toLowerCase() + "|" + StringUtils.defaultString(category).toLowerCase() + "|" + window;
+    }
+
+    private Job register(BackfillRequest request) {
+        BackfillRequest normalized = validate(request);
+        List<TimeWindow> windows = splitWindows(normalized.from(), normalized.to(), properties.getWindow());
+        if (windows.size() > properties.getMaxWindows()) {
+            throw new BusinessException("Backfill range spans " + windows.size() + " windows, maximum is "
+                    + properties.getMaxWindows() + ". Narrow the range or increase backfill.window");
+        }
+
+        Job job = new Job(UUID.randomUUID(), normalized, windows);
+        Job previous = currentJob.get();
+        if (previous != null && previous.isRunning()) {
+            throw new BusinessException("A backfill is already running: " + previous.id);
+        }
+        if (!currentJob.compareAndSet(previous, job)) {
+            throw new BusinessException("A backfill is already running");
+        }
+        return job;
+    }
+
+    private BackfillRequest validate(BackfillRequest request) {
+        if (request == null || StringUtils.isBlank(request.keyword())) {
+            throw new BusinessException("Backfill keyword is required");
+        }
+        if (request.from() == null || request.to() == null) {
+            throw new BusinessException("Backfill range requires both from and to");
+        }
+        if (!request.from().isBefore(request.to())) {
+            throw new BusinessException("Backfill range is empty: from must be before to");
+        }
+        return new BackfillRequest(
+                request.keyword().trim(),
+                StringUtils.trimToNull(request.category()),
+                request.from(),
+                request.to()
+        );
+    }
+
+    private void execute(Job job) {
+        BackfillRequest request = job.request;
+        String key = backfillKey(request.keyword(), request.category(), properties.getWindow());
+        log.info("Starting backfill {}: keyword={}, category={}, range=[{}, {}), windows={}, parallelism={}",
+                job.id, request.keyword(), request.category(), request.from(), request.to(),
+                job.windows.size(), properties.getParallelism());
+
+        try {
+            Map<LocalDateTime, LocalDateTime> completed =
+                    checkpointRepository.findCompletedWindows(key, request.from(), request.to());
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>(job.windows.size());
+            for (TimeWindow window : job.windows) {
+                LocalDateTime completedUntil = completed.get(window.start());
+                if (completedUntil != null && !completedUntil.isBefore(window.end())) {
+                    job.windowsSkipped.incrementAndGet();
+                    metrics.onWindowSkipped();
+                    continue;
+                }
+                futures.add(CompletableFuture.runAsync(() -> processWindow(job, key, window), backfillExecutor));
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            job.finish(job.windowsFailed.get() > 0
+                    ? BackfillStatus.State.COMPLETED_WITH_FAILURES
+                    : BackfillStatus.State.COMPLETED);
+        } catch (Exception e) {
+            log.error("Backfill {} aborted", job.id, e);
+            job.finish(BackfillStatus.State.FAILED);
+        }
+
+        BackfillStatus status = job.snapshot();
+        log.info("Backfill {} finished: state={}, windows completed={}, skipped={}, failed={}, rows fetched={}, inserted={}, "
+                        + "{} windows/s, {} rows/s",
+                job.id, status.state(), status.windowsCompleted(), status.windowsSkipped(), status.windowsFailed(),
+                status.rowsFetched(), status.rowsInserted(),
+                String.format("%.2f", status.windowsPerSecond()), String.format("%.2f", status.rowsPerSecond()));
+    }
+
+    private void processWindow(Job job, String key, TimeWindow window) {
+        try {
+            WindowResult result = fetchWindow(job.request, window);
+            job.rowsFetched.addAndGet(result.fetched());
+            job.rowsInserted.addAndGet(result.inserted());
+            if (result.truncated()) {
+                job.windowsFailed.incrementAndGet();
+                metrics.onWindowTruncated(result.fetched(), result.inserted());
+                log.warn("Backfill {} window [{}, {}) has more articles than NewsAPI returns even at {}, "
+                                + "not checkpointed: fetched={}, inserted={}",
+                        job.id, window.start(), window.end(), properties.getMinWindow(),
+                        result.fetched(), result.inserted());
+                return;
+            }
+            checkpointRepository.markCompleted(key, window.start(), window.end(), result.fetched(), result.inserted());
+
+            job.windowsCompleted.incrementAndGet();
+            metrics.onWindowCompleted(result.fetched(), result.inserted());
+
+            log.debug("Backfill {} window [{}, {}) done: fetched={}, inserted={}",
+                    job.id, window.start(), window.end(), result.fetched(), result.inserted());
+        } catch (Exception e) {
+            job.windowsFailed.incrementAndGet();
+            metrics.onWindowFailed();
+            log.warn("Backfill {} window [{}, {}) failed, it will be retried on resume: {}",
+                    job.id, window.start(), window.end(), e.getMessage());
+        }
+    }
+
+    private WindowResult fetchWindow(BackfillRequest request, TimeWindow window) {
+        ExternalApiClient.WindowPage page = externalApiClient.fetchArticles(
+                request.keyword(), request.category(), window.start(), window.end());
+
+        Duration length = Duration.between(window.start(), window.end());
+        if (page.truncated() && length.compareTo(properties.getMinWindow().multipliedBy(2)) >= 0) {
+            LocalDateTime middle = window.start().plus(length.dividedBy(2)).truncatedTo(ChronoUnit.SECONDS);
+            log.debug("Backfill window [{}, {}) has more articles than one request returns, splitting at {}",
+                    window.start(), window.end(), middle);
+            return fetchWindow(request, new TimeWindow(window.start(), middle))
+                    .plus(fetchWindow(request, new TimeWindow(middle, window.end())));
+        }
+
+        List<Article> articles = page.articles();
+        List<Article> valid = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            if (articleValidator.isValid(article)) {
+                valid.add(article);
+            }
+        }
+
+        articleEnrichmentService.enrich(valid);
+        int inserted = articlePersistenceService.saveArticles(valid);
+        return new WindowResult(articles.size(), inserted, page.truncated());
+    }
+
+    private static final class Job {
+
+        private final UUID id;
+        private final BackfillRequest request;
+        private final List<TimeWindow> windows;
+        private final Instant startedAt = Instant.now();
+
+        private final AtomicInteger windowsSkipped = new AtomicInteger();
+        private final AtomicInteger windowsCompleted = new AtomicInteger();
+        private final AtomicInteger windowsFailed = new AtomicInteger();
+        private final AtomicLong rowsFetched = new AtomicLong();
+        private final AtomicLong rowsInserted = new AtomicLong();
+
+        private volatile BackfillStatus.State state = BackfillStatus.State.RUNNING;
+        private volatile Instant finishedAt;
+
+        private Job(UUID id, BackfillRequest request, List<TimeWindow> windows) {
+            this.id = id;
+            this.request = request;
+            this.windows = windows;
+        }
+
+        private boolean isRunning() {
+            return state == BackfillStatus.State.RUNNING;
+        }
+
+        private void finish(BackfillStatus.State finalState) {
+            this.finishedAt = Instant.now();
+            this.state = finalState;
+        }
+
+        private BackfillStatus snapshot() {
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            double elapsedSeconds = Math.max(Duration.between(startedAt, end).toMillis(), 1) / 1000.0;
+            int completed = windowsCompleted.get();
+            long inserted = rowsInserted.get();
+            return new BackfillStatus(
+                    id,
+                    request.keyword(),
+                    request.category(),
+                    request.from(),
+                    request.to(),
+                    state,
+                    windows.size(),
+                    windowsSkipped.get(),
+                    completed,
+                    windowsFailed.get(),
+                    rowsFetched.get(),
+                    inserted,
+                    startedAt,
+                    finishedAt,
+                    completed / elapsedSeconds,
+                    inserted / elapsedSeconds
+            );
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tispace.dataingestion.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Point-in-time view of a backfill job, reported by the {@code backfill} actuator endpoint.
+ */
+public record BackfillStatus(
+        UUID id,
+        String keyword,
+        String category,
+        LocalDateTime from,
+        LocalDateTime to,
+        State state,
+        int windowsTotal,
+        int windowsSkipped,
+        int windowsCompleted,
+        int windowsFailed,
+        long rowsFetched,
+        long rowsInserted,
+        Instant startedAt,
+        Instant finishedAt,
+        double windowsPerSecond,
+        double rowsPerSecond
+) {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        COMPLETED_WITH_FAILURES,
+        FAILED
+    }
+}
@@ -12,7 +12,7 @@ import java.util.List;
 
 /**
  * Orchestrates article ingestion from external APIs to database.
- * Validates articles (non-empty title) and skips duplicates via ON CONFLICT.
+ * Validates articles (non-empty title), enriches them with derived fields and skips duplicates via ON CONFLICT.
  */
 @Service
 @RequiredArgsConstructor
@@ -21,6 +21,7 @@ public class DataIngestionService {
 	
 	private final ExternalApiClient externalApiClient;
 	private final ArticlePersistenceService articlePersistenceService;
+	private final ArticleEnrichmentService articleEnrichmentService;
 	
 	@Value("${scheduler.keyword:technology}")
 	private String defaultKeyword;
@@ -63,6 +64,8 @@ public class DataIngestionService {
 			return;
 		}
 
+		articleEnrichmentService.enrich(validArticles);
+		
 		int savedCount = articlePersistenceService.saveArticles(validArticles);
 		
 		log.info("Successfully saved {} new articles to database ({} skipped due to duplicates)", 
@@ -0,0 +1,70 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.dataingestion.repository.DatasetVersionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the listing versions, so conditional list requests are answered without touching the
+ * database. Loaded at startup and on every listener (re)connect; kept current by the {@code dataset_version}
+ * notifications that ArticleChangeListener receives. Versions only move forward.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetVersions {
+
+    /** Scope of the unfiltered listing. */
+    public static final String ALL = "*";
+
+    private final DatasetVersionRepository datasetVersionRepository;
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+
+    @PostConstruct
+    public void load() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("Dataset versions could not be loaded, list ETags start from version 0", e);
+        }
+    }
+
+    public void reload() {
+        datasetVersionRepository.findAll().forEach(this::advance);
+    }
+
+    /**
+     * @param category listing filter as requested; blank means the unfiltered listing
+     */
+    public long current(String category) {
+        String scope = StringUtils.trimToNull(category);
+        return versions.getOrDefault(scope != null ? scope : ALL, 0L);
+    }
+
+    /**
+     * Number of times any version has moved forward, for state derived from several scopes at once.
+     */
+    public long changes() {
+        return changes.get();
+    }
+
+    public void advance(String scope, long version) {
+        versions.compute(scope, (key, current) -> {
+            if (current != null && current >= version) {
+                return current;
+            }
+            changes.incrementAndGet();
+            return version;
+        });
+    }
+}
@@ -1,8 +1,10 @@
 package com.tispace.dataingestion.service;
 
-import jakarta.persistence.EntityManager;
+import com.tispace.dataingestion.config.DataSourcePoolsConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,24 +15,23 @@ import static org.springframework.transaction.annotation.Propagation.REQUIRES_NE
 /**
  * Distributed locking via PostgreSQL advisory locks (pg_try_advisory_xact_lock).
  * Lock auto-releases on transaction end. Returns false if lock not acquired.
+ * The lock's transaction holds a connection of the coordination pool for as long as the task runs.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DistributedLockService {
 
-    private final EntityManager entityManager;
+    @Qualifier(DataSourcePoolsConfig.COORDINATION_JDBC_TEMPLATE)
+    private final JdbcTemplate jdbcTemplate;
 
     private static final long SCHEDULER_LOCK_ID = 123456789L;
 
-    @Transactional(propagation = REQUIRES_NEW)
+    @Transactional(transactionManager = DataSourcePoolsConfig.COORDINATION_TRANSACTION_MANAGER, propagation = REQUIRES_NEW)
     public boolean executeWithLock(long lockId, Supplier<Boolean> task) {
         final boolean acquired;
         try {
-            Object raw = entityManager
-                    .createNativeQuery("SELECT pg_try_advisory_xact_lock(?1)")
-                    .setParameter(1, lockId)
-                    .getSingleResult();
+            Boolean raw = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, lockId);
 
             acquired = Boolean.TRUE.equals(raw);
         } catch (Exception e) {
@@ -51,7 +52,7 @@ public class DistributedLockService {
         return result;
     }
 
-    @Transactional(propagation = REQUIRES_NEW)
+    @Transactional(transactionManager = DataSourcePoolsConfig.COORDINATION_TRANSACTION_MANAGER, propagation = REQUIRES_NEW)
     public boolean executeScheduledTaskWithLock(Runnable task) {
         return executeWithLock(SCHEDULER_LOCK_ID, () -> {
             task.run();
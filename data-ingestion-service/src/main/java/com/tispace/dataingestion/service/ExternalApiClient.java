@@ -2,13 +2,25 @@ package com.tispace.dataingestion.service;
 
 import com.tispace.dataingestion.domain.entity.Article;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ExternalApiClient {
 	
 	List<Article> fetchArticles(String keyword, String category);
 	
+	/**
+	 * Fetches articles published within {@code [from, to)} (UTC). Used by historical backfill.
+	 */
+	WindowPage fetchArticles(String keyword, String category, LocalDateTime from, LocalDateTime to);
+	
 	String getApiName();
+	
+	/**
+	 * @param truncated the source holds more articles for the window than one request returns
+	 */
+	record WindowPage(List<Article> articles, boolean truncated) {
+	}
 }
 
 
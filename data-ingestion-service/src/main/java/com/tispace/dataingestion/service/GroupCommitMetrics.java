@@ -0,0 +1,48 @@
+package com.tispace.dataingestion.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class GroupCommitMetrics {
+
+    private final DistributionSummary flushSize;
+    private final Timer flushLatency;
+    private final Counter flushErrors;
+    private final AtomicInteger bufferedRows = new AtomicInteger();
+
+    public GroupCommitMetrics(MeterRegistry registry) {
+        this.flushSize = DistributionSummary.builder("article_group_commit_flush_size")
+                .description("Rows written per group-commit flush")
+                .baseUnit("rows")
+                .register(registry);
+
+        this.flushLatency = Timer.builder("article_group_commit_flush_latency_seconds")
+                .description("Duration of a group-commit flush statement and commit")
+                .register(registry);
+
+        this.flushErrors = Counter.builder("article_group_commit_flush_errors_total")
+                .description("Group-commit flushes that failed")
+                .register(registry);
+
+        Gauge.builder("article_group_commit_buffer_rows", bufferedRows, AtomicInteger::get)
+                .description("Rows waiting in the group-commit buffer")
+                .register(registry);
+    }
+
+    public void onFlush(int rows, long durationNanos) {
+        flushSize.record(rows);
+        flushLatency.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void onFlushError() { flushErrors.increment(); }
+    public void onBuffered(int rows) { bufferedRows.addAndGet(rows); }
+    public void onDrained(int rows) { bufferedRows.addAndGet(-rows); }
+}
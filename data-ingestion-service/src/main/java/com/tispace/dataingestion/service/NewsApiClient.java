@@ -2,18 +2,24 @@ package com.tispace.dataingestion.service;
 
 import com.tispace.dataingestion.domain.entity.Article;
 import com.tispace.common.exception.ExternalApiException;
+import com.tispace.common.exception.RateLimitExceededException;
 import com.tispace.common.exception.SerializationException;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * NewsAPI client with circuit breaker, retry, and bulkhead protection.
- * Fallback failures are surfaced via ExternalApiException for observability.
+ * Fallback failures are surfaced via ExternalApiException for observability. Rate limits (a drained
+ * key pool, no rate limiter permit) pass through unwrapped: the bulkhead and rate limiter fallbacks
+ * run inside the circuit breaker, which ignores them only as long as they keep their type.
  */
 @Service
 @Slf4j
@@ -44,12 +50,35 @@ public class NewsApiClient implements ExternalApiClient {
         }
     }
 
+    /**
+     * Windowed fetch used by backfill. Additionally throttled by the {@code newsApi} rate limiter
+     * so parallel window fetches stay within the NewsAPI request quota.
+     */
+    @Override
+    @CircuitBreaker(name = "newsApi", fallbackMethod = "fetchArticlesInWindowFallback")
+    @Retry(name = "newsApi")
+    @RateLimiter(name = "newsApi", fallbackMethod = "fetchArticlesInWindowFallback")
+    @Bulkhead(name = "newsApi", fallbackMethod = "fetchArticlesInWindowFallback")
+    public WindowPage fetchArticles(String keyword, String category, LocalDateTime from, LocalDateTime to) {
+        metrics.onRequest();
+        try {
+            return metrics.recordLatency(() -> core.fetchArticles(keyword, category, from, to));
+        } catch (ExternalApiException | SerializationException | IllegalArgumentException e) {
+            metrics.onError();
+            throw e;
+        } catch (Exception e) {
+            metrics.onError();
+            throw new ExternalApiException("Unexpected error fetching articles from NewsAPI", e);
+        }
+    }
+
     /**
      * Fallback: raises an exception when NewsAPI is unavailable.
      * Called by Resilience4j, not directly.
      */
     @SuppressWarnings("unused")
     public List<Article> fetchArticlesFallback(String keyword, String category, Throwable t) {
+        rethrowRateLimit(t);
 
         metrics.onFallback();
         metrics.onError();
@@ -61,6 +90,30 @@ public class NewsApiClient implements ExternalApiClient {
         );
     }
 
+    /**
+     * Fallback for windowed fetch. Called by Resilience4j, not directly.
+     */
+    @SuppressWarnings("unused")
+    public WindowPage fetchArticlesInWindowFallback(String keyword, String category,
+                                                    LocalDateTime from, LocalDateTime to, Throwable t) {
+        rethrowRateLimit(t);
+        metrics.onFallback();
+        metrics.onError();
+
+        log.warn("NewsAPI fallback used. keyword={}, category={}, window=[{}, {})", keyword, category, from, to, t);
+        throw new ExternalApiException(
+                "NewsAPI fallback triggered for keyword=" + keyword + ", category=" + category
+                        + ", window=[" + from + ", " + to + ")",
+                t
+        );
+    }
+
+    private static void rethrowRateLimit(Throwable t) {
+        if (t instanceof RateLimitExceededException || t instanceof RequestNotPermitted) {
+            throw (RuntimeException) t;
+        }
+    }
+
     @Override
     public String getApiName() {
         return "NewsAPI";
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tispace.dataingestion.domain.entity.Article;
 import com.tispace.common.exception.ExternalApiException;
+import com.tispace.common.exception.RateLimitExceededException;
 import com.tispace.common.exception.SerializationException;
 import com.tispace.dataingestion.domain.validation.ArticleValidator;
 import com.tispace.dataingestion.adapter.NewsApiAdapter;
@@ -11,18 +12,24 @@ import com.tispace.dataingestion.constants.NewsApiConstants;
 import com.tispace.dataingestion.mapper.NewsApiArticleMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Core NewsAPI client: HTTP calls, JSON parsing, article mapping.
- * Invalid articles are skipped silently. Requires apiKey at startup.
+ * Invalid articles are skipped silently. Each request takes a key from {@link NewsApiKeyPool};
+ * a key answered with 429 or 401 is quarantined and the request is retried with the next key.
  */
 @Service
 @Slf4j
@@ -33,8 +40,8 @@ public class NewsApiClientCore {
     private final NewsApiArticleMapper mapper;
     private final ArticleValidator validator;
     private final NewsApiClientMetrics metrics;
+    private final NewsApiKeyPool keyPool;
     private final String newsApiUrl;
-    private final String apiKey;
 
     public NewsApiClientCore(
             RestTemplate restTemplate,
@@ -42,31 +49,42 @@ public class NewsApiClientCore {
             NewsApiArticleMapper mapper,
             ArticleValidator validator,
             NewsApiClientMetrics metrics,
-            @Value("${external-api.news-api.url:https://newsapi.org/v2/everything}") String newsApiUrl,
-            @Value("${external-api.news-api.api-key:}") String apiKey
+            NewsApiKeyPool keyPool,
+            @Value("${external-api.news-api.url:https://newsapi.org/v2/everything}") String newsApiUrl
     ) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.mapper = mapper;
         this.validator = validator;
         this.metrics = metrics;
+        this.keyPool = keyPool;
         this.newsApiUrl = newsApiUrl;
-        this.apiKey = apiKey;
-
-        if (apiKey == null || apiKey.isBlank()) {
-            throw new IllegalStateException("NewsAPI apiKey is missing (external-api.news-api.api-key)");
-        }
     }
 
     public List<Article> fetchArticles(String keyword, String category) {
-        String url = buildUrl(keyword);
+        return mapToArticles(fetch(buildRequest(keyword, null, null)), category);
+    }
 
-        ResponseEntity<String> response;
-        try {
-            response = restTemplate.getForEntity(url, String.class);
-        } catch (RestClientException e) {
-            throw new ExternalApiException("NewsAPI call failed (transport error)", e);
+    /**
+     * Fetches articles published within {@code [from, to)}. NewsAPI treats {@code to} as inclusive,
+     * so the upper bound is pulled back by one second to keep adjacent windows disjoint. Only the first
+     * page is requested; the result is marked truncated when NewsAPI reports more matches than it returned.
+     */
+    public ExternalApiClient.WindowPage fetchArticles(String keyword, String category, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid time window: from must be before to");
         }
+        NewsApiAdapter adapter = fetch(buildRequest(keyword, from, to.minusSeconds(1)));
+        int returned = adapter.getArticles() != null ? adapter.getArticles().size() : 0;
+        boolean truncated = adapter.getTotalResults() != null
+                ? adapter.getTotalResults() > returned
+                : returned >= NewsApiConstants.DEFAULT_PAGE_SIZE;
+        return new ExternalApiClient.WindowPage(mapToArticles(adapter, category), truncated);
+    }
+
+    private NewsApiAdapter fetch(UriComponentsBuilder request) {
+
+        ResponseEntity<String> response = execute(request);
 
         if (!response.getStatusCode().is2xxSuccessful()) {
             throw new ExternalApiException("NewsAPI returned HTTP status: " + response.getStatusCode());
@@ -74,7 +92,7 @@ public class NewsApiClientCore {
 
         String body = response.getBody();
         if (body == null || body.isBlank()) {
-            return List.of();
+            return new NewsApiAdapter();
         }
 
         NewsApiAdapter adapter = parseResponse(body);
@@ -83,7 +101,7 @@ public class NewsApiClientCore {
             throw new ExternalApiException("NewsAPI returned status: " + adapter.getStatus());
         }
 
-        return mapToArticles(adapter, category);
+        return adapter;
     }
 
     private NewsApiAdapter parseResponse(String body) {
@@ -94,17 +112,68 @@ public class NewsApiClientCore {
         }
     }
 
-    private String buildUrl(String keyword) {
+    /**
+     * Sends the request with a key from the pool. Keys rejected with 429/401 are quarantined and the
+     * next key is tried; when no key is left the call fails with {@link RateLimitExceededException}.
+     */
+    private ResponseEntity<String> execute(UriComponentsBuilder request) {
+        for (int attempt = 0; attempt < keyPool.size(); attempt++) {
+            NewsApiKeyPool.Lease lease = keyPool.acquire();
+            String url = request.cloneBuilder()
+                    .queryParam(NewsApiConstants.PARAM_API_KEY, lease.key())
+                    .toUriString();
+            try {
+                return restTemplate.getForEntity(url, String.class);
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                keyPool.reject(lease, NewsApiKeyPool.Rejection.RATE_LIMITED, retryAfter(e));
+            } catch (HttpClientErrorException.Unauthorized e) {
+                keyPool.reject(lease, NewsApiKeyPool.Rejection.UNAUTHORIZED, null);
+            } catch (RestClientException e) {
+                throw new ExternalApiException("NewsAPI call failed (transport error)", redact(e, lease.key()));
+            }
+        }
+        throw new RateLimitExceededException("NewsAPI rejected every available key");
+    }
+
+    private static Duration retryAfter(HttpClientErrorException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Transport errors may echo the request URL, which carries the key; never let it reach logs.
+     */
+    private static RestClientException redact(RestClientException e, String key) {
+        String message = e.getMessage() != null ? e.getMessage().replace(key, "***") : null;
+        RestClientException redacted = new RestClientException(e.getClass().getSimpleName() + ": " + message);
+        redacted.setStackTrace(e.getStackTrace());
+        return redacted;
+    }
+
+    private UriComponentsBuilder buildRequest(String keyword, LocalDateTime from, LocalDateTime to) {
         var builder = UriComponentsBuilder.fromUriString(newsApiUrl)
-                .queryParam(NewsApiConstants.PARAM_API_KEY, apiKey)
                 .queryParam(NewsApiConstants.PARAM_PAGE_SIZE, NewsApiConstants.DEFAULT_PAGE_SIZE)
                 .queryParam(NewsApiConstants.PARAM_SORT_BY, NewsApiConstants.DEFAULT_SORT_BY);
 
         if (keyword != null && !keyword.isBlank()) {
             builder.queryParam(NewsApiConstants.PARAM_QUERY, keyword);
         }
+        if (from != null) {
+            builder.queryParam(NewsApiConstants.PARAM_FROM, from.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+        if (to != null) {
+            builder.queryParam(NewsApiConstants.PARAM_TO, to.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
 
-        return builder.toUriString();
+        return builder;
     }
 
     private List<Article> mapToArticles(NewsApiAdapter adapter, String category) {
@@ -0,0 +1,179 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.exception.RateLimitExceededException;
+import com.tispace.dataingestion.config.NewsApiKeyPoolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pool of NewsAPI keys with per-key request budget, budget window and quarantine.
+ * Each request is assigned to the available key with the most remaining budget.
+ * Keys are only ever identified by their alias ({@code key-1}, {@code key-2}, ...) in logs and metrics.
+ */
+@Component
+@Slf4j
+public class NewsApiKeyPool {
+
+    public enum Rejection { RATE_LIMITED, UNAUTHORIZED }
+
+    /**
+     * A budget unit taken from one key for a single request.
+     */
+    public record Lease(int index, String alias, String key) {
+        @Override
+        public String toString() {
+            return "Lease[" + alias + "]";
+        }
+    }
+
+    private final NewsApiKeyPoolProperties properties;
+    private final Clock clock;
+    private final List<KeyState> keys;
+
+    @Autowired
+    public NewsApiKeyPool(NewsApiKeyPoolProperties properties,
+                          @Value("${external-api.news-api.api-key:}") String apiKey,
+                          MeterRegistry registry) {
+        this(properties, apiKey, registry, Clock.systemUTC());
+    }
+
+    NewsApiKeyPool(NewsApiKeyPoolProperties properties, String apiKey, MeterRegistry registry, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+
+        Set<String> distinct = new LinkedHashSet<>();
+        if (apiKey != null && !apiKey.isBlank()) {
+            distinct.add(apiKey.trim());
+        }
+        for (String key : properties.getKeys()) {
+            if (key != null && !key.isBlank()) {
+                distinct.add(key.trim());
+            }
+        }
+        if (distinct.isEmpty()) {
+            throw new IllegalStateException(
+                    "NewsAPI apiKey is missing (external-api.news-api.api-key or external-api.news-api.key-pool.keys)");
+        }
+
+        List<KeyState> states = new ArrayList<>(distinct.size());
+        int index = 0;
+        Instant now = clock.instant();
+        for (String key : distinct) {
+            states.add(new KeyState(index, "key-" + (index + 1), key, now, registry));
+            index++;
+        }
+        this.keys = List.copyOf(states);
+        log.info("NewsAPI key pool initialized with {} key(s), {} requests per {} each",
+                keys.size(), properties.getRequestsPerWindow(), properties.getBudgetWindow());
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Takes one request from the available key with the most remaining budget.
+     *
+     * @throws RateLimitExceededException when every key is quarantined or out of budget
+     */
+    public synchronized Lease acquire() {
+        Instant now = clock.instant();
+        KeyState best = null;
+        for (KeyState key : keys) {
+            key.rollWindow(now, properties.getBudgetWindow());
+            if (key.isQuarantined(now) || key.remaining(properties.getRequestsPerWindow()) <= 0) {
+                continue;
+            }
+            if (best == null || key.remaining(properties.getRequestsPerWindow()) > best.remaining(properties.getRequestsPerWindow())) {
+                best = key;
+            }
+        }
+        if (best == null) {
+            throw new RateLimitExceededException("All NewsAPI keys are quarantined or out of budget");
+        }
+        best.used++;
+        best.requests.increment();
+        return new Lease(best.index, best.alias, best.key);
+    }
+
+    /**
+     * Quarantines the leased key. A {@code retryAfter} from the response takes precedence over the configured duration.
+     */
+    public synchronized void reject(Lease lease, Rejection reason, Duration retryAfter) {
+        KeyState key = keys.get(lease.index());
+        Duration quarantine = retryAfter != null && !retryAfter.isNegative() && !retryAfter.isZero()
+                ? retryAfter
+                : (reason == Rejection.UNAUTHORIZED ? properties.getUnauthorizedQuarantine() : properties.getRateLimitedQuarantine());
+        key.quarantinedUntil = clock.instant().plus(quarantine);
+        (reason == Rejection.UNAUTHORIZED ? key.unauthorized : key.rateLimited).increment();
+        log.warn("NewsAPI {} quarantined for {} after {}", key.alias, quarantine, reason);
+    }
+
+    private final class KeyState {
+        private final int index;
+        private final String alias;
+        private final String key;
+        private final Counter requests;
+        private final Counter rateLimited;
+        private final Counter unauthorized;
+        private Instant windowStart;
+        private int used;
+        private Instant quarantinedUntil = Instant.MIN;
+
+        private KeyState(int index, String alias, String key, Instant now, MeterRegistry registry) {
+            this.index = index;
+            this.alias = alias;
+            this.key = key;
+            this.windowStart = now;
+
+            this.requests = Counter.builder("newsapi_key_requests_total")
+                    .description("Requests sent with a NewsAPI key")
+                    .tag("key", alias)
+                    .register(registry);
+            this.rateLimited = Counter.builder("newsapi_key_rejections_total")
+                    .description("NewsAPI key rejections that caused a quarantine")
+                    .tag("key", alias).tag("reason", "rate_limited")
+                    .register(registry);
+            this.unauthorized = Counter.builder("newsapi_key_rejections_total")
+                    .description("NewsAPI key rejections that caused a quarantine")
+                    .tag("key", alias).tag("reason", "unauthorized")
+                    .register(registry);
+            Gauge.builder("newsapi_key_remaining_budget", this, state -> state.remaining(properties.getRequestsPerWindow()))
+                    .description("Requests left in the current budget window of a NewsAPI key")
+                    .tag("key", alias)
+                    .register(registry);
+            Gauge.builder("newsapi_key_available", this, state -> state.isQuarantined(clock.instant()) ? 0 : 1)
+                    .description("1 when a NewsAPI key is not quarantined")
+                    .tag("key", alias)
+                    .register(registry);
+        }
+
+        private void rollWindow(Instant now, Duration window) {
+            if (!now.isBefore(windowStart.plus(window))) {
+                windowStart = now;
+                used = 0;
+            }
+        }
+
+        private int remaining(int budget) {
+            return budget - used;
+        }
+
+        private boolean isQuarantined(Instant now) {
+            return now.isBefore(quarantinedUntil);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.tispace.dataingestion.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Radix trie over title words. Every node keeps the {@code topK} highest-scoring titles among all words below it,
+ * so a prefix lookup is a walk of at most the prefix length plus a copy of one small array, independent of how
+ * many titles share the prefix. Titles are shared between the nodes that reference them and are released once no
+ * node keeps them. Not thread-safe; see TitleSuggestIndex.
+ */
+final class TitlePrefixTrie {
+
+    // object header and fields of a node, its top array header, and an amortized slot in the parent's children
+    static final int NODE_BYTES = 96;
+    // entry, its UUID and the title String header
+    static final int ENTRY_BYTES = 112;
+    static final int REFERENCE_BYTES = 4;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final int topK;
+    private final long maxBytes;
+    private final Node root = new Node("");
+
+    private long nodes;
+    private long labelChars;
+    private long topSlots;
+    private long entries;
+    private long entryChars;
+
+    TitlePrefixTrie(int topK, long maxBytes) {
+        this.topK = topK;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * A suggestable title. {@code score} orders titles within a prefix, higher first.
+     */
+    static final class Entry {
+        final UUID id;
+        final String title;
+        final long score;
+        private int references;
+
+        Entry(UUID id, String title, long score) {
+            this.id = id;
+            this.title = title;
+            this.score = score;
+        }
+    }
+
+    private static final class Node {
+        String label;
+        Node[] children = NO_CHILDREN;
+        Entry[] top = NO_ENTRIES;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Indexes the entry under {@code word}. When the memory budget does not allow the nodes a new word needs,
+     * the entry is still offered to the prefixes that already exist.
+     *
+     * @return whether the word is fully indexed
+     */
+    boolean add(String word, Entry entry) {
+        Node node = root;
+        int i = 0;
+        while (i < word.length()) {
+            int index = childIndex(node, word.charAt(i));
+            if (index < 0) {
+                if (!hasRoom()) {
+                    return false;
+                }
+                Node leaf = newNode(word.substring(i));
+                offer(leaf, entry);
+                node.children = insert(node.children, -index - 1, leaf);
+                return true;
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, word, i);
+            if (common < child.label.length()) {
+                if (!hasRoom()) {
+                    return false;
+                }
+                child = split(node, index, common);
+            }
+            offer(child, entry);
+            node = child;
+            i += common;
+        }
+        return true;
+    }
+
+    /**
+     * Highest-scoring entries of words starting with {@code prefix}, best first.
+     */
+    List<Entry> find(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int index = childIndex(node, prefix.charAt(i));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, prefix, i);
+            if (i + common == prefix.length()) {
+                return Arrays.asList(child.top.clone());
+            }
+            if (common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            i += common;
+        }
+        return List.of();
+    }
+
+    long nodeCount() {
+        return nodes;
+    }
+
+    long entryCount() {
+        return entries;
+    }
+
+    long estimatedBytes() {
+        return nodes * NODE_BYTES + labelChars * 2 + topSlots * REFERENCE_BYTES + entries * ENTRY_BYTES + entryChars * 2;
+    }
+
+    private boolean hasRoom() {
+        return estimatedBytes() < maxBytes;
+    }
+
+    private Node newNode(String label) {
+        nodes++;
+        labelChars += label.length();
+        return new Node(label);
+    }
+
+    /**
+     * Splits the child's label after {@code common} characters; the new intermediate node covers the same words
+     * as the child, so it starts with the child's top entries.
+     */
+    private Node split(Node parent, int index, int common) {
+        Node child = parent.children[index];
+        Node middle = newNode(child.label.substring(0, common));
+        labelChars -= common;
+        child.label = child.label.substring(common);
+        middle.children = new Node[]{child};
+        middle.top = child.top.clone();
+        topSlots += middle.top.length;
+        for (Entry entry : middle.top) {
+            entry.references++;
+        }
+        parent.children[index] = middle;
+        return middle;
+    }
+
+    private void offer(Node node, Entry entry) {
+        Entry[] top = node.top;
+        int position = top.length;
+        for (int j = 0; j < top.length; j++) {
+            if (top[j].id.equals(entry.id)) {
+                return;
+            }
+            if (position == top.length && entry.score > top[j].score) {
+                position = j;
+            }
+        }
+        if (top.length < topK) {
+            Entry[] grown = new Entry[top.length + 1];
+            System.arraycopy(top, 0, grown, 0, position);
+            System.arraycopy(top, position, grown, position + 1, top.length - position);
+            grown[position] = entry;
+            node.top = grown;
+            topSlots++;
+        } else if (position < top.length) {
+            release(top[top.length - 1]);
+            System.arraycopy(top, position, top, position + 1, top.length - position - 1);
+            top[position] = entry;
+        } else {
+            return;
+        }
+        if (entry.references++ == 0) {
+            entries++;
+            entryChars += entry.title.length();
+        }
+    }
+
+    private void release(Entry entry) {
+        if (--entry.references == 0) {
+            entries--;
+            entryChars -= entry.title.length();
+        }
+    }
+
+    private static int childIndex(Node node, char first) {
+        Node[] children = node.children;
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char c = children[mid].label.charAt(0);
+            if (c < first) {
+                low = mid + 1;
+            } else if (c > first) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static Node[] insert(Node[] children, int position, Node child) {
+        Node[] grown = new Node[children.length + 1];
+        System.arraycopy(children, 0, grown, 0, position);
+        System.arraycopy(children, position, grown, position + 1, children.length - position);
+        grown[position] = child;
+        return grown;
+    }
+
+    private static int commonPrefix(String label, String word, int offset) {
+        int max = Math.min(label.length(), word.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == word.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
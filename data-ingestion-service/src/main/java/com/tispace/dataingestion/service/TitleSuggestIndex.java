@@ -0,0 +1,222 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.contract.ArticleSuggestionDTO;
+import com.tispace.dataingestion.config.ArticleSuggestProperties;
+import com.tispace.dataingestion.domain.enrichment.TextTokenizer;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
+import com.tispace.dataingestion.repository.ArticleTitleRepository;
+import com.tispace.dataingestion.repository.ArticleTitleRepository.ArticleTitle;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Type-ahead over article titles, answered from memory. Every title word is indexed in a {@link TitlePrefixTrie}
+ * scored by publication time, so a prefix returns the newest titles containing a word that starts with it. With
+ * several words, the last one is looked up as a prefix and the earlier ones must each prefix some word of the title.
+ * <p>
+ * Loaded once in the background after startup by streaming titles from the database, then kept current from
+ * {@link ArticlesInsertedEvent} after each ingestion commit. Deleted or retitled articles stay suggestible until
+ * the next restart.
+ */
+@Component
+@Slf4j
+public class TitleSuggestIndex {
+
+    private static final int LOAD_BATCH = 1000;
+
+    private final ArticleTitleRepository articleTitleRepository;
+    private final ArticleSuggestProperties properties;
+    private final TitlePrefixTrie trie;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Timer latency;
+
+    private volatile boolean loaded;
+
+    public TitleSuggestIndex(ArticleTitleRepository articleTitleRepository, ArticleSuggestProperties properties,
+                             MeterRegistry registry) {
+        this.articleTitleRepository = articleTitleRepository;
+        this.properties = properties;
+        this.trie = new TitlePrefixTrie(properties.getTopK(), properties.getMaximumSize().toBytes());
+
+        this.latency = Timer.builder("article_suggest_latency_seconds")
+                .description("Duration of an autocomplete lookup")
+                .publishPercentileHistogram()
+                .register(registry);
+        gauge(registry, "article_suggest_index_bytes", "Estimated heap taken by the autocomplete index", "bytes",
+                TitlePrefixTrie::estimatedBytes);
+        gauge(registry, "article_suggest_index_nodes", "Nodes of the autocomplete trie", "nodes",
+                TitlePrefixTrie::nodeCount);
+        gauge(registry, "article_suggest_index_titles", "Titles kept by at least one autocomplete prefix", "titles",
+                TitlePrefixTrie::entryCount);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        if (!properties.isEnabled()) {
+            log.info("Title autocomplete disabled");
+            return;
+        }
+        Thread.ofPlatform().name("title-suggest-loader").daemon(true).start(this::load);
+    }
+
+    void load() {
+        long start = System.nanoTime();
+        List<ArticleTitle> batch = new ArrayList<>(LOAD_BATCH);
+        int[] titles = {0};
+        try {
+            articleTitleRepository.forEachTitle(properties.getLoadFetchSize(), title -> {
+                batch.add(title);
+                if (batch.size() == LOAD_BATCH) {
+                    titles[0] += addAll(batch);
+                    batch.clear();
+                }
+            });
+            titles[0] += addAll(batch);
+            loaded = true;
+            log.info("Title autocomplete index loaded: {} titles in {} ms, ~{} KB", titles[0],
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), estimatedBytes() / 1024);
+        } catch (DataAccessException e) {
+            log.error("Loading the title autocomplete index failed; suggestions cover only newly ingested articles", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesInserted(ArticlesInsertedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<ArticleTitle> titles = new ArrayList<>(event.articles().size());
+        for (Article article : event.articles()) {
+            titles.add(new ArticleTitle(article.getId(), article.getTitle(), article.getPublishedAt()));
+        }
+        addAll(titles);
+    }
+
+    /**
+     * @param limit at most this many titles; capped at the configured top-k
+     */
+    public List<ArticleSuggestionDTO> suggest(String prefix, int limit) {
+        List<String> words = words(prefix);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        List<TitlePrefixTrie.Entry> candidates;
+        lock.readLock().lock();
+        try {
+            candidates = trie.find(words.getLast());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ArticleSuggestionDTO> suggestions = new ArrayList<>(Math.min(limit, candidates.size()));
+        List<String> required = words.subList(0, words.size() - 1);
+        for (TitlePrefixTrie.Entry candidate : candidates) {
+            if (suggestions.size() == limit) {
+                break;
+            }
+            if (required.isEmpty() || containsWordPrefixes(candidate.title, required)) {
+                suggestions.add(ArticleSuggestionDTO.builder()
+                        .id(candidate.id)
+                        .title(candidate.title)
+                        .publishedAt(fromScore(candidate.score))
+                        .build());
+            }
+        }
+        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return suggestions;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    long estimatedBytes() {
+        return (long) read(TitlePrefixTrie::estimatedBytes);
+    }
+
+    private int addAll(List<ArticleTitle> titles) {
+        lock.writeLock().lock();
+        try {
+            for (ArticleTitle title : titles) {
+                add(title);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return titles.size();
+    }
+
+    private void add(ArticleTitle title) {
+        if (title.id() == null || title.title() == null) {
+            return;
+        }
+        TitlePrefixTrie.Entry entry = new TitlePrefixTrie.Entry(title.id(), title.title(), score(title.publishedAt()));
+        for (String word : new LinkedHashSet<>(words(title.title()))) {
+            trie.add(word, entry);
+        }
+    }
+
+    private List<String> words(String text) {
+        List<String> words = TextTokenizer.tokenize(text);
+        words.replaceAll(word -> word.length() > properties.getMaxWordLength()
+                ? word.substring(0, properties.getMaxWordLength()) : word);
+        return words;
+    }
+
+    private boolean containsWordPrefixes(String title, List<String> prefixes) {
+        Set<String> titleWords = new HashSet<>(words(title));
+        for (String prefix : prefixes) {
+            if (titleWords.stream().noneMatch(word -> word.startsWith(prefix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // articles without a publication date rank below every dated one
+    private static long score(LocalDateTime publishedAt) {
+        return publishedAt != null ? publishedAt.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+    }
+
+    private static LocalDateTime fromScore(long score) {
+        return score != Long.MIN_VALUE ? LocalDateTime.ofEpochSecond(score, 0, ZoneOffset.UTC) : null;
+    }
+
+    private double read(ToDoubleFunction<TitlePrefixTrie> metric) {
+        lock.readLock().lock();
+        try {
+            return metric.applyAsDouble(trie);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void gauge(MeterRegistry registry, String name, String description, String unit,
+                       ToDoubleFunction<TitlePrefixTrie> metric) {
+        Gauge.builder(name, this, index -> index.read(metric))
+                .description(description)
+                .baseUnit(unit)
+                .register(registry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.tispace.dataingestion.web;
+
+import com.tispace.common.exception.RateLimitExceededException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Admits requests through {@link AdaptiveConcurrencyLimiter} before the handler runs, so a shed request does no
+ * database or downstream work and is answered with 429. The units go back when the request completes; a request that
+ * goes on streaming asynchronously (exports, article streams) gives them back when the handler returns, as those are
+ * capped separately.
+ */
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyInterceptor implements AsyncHandlerInterceptor {
+
+    static final String SHED_MESSAGE = "Server is at capacity. Please try again later.";
+
+    private static final String PERMIT_ATTRIBUTE = AdaptiveConcurrencyInterceptor.class.getName() + ".permit";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        AdmissionCost cost = method.getMethodAnnotation(AdmissionCost.class);
+        AdaptiveConcurrencyLimiter.Permit permit =
+                limiter.tryAcquire(method.getMethod().getName(), cost != null ? cost.value() : 1);
+        if (permit == null) {
+            throw new RateLimitExceededException(SHED_MESSAGE);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AdaptiveConcurrencyLimiter.Permit permit = takePermit(request);
+        if (permit != null) {
+            permit.release();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AdaptiveConcurrencyLimiter.Permit permit = takePermit(request);
+        if (permit == null) {
+            return;
+        }
+        if (ex == null && response.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+            permit.complete();
+        } else {
+            permit.release();
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter.Permit takePermit(HttpServletRequest request) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        return (AdaptiveConcurrencyLimiter.Permit) permit;
+    }
+}
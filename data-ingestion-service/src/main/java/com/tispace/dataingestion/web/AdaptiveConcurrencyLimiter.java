@@ -0,0 +1,153 @@
+package com.tispace.dataingestion.web;
+
+import com.tispace.dataingestion.config.AdaptiveConcurrencyProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that follows observed latency, after the gradient algorithm: every completed request compares
+ * its latency with the long-term average of its endpoint, and the limit is scaled by that ratio (between 0.5 and 1,
+ * after {@code rttTolerance}) plus a headroom of its square root, so it grows while latency holds and shrinks when
+ * requests start to queue. Comparing per endpoint keeps a slow summary call from reading as congestion next to cheap
+ * lookups. Requests take as many units as they cost; one that does not fit is shed, except when nothing else is in
+ * flight. Samples taken while less than half the limit was in use say nothing about capacity and leave it as is.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    // the long-term average recovers this much per sample once it trails well behind current latency
+    private static final double BASELINE_DECAY = 0.95;
+
+    private final AdaptiveConcurrencyProperties properties;
+    private final MeterRegistry registry;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Double> baselines = new HashMap<>();
+    private volatile double estimatedLimit;
+
+    public AdaptiveConcurrencyLimiter(AdaptiveConcurrencyProperties properties, MeterRegistry registry) {
+        this(properties, registry, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(AdaptiveConcurrencyProperties properties, MeterRegistry registry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.registry = registry;
+        this.nanoClock = nanoClock;
+        this.estimatedLimit = clamp(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit());
+        Gauge.builder("adaptive_concurrency_limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("Cost units the article API admits at once")
+                .register(registry);
+        Gauge.builder("adaptive_concurrency_in_flight", inFlight, AtomicInteger::get)
+                .description("Cost units of article API requests in flight")
+                .register(registry);
+    }
+
+    /**
+     * Admits a request of the given cost, or returns null when it would go over the limit.
+     */
+    public Permit tryAcquire(String endpoint, int cost) {
+        while (true) {
+            int current = inFlight.get();
+            if (current > 0 && current + cost > limit()) {
+                shedCounter(endpoint).increment();
+                log.debug("Shed {} (cost {}): {} of {} units in flight", endpoint, cost, current, limit());
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + cost)) {
+                return new Permit(endpoint, cost, current + cost, nanoClock.getAsLong());
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) estimatedLimit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(String endpoint, long rttNanos, int inFlightAtStart) {
+        double rtt = Math.max(1, rttNanos);
+        Double previous = baselines.get(endpoint);
+        double alpha = 2.0 / (properties.getLongWindow() + 1);
+        double longRtt = previous == null ? rtt : previous + alpha * (rtt - previous);
+        if (longRtt / rtt > 2) {
+            // a slowdown that has passed keeps the average up; pull it down so the limit can grow again
+            longRtt *= BASELINE_DECAY;
+        }
+        baselines.put(endpoint, longRtt);
+
+        if (inFlightAtStart < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = clamp(properties.getRttTolerance() * longRtt / rtt, MIN_GRADIENT, 1.0);
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        double smoothed = estimatedLimit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+        double limit = clamp(smoothed, properties.getMinLimit(), properties.getMaxLimit());
+        if ((int) limit != (int) estimatedLimit) {
+            log.debug("Concurrency limit {} -> {} ({} latency {}ms, long-term {}ms)", (int) estimatedLimit, (int) limit,
+                    endpoint, rttNanos / 1_000_000, (long) longRtt / 1_000_000);
+        }
+        estimatedLimit = limit;
+    }
+
+    private Counter shedCounter(String endpoint) {
+        return Counter.builder("adaptive_concurrency_shed_total")
+                .description("Article API requests shed at the concurrency limit")
+                .tag("endpoint", endpoint)
+                .register(registry);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Units held by one admitted request, given back exactly once.
+     */
+    public final class Permit {
+
+        private final String endpoint;
+        private final int cost;
+        private final int inFlightAtStart;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String endpoint, int cost, int inFlightAtStart, long startNanos) {
+            this.endpoint = endpoint;
+            this.cost = cost;
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Gives the units back and feeds the request's latency to the limit.
+         */
+        public void complete() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.addAndGet(-cost);
+                onSample(endpoint, nanoClock.getAsLong() - startNanos, inFlightAtStart);
+            }
+        }
+
+        /**
+         * Gives the units back without a latency sample, for requests whose duration says nothing about load:
+         * failures, and responses streamed after the handler returned.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.addAndGet(-cost);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.tispace.dataingestion.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Units of the adaptive concurrency limit a request to this handler takes while it runs; handlers without it cost 1.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AdmissionCost {
+
+    int value();
+}
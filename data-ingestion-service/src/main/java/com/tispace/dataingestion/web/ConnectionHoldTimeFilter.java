@@ -0,0 +1,57 @@
+package com.tispace.dataingestion.web;
+
+import com.tispace.dataingestion.infrastructure.datasource.RequestConnectionUsage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each request held database connections in total, by method and URI pattern
+ * ({@code http_request_connection_hold}). A request served from a cache shows zero; one that keeps a connection
+ * across a remote call shows the whole wait. Work a request hands to other threads, such as streamed exports, is not
+ * counted.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionHoldTimeFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestConnectionUsage.Tally tally = RequestConnectionUsage.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            tally.close();
+            Timer.builder("http_request_connection_hold")
+                    .description("Time a request held database connections, summed over the connections it used")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri(request))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(tally.heldMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -2,12 +2,25 @@ package com.tispace.dataingestion.web.exception;
 
 import com.tispace.common.web.exception.AbstractGlobalExceptionHandler;
 import io.swagger.v3.oas.annotations.Hidden;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 @RestControllerAdvice(basePackages = "com.tispace.dataingestion.controller")
 @Order(Ordered.LOWEST_PRECEDENCE)
 @Hidden
+@Slf4j
 public class GlobalExceptionHandler extends AbstractGlobalExceptionHandler {
+
+    /**
+     * The client went away in the middle of a streamed response, typically an abandoned export. There is nobody
+     * left to send an error body to.
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleDisconnectedClient(AsyncRequestNotUsableException ex) {
+        log.debug("Client disconnected before the response was complete: {}", ex.getMessage());
+    }
 }
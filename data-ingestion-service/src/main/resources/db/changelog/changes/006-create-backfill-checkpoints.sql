@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+--changeset tispace:006-create-backfill-checkpoints
+-- One row per completed backfill window; lets an interrupted backfill resume where it stopped
+CREATE TABLE IF NOT EXISTS backfill_checkpoints (
+    backfill_key TEXT NOT NULL,
+    window_start TIMESTAMP NOT NULL,
+    window_end TIMESTAMP NOT NULL,
+    fetched_count INTEGER NOT NULL,
+    inserted_count INTEGER NOT NULL,
+    completed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (backfill_key, window_start)
+);
@@ -0,0 +1,23 @@
+--liquibase formatted sql
+
+--changeset tispace:007-create-article-topics
+-- Many-to-many membership: an article fetched under several topics is stored once and linked to each topic
+CREATE TABLE IF NOT EXISTS article_topics (
+    article_id UUID NOT NULL REFERENCES articles(id) ON DELETE CASCADE,
+    topic TEXT NOT NULL,
+    published_at TIMESTAMP,
+    PRIMARY KEY (topic, article_id)
+);
+
+--changeset tispace:007-create-article-topics-indexes
+-- Covering index for category listing ordered by publication date
+CREATE INDEX IF NOT EXISTS idx_article_topics_topic_published_at
+    ON article_topics(topic, published_at DESC, article_id);
+CREATE INDEX IF NOT EXISTS idx_article_topics_article_id ON article_topics(article_id);
+
+--changeset tispace:007-seed-article-topics
+INSERT INTO article_topics (article_id, topic, published_at)
+SELECT id, category, published_at
+FROM articles
+WHERE category IS NOT NULL
+ON CONFLICT (topic, article_id) DO NOTHING;
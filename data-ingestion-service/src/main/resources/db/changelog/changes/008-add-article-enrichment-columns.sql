@@ -0,0 +1,11 @@
+--liquibase formatted sql
+
+--changeset tispace:008-add-article-enrichment-columns
+-- Derived fields computed once at ingestion instead of on every read
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS language TEXT;
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS keywords TEXT[];
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS slug TEXT;
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS reading_time_minutes INTEGER;
+
+--changeset tispace:008-add-article-enrichment-indexes
+CREATE INDEX IF NOT EXISTS idx_articles_language_published_at ON articles(language, published_at DESC);
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset tispace:009-add-keyset-pagination-indexes
+-- Composite (sort key, id) indexes backing the (key, id) < (?, ?) seek predicate of cursor pagination.
+-- Ascending indexes serve both directions through backward scans.
+CREATE INDEX IF NOT EXISTS idx_articles_published_at_id ON articles(published_at, id);
+CREATE INDEX IF NOT EXISTS idx_articles_created_at_id ON articles(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_articles_updated_at_id ON articles(updated_at, id);
+-- Superseded by idx_articles_published_at_id, which has it as a prefix
+DROP INDEX IF EXISTS idx_published_at;
+
+--changeset tispace:009-rebuild-article-topics-topic-published-at
+-- Mixed column directions cannot serve ORDER BY published_at DESC, article_id DESC; a uniform ascending
+-- index can, scanned backward, and still serves the offset listing ordered by published_at
+DROP INDEX IF EXISTS idx_article_topics_topic_published_at;
+CREATE INDEX IF NOT EXISTS idx_article_topics_topic_published_at
+    ON article_topics(topic, published_at, article_id);
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset tispace:010-create-article-topic-counts
+-- Per-topic article counters, incremented in the same statement that inserts article_topics rows,
+-- so category listings can report an estimated total without count(*)
+CREATE TABLE IF NOT EXISTS article_topic_counts (
+    topic TEXT PRIMARY KEY,
+    article_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+--changeset tispace:010-seed-article-topic-counts
+INSERT INTO article_topic_counts (topic, article_count)
+SELECT topic, COUNT(*)
+FROM article_topics
+GROUP BY topic
+ON CONFLICT (topic) DO UPDATE SET article_count = EXCLUDED.article_count, updated_at = CURRENT_TIMESTAMP;
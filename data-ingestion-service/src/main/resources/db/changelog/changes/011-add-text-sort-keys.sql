@@ -0,0 +1,20 @@
+--liquibase formatted sql
+
+--changeset tispace:011-add-text-sort-keys
+-- Truncated, case-folded copies of the sortable text columns in byte order ("C" collation):
+-- index entries stay small even for long descriptions and comparisons need no locale-aware collation
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS title_sort_key TEXT COLLATE "C"
+    GENERATED ALWAYS AS (left(lower(title), 64)) STORED;
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS author_sort_key TEXT COLLATE "C"
+    GENERATED ALWAYS AS (left(lower(author), 64)) STORED;
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS description_sort_key TEXT COLLATE "C"
+    GENERATED ALWAYS AS (left(lower(description), 64)) STORED;
+
+--changeset tispace:011-add-sort-indexes
+-- One (sort key, id) index per whitelisted sort field, so offset and cursor listings read rows in index order
+CREATE INDEX IF NOT EXISTS idx_articles_title_sort_key_id ON articles(title_sort_key, id);
+CREATE INDEX IF NOT EXISTS idx_articles_author_sort_key_id ON articles(author_sort_key, id);
+CREATE INDEX IF NOT EXISTS idx_articles_description_sort_key_id ON articles(description_sort_key, id);
+CREATE INDEX IF NOT EXISTS idx_articles_category_id ON articles(category, id);
+-- Superseded by idx_articles_category_id, which has it as a prefix
+DROP INDEX IF EXISTS idx_category;
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset tispace:012-create-notify-article-changed-function splitStatements:false
+-- Publishes the id of every updated or deleted article on the article_changed channel. Notifications are
+-- delivered on commit; each instance listens and evicts the article from its in-process cache.
+CREATE OR REPLACE FUNCTION notify_article_changed() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('article_changed', OLD.id::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset tispace:012-create-articles-notify-trigger
+DROP TRIGGER IF EXISTS trg_articles_notify_changed ON articles;
+CREATE TRIGGER trg_articles_notify_changed
+AFTER UPDATE OR DELETE ON articles
+FOR EACH ROW EXECUTE FUNCTION notify_article_changed();
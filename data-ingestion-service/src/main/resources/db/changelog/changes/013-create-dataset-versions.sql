@@ -0,0 +1,32 @@
+--liquibase formatted sql
+
+--changeset tispace:013-create-dataset-versions
+-- Monotonic version per listing scope (a topic, or '*' for the unfiltered listing), bumped by ingestion in the
+-- statement that links new articles; list responses derive their ETag from it
+CREATE TABLE IF NOT EXISTS dataset_versions (
+    scope TEXT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+--changeset tispace:013-seed-dataset-versions
+INSERT INTO dataset_versions (scope, version)
+SELECT topic, 1 FROM article_topic_counts
+UNION ALL
+SELECT '*', 1
+ON CONFLICT (scope) DO NOTHING;
+
+--changeset tispace:013-create-notify-dataset-version-function splitStatements:false
+-- Publishes 'scope=version' on the dataset_version channel on commit, so every instance learns new versions
+CREATE OR REPLACE FUNCTION notify_dataset_version() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('dataset_version', NEW.scope || '=' || NEW.version);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset tispace:013-create-dataset-versions-notify-trigger
+DROP TRIGGER IF EXISTS trg_dataset_versions_notify ON dataset_versions;
+CREATE TRIGGER trg_dataset_versions_notify
+AFTER INSERT OR UPDATE ON dataset_versions
+FOR EACH ROW EXECUTE FUNCTION notify_dataset_version();
@@ -0,0 +1,19 @@
+--liquibase formatted sql
+
+--changeset tispace:014-add-article-search-vector
+-- Full-text search document: title weighted A, description weighted B, English stemming. Written by
+-- ArticleBatchRepository in the insert statement itself rather than by a trigger, so the bulk path pays one
+-- expression per row and nothing else; must stay in step with ArticleBatchRepository.SEARCH_VECTOR.
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+--changeset tispace:014-backfill-article-search-vector
+-- The content of existing rows does not change, so cached copies need no eviction
+ALTER TABLE articles DISABLE TRIGGER trg_articles_notify_changed;
+UPDATE articles
+SET search_vector = setweight(to_tsvector('english', coalesce(title, '')), 'A')
+                 || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+WHERE search_vector IS NULL;
+ALTER TABLE articles ENABLE TRIGGER trg_articles_notify_changed;
+
+--changeset tispace:014-add-article-search-vector-index
+CREATE INDEX IF NOT EXISTS idx_articles_search_vector ON articles USING GIN (search_vector);
@@ -0,0 +1,26 @@
+--liquibase formatted sql
+
+--changeset tispace:015-create-article-facets
+-- Articles per scope and publication day, where the scope is a topic or '*' for all articles. Incremented by
+-- ArticleBatchRepository in the statement that links new articles to topics, so facet counts and the daily
+-- histogram are read without aggregating articles. Articles without a publication date are not counted.
+CREATE TABLE IF NOT EXISTS article_facets (
+    scope TEXT NOT NULL,
+    day DATE NOT NULL,
+    article_count BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (scope, day)
+);
+
+--changeset tispace:015-seed-article-facets
+INSERT INTO article_facets (scope, day, article_count)
+SELECT topic, published_at::date, COUNT(*)
+FROM article_topics
+WHERE published_at IS NOT NULL
+GROUP BY topic, published_at::date
+UNION ALL
+SELECT '*', published_at::date, COUNT(*)
+FROM articles
+WHERE published_at IS NOT NULL
+GROUP BY published_at::date
+ON CONFLICT (scope, day) DO UPDATE SET article_count = EXCLUDED.article_count, updated_at = CURRENT_TIMESTAMP;
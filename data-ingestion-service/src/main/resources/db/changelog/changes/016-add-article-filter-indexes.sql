@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset tispace:016-add-article-filter-indexes
+-- Author listings within a publication range, newest first: equality on the author sort key, then a range and
+-- order on (published_at, id). Category and date filters are served by idx_article_topics_topic_published_at
+-- (single category) and idx_articles_published_at_id with the article_topics primary key (several categories).
+CREATE INDEX IF NOT EXISTS idx_articles_author_sort_key_published_at_id
+    ON articles(author_sort_key, published_at, id);
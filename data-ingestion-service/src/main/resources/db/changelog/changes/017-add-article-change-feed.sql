@@ -0,0 +1,12 @@
+--liquibase formatted sql
+
+--changeset tispace:017-add-articles-inserted-xid
+-- Transaction that inserted the article, the position of the row in the change feed. Ordered by (inserted_xid, id)
+-- and read only below the xmin of the reading snapshot, every row is seen once and in an order that a later commit
+-- can no longer slip into. Existing rows get 0, so they all precede the first feed position; the constant default
+-- is set first so that adding the column does not rewrite the table.
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS inserted_xid xid8 NOT NULL DEFAULT '0';
+ALTER TABLE articles ALTER COLUMN inserted_xid SET DEFAULT pg_current_xact_id();
+
+--changeset tispace:017-add-articles-inserted-xid-index
+CREATE INDEX IF NOT EXISTS idx_articles_inserted_xid_id ON articles(inserted_xid, id);
@@ -0,0 +1,40 @@
+package com.tispace.dataingestion.application.pagination;
+
+import com.tispace.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleChangeCursorTest {
+
+    private static final UUID ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+
+    @Test
+    void encodeDecode_roundTripsUnsignedXid() {
+        ArticleChangeCursor cursor = new ArticleChangeCursor(-2L, ID);
+
+        assertEquals(cursor, ArticleChangeCursor.decode(cursor.encode()));
+        assertEquals(ArticleChangeCursor.before(880), ArticleChangeCursor.decode(ArticleChangeCursor.before(880).encode()));
+    }
+
+    @Test
+    void decode_garbageOrSearchCursor_throwsBusinessException() {
+        String searchCursor = ArticleSearchCursor.after("chips", null, 0.5f, ID).encode();
+
+        assertThrows(BusinessException.class, () -> ArticleChangeCursor.decode("not a cursor"));
+        assertThrows(BusinessException.class, () -> ArticleChangeCursor.decode(searchCursor));
+    }
+
+    @Test
+    void compareTo_ordersLikePostgresXid8AndUuid() {
+        UUID highBit = UUID.fromString("f0000000-0000-7000-8000-000000000000");
+
+        assertTrue(new ArticleChangeCursor(5, highBit).isAfter(new ArticleChangeCursor(5, ID)));
+        assertTrue(new ArticleChangeCursor(-1L, ID).isAfter(new ArticleChangeCursor(Long.MAX_VALUE, highBit)));
+        assertTrue(new ArticleChangeCursor(5, ID).isAfter(ArticleChangeCursor.before(5)));
+        assertTrue(ArticleChangeCursor.before(6).isAfter(new ArticleChangeCursor(5, highBit)));
+        assertFalse(ArticleChangeCursor.before(5).isAfter(ArticleChangeCursor.before(5)));
+    }
+}
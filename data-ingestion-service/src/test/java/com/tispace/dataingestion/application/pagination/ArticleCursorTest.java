@@ -0,0 +1,67 @@
+package com.tispace.dataingestion.application.pagination;
+
+import com.tispace.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleCursorTest {
+
+    private static final UUID ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+
+    @Test
+    void encodeDecode_roundTripsAllFields() {
+        ArticleCursor cursor = new ArticleCursor(KeysetSortField.PUBLISHED_AT, Sort.Direction.DESC, "tech|ai",
+                false, LocalDateTime.of(2025, 1, 18, 10, 0, 0, 123456000), ID);
+
+        ArticleCursor decoded = ArticleCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void encodeDecode_nullKeyAndNoCategory() {
+        ArticleCursor cursor = new ArticleCursor(KeysetSortField.PUBLISHED_AT, Sort.Direction.ASC, null, true, null, ID);
+
+        ArticleCursor decoded = ArticleCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertTrue(decoded.nullKeys());
+    }
+
+    @Test
+    void decode_garbage_throwsBusinessException() {
+        assertThrows(BusinessException.class, () -> ArticleCursor.decode("not a cursor"));
+        assertThrows(BusinessException.class, () -> ArticleCursor.decode("djJ8Zm9v"));
+    }
+
+    @Test
+    void requireMatches_differentSortOrCategory_throwsBusinessException() {
+        ArticleCursor cursor = new ArticleCursor(KeysetSortField.CREATED_AT, Sort.Direction.DESC, "tech", false,
+                LocalDateTime.of(2025, 1, 18, 10, 0), ID);
+
+        assertDoesNotThrow(() -> cursor.requireMatches(KeysetSortField.CREATED_AT, Sort.Direction.DESC, "tech"));
+        assertThrows(BusinessException.class,
+                () -> cursor.requireMatches(KeysetSortField.CREATED_AT, Sort.Direction.ASC, "tech"));
+        assertThrows(BusinessException.class,
+                () -> cursor.requireMatches(KeysetSortField.UPDATED_AT, Sort.Direction.DESC, "tech"));
+        assertThrows(BusinessException.class,
+                () -> cursor.requireMatches(KeysetSortField.CREATED_AT, Sort.Direction.DESC, null));
+    }
+
+    @Test
+    void sortField_from_rejectsFieldsWithoutKeysetIndex() {
+        assertEquals(KeysetSortField.PUBLISHED_AT, KeysetSortField.from(Sort.by(Sort.Direction.DESC, "publishedAt")));
+        assertEquals(KeysetSortField.ID, KeysetSortField.from(Sort.by(Sort.Direction.ASC, "id")));
+
+        assertEquals(KeysetSortField.TITLE, KeysetSortField.from(Sort.by(Sort.Direction.ASC, "title")));
+
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> KeysetSortField.from(Sort.by(Sort.Direction.ASC, "slug")));
+        assertTrue(e.getMessage().contains("author, category, createdAt, description, id, publishedAt, title, updatedAt"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.tispace.dataingestion.application.pagination;
+
+import com.tispace.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleSearchCursorTest {
+
+    private static final UUID ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+
+    @Test
+    void encodeDecode_roundTripsRankExactly() {
+        ArticleSearchCursor cursor = ArticleSearchCursor.after("electric vehicles", "tech|ai", 0.1f / 3, ID);
+
+        ArticleSearchCursor decoded = ArticleSearchCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(Float.floatToIntBits(0.1f / 3), Float.floatToIntBits(decoded.rank()));
+    }
+
+    @Test
+    void encodeDecode_noCategoryAndNegativeHash() {
+        ArticleSearchCursor cursor = new ArticleSearchCursor(-42, null, 1.5f, ID);
+
+        assertEquals(cursor, ArticleSearchCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_garbageOrListingCursor_throwsBusinessException() {
+        String listingCursor = new ArticleCursor(KeysetSortField.ID, org.springframework.data.domain.Sort.Direction.DESC,
+                null, false, null, ID).encode();
+        String nanRank = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("s1|2a|NaN|" + ID + "|").getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BusinessException.class, () -> ArticleSearchCursor.decode("not a cursor"));
+        assertThrows(BusinessException.class, () -> ArticleSearchCursor.decode(listingCursor));
+        assertThrows(BusinessException.class, () -> ArticleSearchCursor.decode(nanRank));
+    }
+
+    @Test
+    void requireMatches_differentQueryOrCategory_throwsBusinessException() {
+        ArticleSearchCursor cursor = ArticleSearchCursor.after("chips", "tech", 0.5f, ID);
+
+        assertDoesNotThrow(() -> cursor.requireMatches("chips", "tech"));
+        assertThrows(BusinessException.class, () -> cursor.requireMatches("chip", "tech"));
+        assertThrows(BusinessException.class, () -> cursor.requireMatches("chips", null));
+    }
+}
@@ -0,0 +1,44 @@
+package com.tispace.dataingestion.application.validation;
+
+import com.tispace.common.exception.BusinessException;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticleFieldsParserTest {
+
+    private final ArticleFieldsParser parser = new ArticleFieldsParser();
+
+    @Test
+    void parse_blank_returnsAllFields() {
+        assertSame(ArticleFields.ALL, parser.parse(null));
+        assertSame(ArticleFields.ALL, parser.parse(" "));
+        assertSame(ArticleFields.ALL, parser.parse(String.join(",", ArticleFields.PROPERTIES)));
+    }
+
+    @Test
+    void parse_list_addsIdAndKeepsDeclarationOrder() {
+        ArticleFields fields = parser.parse(" publishedAt ,title,title");
+
+        assertEquals("id,title,publishedAt", fields.toString());
+        assertEquals(ArticleFields.of(List.of("title", "publishedAt")), fields);
+        assertTrue(fields.includes("id"));
+        assertFalse(fields.includes("description"));
+    }
+
+    @Test
+    void parse_invalidInput_throws() {
+        assertThrows(BusinessException.class, () -> parser.parse("title,password"));
+        assertThrows(BusinessException.class, () -> parser.parse("title,,author"));
+        assertThrows(BusinessException.class, () -> parser.parse("title,"));
+        assertThrows(BusinessException.class, () -> parser.parse("Title"));
+        assertThrows(BusinessException.class, () -> parser.parse("title,".repeat(40)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.tispace.dataingestion.application.validation;
+
+import com.tispace.common.exception.BusinessException;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticleFilterParserTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 18, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 1, 19, 0, 0);
+
+    private final ArticleFilterParser parser = new ArticleFilterParser();
+
+    @Test
+    void parse_nothing_returnsUnfilteredListing() {
+        assertEquals(ArticleFilter.NONE, parser.parse(null, null, null, null));
+        assertEquals(ArticleFilter.NONE, parser.parse(List.of(" ", ""), null, null, " "));
+        assertNull(ArticleFilter.NONE.key());
+    }
+
+    @Test
+    void parse_categories_splitsTrimsSortsAndDeduplicates() {
+        ArticleFilter filter = parser.parse(List.of("technology, science", " technology"), null, null, null);
+
+        assertEquals(List.of("science", "technology"), filter.categories());
+        assertNull(filter.category());
+        assertFalse(filter.isCategoryOnly());
+        assertEquals(filter, parser.parse(List.of("science", "technology"), null, null, null));
+    }
+
+    @Test
+    void parse_singleCategory_keepsCategoryListingKey() {
+        ArticleFilter filter = parser.parse(List.of(" technology "), null, null, null);
+
+        assertEquals(ArticleFilter.category("technology"), filter);
+        assertTrue(filter.isCategoryOnly());
+        assertEquals("technology", filter.key());
+    }
+
+    @Test
+    void parse_dateRangeAndAuthor_areAnotherListing() {
+        ArticleFilter filter = parser.parse(List.of("technology"), FROM, TO, " Jane Doe ");
+
+        assertEquals("technology", filter.category());
+        assertEquals("Jane Doe", filter.author());
+        assertFalse(filter.isCategoryOnly());
+        assertTrue(filter.key().startsWith("~"));
+        assertEquals(filter.key(), parser.parse(List.of("technology"), FROM, TO, "Jane Doe").key());
+    }
+
+    @Test
+    void parse_outOfBounds_throws() {
+        List<String> eleven = IntStream.range(0, ArticleFilterParser.MAX_CATEGORIES + 1).mapToObj(i -> "c" + i).toList();
+
+        assertThrows(BusinessException.class, () -> parser.parse(eleven, null, null, null));
+        assertThrows(BusinessException.class, () -> parser.parse(List.of(String.join(",", eleven)), null, null, null));
+        assertThrows(BusinessException.class, () -> parser.parse(List.of("x".repeat(101)), null, null, null));
+        assertThrows(BusinessException.class, () -> parser.parse(null, TO, FROM, null));
+        assertThrows(BusinessException.class, () -> parser.parse(null, FROM, FROM, null));
+        assertThrows(BusinessException.class, () -> parser.parse(null, null, null, "x".repeat(201)));
+        assertEquals(ArticleFilter.NONE, parser.parse(Collections.singletonList(null), null, null, null));
+    }
+}
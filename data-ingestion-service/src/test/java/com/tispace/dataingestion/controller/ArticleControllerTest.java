@@ -1,40 +1,96 @@
 package com.tispace.dataingestion.controller;
 
+import com.tispace.common.contract.ArticleBatchItemDTO;
+import com.tispace.common.contract.ArticleChangesDTO;
 import com.tispace.common.contract.ArticleDTO;
+import com.tispace.common.contract.ArticleFacetsDTO;
+import com.tispace.common.contract.ArticleSuggestionDTO;
+import com.tispace.common.contract.CategoryArticlesDTO;
+import com.tispace.common.contract.CursorPageDTO;
+import com.tispace.common.exception.BusinessException;
 import com.tispace.common.exception.NotFoundException;
+import com.tispace.dataingestion.application.export.ExportFormat;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.ArticleChangeCursor;
+import com.tispace.dataingestion.application.pagination.CountMode;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.application.validation.ArticleFieldsParser;
+import com.tispace.dataingestion.application.validation.ArticleFilterParser;
 import com.tispace.dataingestion.application.validation.SortStringParser;
 import com.tispace.dataingestion.client.QueryServiceClient;
+import com.tispace.dataingestion.config.ArticleCacheProperties;
+import com.tispace.dataingestion.config.ArticleExportProperties;
+import com.tispace.dataingestion.config.SecureObjectMapperConfig;
+import com.tispace.dataingestion.repository.ArticleExportRepository;
+import com.tispace.dataingestion.repository.DatasetVersionRepository;
+import com.tispace.dataingestion.service.DatasetVersions;
+import com.tispace.dataingestion.service.TitleSuggestIndex;
+import com.tispace.dataingestion.service.ArticleChangeFeed;
+import com.tispace.dataingestion.service.ArticleExportMetrics;
+import com.tispace.dataingestion.service.ArticleExportService;
+import com.tispace.dataingestion.service.ArticleFacets;
 import com.tispace.dataingestion.service.ArticleQueryService;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.SortHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +107,41 @@ class ArticleControllerTest {
 	@Mock
 	private SortStringParser sortStringParser;
 	
+	@Spy
+	private ArticleFieldsParser articleFieldsParser = new ArticleFieldsParser();
+	
+	@Spy
+	private ArticleFilterParser articleFilterParser = new ArticleFilterParser();
+	
+	@Mock
+	private TitleSuggestIndex titleSuggestIndex;
+	
+	@Mock
+	private ArticleFacets articleFacets;
+	
+	@Mock
+	private ArticleExportService articleExportService;
+	
+	@Mock
+	private ArticleResponseCache articleResponseCache;
+	
+	@Mock
+	private ArticleChangeFeed articleChangeFeed;
+	
+	@Spy
+	private RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+		.limitForPeriod(10)
+		.limitRefreshPeriod(Duration.ofMinutes(1))
+		.timeoutDuration(Duration.ZERO)
+		.build());
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	private final DatasetVersions datasetVersions = new DatasetVersions(mock(DatasetVersionRepository.class));
+	
+	@Spy
+	private ArticleEtags articleEtags = new ArticleEtags(datasetVersions, new ArticleCacheProperties(), meterRegistry);
+	
 	@InjectMocks
 	private ArticleController articleController;
 	
@@ -89,13 +180,14 @@ class ArticleControllerTest {
 		articles.add(mockArticleDTO);
 		Page<ArticleDTO> page = new PageImpl<>(articles, PageRequest.of(0, 20), 1);
 		
-		when(articleQueryService.getArticlesDTO(any(Pageable.class), any())).thenReturn(page);
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), any(), eq(CountMode.EXACT), any())).thenReturn(page);
 		
 		mockMvc.perform(get("/api/articles")
 				.param("page", "0")
 				.param("size", "20")
 				.contentType(MediaType.APPLICATION_JSON))
 			.andExpect(status().isOk())
+			.andExpect(header().string("X-Total-Count-Mode", "exact"))
 			.andExpect(jsonPath("$.content").isArray())
 			.andExpect(jsonPath("$.content[0].title").value("Test Article"));
 	}
@@ -106,7 +198,7 @@ class ArticleControllerTest {
 		articles.add(mockArticleDTO);
 		Page<ArticleDTO> page = new PageImpl<>(articles, PageRequest.of(0, 20), 1);
 		
-		when(articleQueryService.getArticlesDTO(any(Pageable.class), eq("technology"))).thenReturn(page);
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), eq(ArticleFilter.category("technology")), eq(CountMode.EXACT), any())).thenReturn(page);
 		
 		mockMvc.perform(get("/api/articles")
 				.param("page", "0")
@@ -117,6 +209,99 @@ class ArticleControllerTest {
 			.andExpect(jsonPath("$.content").isArray());
 	}
 	
+	@Test
+	void testGetArticles_WithCategoriesDateRangeAndAuthor_PassesOneFilter() throws Exception {
+		Page<ArticleDTO> page = new PageImpl<>(List.of(mockArticleDTO), PageRequest.of(0, 20), 1);
+		ArticleFilter filter = ArticleFilter.of(List.of("science", "technology"), LocalDateTime.of(2025, 1, 18, 0, 0),
+			LocalDateTime.of(2025, 1, 19, 0, 0), "Jane Doe");
+		
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), eq(filter), eq(CountMode.EXACT), any())).thenReturn(page);
+		
+		mockMvc.perform(get("/api/articles")
+				.param("category", "technology", "science")
+				.param("publishedFrom", "2025-01-18T00:00:00")
+				.param("publishedTo", "2025-01-19T00:00:00")
+				.param("author", " Jane Doe ")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[0].title").value("Test Article"));
+	}
+	
+	@Test
+	void testGetArticles_EmptyDateRange_Returns400() throws Exception {
+		mockMvc.perform(get("/api/articles")
+				.param("publishedFrom", "2025-01-19T00:00:00")
+				.param("publishedTo", "2025-01-18T00:00:00")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isBadRequest());
+		
+		verify(articleQueryService, never()).getArticlesDTO(any(Pageable.class), any(), any(), any());
+	}
+	
+	@Test
+	void testGetArticles_WithCursor_UsesKeysetPagination() throws Exception {
+		CursorPageDTO<ArticleDTO> page = CursorPageDTO.<ArticleDTO>builder()
+			.content(List.of(mockArticleDTO))
+			.size(1)
+			.hasNext(true)
+			.nextCursor("next-token")
+			.build();
+		
+		when(articleQueryService.getArticlesByCursor(eq(""), eq(1), any(Sort.class), eq(ArticleFilter.category("technology")), eq(CountMode.NONE), any())).thenReturn(page);
+		
+		mockMvc.perform(get("/api/articles")
+				.param("cursor", "")
+				.param("size", "1")
+				.param("category", "technology")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[0].title").value("Test Article"))
+			.andExpect(jsonPath("$.hasNext").value(true))
+			.andExpect(jsonPath("$.nextCursor").value("next-token"))
+			.andExpect(jsonPath("$.totalElements").doesNotExist())
+			.andExpect(header().string("X-Total-Count-Mode", "none"));
+		
+		verify(articleQueryService, never()).getArticlesDTO(any(Pageable.class), any(), any(), any());
+	}
+	
+	@Test
+	void testGetArticles_CountNone_ReturnsSliceWithoutTotals() throws Exception {
+		Slice<ArticleDTO> slice = new SliceImpl<>(List.of(mockArticleDTO), PageRequest.of(0, 20), true);
+		
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), any(), eq(CountMode.NONE), any())).thenReturn(slice);
+		
+		mockMvc.perform(get("/api/articles")
+				.param("count", "none")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(header().string("X-Total-Count-Mode", "none"))
+			.andExpect(jsonPath("$.content[0].title").value("Test Article"))
+			.andExpect(jsonPath("$.last").value(false))
+			.andExpect(jsonPath("$.totalElements").doesNotExist());
+	}
+	
+	@Test
+	void testGetArticles_CountEstimated_ReturnsPageWithEstimatedTotal() throws Exception {
+		Page<ArticleDTO> page = new PageImpl<>(List.of(mockArticleDTO), PageRequest.of(0, 1), 5000);
+		
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), any(), eq(CountMode.ESTIMATED), any())).thenReturn(page);
+		
+		mockMvc.perform(get("/api/articles")
+				.param("count", "estimated")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(header().string("X-Total-Count-Mode", "estimated"))
+			.andExpect(jsonPath("$.totalElements").value(5000));
+	}
+	
+	@Test
+	void testGetArticles_InvalidCountMode_ReturnsBadRequest() throws Exception {
+		mockMvc.perform(get("/api/articles")
+				.param("count", "approximate")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isBadRequest());
+	}
+	
 	@Test
 	void testGetArticleById_Success() throws Exception {
 		when(articleQueryService.getArticleDTOById(ARTICLE_ID)).thenReturn(mockArticleDTO);
@@ -142,7 +327,7 @@ class ArticleControllerTest {
 	void testGetArticles_EmptyPage_ReturnsEmptyPage() throws Exception {
 		Page<ArticleDTO> emptyPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 20), 0);
 		
-		when(articleQueryService.getArticlesDTO(any(Pageable.class), any())).thenReturn(emptyPage);
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), any(), eq(CountMode.EXACT), any())).thenReturn(emptyPage);
 		
 		mockMvc.perform(get("/api/articles")
 				.param("page", "0")
@@ -159,7 +344,7 @@ class ArticleControllerTest {
 		articles.add(mockArticleDTO);
 		Page<ArticleDTO> page = new PageImpl<>(articles, PageRequest.of(0, 20), 1);
 		
-		when(articleQueryService.getArticlesDTO(any(Pageable.class), eq(""))).thenReturn(page);
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), eq(ArticleFilter.NONE), eq(CountMode.EXACT), any())).thenReturn(page);
 		
 		mockMvc.perform(get("/api/articles")
 				.param("page", "0")
@@ -173,7 +358,7 @@ class ArticleControllerTest {
 	@Test
 	void testGetArticles_ServiceThrowsException_ReturnsError() throws Exception {
 		// No need to stub sortStringParser here since it's already stubbed in setUp
-		when(articleQueryService.getArticlesDTO(any(Pageable.class), any()))
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), any(), eq(CountMode.EXACT), any()))
 			.thenThrow(new RuntimeException("Service error"));
 		
 		mockMvc.perform(get("/api/articles")
@@ -219,7 +404,7 @@ class ArticleControllerTest {
 		articles.add(mockArticleDTO);
 		Page<ArticleDTO> page = new PageImpl<>(articles, PageRequest.of(0, 20), 1);
 		
-		when(articleQueryService.getArticlesDTO(any(Pageable.class), any())).thenReturn(page);
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), any(), eq(CountMode.EXACT), any())).thenReturn(page);
 		
 		mockMvc.perform(get("/api/articles")
 				.contentType(MediaType.APPLICATION_JSON))
@@ -238,6 +423,409 @@ class ArticleControllerTest {
 			.andExpect(status().isNotFound());
 	}
 
+	@Test
+	void testGetArticles_MatchingIfNoneMatch_Returns304WithoutQuery() throws Exception {
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), eq(ArticleFilter.category("technology")), eq(CountMode.EXACT), any()))
+			.thenReturn(new PageImpl<>(List.of(mockArticleDTO), PageRequest.of(0, 20), 1));
+		String etag = mockMvc.perform(get("/api/articles").param("category", "technology"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Cache-Control", "no-cache"))
+			.andReturn().getResponse().getHeader("ETag");
+		
+		mockMvc.perform(get("/api/articles").param("category", "technology").header("If-None-Match", etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("ETag", etag));
+		
+		verify(articleQueryService, times(1)).getArticlesDTO(any(Pageable.class), eq(ArticleFilter.category("technology")), eq(CountMode.EXACT), any());
+		assertEquals(1.0, meterRegistry.get("article_conditional_requests_total")
+			.tag("endpoint", "list").tag("result", "not_modified").counter().count());
+	}
+	
+	@Test
+	void testGetArticles_DatasetVersionAdvanced_ReturnsNewPage() throws Exception {
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), eq(ArticleFilter.category("technology")), eq(CountMode.EXACT), any()))
+			.thenReturn(new PageImpl<>(List.of(mockArticleDTO), PageRequest.of(0, 20), 1));
+		String etag = mockMvc.perform(get("/api/articles").param("category", "technology"))
+			.andReturn().getResponse().getHeader("ETag");
+		
+		datasetVersions.advance("technology", 7);
+		
+		mockMvc.perform(get("/api/articles").param("category", "technology").header("If-None-Match", etag))
+			.andExpect(status().isOk());
+		mockMvc.perform(get("/api/articles").param("category", "business").header("If-None-Match", etag))
+			.andExpect(status().isOk());
+		assertEquals(2.0, meterRegistry.get("article_conditional_requests_total")
+			.tag("endpoint", "list").tag("result", "modified").counter().count());
+	}
+	
+	@Test
+	void testGetArticles_OneOfSeveralCategoriesAdvanced_ReturnsNewPage() throws Exception {
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), eq(ArticleFilter.of(List.of("business", "technology"), null, null, null)),
+			eq(CountMode.EXACT), any()))
+			.thenReturn(new PageImpl<>(List.of(mockArticleDTO), PageRequest.of(0, 20), 1));
+		String etag = mockMvc.perform(get("/api/articles").param("category", "technology,business"))
+			.andReturn().getResponse().getHeader("ETag");
+		
+		// an existing article linked to one category moves that category's version only
+		datasetVersions.advance("business", 3);
+		
+		String newEtag = mockMvc.perform(get("/api/articles").param("category", "technology,business").header("If-None-Match", etag))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader("ETag");
+		assertNotEquals(etag, newEtag);
+		mockMvc.perform(get("/api/articles").param("category", "business,technology").header("If-None-Match", newEtag))
+			.andExpect(status().isNotModified());
+	}
+	
+	@Test
+	void testGetArticleById_MatchingIfNoneMatch_Returns304() throws Exception {
+		when(articleQueryService.getArticleDTOById(ARTICLE_ID)).thenReturn(mockArticleDTO);
+		String etag = mockMvc.perform(get("/api/articles/" + ARTICLE_ID))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Cache-Control", "max-age=86400"))
+			.andReturn().getResponse().getHeader("ETag");
+		
+		mockMvc.perform(get("/api/articles/" + ARTICLE_ID).header("If-None-Match", etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("Cache-Control", "max-age=86400"));
+		
+		mockArticleDTO.setTitle("Edited title");
+		mockMvc.perform(get("/api/articles/" + ARTICLE_ID).header("If-None-Match", etag))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.title").value("Edited title"));
+	}
+
+	@Test
+	void testGetArticles_ResponseCacheServes_WritesThroughCacheWithoutQuerying() throws Exception {
+		when(articleResponseCache.serves(any())).thenReturn(true);
+		
+		mockMvc.perform(get("/api/articles").param("category", "technology").param("count", "none"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("X-Total-Count-Mode", "none"))
+			.andExpect(header().exists("ETag"));
+		mockMvc.perform(get("/api/articles").param("cursor", ""))
+			.andExpect(status().isOk());
+		
+		verify(articleResponseCache).write(any(), eq(ArticleResponseCache.Kind.LIST), any(), any(), any());
+		verify(articleResponseCache).write(any(), eq(ArticleResponseCache.Kind.CURSOR), any(), any(), any());
+		verifyNoInteractions(articleQueryService);
+	}
+	
+	@Test
+	void testGetArticleById_ResponseCacheServes_WritesByContentEtag() throws Exception {
+		when(articleQueryService.getArticleDTOById(ARTICLE_ID)).thenReturn(mockArticleDTO);
+		when(articleResponseCache.serves(any())).thenReturn(true);
+		
+		String etag = mockMvc.perform(get("/api/articles/" + ARTICLE_ID))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader("ETag");
+		
+		verify(articleResponseCache).write(any(), eq(ArticleResponseCache.Kind.DETAIL), eq(etag), any(), any());
+	}
+	
+	@Test
+	void testGetArticles_Fields_ReturnsOnlySelectedProperties() throws Exception {
+		ArticleFields titles = ArticleFields.of(List.of("title"));
+		when(articleQueryService.getArticlesDTO(any(Pageable.class), any(), eq(CountMode.EXACT), eq(titles)))
+			.thenReturn(new PageImpl<>(List.of(mockArticleDTO), PageRequest.of(0, 20), 1));
+		MockMvc sparseMvc = MockMvcBuilders.standaloneSetup(articleController)
+			.setControllerAdvice(new ArticleFieldsAdvice())
+			.setMessageConverters(new MappingJackson2HttpMessageConverter(new SecureObjectMapperConfig().objectMapper()))
+			.build();
+		
+		String fullEtag = mockMvc.perform(get("/api/articles")).andReturn().getResponse().getHeader("ETag");
+		sparseMvc.perform(get("/api/articles").param("fields", "title"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", org.hamcrest.Matchers.not(fullEtag)))
+			.andExpect(jsonPath("$.content[0].id").value(ARTICLE_ID.toString()))
+			.andExpect(jsonPath("$.content[0].title").value("Test Article"))
+			.andExpect(jsonPath("$.content[0].description").doesNotExist())
+			.andExpect(jsonPath("$.content[0].publishedAt").doesNotExist());
+	}
+	
+	@Test
+	void testGetArticles_UnknownField_Returns400() throws Exception {
+		mockMvc.perform(get("/api/articles").param("fields", "title,password"))
+			.andExpect(status().isBadRequest());
+		
+		verifyNoInteractions(articleQueryService);
+	}
+	
+	@Test
+	void testGetArticleById_Fields_ReturnsOnlySelectedProperties() throws Exception {
+		when(articleQueryService.getArticleDTOById(ARTICLE_ID)).thenReturn(mockArticleDTO);
+		MockMvc sparseMvc = MockMvcBuilders.standaloneSetup(articleController)
+			.setControllerAdvice(new ArticleFieldsAdvice())
+			.setMessageConverters(new MappingJackson2HttpMessageConverter(new SecureObjectMapperConfig().objectMapper()))
+			.build();
+		
+		sparseMvc.perform(get("/api/articles/" + ARTICLE_ID).param("fields", "author, category"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.id").value(ARTICLE_ID.toString()))
+			.andExpect(jsonPath("$.author").value("Test Author"))
+			.andExpect(jsonPath("$.category").value("technology"))
+			.andExpect(jsonPath("$.title").doesNotExist());
+	}
+	
+	@Test
+	void testSearchArticles_ReturnsRankedPage() throws Exception {
+		CursorPageDTO<ArticleDTO> page = CursorPageDTO.<ArticleDTO>builder()
+			.content(List.of(mockArticleDTO))
+			.size(20)
+			.hasNext(false)
+			.build();
+		when(articleQueryService.searchArticles("electric vehicles", null, 20, "technology")).thenReturn(page);
+		
+		mockMvc.perform(get("/api/articles/search")
+				.param("q", "electric vehicles")
+				.param("category", "technology"))
+			.andExpect(status().isOk())
+			.andExpect(header().exists("ETag"))
+			.andExpect(jsonPath("$.content[0].id").value(ARTICLE_ID.toString()))
+			.andExpect(jsonPath("$.hasNext").value(false))
+			.andExpect(jsonPath("$.totalElements").doesNotExist());
+	}
+	
+	@Test
+	void testSearchArticles_MissingQuery_Returns400() throws Exception {
+		when(articleQueryService.searchArticles(null, null, 20, null))
+			.thenThrow(new BusinessException("Search query must not be blank"));
+		
+		mockMvc.perform(get("/api/articles/search"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errorCode").value("BUSINESS_ERROR"));
+	}
+	
+	@Test
+	void testSuggestArticles_ReturnsTitlesFromIndex() throws Exception {
+		when(titleSuggestIndex.suggest("elec", 5)).thenReturn(List.of(ArticleSuggestionDTO.builder()
+			.id(ARTICLE_ID)
+			.title("Electric vehicles")
+			.build()));
+		
+		mockMvc.perform(get("/api/articles/suggest").param("prefix", "elec").param("limit", "5"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].id").value(ARTICLE_ID.toString()))
+			.andExpect(jsonPath("$[0].title").value("Electric vehicles"));
+		
+		verifyNoInteractions(articleQueryService);
+	}
+	
+	@Test
+	void testGetTopArticles_ReturnsNewestPerCategory() throws Exception {
+		when(articleQueryService.getTopArticlesPerCategory(3))
+			.thenReturn(List.of(new CategoryArticlesDTO("technology", List.of(mockArticleDTO))));
+		
+		mockMvc.perform(get("/api/articles/top").param("limit", "3"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].category").value("technology"))
+			.andExpect(jsonPath("$[0].articles[0].id").value(ARTICLE_ID.toString()));
+	}
+	
+	@Test
+	void testGetArticleFacets_ReturnsCountsAndRevalidatesByContent() throws Exception {
+		LocalDate day = LocalDate.of(2025, 1, 18);
+		when(articleFacets.get("technology", day, day)).thenReturn(ArticleFacetsDTO.builder()
+			.category("technology")
+			.from(day)
+			.to(day)
+			.total(2)
+			.categories(List.of(new ArticleFacetsDTO.CategoryCount("technology", 2)))
+			.histogram(List.of(new ArticleFacetsDTO.DayCount(day, 2)))
+			.build());
+		
+		String etag = mockMvc.perform(get("/api/articles/facets")
+				.param("category", "technology").param("from", "2025-01-18").param("to", "2025-01-18"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.total").value(2))
+			.andExpect(jsonPath("$.categories[0].category").value("technology"))
+			.andExpect(jsonPath("$.histogram[0].day").value("2025-01-18"))
+			.andReturn().getResponse().getHeader("ETag");
+		
+		mockMvc.perform(get("/api/articles/facets")
+				.param("category", "technology").param("from", "2025-01-18").param("to", "2025-01-18")
+				.header("If-None-Match", etag))
+			.andExpect(status().isNotModified());
+		verifyNoInteractions(articleQueryService);
+	}
+	
+	@Test
+	void testGetArticleFacets_InvalidDate_ReturnsBadRequest() throws Exception {
+		mockMvc.perform(get("/api/articles/facets").param("from", "2025-13-01"))
+			.andExpect(status().isBadRequest());
+		verifyNoInteractions(articleFacets);
+	}
+	
+	@Test
+	void testExportArticles_StreamsGzippedCsvAttachment() throws Exception {
+		ArticleExportRepository repository = mock(ArticleExportRepository.class);
+		doAnswer(invocation -> {
+			invocation.<Consumer<ArticleDTO>>getArgument(4).accept(mockArticleDTO);
+			return null;
+		}).when(repository).forEachArticle(any(), any(), any(), anyInt(), any());
+		ArticleExportService exportService = new ArticleExportService(repository,
+			new SecureObjectMapperConfig().objectMapper(), new ArticleExportMetrics(meterRegistry),
+			new ArticleExportProperties());
+		LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+		when(articleExportService.open(from, null, "technology", ExportFormat.CSV, true))
+			.thenAnswer(invocation -> exportService.open(from, null, "technology", ExportFormat.CSV, true));
+		
+		MvcResult result = mockMvc.perform(get("/api/articles/export")
+				.param("from", "2025-01-01T00:00:00")
+				.param("category", "technology")
+				.param("format", "csv")
+				.header("Accept-Encoding", "gzip, deflate"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		
+		MvcResult streamed = mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+			.andExpect(header().string("Content-Encoding", "gzip"))
+			.andExpect(header().string("Content-Disposition", "attachment; filename=\"articles.csv\""))
+			.andReturn();
+		
+		try (GZIPInputStream in = new GZIPInputStream(
+			new ByteArrayInputStream(streamed.getResponse().getContentAsByteArray()))) {
+			String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			assertTrue(csv.startsWith("id,title,"));
+			assertTrue(csv.contains(ARTICLE_ID + ",Test Article,Test Description,Test Author,"));
+		}
+	}
+	
+	@Test
+	void testExportArticles_InvalidFormat_Returns400() throws Exception {
+		mockMvc.perform(get("/api/articles/export").param("format", "xml"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errorCode").value("BUSINESS_ERROR"));
+		
+		verifyNoInteractions(articleExportService);
+	}
+	
+	@Test
+	void testAcceptsGzip_HonoursQualityZero() {
+		assertTrue(ArticleController.acceptsGzip("gzip"));
+		assertTrue(ArticleController.acceptsGzip("deflate, GZIP;q=0.5"));
+		assertFalse(ArticleController.acceptsGzip(null));
+		assertFalse(ArticleController.acceptsGzip("br, deflate"));
+		assertFalse(ArticleController.acceptsGzip("gzip;q=0"));
+		assertFalse(ArticleController.acceptsGzip("gzip; q=0.000"));
+	}
+	
+	@Test
+	void testExportArticles_RateLimitFallback_ReturnsStructured429() {
+		var response = org.springframework.test.util.ReflectionTestUtils.invokeMethod(
+			articleController,
+			"exportArticlesRateLimitFallback",
+			null,
+			null,
+			"technology",
+			"csv",
+			"gzip",
+			null
+		);
+		
+		org.springframework.http.ResponseEntity<?> entity = (org.springframework.http.ResponseEntity<?>) response;
+		assertEquals(429, entity.getStatusCode().value());
+		assertEquals("/api/articles/export", ((com.tispace.common.contract.ErrorResponseDTO) entity.getBody()).getPath());
+	}
+	
+	@Test
+	void testStreamArticles_LastEventIdTakesPrecedenceOverSince() throws Exception {
+		ArticleChangeCursor lastEvent = new ArticleChangeCursor(42, ARTICLE_ID);
+		when(articleChangeFeed.subscribe("business", lastEvent)).thenReturn(new SseEmitter());
+		
+		mockMvc.perform(get("/api/articles/stream")
+				.param("category", "business")
+				.param("since", ArticleChangeCursor.before(7).encode())
+				.header("Last-Event-ID", lastEvent.encode()))
+			.andExpect(request().asyncStarted());
+		
+		verify(articleChangeFeed).subscribe("business", lastEvent);
+	}
+	
+	@Test
+	void testGetArticleChanges_ReturnsChangesAfterCursor() throws Exception {
+		ArticleChangeCursor since = ArticleChangeCursor.before(7);
+		when(articleChangeFeed.changes(since, "technology", 50)).thenReturn(ArticleChangesDTO.builder()
+			.content(List.of(mockArticleDTO))
+			.hasMore(true)
+			.nextCursor("next")
+			.build());
+		
+		mockMvc.perform(get("/api/articles/changes")
+				.param("since", since.encode())
+				.param("category", "technology")
+				.param("limit", "50"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[0].id").value(ARTICLE_ID.toString()))
+			.andExpect(jsonPath("$.hasMore").value(true))
+			.andExpect(jsonPath("$.nextCursor").value("next"));
+	}
+	
+	@Test
+	void testGetArticleChanges_InvalidCursor_Returns400() throws Exception {
+		mockMvc.perform(get("/api/articles/changes").param("since", "not-a-cursor"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errorCode").value("BUSINESS_ERROR"));
+		
+		verifyNoInteractions(articleChangeFeed);
+	}
+	
+	@Test
+	void testGetArticlesByIds_ReturnsItemsInRequestOrder() throws Exception {
+		UUID missingId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+		when(articleQueryService.getArticleDTOsByIds(List.of(missingId, ARTICLE_ID))).thenReturn(List.of(
+			ArticleBatchItemDTO.builder().id(missingId).found(false).build(),
+			ArticleBatchItemDTO.builder().id(ARTICLE_ID).found(true).article(mockArticleDTO).build()));
+		
+		mockMvc.perform(post("/api/articles/batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"ids\":[\"" + missingId + "\",\"" + ARTICLE_ID + "\"]}"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].id").value(missingId.toString()))
+			.andExpect(jsonPath("$[0].found").value(false))
+			.andExpect(jsonPath("$[0].article").doesNotExist())
+			.andExpect(jsonPath("$[1].found").value(true))
+			.andExpect(jsonPath("$[1].article.title").value("Test Article"));
+	}
+	
+	@Test
+	void testGetArticlesByIds_EmptyList_Returns400() throws Exception {
+		mockMvc.perform(post("/api/articles/batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"ids\":[]}"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+		
+		verifyNoInteractions(articleQueryService);
+	}
+	
+	@Test
+	void testGetArticlesByIds_TakesPermitsByBatchSize() throws Exception {
+		String fortyIds = IntStream.range(0, 40)
+			.mapToObj(i -> "\"" + new UUID(0, i) + "\"")
+			.collect(Collectors.joining(",", "{\"ids\":[", "]}"));
+		
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(post("/api/articles/batch").contentType(MediaType.APPLICATION_JSON).content(fortyIds))
+				.andExpect(status().isOk());
+		}
+		mockMvc.perform(post("/api/articles/batch").contentType(MediaType.APPLICATION_JSON).content(fortyIds))
+			.andExpect(status().isTooManyRequests())
+			.andExpect(jsonPath("$.errorCode").value("RATE_LIMIT_EXCEEDED"));
+		
+		verify(articleQueryService, times(5)).getArticleDTOsByIds(any());
+	}
+	
+	@Test
+	void testBatchPermits_OnePerStartedGroupOfIds() {
+		assertEquals(1, ArticleController.batchPermits(1));
+		assertEquals(1, ArticleController.batchPermits(20));
+		assertEquals(2, ArticleController.batchPermits(21));
+		assertEquals(5, ArticleController.batchPermits(100));
+	}
+	
 	@Test
 	void testGetArticles_RateLimitFallback_ReturnsStructured429() throws Exception {
 		var response = org.springframework.test.util.ReflectionTestUtils.invokeMethod(
@@ -246,7 +834,13 @@ class ArticleControllerTest {
 			0,
 			20,
 			"publishedAt,desc",
-			"technology",
+			List.of("technology"),
+			null,
+			null,
+			null,
+			"exact",
+			null,
+			null,
 			null
 		);
 
@@ -257,12 +851,37 @@ class ArticleControllerTest {
 		assertEquals("/api/articles", ((com.tispace.common.contract.ErrorResponseDTO) entity.getBody()).getPath());
 	}
 
+	@Test
+	void testGetArticlesByCursor_RateLimitFallback_ReturnsStructured429() throws Exception {
+		var response = org.springframework.test.util.ReflectionTestUtils.invokeMethod(
+			articleController,
+			"getArticlesByCursorRateLimitFallback",
+			"",
+			20,
+			"publishedAt,desc",
+			List.of("technology"),
+			null,
+			null,
+			null,
+			"none",
+			null,
+			null,
+			null
+		);
+
+		org.springframework.http.ResponseEntity<?> entity = (org.springframework.http.ResponseEntity<?>) response;
+		assertEquals(429, entity.getStatusCode().value());
+		assertEquals("/api/articles", ((com.tispace.common.contract.ErrorResponseDTO) entity.getBody()).getPath());
+	}
+
 	@Test
 	void testGetArticleById_RateLimitFallback_ReturnsStructured429() throws Exception {
 		var response = org.springframework.test.util.ReflectionTestUtils.invokeMethod(
 			articleController,
 			"getArticleByIdRateLimitFallback",
 			ARTICLE_ID,
+			null,
+			null,
 			null
 		);
 
@@ -272,5 +891,22 @@ class ArticleControllerTest {
 		assertEquals("RATE_LIMIT_EXCEEDED", ((com.tispace.common.contract.ErrorResponseDTO) entity.getBody()).getErrorCode());
 		assertEquals("/api/articles/" + ARTICLE_ID, ((com.tispace.common.contract.ErrorResponseDTO) entity.getBody()).getPath());
 	}
-}
 
+	@Test
+	void testSearchArticles_RateLimitFallback_ReturnsStructured429() throws Exception {
+		var response = org.springframework.test.util.ReflectionTestUtils.invokeMethod(
+			articleController,
+			"searchArticlesRateLimitFallback",
+			"chips",
+			null,
+			20,
+			null,
+			null,
+			null
+		);
+
+		org.springframework.http.ResponseEntity<?> entity = (org.springframework.http.ResponseEntity<?>) response;
+		assertEquals(429, entity.getStatusCode().value());
+		assertEquals("/api/articles/search", ((com.tispace.common.contract.ErrorResponseDTO) entity.getBody()).getPath());
+	}
+}
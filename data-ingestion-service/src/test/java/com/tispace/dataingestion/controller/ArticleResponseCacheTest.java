@@ -0,0 +1,177 @@
+package com.tispace.dataingestion.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.common.exception.NotFoundException;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.config.ArticleResponseCacheProperties;
+import com.tispace.dataingestion.config.SecureObjectMapperConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticleResponseCacheTest {
+
+	private static final String ETAG = "\"3-9f86d081884c7d659a2feaa0c55ad015\"";
+
+	private final ObjectMapper objectMapper = new SecureObjectMapperConfig().objectMapper();
+	private final ArticleResponseCacheProperties properties = new ArticleResponseCacheProperties();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final ArticleResponseCache cache = new ArticleResponseCache(objectMapper, properties, registry);
+
+	private final ArticleDTO article = ArticleDTO.builder()
+		.id(UUID.fromString("01234567-89ab-7def-0123-456789abcdef"))
+		.title("Electric vehicles")
+		.description("Battery prices keep falling. ".repeat(100))
+		.publishedAt(LocalDateTime.of(2025, 1, 18, 10, 0))
+		.category("technology")
+		.build();
+
+	@Test
+	void write_repeatedEtag_serializesOnceAndWritesSameBytes() throws IOException {
+		AtomicInteger serialized = new AtomicInteger();
+		Supplier<ArticleDTO> body = () -> {
+			serialized.incrementAndGet();
+			return article;
+		};
+
+		MockHttpServletResponse first = write(null, ArticleResponseCache.Kind.DETAIL, body);
+		MockHttpServletResponse second = write(null, ArticleResponseCache.Kind.DETAIL, body);
+
+		assertEquals(1, serialized.get());
+		assertArrayEquals(objectMapper.writeValueAsBytes(article), first.getContentAsByteArray());
+		assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+		assertEquals(200, second.getStatus());
+		assertEquals("application/json", second.getContentType());
+		assertEquals("Accept-Encoding", second.getHeader("Vary"));
+		assertNull(second.getHeader("Content-Encoding"));
+		assertEquals(1L, cache.estimatedSize());
+		assertEquals(1.0, registry.get("article_response_cache_encode_seconds").timer().count());
+	}
+
+	@Test
+	void write_followsAcceptEncoding() throws IOException {
+		byte[] json = objectMapper.writeValueAsBytes(article);
+
+		MockHttpServletResponse gzip = write("deflate, gzip;q=0.5", ArticleResponseCache.Kind.DETAIL, () -> article);
+		assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+		assertTrue(gzip.getContentLength() < json.length);
+		assertArrayEquals(json, new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray())).readAllBytes());
+
+		MockHttpServletResponse deflate = write("gzip;q=0, deflate", ArticleResponseCache.Kind.DETAIL, () -> article);
+		assertEquals("deflate", deflate.getHeader("Content-Encoding"));
+		assertArrayEquals(json, inflate(deflate.getContentAsByteArray()));
+
+		MockHttpServletResponse identity = write("br", ArticleResponseCache.Kind.DETAIL, () -> article);
+		assertNull(identity.getHeader("Content-Encoding"));
+		assertArrayEquals(json, identity.getContentAsByteArray());
+
+		double saved = registry.get("article_response_cache_bytes_saved_total").tag("encoding", "gzip").counter().count();
+		assertEquals(json.length - gzip.getContentLength(), saved);
+	}
+
+	@Test
+	void write_bodyBelowMinCompressSize_alwaysIdentity() throws IOException {
+		ArticleDTO small = ArticleDTO.builder().id(article.getId()).title("Short").build();
+
+		MockHttpServletResponse response = write("gzip", ArticleResponseCache.Kind.DETAIL, () -> small);
+
+		assertNull(response.getHeader("Content-Encoding"));
+		assertArrayEquals(objectMapper.writeValueAsBytes(small), response.getContentAsByteArray());
+	}
+
+	@Test
+	void write_sameEtagOfAnotherEndpoint_isSeparateEntry() throws IOException {
+		write(null, ArticleResponseCache.Kind.LIST, () -> article);
+		MockHttpServletResponse cursor = write(null, ArticleResponseCache.Kind.CURSOR, () -> "other");
+
+		assertEquals("\"other\"", cursor.getContentAsString());
+		assertEquals(2L, cache.estimatedSize());
+	}
+
+	@Test
+	void write_failingBody_propagatesAndIsNotCached() throws IOException {
+		assertThrows(NotFoundException.class, () -> write(null, ArticleResponseCache.Kind.DETAIL, () -> {
+			throw new NotFoundException("Article", article.getId());
+		}));
+
+		MockHttpServletResponse response = write(null, ArticleResponseCache.Kind.DETAIL, () -> article);
+		assertArrayEquals(objectMapper.writeValueAsBytes(article), response.getContentAsByteArray());
+	}
+
+	@Test
+	void write_sparseFieldset_serializesOnlySelectedProperties() throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		cache.write(new ServletWebRequest(new MockHttpServletRequest("GET", "/api/articles"), response),
+			ArticleResponseCache.Kind.DETAIL, ETAG, ArticleFields.of(List.of("title")), () -> article);
+
+		assertEquals("{\"id\":\"01234567-89ab-7def-0123-456789abcdef\",\"title\":\"Electric vehicles\"}",
+			response.getContentAsString());
+	}
+
+	@Test
+	void serves_onlyJsonClientsWhileEnabled() {
+		assertTrue(cache.serves(request(null)));
+		assertTrue(cache.serves(request("application/json")));
+		assertTrue(cache.serves(request("text/html, */*;q=0.8")));
+		assertFalse(cache.serves(request("application/xml")));
+		assertFalse(cache.serves(request("not a media type")));
+
+		properties.setEnabled(false);
+		assertFalse(new ArticleResponseCache(objectMapper, properties, new SimpleMeterRegistry()).serves(request(null)));
+	}
+
+	@Test
+	void acceptsEncoding_honoursQualityZero() {
+		assertTrue(ArticleResponseCache.acceptsEncoding("gzip, deflate", "deflate"));
+		assertTrue(ArticleResponseCache.acceptsEncoding("DEFLATE;q=0.1", "deflate"));
+		assertFalse(ArticleResponseCache.acceptsEncoding("deflate;q=0.000", "deflate"));
+		assertFalse(ArticleResponseCache.acceptsEncoding("gzip", "deflate"));
+		assertFalse(ArticleResponseCache.acceptsEncoding(null, "gzip"));
+	}
+
+	private MockHttpServletResponse write(String acceptEncoding, ArticleResponseCache.Kind kind, Supplier<?> body)
+		throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+		if (acceptEncoding != null) {
+			request.addHeader("Accept-Encoding", acceptEncoding);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		cache.write(new ServletWebRequest(request, response), kind, ETAG, ArticleFields.ALL, body);
+		return response;
+	}
+
+	private static ServletWebRequest request(String accept) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+		if (accept != null) {
+			request.addHeader("Accept", accept);
+		}
+		return new ServletWebRequest(request, new MockHttpServletResponse());
+	}
+
+	private static byte[] inflate(byte[] deflated) throws IOException {
+		try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflated))) {
+			return in.readAllBytes();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.tispace.dataingestion.controller;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.common.contract.SummaryDTO;
+import com.tispace.dataingestion.client.QueryServiceClient;
+import com.tispace.dataingestion.config.DataSourcePoolsConfig;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.infrastructure.datasource.RequestConnectionUsage;
+import com.tispace.dataingestion.infrastructure.repository.ArticleRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The summary endpoint reads the article and gives its connection back before calling the query service, so a slow
+ * summary does not hold on to the API pool. Runs with the application's own open-in-view setting, which would
+ * otherwise keep an entity manager bound for the whole request.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+	"security.internal.token=test-token",
+	"query-service.internal-token=test-token",
+	"spring.datasource.url=jdbc:h2:mem:summarydb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+	"spring.liquibase.enabled=false",
+	"scheduler.enabled=false",
+	"external-api.news-api.api-key=test-key"
+})
+class ArticleSummaryConnectionIntegrationTest {
+
+	private static final long SUMMARY_WAIT_MILLIS = 300;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ArticleRepository articleRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	@Qualifier(DataSourcePoolsConfig.API_DATA_SOURCE)
+	private DataSource apiDataSource;
+
+	@MockitoBean
+	private QueryServiceClient queryServiceClient;
+
+	@Test
+	void getArticleSummary_remoteCall_holdsNoConnection() throws Exception {
+		UUID id = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+		Article article = new Article();
+		article.setId(id);
+		article.setTitle("Electric vehicles");
+		article.setPublishedAt(LocalDateTime.of(2025, 1, 18, 10, 0));
+		article.setCategory("technology");
+		articleRepository.save(article);
+
+		HikariDataSource apiPool = apiDataSource.unwrap(HikariDataSource.class);
+		AtomicInteger activeDuringCall = new AtomicInteger(-1);
+		when(queryServiceClient.getArticleSummary(eq(id), any(ArticleDTO.class))).thenAnswer(invocation -> {
+			assertFalse(TransactionSynchronizationManager.isActualTransactionActive(), "transaction open during the remote call");
+			assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty(),
+				"connection or entity manager bound during the remote call: " + TransactionSynchronizationManager.getResourceMap());
+			activeDuringCall.set(apiPool.getHikariPoolMXBean().getActiveConnections());
+			Thread.sleep(SUMMARY_WAIT_MILLIS);
+			return SummaryDTO.builder().articleId(id).summary("Batteries got cheaper.").build();
+		});
+
+		mockMvc.perform(get("/api/articles/{id}/summary", id))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.summary").value("Batteries got cheaper."));
+
+		assertEquals(0, activeDuringCall.get());
+		Timer hold = meterRegistry.get("http_request_connection_hold")
+			.tag("uri", "/api/articles/{id}/summary")
+			.timer();
+		assertEquals(1, hold.count());
+		assertTrue(hold.max(TimeUnit.MILLISECONDS) < SUMMARY_WAIT_MILLIS,
+			"request held connections for " + hold.max(TimeUnit.MILLISECONDS) + "ms");
+	}
+
+	@Test
+	void apiPool_reportsHoldTimeOfRequestConnections() throws SQLException {
+		HikariDataSource apiPool = apiDataSource.unwrap(HikariDataSource.class);
+
+		assertTrue(apiPool.getMetricsTrackerFactory() instanceof RequestConnectionUsage);
+	}
+}
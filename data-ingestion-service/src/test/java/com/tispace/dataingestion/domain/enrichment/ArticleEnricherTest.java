@@ -0,0 +1,77 @@
+package com.tispace.dataingestion.domain.enrichment;
+
+import com.tispace.dataingestion.domain.entity.Article;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleEnricherTest {
+
+    private final ArticleEnricher enricher = new ArticleEnricher();
+
+    @Test
+    void enrich_englishArticle_setsAllDerivedFields() {
+        Article article = article("Nvidia unveils new AI chip for data centers",
+                "The chip is designed for training large models and will ship to data centers in the spring. " +
+                        "Nvidia said the chip doubles training speed.");
+
+        enricher.enrich(article);
+
+        assertEquals("en", article.getLanguage());
+        assertEquals("nvidia-unveils-new-ai-chip-for-data-centers", article.getSlug());
+        assertEquals(1, article.getReadingTimeMinutes());
+        assertEquals("chip", article.getKeywords().getFirst());
+        assertTrue(article.getKeywords().containsAll(List.of("nvidia", "centers", "data", "training")));
+        assertFalse(article.getKeywords().contains("the"));
+        assertTrue(article.getKeywords().size() <= ArticleEnricher.MAX_KEYWORDS);
+    }
+
+    @Test
+    void enrich_germanArticle_detectsGerman() {
+        Article article = article("Die Bahn erhöht die Preise für das Deutschlandticket",
+                "Der Preis für das Ticket wird im nächsten Jahr steigen, wie die Bahn mitteilte.");
+
+        enricher.enrich(article);
+
+        assertEquals("de", article.getLanguage());
+        assertEquals("die-bahn-erhoht-die-preise-fur-das-deutschlandticket", article.getSlug());
+    }
+
+    @Test
+    void enrich_withoutEnoughEvidence_leavesLanguageUnset() {
+        Article article = article("Nvidia H200", null);
+
+        enricher.enrich(article);
+
+        assertNull(article.getLanguage());
+        assertEquals(List.of("h200", "nvidia"), article.getKeywords());
+        assertEquals(1, article.getReadingTimeMinutes());
+    }
+
+    @Test
+    void readingTimeMinutes_roundsUpAndIsAtLeastOne() {
+        assertEquals(1, ArticleEnricher.readingTimeMinutes(0));
+        assertEquals(1, ArticleEnricher.readingTimeMinutes(200));
+        assertEquals(2, ArticleEnricher.readingTimeMinutes(201));
+    }
+
+    @Test
+    void slugify_truncatesAtWordBoundaryAndHandlesSymbolsOnly() {
+        String slug = ArticleEnricher.slugify("word ".repeat(40));
+
+        assertTrue(slug.length() <= ArticleEnricher.MAX_SLUG_LENGTH);
+        assertFalse(slug.endsWith("-"));
+        assertTrue(slug.endsWith("word"));
+        assertNull(ArticleEnricher.slugify("!!! ???"));
+        assertNull(ArticleEnricher.slugify(null));
+    }
+
+    private Article article(String title, String description) {
+        Article article = new Article();
+        article.setTitle(title);
+        article.setDescription(description);
+        return article;
+    }
+}
@@ -0,0 +1,187 @@
+package com.tispace.dataingestion.infrastructure.datasource;
+
+import com.tispace.dataingestion.config.ReadReplicaProperties;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRouterTest {
+
+    private final ReadReplicaProperties properties = new ReadReplicaProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong datasetChanges = new AtomicLong();
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replicaOne = mock(DataSource.class);
+    private final DataSource replicaTwo = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaOneConnection = mock(Connection.class);
+    private final Connection replicaTwoConnection = mock(Connection.class);
+
+    private ReadReplicaRouter router;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replicaOne);
+        replicas.put("replica-2", replicaTwo);
+        router = new ReadReplicaRouter("primary", primary, replicas, properties, datasetChanges::get, registry);
+    }
+
+    @Test
+    void readOnlyConnection_replicasWithinMaxLag_roundRobin() throws SQLException {
+        reportLag(replicaOne, replicaOneConnection, 0.5);
+        reportLag(replicaTwo, replicaTwoConnection, 0.0);
+        router.checkReplicas();
+
+        List<Connection> connections = List.of(connection(), connection(), connection(), connection());
+
+        assertEquals(List.of(replicaOneConnection, replicaTwoConnection, replicaOneConnection, replicaTwoConnection),
+                connections);
+        assertEquals(2.0, routed("replica-1", "replica"));
+        assertEquals(0.5, registry.get("read_replica_lag_seconds").tag("pool", "replica-1").gauge().value());
+    }
+
+    @Test
+    void readOnlyConnection_replicaBehindMaxLag_isSkipped() throws SQLException {
+        properties.setMaxLag(Duration.ofSeconds(5));
+        reportLag(replicaOne, replicaOneConnection, 12.0);
+        reportLag(replicaTwo, replicaTwoConnection, 1.0);
+        router.checkReplicas();
+
+        assertSame(replicaTwoConnection, connection());
+        assertSame(replicaTwoConnection, connection());
+        assertEquals(0.0, registry.get("read_replica_available").tag("pool", "replica-1").gauge().value());
+    }
+
+    @Test
+    void readOnlyConnection_noReplicaAvailable_fallsBackToPrimaryReadOnly() throws SQLException {
+        when(replicaOne.getConnection()).thenThrow(new SQLException("connection refused"));
+        reportLag(replicaTwo, replicaTwoConnection, Double.NaN);
+        router.checkReplicas();
+
+        assertSame(primaryConnection, connection());
+        verify(primaryConnection).setReadOnly(true);
+        assertEquals(1.0, routed("primary", "replicas_unavailable"));
+        assertTrue(Double.isNaN(registry.get("read_replica_lag_seconds").tag("pool", "replica-1").gauge().value()));
+    }
+
+    @Test
+    void readOnlyConnection_beforeFirstCheck_usesPrimary() throws SQLException {
+        assertSame(primaryConnection, connection());
+    }
+
+    @Test
+    void readOnlyConnection_replicaRefusesConnection_fallsBackUntilNextCheck() throws SQLException {
+        reportLag(replicaOne, replicaOneConnection, 0.0);
+        when(replicaTwo.getConnection()).thenThrow(new SQLException("too many clients"));
+        router.checkReplicas();
+        when(replicaOne.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertSame(primaryConnection, connection());
+        assertSame(primaryConnection, connection());
+        assertEquals(2.0, routed("primary", "replicas_unavailable"));
+    }
+
+    @Test
+    void readOnlyConnection_withinReadYourWritesWindow_usesPrimary() throws SQLException {
+        properties.setReadYourWritesWindow(Duration.ofMinutes(1));
+        reportLag(replicaOne, replicaOneConnection, 0.0);
+        reportLag(replicaTwo, replicaTwoConnection, 0.0);
+        router.checkReplicas();
+
+        router.onArticlesInserted(new ArticlesInsertedEvent(List.of()));
+
+        assertSame(primaryConnection, connection());
+        assertEquals(1.0, routed("primary", "read_your_writes"));
+    }
+
+    @Test
+    void onArticlesInserted_windowDisabled_keepsReadingReplicas() throws SQLException {
+        reportLag(replicaOne, replicaOneConnection, 0.0);
+        reportLag(replicaTwo, replicaTwoConnection, 0.0);
+        router.checkReplicas();
+
+        router.onArticlesInserted(new ArticlesInsertedEvent(List.of()));
+
+        assertSame(replicaOneConnection, connection());
+    }
+
+    @Test
+    void readOnlyConnection_datasetVersionMoved_staysOnPrimaryForMaxLag() throws Exception {
+        // stale but within max-lag: it may not have replayed the insert behind the new version yet
+        properties.setMaxLag(Duration.ofMillis(200));
+        reportLag(replicaOne, replicaOneConnection, 0.15);
+        reportLag(replicaTwo, replicaTwoConnection, 0.15);
+        router.checkReplicas();
+        assertSame(replicaOneConnection, connection());
+
+        datasetChanges.incrementAndGet();
+
+        assertSame(primaryConnection, connection());
+        assertSame(primaryConnection, connection());
+        assertEquals(2.0, routed("primary", "version_change"));
+
+        Thread.sleep(250);
+
+        assertSame(replicaTwoConnection, connection());
+    }
+
+    @Test
+    void getConnection_outsideReadOnlyTransaction_usesPrimary() throws SQLException {
+        reportLag(replicaOne, replicaOneConnection, 0.0);
+        reportLag(replicaTwo, replicaTwoConnection, 0.0);
+        router.checkReplicas();
+
+        assertSame(primaryConnection, router.dataSource().getConnection());
+        verify(primaryConnection, never()).setReadOnly(true);
+    }
+
+    // a connection asked for inside a read-only transaction
+    private Connection connection() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return router.dataSource().getConnection();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private double routed(String pool, String reason) {
+        return registry.get("read_replica_routed_total").tag("pool", pool).tag("reason", reason).counter().count();
+    }
+
+    // the lag check borrows a connection from the replica's pool; routing then hands out the same one
+    private static void reportLag(DataSource replica, Connection connection, double lag) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReadReplicaRouter.LAG_SQL)).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getDouble(1)).thenReturn(Double.isNaN(lag) ? 0.0 : lag);
+        when(rs.wasNull()).thenReturn(Double.isNaN(lag));
+    }
+}
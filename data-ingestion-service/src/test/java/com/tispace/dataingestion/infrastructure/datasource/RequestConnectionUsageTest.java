@@ -0,0 +1,73 @@
+package com.tispace.dataingestion.infrastructure.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestConnectionUsageTest {
+
+    private final IMetricsTracker delegateTracker = mock(IMetricsTracker.class);
+    private final IMetricsTracker tracker = tracker("ApiHikariPool");
+
+    @Test
+    void recordConnectionUsage_insideTally_addsUpAndReportsToDelegate() {
+        try (RequestConnectionUsage.Tally tally = RequestConnectionUsage.open()) {
+            tracker.recordConnectionUsageMillis(12);
+            tracker.recordConnectionUsageMillis(30);
+
+            assertEquals(42, tally.heldMillis());
+            assertEquals(2, tally.connections());
+        }
+        verify(delegateTracker).recordConnectionUsageMillis(12);
+        verify(delegateTracker).recordConnectionUsageMillis(30);
+    }
+
+    @Test
+    void recordConnectionUsage_outsideTally_onlyReportsToDelegate() {
+        tracker.recordConnectionUsageMillis(7);
+
+        try (RequestConnectionUsage.Tally tally = RequestConnectionUsage.open()) {
+            assertEquals(0, tally.heldMillis());
+        }
+        verify(delegateTracker).recordConnectionUsageMillis(7);
+    }
+
+    @Test
+    void recordConnectionUsage_nestedTally_countsTowardsOuter() {
+        try (RequestConnectionUsage.Tally outer = RequestConnectionUsage.open()) {
+            tracker.recordConnectionUsageMillis(5);
+            try (RequestConnectionUsage.Tally inner = RequestConnectionUsage.open()) {
+                tracker.recordConnectionUsageMillis(3);
+                assertEquals(3, inner.heldMillis());
+            }
+            tracker.recordConnectionUsageMillis(1);
+
+            assertEquals(9, outer.heldMillis());
+            assertEquals(3, outer.connections());
+        }
+    }
+
+    @Test
+    void recordConnectionUsage_otherPools_countTowardsSameTally() {
+        IMetricsTracker ingestion = tracker("IngestionHikariPool");
+
+        try (RequestConnectionUsage.Tally tally = RequestConnectionUsage.open()) {
+            tracker.recordConnectionUsageMillis(4);
+            ingestion.recordConnectionUsageMillis(6);
+
+            assertEquals(10, tally.heldMillis());
+        }
+    }
+
+    private IMetricsTracker tracker(String poolName) {
+        MetricsTrackerFactory delegate = mock(MetricsTrackerFactory.class);
+        when(delegate.create(any(), any())).thenReturn(delegateTracker);
+        return new RequestConnectionUsage(delegate).create(poolName, null);
+    }
+}
@@ -1,42 +1,66 @@
 package com.tispace.dataingestion.repository;
 
 import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ArticleBatchRepositoryTest {
 
+    private static final String SEARCH_VECTOR =
+            "setweight(to_tsvector('english', coalesce(?, '')), 'A') || " +
+                    "setweight(to_tsvector('english', coalesce(?, '')), 'B')";
+
     @Mock
     private JdbcTemplate jdbcTemplate;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     void batchInsertIgnoreDuplicates_countsSuccessNoInfoAndSkipsFailed() {
-        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate);
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
         List<Article> articles = buildArticles(5);
 
         when(jdbcTemplate.batchUpdate(eq(
-                "INSERT INTO articles (id, title, description, author, published_at, category, created_at, updated_at) " +
-                        "VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                "INSERT INTO articles (id, title, description, author, published_at, category, " +
+                        "language, keywords, slug, reading_time_minutes, search_vector, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + SEARCH_VECTOR + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
                         "ON CONFLICT (title, published_at) DO NOTHING"),
                 any(BatchPreparedStatementSetter.class)))
                 .thenReturn(new int[]{1, 0, Statement.SUCCESS_NO_INFO, 2, Statement.EXECUTE_FAILED});
@@ -45,11 +69,37 @@ class ArticleBatchRepositoryTest {
 
         assertEquals(4, inserted);
         verify(jdbcTemplate, times(1)).batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class));
+        verify(jdbcTemplate, times(1)).update(startsWith("WITH input AS"), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void batchInsertIgnoreDuplicates_publishesOnlyInsertedRows() {
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
+        List<Article> articles = buildArticles(3);
+
+        when(jdbcTemplate.batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[]{1, 0, Statement.SUCCESS_NO_INFO});
+
+        repository.batchInsertIgnoreDuplicates(articles);
+
+        verify(eventPublisher).publishEvent(new ArticlesInsertedEvent(List.of(articles.get(0), articles.get(2))));
+    }
+
+    @Test
+    void batchInsertIgnoreDuplicates_nothingInserted_publishesNothing() {
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
+
+        when(jdbcTemplate.batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[]{0, 0});
+
+        repository.batchInsertIgnoreDuplicates(buildArticles(2));
+
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void batchInsertIgnoreDuplicates_aggregatesResultsAcrossBatches() {
-        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate);
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
         List<Article> articles = buildArticles(60);
 
         when(jdbcTemplate.batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class)))
@@ -64,16 +114,17 @@ class ArticleBatchRepositoryTest {
 
     @Test
     void batchInsertIgnoreDuplicates_whenInputEmptyOrNull_returnsZero() {
-        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate);
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
 
         assertEquals(0, repository.batchInsertIgnoreDuplicates(List.of()));
         assertEquals(0, repository.batchInsertIgnoreDuplicates(null));
         verify(jdbcTemplate, never()).batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class));
+        verify(jdbcTemplate, never()).update(any(String.class), any(PreparedStatementSetter.class));
     }
 
     @Test
     void batchInsertIgnoreDuplicates_assignsIdInRepositoryWhenMissing() {
-        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate);
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
         List<Article> articles = buildArticles(2);
         UUID preSetId = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
         articles.get(1).setId(preSetId);
@@ -87,6 +138,97 @@ class ArticleBatchRepositoryTest {
         assertEquals(preSetId, articles.get(1).getId());
     }
 
+    @Test
+    void multiRowInsertSql_buildsOneValuesTuplePerRow() {
+        assertEquals(
+                "INSERT INTO articles (id, title, description, author, published_at, category, " +
+                        "language, keywords, slug, reading_time_minutes, search_vector, created_at, updated_at) VALUES " +
+                        "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + SEARCH_VECTOR + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP), " +
+                        "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + SEARCH_VECTOR + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                        "ON CONFLICT (title, published_at) DO NOTHING RETURNING id",
+                ArticleBatchRepository.multiRowInsertSql(2));
+    }
+
+    @Test
+    void insertIgnoreDuplicatesReturningIds_splitsStatementsAndCollectsReturnedIds() {
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
+        List<Article> articles = buildArticles(ArticleBatchRepository.MAX_ROWS_PER_STATEMENT + 1);
+        List<String> statements = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            statements.add(sql);
+            // only the trailing single-row statement reports an inserted row
+            if (sql.length() > ArticleBatchRepository.multiRowInsertSql(1).length()) {
+                return null;
+            }
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getObject(1, UUID.class)).thenReturn(articles.getLast().getId());
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(String.class), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+
+        Set<UUID> inserted = repository.insertIgnoreDuplicatesReturningIds(articles);
+
+        assertEquals(2, statements.size());
+        assertEquals(ArticleBatchRepository.multiRowInsertSql(ArticleBatchRepository.MAX_ROWS_PER_STATEMENT), statements.get(0));
+        assertEquals(ArticleBatchRepository.multiRowInsertSql(1), statements.get(1));
+        assertEquals(Set.of(articles.getLast().getId()), inserted);
+        verify(eventPublisher).publishEvent(new ArticlesInsertedEvent(List.of(articles.getLast())));
+        verify(jdbcTemplate, times(1)).update(
+                contains("INSERT INTO article_topics (article_id, topic, published_at)"), any(PreparedStatementSetter.class));
+        assertTrue(articles.stream().allMatch(article -> article.getId() != null));
+    }
+
+    @Test
+    void insertIgnoreDuplicatesReturningIds_bindsTitleAndDescriptionForSearchVector() throws Exception {
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
+        List<Article> articles = buildArticles(2);
+
+        repository.insertIgnoreDuplicatesReturningIds(articles);
+
+        ArgumentCaptor<PreparedStatementSetter> binder = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).query(any(String.class), binder.capture(), any(RowCallbackHandler.class));
+        PreparedStatement ps = mock(PreparedStatement.class);
+        binder.getValue().setValues(ps);
+        verify(ps).setString(11, "title-0");
+        verify(ps).setString(12, "description-0");
+        verify(ps).setString(23, "title-1");
+        verify(ps).setString(24, "description-1");
+    }
+
+    @Test
+    void insertIgnoreDuplicatesReturningIds_countsOnlyInsertedArticlesInAllArticlesFacets() throws Exception {
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
+        List<Article> articles = buildArticles(3);
+        doAnswer(invocation -> {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getObject(1, UUID.class)).thenReturn(articles.get(1).getId());
+            invocation.<RowCallbackHandler>getArgument(2).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(String.class), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+
+        repository.insertIgnoreDuplicatesReturningIds(articles);
+
+        ArgumentCaptor<PreparedStatementSetter> binder = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(contains("INSERT INTO article_facets (scope, day, article_count)"), binder.capture());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(ps.getConnection()).thenReturn(connection);
+        binder.getValue().setValues(ps);
+        verify(connection).createArrayOf("timestamp", new Timestamp[]{Timestamp.valueOf(articles.get(1).getPublishedAt())});
+        verify(ps).setBoolean(6, true);
+    }
+
+    @Test
+    void insertIgnoreDuplicatesReturningIds_whenInputEmpty_skipsDatabase() {
+        ArticleBatchRepository repository = new ArticleBatchRepository(jdbcTemplate, eventPublisher);
+
+        assertTrue(repository.insertIgnoreDuplicatesReturningIds(List.of()).isEmpty());
+        verify(jdbcTemplate, never()).query(any(String.class), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+    }
+
     private List<Article> buildArticles(int count) {
         List<Article> articles = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
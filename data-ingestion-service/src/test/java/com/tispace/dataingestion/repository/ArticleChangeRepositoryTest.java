@@ -0,0 +1,119 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.dataingestion.application.pagination.ArticleChangeCursor;
+import com.tispace.dataingestion.repository.ArticleChangeRepository.ChangePage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleChangeRepositoryTest {
+
+    private static final UUID FIRST = UUID.fromString("01234567-89ab-7def-0123-456789abcde0");
+    private static final UUID SECOND = UUID.fromString("01234567-89ab-7def-0123-456789abcde1");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void head_isBeforeOldestRunningTransaction() {
+        when(jdbcTemplate.queryForObject("SELECT pg_snapshot_xmin(pg_current_snapshot())::text", String.class))
+                .thenReturn("880");
+
+        assertEquals(ArticleChangeCursor.before(880), new ArticleChangeRepository(jdbcTemplate).head());
+    }
+
+    @Test
+    void findAfter_noChanges_movesToHorizon() throws SQLException {
+        List<String> sql = answer("900", List.of());
+
+        ChangePage page = new ArticleChangeRepository(jdbcTemplate)
+                .findAfter(ArticleChangeCursor.before(880), null, null, 10);
+
+        assertTrue(page.changes().isEmpty());
+        assertFalse(page.hasMore());
+        assertEquals(ArticleChangeCursor.before(900), page.next());
+        assertTrue(sql.getFirst().contains("WHERE (a.inserted_xid, a.id) > (?::xid8, ?) AND a.inserted_xid < h.head "
+                + "ORDER BY a.inserted_xid, a.id LIMIT ?"));
+    }
+
+    @Test
+    void findAfter_moreThanLimit_endsAtLastReturnedChange() throws SQLException {
+        answer("900", List.of(new Object[]{"890", FIRST}, new Object[]{"891", SECOND}));
+
+        ChangePage page = new ArticleChangeRepository(jdbcTemplate)
+                .findAfter(ArticleChangeCursor.before(880), null, null, 1);
+
+        assertEquals(1, page.changes().size());
+        assertTrue(page.hasMore());
+        assertEquals(new ArticleChangeCursor(890, FIRST), page.next());
+        assertEquals(List.of("technology"), page.changes().getFirst().topics());
+    }
+
+    @Test
+    void findAfter_untilBeforeHorizonAndCategory_stopsAtUntil() throws SQLException {
+        List<String> sql = answer("900", List.<Object[]>of(new Object[]{"890", FIRST}));
+        ArticleChangeCursor until = ArticleChangeCursor.before(895);
+
+        ChangePage page = new ArticleChangeRepository(jdbcTemplate)
+                .findAfter(ArticleChangeCursor.before(880), until, "technology", 10);
+
+        assertEquals(until, page.next());
+        assertTrue(sql.getFirst().contains("AND (a.inserted_xid, a.id) <= (?::xid8, ?) AND EXISTS "
+                + "(SELECT 1 FROM article_topics m WHERE m.article_id = a.id AND m.topic = ?)"));
+    }
+
+    // feeds the row callback one row per {xid, id}, or the single horizon-only row when there are none
+    private List<String> answer(String head, List<Object[]> rows) throws SQLException {
+        List<String> sql = new ArrayList<>();
+        doAnswer(invocation -> {
+            sql.add(invocation.getArgument(0));
+            RowCallbackHandler handler = invocation.getArgument(1);
+            if (rows.isEmpty()) {
+                handler.processRow(row(head, null, null));
+            }
+            for (Object[] row : rows) {
+                handler.processRow(row(head, (String) row[0], (UUID) row[1]));
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        return sql;
+    }
+
+    private static ResultSet row(String head, String xid, UUID id) throws SQLException {
+        // the row mapper reads the article columns too, which stay unstubbed
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getString(ArticleDtoRowMapper.COLUMN_COUNT + 3)).thenReturn(head);
+        when(rs.getObject(1)).thenReturn(id);
+        if (id != null) {
+            Array topics = mock(Array.class);
+            when(topics.getArray()).thenReturn(new String[]{"technology"});
+            when(rs.getArray(ArticleDtoRowMapper.COLUMN_COUNT + 2)).thenReturn(topics);
+            when(rs.getString(ArticleDtoRowMapper.COLUMN_COUNT + 1)).thenReturn(xid);
+            when(rs.getObject(eq(1), eq(UUID.class))).thenReturn(id);
+        }
+        return rs;
+    }
+}
@@ -0,0 +1,65 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleCountEstimateRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countByTopic_missingCounterRow_isZero() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("tech"))).thenReturn(List.of());
+
+        assertEquals(0L, new ArticleCountEstimateRepository(jdbcTemplate).countByTopic("tech"));
+    }
+
+    @Test
+    void estimateArticles_neverAnalyzed_isEmpty() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class))).thenReturn(List.of(-1L));
+
+        assertTrue(new ArticleCountEstimateRepository(jdbcTemplate).estimateArticles().isEmpty());
+    }
+
+    @Test
+    void estimateArticles_analyzed_returnsReltuples() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class))).thenReturn(List.of(125000L));
+
+        assertEquals(OptionalLong.of(125000L), new ArticleCountEstimateRepository(jdbcTemplate).estimateArticles());
+    }
+
+    @Test
+    void findTopics_listsTopicsWithArticles() {
+        when(jdbcTemplate.queryForList("SELECT topic FROM article_topic_counts WHERE article_count > 0", String.class))
+                .thenReturn(List.of("business", "tech"));
+
+        assertEquals(List.of("business", "tech"), new ArticleCountEstimateRepository(jdbcTemplate).findTopics());
+    }
+
+    @Test
+    void estimateMatching_readsTopPlanRows() {
+        String plan = "[{\"Plan\": {\"Node Type\": \"Index Scan\", \"Plan Rows\": 42, "
+                + "\"Plans\": [{\"Plan Rows\": 7}]}}]";
+        when(jdbcTemplate.queryForList(eq("EXPLAIN (FORMAT JSON) SELECT 1 FROM articles a "
+                        + "WHERE a.author_sort_key = left(lower(?), 64) AND lower(a.author) = lower(?)"),
+                eq(String.class), eq("Jane"), eq("Jane"))).thenReturn(List.of(plan));
+
+        assertEquals(OptionalLong.of(42L), new ArticleCountEstimateRepository(jdbcTemplate)
+                .estimateMatching(ArticleFilter.of(List.of(), null, null, "Jane")));
+    }
+}
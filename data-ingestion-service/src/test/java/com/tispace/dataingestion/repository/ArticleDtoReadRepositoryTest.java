@@ -0,0 +1,224 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleDtoReadRepositoryTest {
+
+    private static final String COLUMNS =
+            "SELECT a.id, a.title, a.description, a.author, a.published_at, a.category, " +
+                    "a.language, a.keywords, a.slug, a.reading_time_minutes, a.created_at, a.updated_at ";
+
+    private static final UUID ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    void findPage_withoutCategory_ordersByWhitelistedColumnsAndSizesFetch() throws SQLException {
+        new ArticleDtoReadRepository(jdbcTemplate)
+                .findPage(ArticleFilter.NONE, Sort.by(Sort.Direction.ASC, "titleSortKey", "id"), 40, 20,
+                        ArticleFields.ALL);
+
+        String sql = COLUMNS + "FROM articles a ORDER BY a.title_sort_key ASC, a.id ASC LIMIT ? OFFSET ?";
+        executeCapturedStatement(sql);
+        verify(statement).setFetchSize(21);
+        verify(statement).setObject(1, 20);
+        verify(statement).setObject(2, 40L);
+    }
+
+    @Test
+    void findPage_withCategory_readsFromTopicIndex() throws SQLException {
+        new ArticleDtoReadRepository(jdbcTemplate)
+                .findPage(ArticleFilter.category("tech"), Sort.by(Sort.Direction.DESC, "publishedAt", "articleId"),
+                        0, 10, ArticleFields.ALL);
+
+        executeCapturedStatement(COLUMNS + "FROM article_topics t JOIN articles a ON a.id = t.article_id " +
+                "WHERE t.topic = ? ORDER BY t.published_at DESC, t.article_id DESC LIMIT ? OFFSET ?");
+        verify(statement).setString(1, "tech");
+    }
+
+    @Test
+    void findPage_unsorted_hasNoOrderBy() throws SQLException {
+        new ArticleDtoReadRepository(jdbcTemplate)
+                .findPage(ArticleFilter.NONE, Sort.unsorted(), 0, 10, ArticleFields.ALL);
+
+        executeCapturedStatement(COLUMNS + "FROM articles a LIMIT ? OFFSET ?");
+    }
+
+    @Test
+    void findPage_sparseFieldset_selectsNullForOtherColumns() throws SQLException {
+        new ArticleDtoReadRepository(jdbcTemplate)
+                .findPage(ArticleFilter.NONE, Sort.unsorted(), 0, 10, ArticleFields.of(List.of("title", "publishedAt")));
+
+        executeCapturedStatement("SELECT a.id, a.title, NULL, NULL, a.published_at, NULL, " +
+                "NULL, NULL, NULL, NULL, NULL, NULL FROM articles a LIMIT ? OFFSET ?");
+    }
+
+    @Test
+    void findPage_categoryWithDateRange_narrowsTopicIndexRange() throws SQLException {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 18, 0, 0);
+        ArticleFilter filter = ArticleFilter.of(List.of("tech"), from, from.plusDays(1), null);
+
+        new ArticleDtoReadRepository(jdbcTemplate).findPage(filter,
+                Sort.by(Sort.Direction.DESC, "publishedAt", "articleId"), 0, 10, ArticleFields.ALL);
+
+        executeCapturedStatement(COLUMNS + "FROM article_topics t JOIN articles a ON a.id = t.article_id " +
+                "WHERE t.topic = ? AND t.published_at >= ? AND t.published_at < ? " +
+                "ORDER BY t.published_at DESC, t.article_id DESC LIMIT ? OFFSET ?");
+        verify(statement).setString(1, "tech");
+        verify(statement).setObject(2, Timestamp.valueOf(from));
+        verify(statement).setObject(3, Timestamp.valueOf(from.plusDays(1)));
+        verify(statement).setObject(4, 10);
+    }
+
+    @Test
+    void findPage_severalCategoriesAndAuthor_semiJoinsTopicsFromArticles() throws SQLException {
+        ArticleFilter filter = ArticleFilter.of(List.of("tech", "science"), null, null, "Jane Doe");
+
+        new ArticleDtoReadRepository(jdbcTemplate).findPage(filter,
+                Sort.by(Sort.Direction.ASC, "titleSortKey", "id"), 0, 10, ArticleFields.ALL);
+
+        executeCapturedStatement(COLUMNS + "FROM articles a WHERE EXISTS (SELECT 1 FROM article_topics m " +
+                "WHERE m.article_id = a.id AND m.topic IN (?, ?)) " +
+                "AND a.author_sort_key = left(lower(?), 64) AND lower(a.author) = lower(?) " +
+                "ORDER BY a.title_sort_key ASC, a.id ASC LIMIT ? OFFSET ?");
+        verify(statement).setString(1, "science");
+        verify(statement).setString(2, "tech");
+        verify(statement).setString(3, "Jane Doe");
+        verify(statement).setString(4, "Jane Doe");
+    }
+
+    @Test
+    void findPage_propertyOutsideWhitelist_throws() {
+        ArticleDtoReadRepository repository = new ArticleDtoReadRepository(jdbcTemplate);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.findPage(ArticleFilter.category("tech"), Sort.by("createdAt"), 0, 10,
+                        ArticleFields.ALL));
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.findPage(ArticleFilter.NONE, Sort.by("title; DROP TABLE articles"), 0, 10,
+                        ArticleFields.ALL));
+    }
+
+    @Test
+    void findById_selectsSingleRow() throws SQLException {
+        new ArticleDtoReadRepository(jdbcTemplate).findById(ID);
+
+        executeCapturedStatement(COLUMNS + "FROM articles a WHERE a.id = ?");
+        verify(statement).setFetchSize(2);
+        verify(statement).setObject(1, ID);
+    }
+
+    @Test
+    void findByIds_looksUpAllIdsWithOneArrayParameter() throws SQLException {
+        UUID other = UUID.randomUUID();
+        Array ids = mock(Array.class);
+        when(connection.createArrayOf(eq("uuid"), any())).thenReturn(ids);
+
+        new ArticleDtoReadRepository(jdbcTemplate).findByIds(List.of(ID, other));
+
+        executeCapturedStatement(COLUMNS + "FROM articles a WHERE a.id = ANY(?)");
+        verify(statement).setFetchSize(3);
+        verify(connection).createArrayOf("uuid", new UUID[]{ID, other});
+        verify(statement).setArray(1, ids);
+    }
+
+    @Test
+    void findByIds_noIds_skipsQuery() {
+        assertEquals(List.of(), new ArticleDtoReadRepository(jdbcTemplate).findByIds(List.of()));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void count_withCategory_countsTopicMemberships() {
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_topics WHERE topic = ?", Long.class, "tech"))
+                .thenReturn(7L);
+
+        assertEquals(7L, new ArticleDtoReadRepository(jdbcTemplate).count(ArticleFilter.category("tech")));
+    }
+
+    @Test
+    void count_withFilter_countsMatchingArticles() {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 18, 0, 0);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM articles a WHERE a.published_at >= ?", Long.class,
+                Timestamp.valueOf(from))).thenReturn(3L);
+
+        assertEquals(3L, new ArticleDtoReadRepository(jdbcTemplate)
+                .count(ArticleFilter.of(List.of(), from, null, null)));
+    }
+
+    @Test
+    void rowMapper_mapsColumnsByPosition() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        Array keywords = mock(Array.class);
+        LocalDateTime publishedAt = LocalDateTime.of(2025, 1, 18, 10, 0);
+        when(rs.getObject(1, UUID.class)).thenReturn(ID);
+        when(rs.getString(2)).thenReturn("Title");
+        when(rs.getTimestamp(5)).thenReturn(Timestamp.valueOf(publishedAt));
+        when(rs.getArray(8)).thenReturn(keywords);
+        // H2 hands back Object[] where PostgreSQL returns String[]
+        when(keywords.getArray()).thenReturn(new Object[]{"ai", "chips"});
+        when(rs.getInt(10)).thenReturn(0);
+        when(rs.wasNull()).thenReturn(true);
+
+        ArticleDTO dto = ArticleDtoRowMapper.INSTANCE.mapRow(rs, 0);
+
+        assertEquals(ID, dto.getId());
+        assertEquals("Title", dto.getTitle());
+        assertEquals(publishedAt, dto.getPublishedAt());
+        assertEquals(List.of("ai", "chips"), dto.getKeywords());
+        assertNull(dto.getReadingTimeMinutes());
+        assertNull(dto.getCreatedAt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executeCapturedStatement(String expectedSql) throws SQLException {
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowMapper.class));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        creator.getValue().createPreparedStatement(connection);
+
+        verify(connection).prepareStatement(eq(expectedSql));
+    }
+}
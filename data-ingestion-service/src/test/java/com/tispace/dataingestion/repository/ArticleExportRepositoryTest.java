@@ -0,0 +1,80 @@
+package com.tispace.dataingestion.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleExportRepositoryTest {
+
+    private static final String COLUMNS =
+            "SELECT a.id, a.title, a.description, a.author, a.published_at, a.category, " +
+                    "a.language, a.keywords, a.slug, a.reading_time_minutes, a.created_at, a.updated_at ";
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    void forEachArticle_withoutFilters_scansAllArticlesInPublicationOrder() throws SQLException {
+        new ArticleExportRepository(jdbcTemplate).forEachArticle(null, null, null, 1000, article -> { });
+
+        executeCapturedStatement(COLUMNS + "FROM articles a ORDER BY a.published_at, a.id");
+        verify(statement).setFetchSize(1000);
+    }
+
+    @Test
+    void forEachArticle_withCategoryAndRange_readsFromTopicIndex() throws SQLException {
+        new ArticleExportRepository(jdbcTemplate).forEachArticle("tech", FROM, TO, 500, article -> { });
+
+        executeCapturedStatement(COLUMNS + "FROM article_topics t JOIN articles a ON a.id = t.article_id " +
+                "WHERE t.topic = ? AND t.published_at >= ? AND t.published_at < ? " +
+                "ORDER BY t.published_at, t.article_id");
+        verify(statement).setFetchSize(500);
+        verify(statement).setString(1, "tech");
+        verify(statement).setObject(2, Timestamp.valueOf(FROM));
+        verify(statement).setObject(3, Timestamp.valueOf(TO));
+    }
+
+    @Test
+    void forEachArticle_withOpenEndedRange_boundsArticlesOnly() throws SQLException {
+        new ArticleExportRepository(jdbcTemplate).forEachArticle(null, FROM, null, 1000, article -> { });
+
+        executeCapturedStatement(COLUMNS + "FROM articles a WHERE a.published_at >= ? ORDER BY a.published_at, a.id");
+    }
+
+    private void executeCapturedStatement(String expectedSql) throws SQLException {
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        creator.getValue().createPreparedStatement(connection);
+
+        verify(connection).prepareStatement(eq(expectedSql));
+    }
+}
@@ -0,0 +1,45 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.dataingestion.repository.ArticleFacetRepository.FacetRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleFacetRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void forEachFacet_mapsScopeDayAndCount() throws Exception {
+        List<FacetRow> rows = new ArrayList<>();
+
+        new ArticleFacetRepository(jdbcTemplate).forEachFacet(rows::add);
+
+        ArgumentCaptor<RowCallbackHandler> handler = ArgumentCaptor.forClass(RowCallbackHandler.class);
+        verify(jdbcTemplate).query(eq("SELECT scope, day, article_count FROM article_facets"), handler.capture());
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn("technology");
+        when(rs.getObject(2, LocalDate.class)).thenReturn(LocalDate.of(2025, 1, 18));
+        when(rs.getLong(3)).thenReturn(42L);
+        handler.getValue().processRow(rs);
+
+        assertEquals(List.of(new FacetRow("technology", LocalDate.of(2025, 1, 18), 42L)), rows);
+    }
+}
@@ -0,0 +1,133 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.KeysetSortField;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleKeysetRepositoryTest {
+
+    private static final String COLUMNS =
+            "SELECT a.id, a.title, a.description, a.author, a.published_at, a.category, " +
+                    "a.language, a.keywords, a.slug, a.reading_time_minutes, a.created_at, a.updated_at ";
+
+    private static final UUID ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+    private static final LocalDateTime KEY = LocalDateTime.of(2025, 1, 18, 10, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findAfter_firstPage_ordersByKeyThenId() {
+        new ArticleKeysetRepository(jdbcTemplate)
+                .findAfter(KeysetSortField.PUBLISHED_AT, Sort.Direction.DESC, ArticleFilter.NONE, null, null, 21,
+                        ArticleFields.ALL);
+
+        verify(jdbcTemplate).query(eq(COLUMNS + "FROM articles a WHERE a.published_at IS NOT NULL " +
+                "ORDER BY a.published_at DESC, a.id DESC LIMIT ?"), eq(ArticleDtoRowMapper.INSTANCE), eq(21));
+    }
+
+    @Test
+    void findAfter_withCursor_usesRowValueSeekPredicate() {
+        new ArticleKeysetRepository(jdbcTemplate)
+                .findAfter(KeysetSortField.CREATED_AT, Sort.Direction.ASC, ArticleFilter.NONE, KEY, ID, 11,
+                        ArticleFields.ALL);
+
+        verify(jdbcTemplate).query(eq(COLUMNS + "FROM articles a WHERE (a.created_at, a.id) > (?, ?) " +
+                "ORDER BY a.created_at ASC, a.id ASC LIMIT ?"), eq(ArticleDtoRowMapper.INSTANCE),
+                eq(Timestamp.valueOf(KEY)), eq(ID), eq(11));
+    }
+
+    @Test
+    void findAfter_categoryByPublishedAt_seeksOverTopicIndex() {
+        new ArticleKeysetRepository(jdbcTemplate)
+                .findAfter(KeysetSortField.PUBLISHED_AT, Sort.Direction.DESC, ArticleFilter.category("tech"),
+                        KEY, ID, 21, ArticleFields.ALL);
+
+        verify(jdbcTemplate).query(eq(COLUMNS + "FROM article_topics t JOIN articles a ON a.id = t.article_id " +
+                "WHERE t.topic = ? AND t.published_at IS NOT NULL AND (t.published_at, t.article_id) < (?, ?) " +
+                "ORDER BY t.published_at DESC, t.article_id DESC LIMIT ?"), eq(ArticleDtoRowMapper.INSTANCE),
+                eq("tech"), eq(Timestamp.valueOf(KEY)), eq(ID), eq(21));
+    }
+
+    @Test
+    void findAfter_categoryWithFieldOutsideTopicIndex_throws() {
+        ArticleKeysetRepository repository = new ArticleKeysetRepository(jdbcTemplate);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.findAfter(KeysetSortField.UPDATED_AT, Sort.Direction.DESC,
+                        ArticleFilter.category("tech"), null, null, 21, ArticleFields.ALL));
+    }
+
+    @Test
+    void findAfter_textField_seeksFromSortKeyOfCursorRow() {
+        new ArticleKeysetRepository(jdbcTemplate)
+                .findAfter(KeysetSortField.TITLE, Sort.Direction.ASC, ArticleFilter.NONE, null, ID, 21,
+                        ArticleFields.ALL);
+
+        verify(jdbcTemplate).query(eq(COLUMNS + "FROM articles a WHERE (a.title_sort_key, a.id) > " +
+                "((SELECT k.title_sort_key FROM articles k WHERE k.id = ?), ?) " +
+                "ORDER BY a.title_sort_key ASC, a.id ASC LIMIT ?"), eq(ArticleDtoRowMapper.INSTANCE),
+                eq(ID), eq(ID), eq(21));
+    }
+
+    @Test
+    void findAfter_byId_seeksOnIdAlone() {
+        new ArticleKeysetRepository(jdbcTemplate)
+                .findAfter(KeysetSortField.ID, Sort.Direction.DESC, ArticleFilter.category("tech"), null, ID, 21,
+                        ArticleFields.ALL);
+
+        verify(jdbcTemplate).query(eq(COLUMNS + "FROM article_topics t JOIN articles a ON a.id = t.article_id " +
+                "WHERE t.topic = ? AND t.article_id < ? ORDER BY t.article_id DESC LIMIT ?"), eq(ArticleDtoRowMapper.INSTANCE),
+                eq("tech"), eq(ID), eq(21));
+    }
+
+    @Test
+    void findAfter_severalCategoriesAndAuthor_seeksOnArticlesWithFilterPredicatesFirst() {
+        ArticleFilter filter = ArticleFilter.of(List.of("tech", "science"), KEY.minusDays(1), null, "Jane Doe");
+
+        new ArticleKeysetRepository(jdbcTemplate).findAfter(KeysetSortField.UPDATED_AT, Sort.Direction.DESC, filter,
+                KEY, ID, 21, ArticleFields.ALL);
+
+        verify(jdbcTemplate).query(eq(COLUMNS + "FROM articles a WHERE EXISTS (SELECT 1 FROM article_topics m " +
+                "WHERE m.article_id = a.id AND m.topic IN (?, ?)) AND a.published_at >= ? " +
+                "AND a.author_sort_key = left(lower(?), 64) AND lower(a.author) = lower(?) " +
+                "AND (a.updated_at, a.id) < (?, ?) ORDER BY a.updated_at DESC, a.id DESC LIMIT ?"), eq(ArticleDtoRowMapper.INSTANCE),
+                eq("science"), eq("tech"), eq(Timestamp.valueOf(KEY.minusDays(1))), eq("Jane Doe"), eq("Jane Doe"),
+                eq(Timestamp.valueOf(KEY)), eq(ID), eq(21));
+    }
+
+    @Test
+    void findWithNullKeyAfter_ordersNullKeyRowsById() {
+        new ArticleKeysetRepository(jdbcTemplate)
+                .findWithNullKeyAfter(KeysetSortField.PUBLISHED_AT, Sort.Direction.DESC, ArticleFilter.NONE, ID, 5,
+                        ArticleFields.ALL);
+
+        verify(jdbcTemplate).query(eq(COLUMNS + "FROM articles a WHERE a.published_at IS NULL " +
+                "AND a.id < ? ORDER BY a.id DESC LIMIT ?"), eq(ArticleDtoRowMapper.INSTANCE), eq(ID), eq(5));
+    }
+
+    @Test
+    void findWithNullKeyAfter_nonNullableField_throws() {
+        ArticleKeysetRepository repository = new ArticleKeysetRepository(jdbcTemplate);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.findWithNullKeyAfter(KeysetSortField.CREATED_AT, Sort.Direction.DESC,
+                        ArticleFilter.NONE, null, 5, ArticleFields.ALL));
+    }
+}
@@ -0,0 +1,77 @@
+package com.tispace.dataingestion.repository;
+
+import com.tispace.common.contract.ArticleDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchRepositoryTest {
+
+    private static final String SELECT =
+            "SELECT a.id, a.title, a.description, a.author, a.published_at, a.category, " +
+                    "a.language, a.keywords, a.slug, a.reading_time_minutes, a.created_at, a.updated_at, " +
+                    "ts_rank_cd(a.search_vector, q.query) AS search_rank " +
+                    "FROM websearch_to_tsquery('english', ?) q(query) JOIN articles a ON a.search_vector @@ q.query";
+
+    private static final UUID ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void search_firstPage_ranksAllMatches() {
+        new ArticleSearchRepository(jdbcTemplate).search("chips", null, 0f, null, 21);
+
+        verifyQuery(SELECT + " ORDER BY search_rank DESC, a.id DESC LIMIT ?", "chips", 21);
+    }
+
+    @Test
+    void search_withCategoryAfterCursor_filtersByTopicAndSeeksPastLastHit() {
+        new ArticleSearchRepository(jdbcTemplate).search("chips", "tech", 0.25f, ID, 11);
+
+        verifyQuery(SELECT + " JOIN article_topics t ON t.article_id = a.id AND t.topic = ?" +
+                        " WHERE (ts_rank_cd(a.search_vector, q.query), a.id) < (?::real, ?)" +
+                        " ORDER BY search_rank DESC, a.id DESC LIMIT ?",
+                "chips", "tech", 0.25f, ID, 11);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_mapsRankAfterArticleColumns() throws SQLException {
+        new ArticleSearchRepository(jdbcTemplate).search("chips", null, 0f, null, 1);
+        ArgumentCaptor<RowMapper<ArticleSearchRepository.Hit>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        verify(jdbcTemplate).query(any(String.class), mapper.capture(), any(Object[].class));
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject(1, UUID.class)).thenReturn(ID);
+        when(rs.getFloat(13)).thenReturn(0.6f);
+
+        ArticleSearchRepository.Hit hit = mapper.getValue().mapRow(rs, 0);
+
+        assertEquals(ID, hit.article().getId());
+        assertEquals(0.6f, hit.rank());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyQuery(String expectedSql, Object... expectedArgs) {
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(eq(expectedSql), any(RowMapper.class), args.capture());
+        assertArrayEquals(expectedArgs, args.getValue());
+    }
+}
@@ -0,0 +1,158 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.config.ArticleCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleByIdCacheTest {
+
+    private static final UUID ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_repeatedId_loadsOnceAndRecordsHits() {
+        ArticleByIdCache cache = new ArticleByIdCache(new ArticleCacheProperties(), registry);
+
+        cache.get(ID, this::load);
+        Optional<ArticleDTO> second = cache.get(ID, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.estimatedSize());
+        assertEquals("Title", second.orElseThrow().getTitle());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", ArticleByIdCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count());
+        assertTrue(registry.get("article_cache_weight_bytes").gauge().value() > 0);
+    }
+
+    @Test
+    void get_missingId_cachesNotFound() {
+        ArticleByIdCache cache = new ArticleByIdCache(new ArticleCacheProperties(), registry);
+
+        assertTrue(cache.get(ID, this::loadMissing).isEmpty());
+        assertTrue(cache.get(ID, this::loadMissing).isEmpty());
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidate_nextGetLoadsAgain() {
+        ArticleByIdCache cache = new ArticleByIdCache(new ArticleCacheProperties(), registry);
+        cache.get(ID, this::load);
+
+        cache.invalidate(ID);
+        cache.get(ID, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_failingLoad_isNotCached() {
+        ArticleByIdCache cache = new ArticleByIdCache(new ArticleCacheProperties(), registry);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(ID, id -> {
+            throw new IllegalStateException("db down");
+        }));
+        cache.get(ID, this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_disabled_alwaysLoads() {
+        ArticleCacheProperties properties = new ArticleCacheProperties();
+        properties.setEnabled(false);
+        ArticleByIdCache cache = new ArticleByIdCache(properties, registry);
+
+        cache.get(ID, this::load);
+        cache.get(ID, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_beyondMaximumSize_evictsByWeight() {
+        ArticleCacheProperties properties = new ArticleCacheProperties();
+        properties.setMaximumSize(DataSize.ofKilobytes(16));
+        ArticleByIdCache cache = new ArticleByIdCache(properties, registry);
+
+        for (int i = 0; i < 200; i++) {
+            cache.get(UUID.randomUUID(), this::load);
+        }
+
+        assertTrue(cache.estimatedSize() < 200);
+        assertTrue(registry.get("article_cache_weight_bytes").gauge().value() <= DataSize.ofKilobytes(16).toBytes());
+    }
+
+    @Test
+    void getAll_loadsOnlyMissesInOneCallAndCachesNotFound() {
+        ArticleByIdCache cache = new ArticleByIdCache(new ArticleCacheProperties(), registry);
+        UUID cached = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        cache.get(cached, this::load);
+        List<Set<UUID>> batches = new ArrayList<>();
+
+        Map<UUID, Optional<ArticleDTO>> first = cache.getAll(List.of(ID, cached, missing), ids -> {
+            batches.add(ids);
+            return Map.of(ID, load(ID).orElseThrow());
+        });
+        Map<UUID, Optional<ArticleDTO>> second = cache.getAll(List.of(ID, missing), ids -> {
+            batches.add(ids);
+            return Map.of();
+        });
+
+        assertEquals(List.of(Set.of(ID, missing)), batches);
+        assertEquals(3, first.size());
+        assertTrue(first.get(cached).isPresent());
+        assertTrue(first.get(missing).isEmpty());
+        assertEquals("Title", second.get(ID).orElseThrow().getTitle());
+        assertTrue(second.get(missing).isEmpty());
+    }
+
+    @Test
+    void getAll_disabled_loadsEveryId() {
+        ArticleCacheProperties properties = new ArticleCacheProperties();
+        properties.setEnabled(false);
+        ArticleByIdCache cache = new ArticleByIdCache(properties, registry);
+
+        Map<UUID, Optional<ArticleDTO>> result = cache.getAll(List.of(ID), ids -> Map.of());
+        cache.getAll(List.of(ID), ids -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+
+        assertTrue(result.get(ID).isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void weigh_growsWithText() {
+        ArticleDTO small = ArticleDTO.builder().title("a").build();
+        ArticleDTO large = ArticleDTO.builder().title("a".repeat(1000)).keywords(List.of("x", "y")).build();
+
+        assertTrue(ArticleByIdCache.weigh(Optional.of(large)) > ArticleByIdCache.weigh(Optional.of(small)) + 2000);
+    }
+
+    private Optional<ArticleDTO> load(UUID id) {
+        loads.incrementAndGet();
+        return Optional.of(ArticleDTO.builder().id(id).title("Title").description("Description").build());
+    }
+
+    private Optional<ArticleDTO> loadMissing(UUID id) {
+        loads.incrementAndGet();
+        return Optional.empty();
+    }
+}
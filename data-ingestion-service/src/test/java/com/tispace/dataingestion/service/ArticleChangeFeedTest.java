@@ -0,0 +1,261 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.contract.ArticleChangesDTO;
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.common.exception.RateLimitExceededException;
+import com.tispace.dataingestion.application.pagination.ArticleChangeCursor;
+import com.tispace.dataingestion.config.ArticleFeedProperties;
+import com.tispace.dataingestion.config.SecureObjectMapperConfig;
+import com.tispace.dataingestion.repository.ArticleChangeRepository;
+import com.tispace.dataingestion.repository.ArticleChangeRepository.ArticleChange;
+import com.tispace.dataingestion.repository.ArticleChangeRepository.ChangePage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleChangeFeedTest {
+
+    private static final ArticleChangeCursor HEAD = ArticleChangeCursor.before(100);
+    private static final ArticleChangeCursor NEXT_HEAD = ArticleChangeCursor.before(103);
+
+    private final ArticleChangeRepository repository = mock(ArticleChangeRepository.class);
+    private final ArticleFeedProperties properties = new ArticleFeedProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final ArticleChange technology = change(101, "Chips", "technology");
+    private final ArticleChange business = change(102, "Markets", "business");
+
+    private ArticleChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new ArticleChangeFeed(repository, new SecureObjectMapperConfig().objectMapper(), properties, registry) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        when(repository.head()).thenReturn(HEAD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.stop();
+    }
+
+    @Test
+    void signal_fansOutEachChangeToSubscribersOfItsCategory() throws InterruptedException {
+        when(repository.findAfter(HEAD, null, null, 200))
+                .thenReturn(new ChangePage(List.of(technology, business), false, NEXT_HEAD));
+        feed.start();
+        RecordingEmitter all = subscribe(null, null);
+        RecordingEmitter businessOnly = subscribe(" business ", null);
+        all.await(1);
+        businessOnly.await(1);
+
+        feed.signal();
+
+        all.await(3);
+        businessOnly.await(2);
+        assertEquals(List.of("ready " + HEAD.encode(), "article " + technology.position().encode(),
+                "article " + business.position().encode()), all.events());
+        assertEquals(List.of("ready " + HEAD.encode(), "article " + business.position().encode()),
+                businessOnly.events());
+        assertTrue(businessOnly.frames.get(1).contains("\"title\":\"Markets\""));
+        // recorded once the batch has gone to every subscriber
+        long deadline = System.currentTimeMillis() + 1000;
+        while (registry.get("article_feed_fanout_seconds").timer().count() == 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "fan-out was not timed");
+            Thread.sleep(10);
+        }
+        assertEquals(3.0, registry.get("article_feed_events_sent_total").counter().count());
+        assertEquals(2.0, registry.get("article_feed_subscribers").gauge().value());
+    }
+
+    @Test
+    void heartbeat_rowsHeldBackAtSignal_fansThemOutWithoutAnotherSignal() throws InterruptedException {
+        properties.setHeartbeat(Duration.ofMillis(50));
+        // an older transaction was still open at the first read, so the signalled commit was not visible yet
+        when(repository.findAfter(HEAD, null, null, 200))
+                .thenReturn(new ChangePage(List.of(), false, HEAD))
+                .thenReturn(new ChangePage(List.of(technology), false, NEXT_HEAD));
+        feed.start();
+        RecordingEmitter all = subscribe(null, null);
+        all.await(1);
+
+        feed.signal();
+
+        all.await(2);
+        assertEquals(List.of("ready " + HEAD.encode(), "article " + technology.position().encode()), all.events());
+        verify(repository, atLeast(2)).findAfter(HEAD, null, null, 200);
+    }
+
+    @Test
+    void heartbeat_afterFailedRead_retriesFromSamePosition() throws InterruptedException {
+        properties.setHeartbeat(Duration.ofMillis(50));
+        when(repository.findAfter(HEAD, null, null, 200))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"))
+                .thenReturn(new ChangePage(List.of(business), false, NEXT_HEAD));
+        feed.start();
+        RecordingEmitter all = subscribe(null, null);
+        all.await(1);
+
+        feed.signal();
+
+        all.await(2);
+        assertEquals(List.of("ready " + HEAD.encode(), "article " + business.position().encode()), all.events());
+    }
+
+    @Test
+    void subscribe_resuming_replaysMissedChangesOfItsCategoryThenJoins() throws InterruptedException {
+        ArticleChangeCursor since = ArticleChangeCursor.before(90);
+        when(repository.findAfter(since, HEAD, "business", 200))
+                .thenReturn(new ChangePage(List.of(business), false, HEAD));
+        feed.start();
+
+        RecordingEmitter resumed = subscribe("business", since);
+
+        resumed.await(2);
+        assertEquals(List.of("article " + business.position().encode(), "ready " + HEAD.encode()), resumed.events());
+    }
+
+    @Test
+    void subscribe_missedMoreThanMaxReplay_sendsResyncAndEnds() throws InterruptedException {
+        properties.setMaxReplay(1);
+        ArticleChangeCursor since = ArticleChangeCursor.before(90);
+        when(repository.findAfter(since, HEAD, null, 200))
+                .thenReturn(new ChangePage(List.of(technology, business), false, HEAD));
+        feed.start();
+
+        RecordingEmitter resumed = subscribe(null, since);
+
+        resumed.await(1);
+        assertEquals(List.of("resync " + since.encode()), resumed.events());
+        assertEquals(0.0, registry.get("article_feed_subscribers").gauge().value());
+    }
+
+    @Test
+    void subscribe_aheadOfThisInstance_skipsChangesAlreadySeen() throws InterruptedException {
+        when(repository.findAfter(HEAD, null, null, 200))
+                .thenReturn(new ChangePage(List.of(technology, business), false, NEXT_HEAD));
+        feed.start();
+        RecordingEmitter ahead = subscribe(null, technology.position());
+        ahead.await(1);
+
+        feed.signal();
+
+        ahead.await(2);
+        assertEquals(List.of("ready " + technology.position().encode(), "article " + business.position().encode()),
+                ahead.events());
+    }
+
+    @Test
+    void signal_withoutSubscribers_doesNotQuery() throws InterruptedException {
+        feed.start();
+
+        feed.signal();
+        Thread.sleep(100);
+
+        verify(repository, never()).head();
+        verify(repository, never()).findAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void subscribe_atMaxSubscribers_throwsRateLimitExceeded() {
+        properties.setMaxSubscribers(0);
+
+        assertThrows(RateLimitExceededException.class, () -> feed.subscribe(null, null));
+    }
+
+    @Test
+    void changes_withoutSince_returnsHeadOnly() {
+        ArticleChangesDTO changes = feed.changes(null, "technology", 50);
+
+        assertTrue(changes.getContent().isEmpty());
+        assertFalse(changes.isHasMore());
+        assertEquals(HEAD.encode(), changes.getNextCursor());
+    }
+
+    @Test
+    void changes_withSince_returnsPageAndNextPosition() {
+        ArticleChangeCursor since = ArticleChangeCursor.before(90);
+        when(repository.findAfter(since, null, "technology", 1))
+                .thenReturn(new ChangePage(List.of(technology), true, technology.position()));
+
+        ArticleChangesDTO changes = feed.changes(since, " technology ", 1);
+
+        assertEquals(List.of(technology.article()), changes.getContent());
+        assertTrue(changes.isHasMore());
+        assertEquals(technology.position().encode(), changes.getNextCursor());
+    }
+
+    private RecordingEmitter subscribe(String category, ArticleChangeCursor since) {
+        feed.subscribe(category, since);
+        return emitters.getLast();
+    }
+
+    private static ArticleChange change(long xid, String title, String topic) {
+        UUID id = UUID.randomUUID();
+        ArticleDTO article = ArticleDTO.builder().id(id).title(title).category(topic).build();
+        return new ArticleChange(new ArticleChangeCursor(xid, id), article, List.of(topic));
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            String frame = items.stream().map(item -> item.getData().toString()).collect(Collectors.joining());
+            if (!frame.startsWith(":")) {
+                frames.add(frame);
+            }
+        }
+
+        // "<event> <id>" of every frame, heartbeats left out
+        List<String> events() {
+            List<String> events = new ArrayList<>();
+            for (String frame : frames) {
+                String event = frame.replaceAll("(?s).*event:(\\S+).*", "$1");
+                String id = frame.replaceAll("(?s).*id:(\\S+).*", "$1");
+                events.add(event + " " + id);
+            }
+            return events;
+        }
+
+        void await(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 1000;
+            while (frames.size() < count) {
+                assertTrue(System.currentTimeMillis() < deadline, "expected " + count + " events, got " + frames);
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.dataingestion.config.ArticleCacheProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleChangeListenerTest {
+
+    @Mock
+    private ArticleByIdCache articleByIdCache;
+
+    @Mock
+    private DatasetVersions datasetVersions;
+
+    @Mock
+    private ArticleChangeFeed articleChangeFeed;
+
+    @Test
+    void onNotification_evictsArticle() {
+        UUID id = UUID.randomUUID();
+
+        listener("jdbc:postgresql://localhost/db").onNotification(ArticleChangeListener.ARTICLE_CHANNEL, id.toString());
+
+        verify(articleByIdCache).invalidate(id);
+    }
+
+    @Test
+    void onNotification_datasetVersion_advancesScopeSplitAtLastEquals() {
+        listener("jdbc:postgresql://localhost/db").onNotification(ArticleChangeListener.DATASET_VERSION_CHANNEL, "a=b=42");
+
+        verify(datasetVersions).advance("a=b", 42L);
+        verifyNoInteractions(articleChangeFeed);
+    }
+
+    @Test
+    void onNotification_allArticlesVersion_signalsChangeFeed() {
+        listener("jdbc:postgresql://localhost/db").onNotification(ArticleChangeListener.DATASET_VERSION_CHANNEL, "*=7");
+
+        verify(datasetVersions).advance(DatasetVersions.ALL, 7L);
+        verify(articleChangeFeed).signal();
+    }
+
+    @Test
+    void checkAlive_connectionNotAnswering_throwsToReconnect() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(false);
+
+        assertThrows(SQLException.class, () -> listener("jdbc:postgresql://localhost/db").checkAlive(connection));
+    }
+
+    @Test
+    void checkAlive_connectionAnswering_keepsListening() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+
+        assertDoesNotThrow(() -> listener("jdbc:postgresql://localhost/db").checkAlive(connection));
+    }
+
+    @Test
+    void onNotification_invalidPayload_isIgnored() {
+        ArticleChangeListener listener = listener("jdbc:postgresql://localhost/db");
+
+        listener.onNotification(ArticleChangeListener.ARTICLE_CHANNEL, "not-a-uuid");
+        listener.onNotification(ArticleChangeListener.DATASET_VERSION_CHANNEL, "technology");
+        listener.onNotification(ArticleChangeListener.DATASET_VERSION_CHANNEL, "technology=x");
+
+        verifyNoInteractions(articleByIdCache, datasetVersions, articleChangeFeed);
+    }
+
+    @Test
+    void start_nonPostgresDatasource_doesNotListen() {
+        ArticleChangeListener listener = listener("jdbc:h2:mem:testdb");
+
+        listener.start();
+        listener.stop();
+
+        verifyNoInteractions(articleByIdCache, datasetVersions);
+    }
+
+    private ArticleChangeListener listener(String url) {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(url);
+        return new ArticleChangeListener(articleByIdCache, datasetVersions, articleChangeFeed,
+                new ArticleCacheProperties(), dataSourceProperties);
+    }
+}
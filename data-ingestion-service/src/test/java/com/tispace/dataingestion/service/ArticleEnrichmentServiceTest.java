@@ -0,0 +1,46 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.dataingestion.domain.enrichment.ArticleEnricher;
+import com.tispace.dataingestion.domain.entity.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleEnrichmentServiceTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void enrich_largeBatch_enrichesEveryArticleOnThePool() {
+        ArticleEnrichmentService service = new ArticleEnrichmentService(new ArticleEnricher(), pool, 4);
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Article article = new Article();
+            article.setTitle("The market rallies for day " + i);
+            articles.add(article);
+        }
+
+        service.enrich(articles);
+
+        assertTrue(articles.stream().allMatch(article -> article.getSlug() != null && article.getReadingTimeMinutes() != null));
+        assertEquals("the-market-rallies-for-day-49", articles.getLast().getSlug());
+    }
+
+    @Test
+    void enrich_emptyOrNull_doesNothing() {
+        ArticleEnrichmentService service = new ArticleEnrichmentService(new ArticleEnricher(), pool, 4);
+
+        assertDoesNotThrow(() -> service.enrich(null));
+        assertDoesNotThrow(() -> service.enrich(List.of()));
+    }
+}
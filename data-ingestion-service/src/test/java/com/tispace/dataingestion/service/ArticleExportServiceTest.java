@@ -0,0 +1,163 @@
+package com.tispace.dataingestion.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.common.exception.BusinessException;
+import com.tispace.common.exception.RateLimitExceededException;
+import com.tispace.dataingestion.application.export.ExportFormat;
+import com.tispace.dataingestion.config.ArticleExportProperties;
+import com.tispace.dataingestion.config.SecureObjectMapperConfig;
+import com.tispace.dataingestion.repository.ArticleExportRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleExportServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Mock
+    private ArticleExportRepository articleExportRepository;
+
+    private final ObjectMapper objectMapper = new SecureObjectMapperConfig().objectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ArticleExportService service;
+
+    @BeforeEach
+    void setUp() {
+        ArticleExportProperties properties = new ArticleExportProperties();
+        properties.setMaxConcurrent(1);
+        properties.setFetchSize(500);
+        service = new ArticleExportService(articleExportRepository, objectMapper, new ArticleExportMetrics(registry),
+                properties);
+    }
+
+    @Test
+    void writeTo_ndjson_writesOneListingJsonObjectPerLine() throws IOException {
+        ArticleDTO first = article("First", "plain");
+        ArticleDTO second = article("Second", "line one\nline two");
+        stream(first, second);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.open(FROM, TO, " technology ", ExportFormat.NDJSON, false).writeTo(out);
+
+        assertEquals(objectMapper.writeValueAsString(first) + "\n" + objectMapper.writeValueAsString(second) + "\n",
+                out.toString(StandardCharsets.UTF_8));
+        verify(articleExportRepository).forEachArticle(eq("technology"), eq(FROM), eq(TO), eq(500), any());
+        assertEquals(2.0, registry.get("article_export_rows_total").tag("format", "ndjson").counter().count());
+        assertEquals(1, registry.get("article_export_duration_seconds").tag("outcome", "completed").timer().count());
+    }
+
+    @Test
+    void writeTo_csv_quotesFieldsThatNeedIt() throws IOException {
+        ArticleDTO article = article("Chips, \"fast\" ones", "two\nlines");
+        article.setKeywords(List.of("chips", "launch"));
+        stream(article);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.open(null, null, null, ExportFormat.CSV, false).writeTo(out);
+
+        assertEquals("id,title,description,author,published_at,category,language,keywords,slug,"
+                        + "reading_time_minutes,created_at,updated_at\r\n"
+                        + article.getId() + ",\"Chips, \"\"fast\"\" ones\",\"two\nlines\",,2025-01-18T10:00:00,"
+                        + "technology,,chips;launch,,3,,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeTo_gzip_compressesWholeStream() throws IOException {
+        ArticleDTO article = article("Compressed", "body");
+        stream(article);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.open(null, null, null, ExportFormat.NDJSON, true).writeTo(out);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(objectMapper.writeValueAsString(article) + "\n",
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void open_emptyRange_throwsBusinessException() {
+        assertThrows(BusinessException.class, () -> service.open(TO, FROM, null, ExportFormat.NDJSON, false));
+        assertThrows(BusinessException.class, () -> service.open(FROM, FROM, null, ExportFormat.NDJSON, false));
+    }
+
+    @Test
+    void open_allSlotsTaken_rejectsUntilRunningExportFinishes() throws IOException {
+        stream();
+        ArticleExportService.ArticleExport running = service.open(null, null, null, ExportFormat.NDJSON, false);
+
+        assertThrows(RateLimitExceededException.class,
+                () -> service.open(null, null, null, ExportFormat.NDJSON, false));
+        assertEquals(1.0, registry.get("article_export_rejected_total").counter().count());
+
+        running.writeTo(new ByteArrayOutputStream());
+        assertNotNull(service.open(null, null, null, ExportFormat.NDJSON, false));
+    }
+
+    @Test
+    void writeTo_clientGoesAway_endsScanAndReleasesSlot() {
+        stream(article("First", "a"), article("Second", "b"));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        ArticleExportService.ArticleExport export = service.open(null, null, null, ExportFormat.CSV, false);
+        IOException e = assertThrows(IOException.class, () -> export.writeTo(disconnected));
+
+        assertEquals("Broken pipe", e.getMessage());
+        assertEquals(1, registry.get("article_export_duration_seconds").tag("outcome", "client_aborted").timer().count());
+        assertEquals(0.0, registry.get("article_export_active").gauge().value());
+        assertNotNull(service.open(null, null, null, ExportFormat.CSV, false));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stream(ArticleDTO... articles) {
+        doAnswer(invocation -> {
+            Consumer<ArticleDTO> consumer = invocation.getArgument(4);
+            for (ArticleDTO article : articles) {
+                consumer.accept(article);
+            }
+            return null;
+        }).when(articleExportRepository).forEachArticle(any(), any(), any(), anyInt(), any(Consumer.class));
+    }
+
+    private static ArticleDTO article(String title, String description) {
+        return ArticleDTO.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description(description)
+                .publishedAt(LocalDateTime.of(2025, 1, 18, 10, 0))
+                .category("technology")
+                .readingTimeMinutes(3)
+                .build();
+    }
+}
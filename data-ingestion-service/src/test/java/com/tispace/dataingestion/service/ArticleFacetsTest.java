@@ -0,0 +1,122 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.contract.ArticleFacetsDTO;
+import com.tispace.common.contract.ArticleFacetsDTO.CategoryCount;
+import com.tispace.common.contract.ArticleFacetsDTO.DayCount;
+import com.tispace.common.exception.BusinessException;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
+import com.tispace.dataingestion.repository.ArticleFacetRepository;
+import com.tispace.dataingestion.repository.ArticleFacetRepository.FacetRow;
+import com.tispace.dataingestion.repository.DatasetVersionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ArticleFacetsTest {
+
+    private static final LocalDate DAY_1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate DAY_2 = LocalDate.of(2025, 1, 2);
+    private static final LocalDate DAY_3 = LocalDate.of(2025, 1, 3);
+
+    private final ArticleFacetRepository repository = mock(ArticleFacetRepository.class);
+    private final DatasetVersions datasetVersions = new DatasetVersions(mock(DatasetVersionRepository.class));
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ArticleFacets facets = new ArticleFacets(repository, datasetVersions, registry);
+    private final List<FacetRow> rows = new ArrayList<>(List.of(
+            new FacetRow(DatasetVersions.ALL, DAY_1, 5),
+            new FacetRow(DatasetVersions.ALL, DAY_2, 3),
+            new FacetRow(DatasetVersions.ALL, DAY_3, 4),
+            new FacetRow("technology", DAY_1, 2),
+            new FacetRow("technology", DAY_3, 4),
+            new FacetRow("business", DAY_1, 3),
+            new FacetRow("business", DAY_2, 3)));
+
+    ArticleFacetsTest() {
+        doAnswer(invocation -> {
+            rows.forEach(invocation.<Consumer<FacetRow>>getArgument(0));
+            return null;
+        }).when(repository).forEachFacet(any());
+    }
+
+    @Test
+    void get_unbounded_countsEveryCategoryAndDay() {
+        ArticleFacetsDTO result = facets.get(null, null, null);
+
+        assertEquals(12L, result.getTotal());
+        assertEquals(List.of(new CategoryCount("business", 6), new CategoryCount("technology", 6)), result.getCategories());
+        assertEquals(List.of(new DayCount(DAY_1, 5), new DayCount(DAY_2, 3), new DayCount(DAY_3, 4)),
+                result.getHistogram());
+    }
+
+    @Test
+    void get_categoryAndRange_restrictsTotalAndHistogramButNotCategoryCounts() {
+        ArticleFacetsDTO result = facets.get(" technology ", DAY_2, DAY_3);
+
+        assertEquals("technology", result.getCategory());
+        assertEquals(4L, result.getTotal());
+        assertEquals(List.of(new DayCount(DAY_3, 4)), result.getHistogram());
+        assertEquals(List.of(new CategoryCount("technology", 4), new CategoryCount("business", 3)), result.getCategories());
+    }
+
+    @Test
+    void get_openEndedRanges_includeBoundaryDays() {
+        assertEquals(7L, facets.get(null, DAY_2, null).getTotal());
+        assertEquals(8L, facets.get(null, null, DAY_2).getTotal());
+        assertEquals(0L, facets.get("unknown", null, null).getTotal());
+    }
+
+    @Test
+    void get_fromAfterTo_throws() {
+        assertThrows(BusinessException.class, () -> facets.get(null, DAY_3, DAY_1));
+    }
+
+    @Test
+    void get_reloadsOnlyAfterIngestionOrVersionChange() {
+        facets.get(null, null, null);
+        facets.get(null, null, null);
+        verify(repository, times(1)).forEachFacet(any());
+
+        rows.add(new FacetRow(DatasetVersions.ALL, DAY_3, 1));
+        facets.onArticlesInserted(new ArticlesInsertedEvent(List.of()));
+        assertEquals(13L, facets.get(null, null, null).getTotal());
+        verify(repository, times(2)).forEachFacet(any());
+
+        // another instance linked articles to a topic
+        datasetVersions.advance("technology", 7L);
+        facets.get(null, null, null);
+        verify(repository, times(3)).forEachFacet(any());
+        assertEquals(3L, registry.get("article_facets_refresh_seconds").timer().count());
+    }
+
+    @Test
+    void get_reloadFails_servesPreviousSnapshotAndRetries() {
+        facets.get(null, null, null);
+        doThrow(new DataAccessResourceFailureException("down")).when(repository).forEachFacet(any());
+        facets.onArticlesInserted(new ArticlesInsertedEvent(List.of()));
+
+        assertEquals(12L, facets.get(null, null, null).getTotal());
+        assertEquals(12L, facets.get(null, null, null).getTotal());
+        verify(repository, times(3)).forEachFacet(any());
+    }
+
+    @Test
+    void get_firstLoadFails_propagates() {
+        doThrow(new DataAccessResourceFailureException("down")).when(repository).forEachFacet(any());
+
+        assertThrows(DataAccessResourceFailureException.class, () -> facets.get(null, null, null));
+    }
+}
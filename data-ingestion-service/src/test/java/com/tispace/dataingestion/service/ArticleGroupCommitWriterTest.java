@@ -0,0 +1,182 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.dataingestion.config.GroupCommitProperties;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.repository.ArticleBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleGroupCommitWriterTest {
+
+    @Mock
+    private ArticleBatchRepository articleBatchRepository;
+
+    private SimpleMeterRegistry registry;
+    private GroupCommitProperties properties;
+    private ArticleGroupCommitWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new GroupCommitProperties();
+        properties.setMaxBatchSize(100);
+        properties.setMaxDelay(Duration.ofMillis(300));
+        writer = new ArticleGroupCommitWriter(articleBatchRepository, new GroupCommitMetrics(registry), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    void submit_concurrentProducersShareOneFlushAndGetTheirOwnCounts() throws Exception {
+        List<Article> first = articles("a", 3);
+        List<Article> second = articles("b", 2);
+        // every article of the first producer is new, the second producer only gets one row in
+        when(articleBatchRepository.insertIgnoreDuplicatesReturningIds(anyList())).thenAnswer(invocation -> {
+            List<Article> rows = invocation.getArgument(0);
+            return rows.stream()
+                    .filter(article -> !article.getTitle().equals("b-1"))
+                    .map(Article::getId)
+                    .collect(Collectors.toSet());
+        });
+        writer.start();
+
+        CompletableFuture<Integer> firstResult = writer.submit(first);
+        CompletableFuture<Integer> secondResult = writer.submit(second);
+
+        assertEquals(3, firstResult.get(5, TimeUnit.SECONDS));
+        assertEquals(1, secondResult.get(5, TimeUnit.SECONDS));
+        verify(articleBatchRepository, times(1)).insertIgnoreDuplicatesReturningIds(anyList());
+        assertEquals(1, registry.get("article_group_commit_flush_size").summary().count());
+        assertEquals(5.0, registry.get("article_group_commit_flush_size").summary().totalAmount());
+        assertEquals(0.0, registry.get("article_group_commit_buffer_rows").gauge().value());
+    }
+
+    @Test
+    void submit_flushesAsSoonAsBatchSizeIsReached() throws Exception {
+        properties.setMaxBatchSize(2);
+        properties.setMaxDelay(Duration.ofMinutes(1));
+        when(articleBatchRepository.insertIgnoreDuplicatesReturningIds(anyList())).thenAnswer(invocation -> {
+            List<Article> rows = invocation.getArgument(0);
+            return rows.stream().map(Article::getId).collect(Collectors.toSet());
+        });
+        writer.start();
+
+        assertEquals(2, writer.submit(articles("a", 2)).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_failingProducerDoesNotFailOthersInTheSameFlush() throws Exception {
+        List<Article> good = articles("good", 2);
+        List<Article> bad = articles("bad", 1);
+        when(articleBatchRepository.insertIgnoreDuplicatesReturningIds(anyList())).thenAnswer(invocation -> {
+            List<Article> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(article -> article.getTitle().startsWith("bad"))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return rows.stream().map(Article::getId).collect(Collectors.toSet());
+        });
+        writer.start();
+
+        CompletableFuture<Integer> goodResult = writer.submit(good);
+        CompletableFuture<Integer> badResult = writer.submit(bad);
+
+        assertEquals(2, goodResult.get(5, TimeUnit.SECONDS));
+        CompletionException error = assertThrows(CompletionException.class, badResult::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertEquals(2.0, registry.get("article_group_commit_flush_errors_total").counter().count());
+    }
+
+    @Test
+    void write_unwrapsFlushFailure() {
+        when(articleBatchRepository.insertIgnoreDuplicatesReturningIds(anyList()))
+                .thenThrow(new IllegalStateException("Database error"));
+        writer.start();
+
+        assertThrows(IllegalStateException.class, () -> writer.write(articles("a", 1)));
+    }
+
+    @Test
+    void write_flushFailsWithError_failsWriterAndKeepsFlushing() {
+        when(articleBatchRepository.insertIgnoreDuplicatesReturningIds(anyList()))
+                .thenThrow(new StackOverflowError())
+                .thenAnswer(invocation -> {
+                    List<Article> rows = invocation.getArgument(0);
+                    return rows.stream().map(Article::getId).collect(Collectors.toSet());
+                });
+        writer.start();
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> writer.write(articles("a", 1)));
+        assertInstanceOf(StackOverflowError.class, error.getCause());
+        assertEquals(1, writer.write(articles("b", 1)));
+    }
+
+    @Test
+    void write_flushNotCompletedInTime_throwsInsteadOfWaitingForever() {
+        properties.setWriteTimeout(Duration.ofMillis(100));
+        when(articleBatchRepository.insertIgnoreDuplicatesReturningIds(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return Set.of();
+        });
+        writer.start();
+
+        assertThrows(IllegalStateException.class, () -> writer.write(articles("a", 1)));
+    }
+
+    @Test
+    void submit_afterStop_isRejectedInsteadOfLeftPending() {
+        writer.start();
+        writer.stop();
+
+        CompletableFuture<Integer> late = writer.submit(articles("a", 1));
+
+        assertTrue(late.isCompletedExceptionally());
+        assertEquals(0.0, registry.get("article_group_commit_buffer_rows").gauge().value());
+        verifyNoInteractions(articleBatchRepository);
+    }
+
+    @Test
+    void submit_whenDisabled_isNotStartedAndRejectsWrites() {
+        properties.setEnabled(false);
+        writer.start();
+
+        assertFalse(writer.isEnabled());
+        assertTrue(writer.submit(articles("a", 1)).isCompletedExceptionally());
+        assertEquals(0, writer.submit(List.of()).join());
+        verifyNoInteractions(articleBatchRepository);
+    }
+
+    private List<Article> articles(String prefix, int count) {
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Article article = new Article();
+            article.setTitle(prefix + "-" + i);
+            article.setPublishedAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i));
+            article.setCategory("technology");
+            articles.add(article);
+        }
+        return articles;
+    }
+}
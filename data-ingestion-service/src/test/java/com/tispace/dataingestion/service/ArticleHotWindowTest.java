@@ -0,0 +1,183 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.config.ArticleHotWindowProperties;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
+import com.tispace.dataingestion.repository.ArticleCountEstimateRepository;
+import com.tispace.dataingestion.repository.ArticleDtoReadRepository;
+import com.tispace.dataingestion.repository.DatasetVersionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleHotWindowTest {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "publishedAt");
+    private static final Sort ALL_ORDER = Sort.by(Sort.Direction.DESC, "publishedAt", "id");
+    private static final Sort TOPIC_ORDER = Sort.by(Sort.Direction.DESC, "publishedAt", "articleId");
+    private static final ArticleFilter TECHNOLOGY = ArticleFilter.category("technology");
+    private static final ArticleFilter BUSINESS = ArticleFilter.category("business");
+
+    private final ArticleDtoReadRepository articleDtoReadRepository = mock(ArticleDtoReadRepository.class);
+    private final ArticleCountEstimateRepository articleCountEstimateRepository = mock(ArticleCountEstimateRepository.class);
+    private final DatasetVersions datasetVersions = new DatasetVersions(mock(DatasetVersionRepository.class));
+    private final ArticleHotWindowProperties properties = new ArticleHotWindowProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final List<ArticleDTO> newest = articles(5);
+    private ArticleHotWindow window;
+
+    @BeforeEach
+    void setUp() {
+        properties.setSize(3);
+        window = new ArticleHotWindow(articleDtoReadRepository, articleCountEstimateRepository, datasetVersions,
+                properties, registry);
+        when(articleCountEstimateRepository.findTopics()).thenReturn(List.of("technology", "business"));
+        when(articleDtoReadRepository.findPage(ArticleFilter.NONE, ALL_ORDER, 0, 4, ArticleFields.ALL))
+                .thenReturn(newest.subList(0, 4));
+        when(articleDtoReadRepository.findPage(TECHNOLOGY, TOPIC_ORDER, 0, 4, ArticleFields.ALL))
+                .thenReturn(newest.subList(0, 2));
+        when(articleDtoReadRepository.findPage(BUSINESS, TOPIC_ORDER, 0, 4, ArticleFields.ALL)).thenReturn(List.of());
+        when(articleDtoReadRepository.count(ArticleFilter.NONE)).thenReturn(5L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        window.stop();
+    }
+
+    @Test
+    void find_newestFirstInsideWindow_servesRowsAndTotalFromMemory() {
+        window.loadAll();
+
+        assertEquals(Optional.of(newest.subList(1, 3)), window.find(null, NEWEST_FIRST, 1, 2));
+        assertEquals(OptionalLong.of(5L), window.total(null));
+        // beyond a window that does not hold the whole listing
+        assertEquals(Optional.empty(), window.find(null, NEWEST_FIRST, 2, 2));
+        // a window holding the whole listing answers every page, empty ones included
+        assertEquals(Optional.of(newest.subList(0, 2)), window.find("technology", NEWEST_FIRST, 0, 20));
+        assertEquals(Optional.of(List.of()), window.find("technology", NEWEST_FIRST, 20, 20));
+        assertEquals(OptionalLong.of(2L), window.total("technology"));
+
+        verify(articleDtoReadRepository, never()).count(ArticleFilter.category("technology"));
+        assertEquals(3.0, registry.get("article_hot_window_lookups_total").tag("result", "hit").counter().count());
+        assertEquals(1.0, registry.get("article_hot_window_lookups_total").tag("result", "miss").counter().count());
+        assertEquals(1L, registry.get("article_hot_window_rebuild_seconds").timer().count());
+    }
+
+    @Test
+    void find_otherSortOrUnknownCategory_misses() {
+        window.loadAll();
+
+        assertEquals(Optional.empty(), window.find(null, NEWEST_FIRST.ascending(), 0, 2));
+        assertEquals(Optional.empty(), window.find(null, ALL_ORDER, 0, 2));
+        assertEquals(Optional.empty(), window.find("business", NEWEST_FIRST, 0, 2));
+        assertEquals(Optional.empty(), window.find("unknown", NEWEST_FIRST, 0, 2));
+        assertEquals(OptionalLong.empty(), window.total("unknown"));
+    }
+
+    @Test
+    void find_datasetVersionMovedOn_missesAndReloadsInBackground() throws InterruptedException {
+        window.loadAll();
+        datasetVersions.advance(DatasetVersions.ALL, 2L);
+
+        assertEquals(Optional.empty(), window.find(null, NEWEST_FIRST, 0, 2));
+
+        verify(articleDtoReadRepository, timeout(1000).times(2))
+                .findPage(ArticleFilter.NONE, ALL_ORDER, 0, 4, ArticleFields.ALL);
+        waitForHit();
+    }
+
+    @Test
+    void onArticlesInserted_reloadsAllArticlesAndInsertedCategories() {
+        window.loadAll();
+        Article article = new Article();
+        article.setCategory("technology");
+
+        window.onArticlesInserted(new ArticlesInsertedEvent(List.of(article)));
+
+        verify(articleDtoReadRepository, timeout(1000).times(2))
+                .findPage(ArticleFilter.NONE, ALL_ORDER, 0, 4, ArticleFields.ALL);
+        verify(articleDtoReadRepository, timeout(1000).times(2))
+                .findPage(TECHNOLOGY, TOPIC_ORDER, 0, 4, ArticleFields.ALL);
+        verify(articleDtoReadRepository, times(1)).findPage(BUSINESS, TOPIC_ORDER, 0, 4, ArticleFields.ALL);
+    }
+
+    @Test
+    void topPerCategory_servesNonEmptyCategoriesByName() {
+        window.loadAll();
+
+        Map<String, List<ArticleDTO>> top = window.topPerCategory(1);
+
+        assertEquals(List.of("technology"), new ArrayList<>(top.keySet()));
+        assertEquals(newest.subList(0, 1), top.get("technology"));
+    }
+
+    @Test
+    void topPerCategory_notLoaded_readsFromDatabaseWithoutCounting() {
+        when(articleDtoReadRepository.findPage(TECHNOLOGY, TOPIC_ORDER, 0, 2, ArticleFields.ALL))
+                .thenReturn(newest.subList(0, 2));
+        when(articleDtoReadRepository.findPage(BUSINESS, TOPIC_ORDER, 0, 2, ArticleFields.ALL)).thenReturn(List.of());
+
+        Map<String, List<ArticleDTO>> top = window.topPerCategory(1);
+
+        assertEquals(newest.subList(0, 1), top.get("technology"));
+        verify(articleDtoReadRepository, never()).count(any());
+    }
+
+    @Test
+    void find_disabled_neverServes() {
+        properties.setEnabled(false);
+        window.loadInBackground();
+
+        assertEquals(Optional.empty(), window.find(null, NEWEST_FIRST, 0, 2));
+        assertEquals(OptionalLong.empty(), window.total(null));
+        verify(articleDtoReadRepository, never()).findPage(any(), any(), anyLong(), anyInt(), any());
+    }
+
+    private void waitForHit() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (window.find(null, NEWEST_FIRST, 0, 2).isEmpty()) {
+            assertTrue(System.currentTimeMillis() < deadline, "window was not reloaded");
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<ArticleDTO> articles(int count) {
+        List<ArticleDTO> articles = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 18, 10, 0);
+        for (int i = 0; i < count; i++) {
+            articles.add(ArticleDTO.builder()
+                    .id(UUID.randomUUID())
+                    .title("Article " + i)
+                    .publishedAt(start.minusMinutes(i))
+                    .build());
+        }
+        return articles;
+    }
+}
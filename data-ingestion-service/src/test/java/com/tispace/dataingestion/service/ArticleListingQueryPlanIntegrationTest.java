@@ -0,0 +1,313 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.ArticleCursor;
+import com.tispace.dataingestion.application.pagination.ArticleSearchCursor;
+import com.tispace.dataingestion.application.pagination.CountMode;
+import com.tispace.dataingestion.application.pagination.KeysetSortField;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.repository.ArticleExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Regression guard for listing query plans: every accepted sort/filter combination must be served in index
+ * order. The SQL actually issued by ArticleQueryService is recorded and its generic plan is checked on PostgreSQL
+ * with sequential scans and sorts disabled, so a combination without a usable index shows up as a Seq Scan or
+ * Sort node regardless of table size. Full-text search has to sort its matches by rank, so for it only the
+ * matching is checked to go through the search_vector GIN index. The export's range scans are held to the same
+ * index-order rule as the listings. Requires Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(classes = {
+	com.tispace.dataingestion.DataIngestionServiceApplication.class
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+	"scheduler.enabled=false",
+	"query-service.internal-token=test-token",
+	"external-api.news-api.api-key=test-key"
+})
+@Import(ArticleListingQueryPlanIntegrationTest.SqlRecorderConfig.class)
+class ArticleListingQueryPlanIntegrationTest {
+	
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+	
+	private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+	
+	private static final Pattern SORT_NODE = Pattern.compile("(^|->)\\s*(Incremental )?Sort\\s+\\(", Pattern.MULTILINE);
+	
+	private static final UUID LAST_ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+	private static final LocalDateTime LAST_KEY = LocalDateTime.of(2025, 1, 18, 10, 0);
+	
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+	
+	@Autowired
+	private ArticleQueryService articleQueryService;
+	
+	@Autowired
+	private ArticleExportRepository articleExportRepository;
+	
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	
+	@BeforeEach
+	void clearRecordedStatements() {
+		STATEMENTS.clear();
+	}
+	
+	static Stream<Arguments> offsetCombinations() {
+		List<Arguments> combinations = new ArrayList<>();
+		for (Sort.Direction direction : Sort.Direction.values()) {
+			for (String field : List.of("id", "title", "description", "author", "publishedAt", "category", "createdAt", "updatedAt")) {
+				combinations.add(Arguments.of(field, direction, null));
+			}
+			combinations.add(Arguments.of("publishedAt", direction, "technology"));
+			combinations.add(Arguments.of("id", direction, "technology"));
+		}
+		return combinations.stream();
+	}
+	
+	static Stream<Arguments> cursorCombinations() {
+		List<Arguments> combinations = new ArrayList<>();
+		for (Sort.Direction direction : Sort.Direction.values()) {
+			for (KeysetSortField field : KeysetSortField.values()) {
+				combinations.add(Arguments.of(field, direction, null));
+				if (field.isTopicIndexed()) {
+					combinations.add(Arguments.of(field, direction, "technology"));
+				}
+			}
+		}
+		return combinations.stream();
+	}
+	
+	static Stream<Arguments> filters() {
+		LocalDateTime from = LAST_KEY.minusDays(1);
+		return Stream.of(
+			Arguments.of(ArticleFilter.of(List.of("technology"), from, LAST_KEY, null)),
+			Arguments.of(ArticleFilter.of(List.of("technology", "science"), null, null, null)),
+			Arguments.of(ArticleFilter.of(List.of("technology", "science"), from, LAST_KEY, null)),
+			Arguments.of(ArticleFilter.of(List.of(), from, null, "Jane Doe")),
+			Arguments.of(ArticleFilter.of(List.of("technology", "science"), from, LAST_KEY, "Jane Doe")));
+	}
+	
+	@ParameterizedTest(name = "offset sort={0},{1} category={2}")
+	@MethodSource("offsetCombinations")
+	void offsetListing_usesIndexOrder(String field, Sort.Direction direction, String category) {
+		PageRequest pageable = PageRequest.of(3, 20, Sort.by(direction, field));
+		
+		ArticleFilter filter = ArticleFilter.category(category);
+		articleQueryService.getArticlesDTO(pageable, filter, CountMode.EXACT, ArticleFields.ALL);
+		articleQueryService.getArticlesDTO(pageable, filter, CountMode.NONE, ArticleFields.ALL);
+		
+		assertIndexBacked(STATEMENTS);
+	}
+	
+	@ParameterizedTest(name = "cursor sort={0},{1} category={2}")
+	@MethodSource("cursorCombinations")
+	void cursorListing_usesIndexOrder(KeysetSortField field, Sort.Direction direction, String category) {
+		Sort sort = Sort.by(direction, field.getProperty());
+		LocalDateTime lastKey = field.isId() || field.isText() ? null : LAST_KEY;
+		ArticleFilter filter = ArticleFilter.category(category);
+		
+		articleQueryService.getArticlesByCursor(null, 20, sort, filter, CountMode.NONE, ArticleFields.ALL);
+		articleQueryService.getArticlesByCursor(new ArticleCursor(field, direction, filter.key(), false, lastKey, LAST_ID)
+			.encode(), 20, sort, filter, CountMode.NONE, ArticleFields.ALL);
+		if (field.isNullable()) {
+			articleQueryService.getArticlesByCursor(new ArticleCursor(field, direction, filter.key(), true, null, LAST_ID)
+				.encode(), 20, sort, filter, CountMode.NONE, ArticleFields.ALL);
+		}
+		
+		assertIndexBacked(STATEMENTS);
+	}
+	
+	@ParameterizedTest(name = "filtered {0}")
+	@MethodSource("filters")
+	void filteredListing_usesIndexOrder(ArticleFilter filter) {
+		for (Sort.Direction direction : Sort.Direction.values()) {
+			for (KeysetSortField field : KeysetSortField.values()) {
+				if (filter.category() != null && !field.isTopicIndexed()) {
+					continue;
+				}
+				Sort sort = Sort.by(direction, field.getProperty());
+				articleQueryService.getArticlesDTO(PageRequest.of(3, 20, sort), filter, CountMode.EXACT, ArticleFields.ALL);
+				articleQueryService.getArticlesByCursor(
+					new ArticleCursor(field, direction, filter.key(), false,
+						field.isId() || field.isText() ? null : LAST_KEY, LAST_ID).encode(),
+					20, sort, filter, CountMode.NONE, ArticleFields.ALL);
+			}
+		}
+		
+		assertIndexBacked(STATEMENTS);
+	}
+	
+	@ParameterizedTest(name = "search category={0}")
+	@NullSource
+	@ValueSource(strings = "technology")
+	void search_matchesThroughSearchVectorIndex(String category) {
+		articleQueryService.searchArticles("electric vehicles", null, 20, category);
+		articleQueryService.searchArticles("electric vehicles",
+			ArticleSearchCursor.after("electric vehicles", category, 0.5f, LAST_ID).encode(), 20, category);
+		
+		List<String> selects = selects(STATEMENTS);
+		assertEquals(2, selects.size());
+		for (String sql : selects) {
+			String plan = genericPlan(sql);
+			assertFalse(plan.contains("Seq Scan"), () -> "sequential scan in plan of:\n" + sql + "\n" + plan);
+			assertTrue(plan.contains("idx_articles_search_vector"), () -> "search index unused in plan of:\n" + sql + "\n" + plan);
+		}
+	}
+	
+	@ParameterizedTest(name = "export category={0}")
+	@NullSource
+	@ValueSource(strings = "technology")
+	void export_scansRangeInIndexOrder(String category) {
+		articleExportRepository.forEachArticle(category, null, null, 100, article -> { });
+		articleExportRepository.forEachArticle(category, LAST_KEY.minusDays(7), LAST_KEY, 100, article -> { });
+		
+		assertIndexBacked(STATEMENTS);
+	}
+	
+	private void assertIndexBacked(List<String> statements) {
+		List<String> selects = selects(statements);
+		assertFalse(selects.isEmpty(), "no listing query was recorded");
+		
+		for (String sql : selects) {
+			String plan = genericPlan(sql);
+			assertFalse(plan.contains("Seq Scan"), () -> "sequential scan in plan of:\n" + sql + "\n" + plan);
+			assertFalse(SORT_NODE.matcher(plan).find(), () -> "explicit sort in plan of:\n" + sql + "\n" + plan);
+		}
+	}
+	
+	private static List<String> selects(List<String> statements) {
+		return statements.stream()
+			.filter(sql -> sql.strip().toLowerCase().startsWith("select"))
+			.toList();
+	}
+	
+	private String genericPlan(String sql) {
+		StringBuilder numbered = new StringBuilder();
+		StringJoiner nullArgs = new StringJoiner(", ", "(", ")").setEmptyValue("");
+		int parameter = 0;
+		for (char c : sql.toCharArray()) {
+			if (c == '?') {
+				numbered.append('$').append(++parameter);
+				nullArgs.add("NULL");
+			} else {
+				numbered.append(c);
+			}
+		}
+		
+		return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET plan_cache_mode = force_generic_plan");
+				statement.execute("SET enable_seqscan = off");
+				statement.execute("SET enable_sort = off");
+				statement.execute("SET enable_incremental_sort = off");
+				statement.execute("PREPARE plan_check AS " + numbered);
+				try (ResultSet rs = statement.executeQuery("EXPLAIN EXECUTE plan_check" + nullArgs)) {
+					StringBuilder plan = new StringBuilder();
+					while (rs.next()) {
+						plan.append(rs.getString(1)).append('\n');
+					}
+					return plan.toString();
+				} finally {
+					statement.execute("DEALLOCATE plan_check");
+					statement.execute("RESET ALL");
+				}
+			}
+		});
+	}
+	
+	@TestConfiguration
+	static class SqlRecorderConfig {
+		
+		@Bean
+		static BeanPostProcessor recordingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+						return new RecordingDataSource(dataSource);
+					}
+					return bean;
+				}
+			};
+		}
+	}
+	
+	private static final class RecordingDataSource extends DelegatingDataSource {
+		
+		RecordingDataSource(DataSource target) {
+			super(target);
+		}
+		
+		@Override
+		public Connection getConnection() throws SQLException {
+			return recording(super.getConnection());
+		}
+		
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return recording(super.getConnection(username, password));
+		}
+		
+		private static Connection recording(Connection connection) {
+			return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+				(proxy, method, args) -> {
+					if ("prepareStatement".equals(method.getName()) && args != null && args[0] instanceof String sql) {
+						STATEMENTS.add(sql);
+					}
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+		}
+	}
+}
@@ -24,6 +24,9 @@ class ArticlePersistenceServiceTest {
 	@Mock
 	private ArticleBatchRepository articleBatchRepository;
 	
+	@Mock
+	private ArticleGroupCommitWriter articleGroupCommitWriter;
+	
 	@InjectMocks
 	private ArticlePersistenceService articlePersistenceService;
 	
@@ -192,6 +195,18 @@ class ArticlePersistenceServiceTest {
 		verify(articleBatchRepository, never()).batchInsertIgnoreDuplicates(anyList());
 	}
 	
+	@Test
+	void testSaveArticles_GroupCommitEnabled_DelegatesToWriter() {
+		List<Article> articles = Arrays.asList(mockArticle, createArticle("Article 2"));
+		when(articleGroupCommitWriter.isEnabled()).thenReturn(true);
+		when(articleGroupCommitWriter.write(articles)).thenReturn(1);
+		
+		int savedCount = articlePersistenceService.saveArticles(articles);
+		
+		assertEquals(1, savedCount);
+		verify(articleBatchRepository, never()).batchInsertIgnoreDuplicates(anyList());
+	}
+	
 	private Article createArticle(String title) {
 		Article article = new Article();
 		article.setTitle(title);
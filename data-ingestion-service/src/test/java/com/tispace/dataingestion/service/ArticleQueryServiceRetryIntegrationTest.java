@@ -1,7 +1,10 @@
 package com.tispace.dataingestion.service;
 
-import com.tispace.dataingestion.domain.entity.Article;
-import com.tispace.dataingestion.infrastructure.repository.ArticleRepository;
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.CountMode;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.repository.ArticleDtoReadRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.aop.framework.AopProxyUtils;
@@ -9,19 +12,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.dao.TransientDataAccessException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -49,28 +51,27 @@ import static org.mockito.Mockito.*;
 })
 class ArticleQueryServiceRetryIntegrationTest {
 	
+	private static final Pageable PAGEABLE = PageRequest.of(0, 20);
+	
 	@MockitoBean
-	private ArticleRepository articleRepository;
+	private ArticleDtoReadRepository articleDtoReadRepository;
 	
 	@Autowired
 	private ArticleQueryService articleQueryService;
 	
-	private Article mockArticle;
-	private List<Article> mockArticles;
+	private ArticleDTO mockArticleDTO;
 	private static final UUID ARTICLE_ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
 	
 	@BeforeEach
 	void setUp() {
-		mockArticle = new Article();
-		mockArticle.setId(ARTICLE_ID);
-		mockArticle.setTitle("Test Article");
-		mockArticle.setDescription("Test Description");
-		mockArticle.setAuthor("Test Author");
-		mockArticle.setPublishedAt(LocalDateTime.of(2025, 1, 15, 12, 0, 0));
-		mockArticle.setCategory("technology");
-		
-		mockArticles = new ArrayList<>();
-		mockArticles.add(mockArticle);
+		mockArticleDTO = ArticleDTO.builder()
+			.id(ARTICLE_ID)
+			.title("Test Article")
+			.description("Test Description")
+			.author("Test Author")
+			.publishedAt(LocalDateTime.of(2025, 1, 15, 12, 0, 0))
+			.category("technology")
+			.build();
 	}
 
 	@Test
@@ -83,106 +84,98 @@ class ArticleQueryServiceRetryIntegrationTest {
 	
 	@Test
 	void testGetArticles_TransientException_RetriesAndSucceeds() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-		
 		// First two calls throw transient exception, third succeeds
-		when(articleRepository.findAll(any(Pageable.class)))
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
-			.thenReturn(page);
+			.thenReturn(List.of(mockArticleDTO));
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, null);
+		Slice<ArticleDTO> result = getArticles(ArticleFilter.NONE);
 		
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
 		assertEquals("Test Article", result.getContent().get(0).getTitle());
 		
 		// Verify retry happened - repository called 3 times (2 failures + 1 success)
-		verify(articleRepository, times(3)).findAll(pageable);
+		verify(articleDtoReadRepository, times(3)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testGetArticles_TransientException_AllRetriesFail_ThrowsException() {
-		Pageable pageable = PageRequest.of(0, 20);
-		
 		// All retry attempts fail
-		when(articleRepository.findAll(any(Pageable.class)))
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
 			.thenThrow(new TransientDataAccessException("Connection timeout") {});
 		
 		assertThrows(TransientDataAccessException.class, 
-			() -> articleQueryService.getArticles(pageable, null));
+			() -> getArticles(ArticleFilter.NONE));
 		
 		// Verify all retry attempts (3 max attempts)
-		verify(articleRepository, times(3)).findAll(pageable);
+		verify(articleDtoReadRepository, times(3)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testGetArticleById_TransientException_RetriesAndSucceeds() {
 		// First call throws transient exception, second succeeds
-		when(articleRepository.findById(ARTICLE_ID))
+		when(articleDtoReadRepository.findById(ARTICLE_ID))
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
-			.thenReturn(java.util.Optional.of(mockArticle));
+			.thenReturn(Optional.of(mockArticleDTO));
 		
-		Article result = articleQueryService.getArticleById(ARTICLE_ID);
+		ArticleDTO result = articleQueryService.getArticleDTOById(ARTICLE_ID);
 		
 		assertNotNull(result);
 		assertEquals(ARTICLE_ID, result.getId());
 		assertEquals("Test Article", result.getTitle());
 		
 		// Verify retry happened - repository called 2 times (1 failure + 1 success)
-		verify(articleRepository, times(2)).findById(ARTICLE_ID);
+		verify(articleDtoReadRepository, times(2)).findById(ARTICLE_ID);
 	}
 	
 	@Test
 	void testGetArticles_NonTransientException_NoRetry() {
-		Pageable pageable = PageRequest.of(0, 20);
-		
 		// Non-transient exception should not trigger retry
-		when(articleRepository.findAll(any(Pageable.class)))
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new RuntimeException("Permanent error"));
 		
 		assertThrows(RuntimeException.class, 
-			() -> articleQueryService.getArticles(pageable, null));
+			() -> getArticles(ArticleFilter.NONE));
 		
 		// Should only be called once (no retry for non-transient exceptions)
-		verify(articleRepository, times(1)).findAll(pageable);
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testGetArticles_WithCategory_TransientException_RetriesAndSucceeds() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-		
-		when(articleRepository.findByCategory(anyString(), any(Pageable.class)))
+		ArticleFilter technology = ArticleFilter.category("technology");
+		when(articleDtoReadRepository.findPage(technology, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
-			.thenReturn(page);
+			.thenReturn(List.of(mockArticleDTO));
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, "technology");
+		Slice<ArticleDTO> result = getArticles(technology);
 		
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
 		
 		// Verify retry happened
-		verify(articleRepository, times(2)).findByCategory("technology", pageable);
+		verify(articleDtoReadRepository, times(2)).findPage(technology, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testGetArticles_Success_NoRetryNeeded() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
+			.thenReturn(List.of(mockArticleDTO));
 		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
-		
-		Page<Article> result = articleQueryService.getArticles(pageable, null);
+		Slice<ArticleDTO> result = getArticles(ArticleFilter.NONE);
 		
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
 		
 		// Should only be called once (no retry needed for success)
-		verify(articleRepository, times(1)).findAll(pageable);
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
+	}
+	
+	private Slice<ArticleDTO> getArticles(ArticleFilter filter) {
+		return articleQueryService.getArticlesDTO(PAGEABLE, filter, CountMode.NONE, ArticleFields.ALL);
 	}
 }
-
@@ -1,7 +1,10 @@
 package com.tispace.dataingestion.service;
 
-import com.tispace.dataingestion.domain.entity.Article;
-import com.tispace.dataingestion.infrastructure.repository.ArticleRepository;
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.CountMode;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.repository.ArticleDtoReadRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,21 +12,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.TransientDataAccessException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.sql.SQLTransientException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,161 +40,158 @@ import static org.mockito.Mockito.*;
 class ArticleQueryServiceRetryTest {
 	
 	@Mock
-	private ArticleRepository articleRepository;
+	private ArticleDtoReadRepository articleDtoReadRepository;
 	
 	@Mock
-	private com.tispace.dataingestion.application.mapper.ArticleMapper articleMapper;
+	private ArticleHotWindow articleHotWindow;
+	
+	@Mock
+	private ArticleByIdCache articleByIdCache;
 	
 	@InjectMocks
 	private ArticleQueryService articleQueryService;
 	
-	private Article mockArticle;
-	private List<Article> mockArticles;
+	private ArticleDTO mockArticleDTO;
 	private static final UUID ARTICLE_ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
+	private static final Pageable PAGEABLE = PageRequest.of(0, 20);
 	
 	@BeforeEach
 	void setUp() {
-		mockArticle = new Article();
-		mockArticle.setId(ARTICLE_ID);
-		mockArticle.setTitle("Test Article");
-		mockArticle.setDescription("Test Description");
-		mockArticle.setAuthor("Test Author");
-		mockArticle.setPublishedAt(LocalDateTime.now());
-		mockArticle.setCategory("technology");
-		
-		mockArticles = new ArrayList<>();
-		mockArticles.add(mockArticle);
+		mockArticleDTO = ArticleDTO.builder()
+			.id(ARTICLE_ID)
+			.title("Test Article")
+			.description("Test Description")
+			.author("Test Author")
+			.publishedAt(LocalDateTime.now())
+			.category("technology")
+			.build();
 	}
 	
 	@Test
 	void testGetArticles_TransientException_PropagatesException() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-		
 		// Repository throws transient exception
-		when(articleRepository.findAll(any(Pageable.class)))
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
-			.thenReturn(page);
+			.thenReturn(List.of(mockArticleDTO));
 		
 		// Note: In unit tests without Spring context, exception propagates directly
 		// With Resilience4j AOP in Spring context, retry would happen automatically
 		assertThrows(TransientDataAccessException.class, 
-			() -> articleQueryService.getArticles(pageable, null));
+			() -> getArticles(ArticleFilter.NONE));
 		
-		verify(articleRepository, times(1)).findAll(pageable);
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testGetArticles_TransientException_PropagatesOnFirstAttempt() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-		
 		// Repository throws transient exception multiple times
-		when(articleRepository.findAll(any(Pageable.class)))
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
-			.thenReturn(page);
+			.thenReturn(List.of(mockArticleDTO));
 		
 		// Without Resilience4j AOP, exception propagates on first attempt
 		// With Resilience4j in Spring context, retry would happen and eventually succeed
 		assertThrows(TransientDataAccessException.class, 
-			() -> articleQueryService.getArticles(pageable, null));
+			() -> getArticles(ArticleFilter.NONE));
 		
-		verify(articleRepository, times(1)).findAll(pageable);
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testGetArticleById_TransientException_PropagatesException() {
+		loadThroughCache();
 		// Repository throws transient exception
-		when(articleRepository.findById(ARTICLE_ID))
+		when(articleDtoReadRepository.findById(ARTICLE_ID))
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
-			.thenReturn(Optional.of(mockArticle));
+			.thenReturn(Optional.of(mockArticleDTO));
 		
 		// Note: In unit tests without Spring context, exception propagates directly
 		// With Resilience4j AOP, retry would happen automatically
 		assertThrows(TransientDataAccessException.class, 
-			() -> articleQueryService.getArticleById(ARTICLE_ID));
+			() -> articleQueryService.getArticleDTOById(ARTICLE_ID));
 		
-		verify(articleRepository, times(1)).findById(ARTICLE_ID);
+		verify(articleDtoReadRepository, times(1)).findById(ARTICLE_ID);
 	}
 	
 	@Test
 	void testGetArticles_SQLTransientException_PropagatesException() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-		
 		// SQLTransientException wrapped in RuntimeException
-		when(articleRepository.findAll(any(Pageable.class)))
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new RuntimeException(new SQLTransientException("Database timeout")))
-			.thenReturn(page);
+			.thenReturn(List.of(mockArticleDTO));
 		
 		// Exception propagates in unit tests
 		// With Resilience4j, SQLTransientException would trigger retry
 		assertThrows(RuntimeException.class, 
-			() -> articleQueryService.getArticles(pageable, null));
+			() -> getArticles(ArticleFilter.NONE));
 		
-		verify(articleRepository, times(1)).findAll(pageable);
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testGetArticles_NonTransientException_NoRetry() {
-		Pageable pageable = PageRequest.of(0, 20);
-		
 		// Non-transient exception should not trigger retry
-		when(articleRepository.findAll(any(Pageable.class)))
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new RuntimeException("Permanent error"));
 		
 		assertThrows(RuntimeException.class, 
-			() -> articleQueryService.getArticles(pageable, null));
+			() -> getArticles(ArticleFilter.NONE));
 		
 		// Should only be called once (no retry for non-transient exceptions)
-		verify(articleRepository, times(1)).findAll(pageable);
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testGetArticles_WithCategory_TransientException_PropagatesException() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-		
-		when(articleRepository.findByCategory(anyString(), any(Pageable.class)))
+		ArticleFilter technology = ArticleFilter.category("technology");
+		when(articleDtoReadRepository.findPage(technology, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
-			.thenReturn(page);
+			.thenReturn(List.of(mockArticleDTO));
 		
 		// Exception propagates in unit tests
 		// With Resilience4j, retry would happen automatically
 		assertThrows(TransientDataAccessException.class, 
-			() -> articleQueryService.getArticles(pageable, "technology"));
+			() -> getArticles(technology));
 		
-		verify(articleRepository, times(1)).findByCategory("technology", pageable);
+		verify(articleDtoReadRepository, times(1)).findPage(technology, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testGetArticleById_Success_NoRetryNeeded() {
-		when(articleRepository.findById(ARTICLE_ID)).thenReturn(Optional.of(mockArticle));
+		loadThroughCache();
+		when(articleDtoReadRepository.findById(ARTICLE_ID)).thenReturn(Optional.of(mockArticleDTO));
 		
-		Article result = articleQueryService.getArticleById(ARTICLE_ID);
+		ArticleDTO result = articleQueryService.getArticleDTOById(ARTICLE_ID);
 		
 		assertNotNull(result);
 		assertEquals(ARTICLE_ID, result.getId());
 		
 		// Should only be called once (no retry needed for success)
-		verify(articleRepository, times(1)).findById(ARTICLE_ID);
+		verify(articleDtoReadRepository, times(1)).findById(ARTICLE_ID);
 	}
 	
 	@Test
 	void testGetArticles_Success_NoRetryNeeded() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
+			.thenReturn(List.of(mockArticleDTO));
 		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
-		
-		Page<Article> result = articleQueryService.getArticles(pageable, null);
+		Slice<ArticleDTO> result = getArticles(ArticleFilter.NONE);
 		
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
 		
 		// Should only be called once (no retry needed for success)
-		verify(articleRepository, times(1)).findAll(pageable);
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
+	}
+	
+	private Slice<ArticleDTO> getArticles(ArticleFilter filter) {
+		return articleQueryService.getArticlesDTO(PAGEABLE, filter, CountMode.NONE, ArticleFields.ALL);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void loadThroughCache() {
+		when(articleByIdCache.get(any(), any())).thenAnswer(invocation ->
+			invocation.<Function<UUID, Optional<ArticleDTO>>>getArgument(1).apply(invocation.getArgument(0)));
 	}
 }
-
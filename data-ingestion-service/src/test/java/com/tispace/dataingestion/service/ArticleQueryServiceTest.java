@@ -1,10 +1,21 @@
 package com.tispace.dataingestion.service;
 
+import com.tispace.common.contract.ArticleBatchItemDTO;
 import com.tispace.common.contract.ArticleDTO;
-import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.common.contract.CategoryArticlesDTO;
+import com.tispace.common.contract.CursorPageDTO;
+import com.tispace.common.exception.BusinessException;
 import com.tispace.common.exception.NotFoundException;
-import com.tispace.dataingestion.application.mapper.ArticleMapper;
-import com.tispace.dataingestion.infrastructure.repository.ArticleRepository;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.ArticleCursor;
+import com.tispace.dataingestion.application.pagination.ArticleSearchCursor;
+import com.tispace.dataingestion.application.pagination.CountMode;
+import com.tispace.dataingestion.application.pagination.KeysetSortField;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.repository.ArticleCountEstimateRepository;
+import com.tispace.dataingestion.repository.ArticleDtoReadRepository;
+import com.tispace.dataingestion.repository.ArticleKeysetRepository;
+import com.tispace.dataingestion.repository.ArticleSearchRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,48 +23,59 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ArticleQueryServiceTest {
 	
 	@Mock
-	private ArticleRepository articleRepository;
+	private ArticleDtoReadRepository articleDtoReadRepository;
 	
 	@Mock
-	private ArticleMapper articleMapper;
+	private ArticleKeysetRepository articleKeysetRepository;
+	
+	@Mock
+	private ArticleCountEstimateRepository articleCountEstimateRepository;
+	
+	@Mock
+	private ArticleByIdCache articleByIdCache;
+	
+	@Mock
+	private ArticleHotWindow articleHotWindow;
+	
+	@Mock
+	private ArticleSearchRepository articleSearchRepository;
+	
+	@Mock
+	private ArticleSearchMetrics articleSearchMetrics;
 	
 	@InjectMocks
 	private ArticleQueryService articleQueryService;
 	
-	private Article mockArticle;
 	private ArticleDTO mockArticleDTO;
-	private List<Article> mockArticles;
 	private static final UUID ARTICLE_ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
 	
 	@BeforeEach
 	void setUp() {
-		mockArticle = new Article();
-		mockArticle.setId(ARTICLE_ID);
-		mockArticle.setTitle("Test Article");
-		mockArticle.setDescription("Test Description");
-		mockArticle.setAuthor("Test Author");
-		mockArticle.setPublishedAt(LocalDateTime.now());
-		mockArticle.setCategory("technology");
-		
 		mockArticleDTO = ArticleDTO.builder()
 			.id(ARTICLE_ID)
 			.title("Test Article")
@@ -62,197 +84,468 @@ class ArticleQueryServiceTest {
 			.publishedAt(LocalDateTime.now())
 			.category("technology")
 			.build();
+	}
+	
+	
+	
+	@Test
+	void testGetArticlesDTO_WithCategorySortedByOtherField_ThrowsBusinessException() {
+		Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title"));
 		
-		mockArticles = new ArrayList<>();
-		mockArticles.add(mockArticle);
+		assertThrows(BusinessException.class, () -> exactPage(pageable, ArticleFilter.category("technology")));
+		verifyNoInteractions(articleDtoReadRepository);
 	}
 	
+	
+	
 	@Test
-	void testGetArticles_WithCategory_ReturnsFilteredArticles() {
+	void testGetArticlesDTO_WithCategory_ReturnsFilteredDTOs() {
 		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
 		
-		when(articleRepository.findByCategory(anyString(), any(Pageable.class))).thenReturn(page);
+		when(articleDtoReadRepository.findPage(ArticleFilter.category("technology"), Sort.unsorted(), 0L, 20, ArticleFields.ALL)).thenReturn(List.of(mockArticleDTO));
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, "technology");
+		Page<ArticleDTO> result = exactPage(pageable, ArticleFilter.category("technology"));
 		
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
-		verify(articleRepository, times(1)).findByCategory("technology", pageable);
-		verify(articleRepository, never()).findAll(any(Pageable.class));
+		assertEquals(1, result.getTotalElements());
+		verify(articleDtoReadRepository, never()).count(any());
 	}
 	
 	@Test
-	void testGetArticles_WithoutCategory_ReturnsAllArticles() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
+	void testGetArticlesDTO_FullPage_CountsTotal() {
+		Pageable pageable = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "publishedAt"));
+		Sort planned = Sort.by(Sort.Direction.DESC, "publishedAt", "articleId");
 		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
+		when(articleDtoReadRepository.findPage(ArticleFilter.category("technology"), planned, 1L, 1, ArticleFields.ALL)).thenReturn(List.of(mockArticleDTO));
+		when(articleDtoReadRepository.count(ArticleFilter.category("technology"))).thenReturn(5L);
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, null);
+		Page<ArticleDTO> result = exactPage(pageable, ArticleFilter.category(" technology "));
 		
-		assertNotNull(result);
-		assertEquals(1, result.getContent().size());
-		verify(articleRepository, times(1)).findAll(pageable);
-		verify(articleRepository, never()).findByCategory(anyString(), any(Pageable.class));
+		assertEquals(5L, result.getTotalElements());
+		assertSame(mockArticleDTO, result.getContent().getFirst());
 	}
 	
 	@Test
-	void testGetArticlesDTO_WithCategory_ReturnsFilteredDTOs() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> articlePage = new PageImpl<>(mockArticles, pageable, 1);
+	void testGetArticlesDTO_InsideHotWindow_ServesPageAndTotalWithoutQuery() {
+		Sort newestFirst = Sort.by(Sort.Direction.DESC, "publishedAt");
+		Pageable pageable = PageRequest.of(1, 1, newestFirst);
+		when(articleHotWindow.find("technology", newestFirst, 1L, 1)).thenReturn(Optional.of(List.of(mockArticleDTO)));
+		when(articleHotWindow.total("technology")).thenReturn(java.util.OptionalLong.of(5L));
 		
-		when(articleRepository.findByCategory(anyString(), any(Pageable.class))).thenReturn(articlePage);
-		when(articleMapper.toDTO(any(Article.class))).thenReturn(mockArticleDTO);
+		Page<ArticleDTO> result = exactPage(pageable, ArticleFilter.category(" technology "));
 		
-		Page<ArticleDTO> result = articleQueryService.getArticlesDTO(pageable, "technology");
-		
-		assertNotNull(result);
-		assertEquals(1, result.getContent().size());
-		verify(articleMapper, times(1)).toDTO(any(Article.class));
+		assertEquals(5L, result.getTotalElements());
+		assertSame(mockArticleDTO, result.getContent().getFirst());
+		verifyNoInteractions(articleDtoReadRepository);
 	}
 	
 	@Test
-	void testGetArticleById_Exists_ReturnsArticle() {
-		when(articleRepository.findById(ARTICLE_ID)).thenReturn(Optional.of(mockArticle));
+	void testGetArticlesCountEstimated_InsideHotWindow_UsesWindowTotal() {
+		Sort newestFirst = Sort.by(Sort.Direction.DESC, "publishedAt");
+		Pageable pageable = PageRequest.of(0, 1, newestFirst);
+		when(articleHotWindow.find(null, newestFirst, 0L, 2)).thenReturn(Optional.of(List.of(articleAt(2), articleAt(1))));
+		when(articleHotWindow.total(null)).thenReturn(java.util.OptionalLong.of(300L));
 		
-		Article result = articleQueryService.getArticleById(ARTICLE_ID);
+		Page<ArticleDTO> result = (Page<ArticleDTO>) articleQueryService.getArticlesDTO(pageable, ArticleFilter.NONE, CountMode.ESTIMATED, ArticleFields.ALL);
 		
-		assertNotNull(result);
-		assertEquals(ARTICLE_ID, result.getId());
-		assertEquals("Test Article", result.getTitle());
-		verify(articleRepository, times(1)).findById(ARTICLE_ID);
+		assertEquals(300L, result.getTotalElements());
+		assertEquals(1, result.getNumberOfElements());
+		verifyNoInteractions(articleDtoReadRepository, articleCountEstimateRepository);
 	}
 	
 	@Test
-	void testGetArticleById_NotExists_ThrowsException() {
-		when(articleRepository.findById(ARTICLE_ID)).thenReturn(Optional.empty());
+	void testGetTopArticlesPerCategory_OneEntryPerCategory() {
+		Map<String, List<ArticleDTO>> top = new java.util.TreeMap<>();
+		top.put("business", List.of(articleAt(1)));
+		top.put("technology", List.of(mockArticleDTO));
+		when(articleHotWindow.topPerCategory(3)).thenReturn(top);
 		
-		assertThrows(NotFoundException.class, () -> articleQueryService.getArticleById(ARTICLE_ID));
-		verify(articleRepository, times(1)).findById(ARTICLE_ID);
+		List<CategoryArticlesDTO> result = articleQueryService.getTopArticlesPerCategory(3);
+		
+		assertEquals(List.of("business", "technology"), result.stream().map(CategoryArticlesDTO::getCategory).toList());
+		assertEquals(List.of(mockArticleDTO), result.get(1).getArticles());
 	}
 	
+	
+	
 	@Test
 	void testGetArticleDTOById_Exists_ReturnsDTO() {
-		when(articleRepository.findById(ARTICLE_ID)).thenReturn(Optional.of(mockArticle));
-		when(articleMapper.toDTO(any(Article.class))).thenReturn(mockArticleDTO);
+		loadThroughCache();
+		when(articleDtoReadRepository.findById(ARTICLE_ID)).thenReturn(Optional.of(mockArticleDTO));
 		
 		ArticleDTO result = articleQueryService.getArticleDTOById(ARTICLE_ID);
 		
 		assertNotNull(result);
 		assertEquals(ARTICLE_ID, result.getId());
 		assertEquals("Test Article", result.getTitle());
-		verify(articleMapper, times(1)).toDTO(any(Article.class));
 	}
 	
 	@Test
 	void testGetArticleDTOById_NotExists_ThrowsException() {
-		when(articleRepository.findById(ARTICLE_ID)).thenReturn(Optional.empty());
+		loadThroughCache();
+		when(articleDtoReadRepository.findById(ARTICLE_ID)).thenReturn(Optional.empty());
 		
 		assertThrows(NotFoundException.class, () -> articleQueryService.getArticleDTOById(ARTICLE_ID));
-		verify(articleRepository, times(1)).findById(ARTICLE_ID);
-		verify(articleMapper, never()).toDTO(any(Article.class));
+		verify(articleDtoReadRepository, times(1)).findById(ARTICLE_ID);
 	}
 	
 	@Test
-	void testGetArticles_WithEmptyCategory_ReturnsAllArticles() {
+	void testGetArticleDTOById_Cached_SkipsRepository() {
+		when(articleByIdCache.get(eq(ARTICLE_ID), any())).thenReturn(Optional.of(mockArticleDTO));
+		
+		assertSame(mockArticleDTO, articleQueryService.getArticleDTOById(ARTICLE_ID));
+		verifyNoInteractions(articleDtoReadRepository);
+	}
+	
+	@Test
+	void testGetArticleDTOsByIds_ReturnsItemPerRequestedIdInOrder() {
+		UUID missingId = UUID.randomUUID();
+		when(articleByIdCache.getAll(any(), any())).thenAnswer(invocation -> {
+			Function<Set<UUID>, Map<UUID, ArticleDTO>> loader = invocation.getArgument(1);
+			Map<UUID, ArticleDTO> found = loader.apply(Set.copyOf(invocation.<Collection<UUID>>getArgument(0)));
+			Map<UUID, Optional<ArticleDTO>> result = new HashMap<>();
+			invocation.<Collection<UUID>>getArgument(0).forEach(id -> result.put(id, Optional.ofNullable(found.get(id))));
+			return result;
+		});
+		when(articleDtoReadRepository.findByIds(Set.of(missingId, ARTICLE_ID))).thenReturn(List.of(mockArticleDTO));
+		
+		List<ArticleBatchItemDTO> items = articleQueryService.getArticleDTOsByIds(List.of(missingId, ARTICLE_ID, missingId));
+		
+		assertEquals(List.of(missingId, ARTICLE_ID, missingId), items.stream().map(ArticleBatchItemDTO::getId).toList());
+		assertFalse(items.get(0).isFound());
+		assertNull(items.get(0).getArticle());
+		assertTrue(items.get(1).isFound());
+		assertSame(mockArticleDTO, items.get(1).getArticle());
+		assertFalse(items.get(2).isFound());
+		verify(articleDtoReadRepository, times(1)).findByIds(any());
+	}
+	
+	
+	@Test
+	void testGetArticlesDTO_WithWhitespaceCategory_ReturnsAllDTOs() {
 		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
 		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 20, ArticleFields.ALL)).thenReturn(List.of(mockArticleDTO));
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, "");
+		Page<ArticleDTO> result = exactPage(pageable, ArticleFilter.category("   "));
 		
-		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
-		verify(articleRepository, times(1)).findAll(pageable);
-		verify(articleRepository, never()).findByCategory(anyString(), any(Pageable.class));
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 20, ArticleFields.ALL);
 	}
+
 	
 	@Test
-	void testGetArticles_WithWhitespaceCategory_ReturnsAllArticles() {
+	void testGetArticlesDTO_WithoutCategory_ReturnsAllDTOs() {
 		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
 		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 20, ArticleFields.ALL)).thenReturn(List.of(mockArticleDTO));
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, "   ");
+		Page<ArticleDTO> result = exactPage(pageable, ArticleFilter.NONE);
 		
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
-		verify(articleRepository, times(1)).findAll(pageable);
-		verify(articleRepository, never()).findByCategory(anyString(), any(Pageable.class));
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 20, ArticleFields.ALL);
 	}
-
+	
 	@Test
-	void testGetArticles_WithTrimmedCategory_FiltersByTrimmedCategory() {
+	void testGetArticlesDTO_WithEmptyCategory_ReturnsAllDTOs() {
 		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-
-		when(articleRepository.findByCategory(anyString(), any(Pageable.class))).thenReturn(page);
-
-		Page<Article> result = articleQueryService.getArticles(pageable, "  technology  ");
-
+		
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 20, ArticleFields.ALL)).thenReturn(List.of(mockArticleDTO));
+		
+		Page<ArticleDTO> result = exactPage(pageable, ArticleFilter.category(""));
+		
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
-		verify(articleRepository, times(1)).findByCategory("technology", pageable);
-		verify(articleRepository, never()).findAll(any(Pageable.class));
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 20, ArticleFields.ALL);
 	}
 	
 	@Test
-	void testGetArticlesDTO_WithoutCategory_ReturnsAllDTOs() {
+	void testGetArticlesDTO_SortedByTextField_PassesPlannedSort() {
+		Pageable pageable = PageRequest.of(1, 20, Sort.by(Sort.Direction.ASC, "title"));
+		Sort planned = Sort.by(Sort.Direction.ASC, "titleSortKey", "id");
+		
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, planned, 20L, 20, ArticleFields.ALL)).thenReturn(List.of());
+		when(articleDtoReadRepository.count(ArticleFilter.NONE)).thenReturn(20L);
+		
+		Page<ArticleDTO> result = exactPage(pageable, ArticleFilter.NONE);
+		
+		assertEquals(20L, result.getTotalElements());
+	}
+	
+	@Test
+	void testGetArticlesDTO_EmptyPage_ReturnsEmptyPage() {
 		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> articlePage = new PageImpl<>(mockArticles, pageable, 1);
 		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(articlePage);
-		when(articleMapper.toDTO(any(Article.class))).thenReturn(mockArticleDTO);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 20, ArticleFields.ALL)).thenReturn(List.of());
 		
-		Page<ArticleDTO> result = articleQueryService.getArticlesDTO(pageable, null);
+		Page<ArticleDTO> result = exactPage(pageable, ArticleFilter.NONE);
 		
-		assertNotNull(result);
-		assertEquals(1, result.getContent().size());
-		verify(articleMapper, times(1)).toDTO(any(Article.class));
-		verify(articleRepository, times(1)).findAll(pageable);
+		assertTrue(result.isEmpty());
+		assertEquals(0L, result.getTotalElements());
 	}
 	
+	
 	@Test
-	void testGetArticlesDTO_WithEmptyCategory_ReturnsAllDTOs() {
+	void testGetArticlesByCursor_FullPage_ReturnsCursorOfLastRow() {
+		Sort sort = Sort.by(Sort.Direction.DESC, "publishedAt");
+		List<ArticleDTO> rows = List.of(articleAt(3), articleAt(2), articleAt(1));
+		when(articleKeysetRepository.findAfter(KeysetSortField.PUBLISHED_AT, Sort.Direction.DESC, ArticleFilter.category("technology"), null, null, 3, ArticleFields.ALL))
+			.thenReturn(rows);
+		
+		CursorPageDTO<ArticleDTO> result = articleQueryService.getArticlesByCursor("", 2, sort, ArticleFilter.category(" technology "), CountMode.NONE,
+			ArticleFields.ALL);
+		
+		assertEquals(2, result.getContent().size());
+		assertTrue(result.isHasNext());
+		ArticleCursor next = ArticleCursor.decode(result.getNextCursor());
+		assertEquals(rows.get(1).getId(), next.id());
+		assertEquals(rows.get(1).getPublishedAt(), next.sortValue());
+		assertEquals("technology", next.filter());
+		verify(articleKeysetRepository, never()).findWithNullKeyAfter(any(), any(), any(), any(), anyInt(), any());
+	}
+	
+	@Test
+	void testGetArticlesDTO_SparseFieldset_ReadsOnlyItsColumns() {
 		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> articlePage = new PageImpl<>(mockArticles, pageable, 1);
+		ArticleFields titles = ArticleFields.of(List.of("title"));
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, titles)).thenReturn(List.of(mockArticleDTO));
 		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(articlePage);
-		when(articleMapper.toDTO(any(Article.class))).thenReturn(mockArticleDTO);
+		Slice<ArticleDTO> result = articleQueryService.getArticlesDTO(pageable, ArticleFilter.NONE, CountMode.NONE, titles);
 		
-		Page<ArticleDTO> result = articleQueryService.getArticlesDTO(pageable, "");
+		assertEquals(List.of(mockArticleDTO), result.getContent());
+	}
+	
+	@Test
+	void testGetArticlesByCursor_SparseFieldset_AlsoReadsSortKey() {
+		Sort sort = Sort.by(Sort.Direction.DESC, "publishedAt");
+		ArticleFields titles = ArticleFields.of(List.of("title"));
+		List<ArticleDTO> rows = List.of(articleAt(3), articleAt(2), articleAt(1));
+		when(articleKeysetRepository.findAfter(KeysetSortField.PUBLISHED_AT, Sort.Direction.DESC, ArticleFilter.NONE, null, null, 3,
+			ArticleFields.of(List.of("title", "publishedAt")))).thenReturn(rows);
+		
+		CursorPageDTO<ArticleDTO> result = articleQueryService.getArticlesByCursor("", 2, sort, ArticleFilter.NONE, CountMode.NONE, titles);
+		
+		assertEquals(rows.get(1).getPublishedAt(), ArticleCursor.decode(result.getNextCursor()).sortValue());
+	}
+	
+	@Test
+	void testGetArticlesByCursor_KeyedRowsExhausted_ContinuesWithNullKeyRows() {
+		Sort sort = Sort.by(Sort.Direction.DESC, "publishedAt");
+		ArticleDTO keyed = articleAt(1);
+		ArticleDTO unkeyed = articleAt(2);
+		unkeyed.setPublishedAt(null);
+		ArticleCursor cursor = new ArticleCursor(KeysetSortField.PUBLISHED_AT, Sort.Direction.DESC, null, false,
+			LocalDateTime.of(2025, 1, 2, 0, 0), UUID.randomUUID());
+		when(articleKeysetRepository.findAfter(KeysetSortField.PUBLISHED_AT, Sort.Direction.DESC, ArticleFilter.NONE,
+			cursor.sortValue(), cursor.id(), 2, ArticleFields.ALL)).thenReturn(List.of(keyed));
+		when(articleKeysetRepository.findWithNullKeyAfter(KeysetSortField.PUBLISHED_AT, Sort.Direction.DESC, ArticleFilter.NONE, null, 1, ArticleFields.ALL))
+			.thenReturn(List.of(unkeyed));
+		
+		CursorPageDTO<ArticleDTO> result = articleQueryService.getArticlesByCursor(cursor.encode(), 1, sort, ArticleFilter.NONE, CountMode.NONE,
+			ArticleFields.ALL);
 		
-		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
-		verify(articleMapper, times(1)).toDTO(any(Article.class));
-		verify(articleRepository, times(1)).findAll(pageable);
+		assertTrue(result.isHasNext());
+		assertFalse(ArticleCursor.decode(result.getNextCursor()).nullKeys());
 	}
 	
 	@Test
-	void testGetArticles_EmptyPage_ReturnsEmptyPage() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> emptyPage = new PageImpl<>(new ArrayList<>(), pageable, 0);
+	void testGetArticlesByCursor_InNullKeyPhase_SkipsKeyedQuery() {
+		Sort sort = Sort.by(Sort.Direction.ASC, "publishedAt");
+		UUID lastId = UUID.randomUUID();
+		ArticleCursor cursor = new ArticleCursor(KeysetSortField.PUBLISHED_AT, Sort.Direction.ASC, null, true, null, lastId);
+		when(articleKeysetRepository.findWithNullKeyAfter(KeysetSortField.PUBLISHED_AT, Sort.Direction.ASC, ArticleFilter.NONE, lastId, 21, ArticleFields.ALL))
+			.thenReturn(List.of());
+		
+		CursorPageDTO<ArticleDTO> result = articleQueryService.getArticlesByCursor(cursor.encode(), 20, sort, ArticleFilter.NONE, CountMode.NONE,
+			ArticleFields.ALL);
+		
+		assertTrue(result.getContent().isEmpty());
+		assertFalse(result.isHasNext());
+		assertNull(result.getNextCursor());
+		verify(articleKeysetRepository, never()).findAfter(any(), any(), any(), any(), any(), anyInt(), any());
+	}
+	
+	@Test
+	void testGetArticlesByCursor_CursorForOtherSort_ThrowsBusinessException() {
+		String cursor = new ArticleCursor(KeysetSortField.CREATED_AT, Sort.Direction.DESC, null, false,
+			LocalDateTime.now(), UUID.randomUUID()).encode();
+		
+		assertThrows(BusinessException.class,
+			() -> articleQueryService.getArticlesByCursor(cursor, 20, Sort.by(Sort.Direction.DESC, "publishedAt"), ArticleFilter.NONE,
+				CountMode.NONE, ArticleFields.ALL));
+		verifyNoInteractions(articleKeysetRepository);
+	}
+	
+	@Test
+	void testGetArticlesByCursor_UnsupportedSortField_ThrowsBusinessException() {
+		assertThrows(BusinessException.class,
+			() -> articleQueryService.getArticlesByCursor(null, 20, Sort.by(Sort.Direction.ASC, "slug"), ArticleFilter.NONE,
+				CountMode.NONE, ArticleFields.ALL));
+	}
+	
+	@Test
+	void testGetArticlesByCursor_TextSortField_CursorCarriesOnlyLastId() {
+		Sort sort = Sort.by(Sort.Direction.ASC, "author");
+		ArticleDTO withAuthor = articleAt(1);
+		withAuthor.setAuthor("Jane Doe");
+		ArticleDTO withoutAuthor = articleAt(2);
+		when(articleKeysetRepository.findAfter(KeysetSortField.AUTHOR, Sort.Direction.ASC, ArticleFilter.NONE, null, null, 2,
+			ArticleFields.of(List.of("title", "author")))).thenReturn(List.of(withAuthor, articleAt(3)));
+		when(articleKeysetRepository.findAfter(KeysetSortField.AUTHOR, Sort.Direction.ASC, ArticleFilter.NONE, null,
+			withAuthor.getId(), 2, ArticleFields.ALL)).thenReturn(List.of());
+		when(articleKeysetRepository.findWithNullKeyAfter(KeysetSortField.AUTHOR, Sort.Direction.ASC, ArticleFilter.NONE,
+			null, 2, ArticleFields.ALL)).thenReturn(List.of(withoutAuthor, articleAt(4)));
+		
+		String first = articleQueryService.getArticlesByCursor("", 1, sort, ArticleFilter.NONE, CountMode.NONE,
+			ArticleFields.of(List.of("title"))).getNextCursor();
+		String second = articleQueryService.getArticlesByCursor(first, 1, sort, ArticleFilter.NONE, CountMode.NONE,
+			ArticleFields.ALL).getNextCursor();
+		
+		assertEquals(new ArticleCursor(KeysetSortField.AUTHOR, Sort.Direction.ASC, null, false, null, withAuthor.getId()),
+			ArticleCursor.decode(first));
+		assertEquals(new ArticleCursor(KeysetSortField.AUTHOR, Sort.Direction.ASC, null, true, null, withoutAuthor.getId()),
+			ArticleCursor.decode(second));
+	}
+	
+	@Test
+	void testGetArticlesCountNone_FetchesOneExtraRowWithoutCount() {
+		Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "publishedAt"));
+		when(articleDtoReadRepository.findPage(ArticleFilter.category("technology"), Sort.by(Sort.Direction.DESC, "publishedAt", "articleId"), 0L, 2, ArticleFields.ALL))
+			.thenReturn(List.of(articleAt(2), articleAt(1)));
+		
+		Slice<ArticleDTO> result = articleQueryService.getArticlesDTO(pageable, ArticleFilter.category("technology"), CountMode.NONE, ArticleFields.ALL);
+		
+		assertFalse(result instanceof Page);
+		assertTrue(result.hasNext());
+		assertEquals(1, result.getNumberOfElements());
+		verify(articleDtoReadRepository, never()).count(any());
+		verifyNoInteractions(articleCountEstimateRepository);
+	}
+	
+	@Test
+	void testGetArticlesCountEstimated_UsesTopicCounter() {
+		Pageable pageable = PageRequest.of(2, 1, Sort.by(Sort.Direction.ASC, "id"));
+		when(articleDtoReadRepository.findPage(ArticleFilter.category("technology"), Sort.by(Sort.Direction.ASC, "articleId"), 2L, 2, ArticleFields.ALL))
+			.thenReturn(List.of(articleAt(2), articleAt(1)));
+		when(articleCountEstimateRepository.countByTopic("technology")).thenReturn(1000L);
 		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
+		Page<ArticleDTO> result = (Page<ArticleDTO>) articleQueryService.getArticlesDTO(pageable, ArticleFilter.category("technology"), CountMode.ESTIMATED, ArticleFields.ALL);
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, null);
+		assertEquals(1000L, result.getTotalElements());
+	}
+	
+	@Test
+	void testGetArticlesCountEstimated_EstimateBelowWhatPageShows_IsRaised() {
+		Pageable pageable = PageRequest.of(5, 1);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 5L, 2, ArticleFields.ALL)).thenReturn(List.of(articleAt(2), articleAt(1)));
+		when(articleCountEstimateRepository.estimateArticles()).thenReturn(java.util.OptionalLong.of(2L));
 		
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
-		assertEquals(0, result.getContent().size());
+		Page<ArticleDTO> result = (Page<ArticleDTO>) articleQueryService.getArticlesDTO(pageable, ArticleFilter.NONE, CountMode.ESTIMATED, ArticleFields.ALL);
+		
+		assertEquals(7L, result.getTotalElements());
 	}
 	
 	@Test
-	void testGetArticleById_NullId_ThrowsNotFoundException() {
-		// Repository.findById(null) returns Optional.empty(), which triggers NotFoundException
-		when(articleRepository.findById(null)).thenReturn(java.util.Optional.empty());
+	void testGetArticlesCountEstimated_LastPage_IsExactWithoutEstimate() {
+		Pageable pageable = PageRequest.of(3, 20);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 60L, 21, ArticleFields.ALL)).thenReturn(List.of(mockArticleDTO));
 		
-		assertThrows(NotFoundException.class, () -> articleQueryService.getArticleById(null));
-		verify(articleRepository, times(1)).findById(null);
+		Page<ArticleDTO> result = (Page<ArticleDTO>) articleQueryService.getArticlesDTO(pageable, ArticleFilter.NONE, CountMode.ESTIMATED, ArticleFields.ALL);
+		
+		assertEquals(61L, result.getTotalElements());
+		verifyNoInteractions(articleCountEstimateRepository);
+	}
+	
+	@Test
+	void testGetArticlesCountEstimated_TableNeverAnalyzed_FallsBackToExactCount() {
+		Pageable pageable = PageRequest.of(0, 1);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 2, ArticleFields.ALL)).thenReturn(List.of(articleAt(2), articleAt(1)));
+		when(articleCountEstimateRepository.estimateArticles()).thenReturn(java.util.OptionalLong.empty());
+		when(articleDtoReadRepository.count(ArticleFilter.NONE)).thenReturn(42L);
+		
+		Page<ArticleDTO> result = (Page<ArticleDTO>) articleQueryService.getArticlesDTO(pageable, ArticleFilter.NONE, CountMode.ESTIMATED, ArticleFields.ALL);
+		
+		assertEquals(42L, result.getTotalElements());
+	}
+	
+	@Test
+	void testGetArticlesByCursor_CountExact_ReportsTopicCount() {
+		when(articleKeysetRepository.findAfter(KeysetSortField.ID, Sort.Direction.ASC, ArticleFilter.category("technology"), null, null, 21, ArticleFields.ALL))
+			.thenReturn(List.of());
+		when(articleDtoReadRepository.count(ArticleFilter.category("technology"))).thenReturn(3L);
+		
+		CursorPageDTO<ArticleDTO> result = articleQueryService.getArticlesByCursor(null, 20,
+			Sort.by(Sort.Direction.ASC, "id"), ArticleFilter.category("technology"), CountMode.EXACT, ArticleFields.ALL);
+		
+		assertEquals(3L, result.getTotalElements());
+	}
+	
+	@Test
+	void testGetArticlesByCursor_CategoryWithUnindexedSort_ThrowsBusinessException() {
+		assertThrows(BusinessException.class, () -> articleQueryService.getArticlesByCursor(null, 20,
+			Sort.by(Sort.Direction.DESC, "createdAt"), ArticleFilter.category("technology"), CountMode.NONE,
+			ArticleFields.ALL));
+		verifyNoInteractions(articleKeysetRepository);
+	}
+	
+	@Test
+	void testSearchArticles_MoreHitsThanPage_ReturnsCursorAtLastRank() {
+		ArticleDTO first = articleAt(2);
+		ArticleDTO second = articleAt(1);
+		when(articleSearchRepository.search("electric vehicles", "technology", 0f, null, 3)).thenReturn(List.of(
+			new ArticleSearchRepository.Hit(first, 0.9f),
+			new ArticleSearchRepository.Hit(second, 0.4f),
+			new ArticleSearchRepository.Hit(articleAt(3), 0.1f)));
+		
+		CursorPageDTO<ArticleDTO> result = articleQueryService.searchArticles("  electric   vehicles ", null, 2, " technology ");
+		
+		assertEquals(List.of(first, second), result.getContent());
+		assertTrue(result.isHasNext());
+		assertNull(result.getTotalElements());
+		assertEquals(ArticleSearchCursor.after("electric vehicles", "technology", 0.4f, second.getId()),
+			ArticleSearchCursor.decode(result.getNextCursor()));
+		verify(articleSearchMetrics).onSearch(eq(true), eq(2), anyLong());
+	}
+	
+	@Test
+	void testSearchArticles_WithCursor_SeeksPastLastHit() {
+		String cursor = ArticleSearchCursor.after("chips", null, 0.4f, ARTICLE_ID).encode();
+		when(articleSearchRepository.search("chips", null, 0.4f, ARTICLE_ID, 21)).thenReturn(List.of());
+		
+		CursorPageDTO<ArticleDTO> result = articleQueryService.searchArticles("chips", cursor, 20, null);
+		
+		assertTrue(result.getContent().isEmpty());
+		assertFalse(result.isHasNext());
+		assertNull(result.getNextCursor());
+	}
+	
+	@Test
+	void testSearchArticles_BlankQueryOrForeignCursor_ThrowsBusinessException() {
+		String cursor = ArticleSearchCursor.after("chips", null, 0.4f, ARTICLE_ID).encode();
+		
+		assertThrows(BusinessException.class, () -> articleQueryService.searchArticles("   ", null, 20, null));
+		assertThrows(BusinessException.class, () -> articleQueryService.searchArticles("memory", cursor, 20, null));
+		verifyNoInteractions(articleSearchRepository);
+	}
+	
+	private Page<ArticleDTO> exactPage(Pageable pageable, ArticleFilter filter) {
+		return (Page<ArticleDTO>) articleQueryService.getArticlesDTO(pageable, filter, CountMode.EXACT, ArticleFields.ALL);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void loadThroughCache() {
+		when(articleByIdCache.get(any(), any())).thenAnswer(invocation ->
+			invocation.<Function<UUID, Optional<ArticleDTO>>>getArgument(1).apply(invocation.getArgument(0)));
+	}
+	
+	private static ArticleDTO articleAt(int day) {
+		return ArticleDTO.builder()
+			.id(UUID.randomUUID())
+			.title("Article " + day)
+			.publishedAt(LocalDateTime.of(2025, 1, day, 12, 0))
+			.build();
 	}
 }
-
-
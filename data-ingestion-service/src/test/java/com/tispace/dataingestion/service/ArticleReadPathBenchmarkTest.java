@@ -0,0 +1,173 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.mapper.ArticleMapper;
+import com.tispace.dataingestion.application.pagination.ArticleSortPlan;
+import com.tispace.dataingestion.application.pagination.CountMode;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.infrastructure.repository.ArticleRepository;
+import com.tispace.dataingestion.repository.ArticleBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the entity read path (Hibernate query, entity hydration, MapStruct copy) with the JdbcTemplate DTO
+ * projection on the same requests: latency percentiles and bytes allocated on the calling thread per request.
+ * Opt-in with {@code -Dbenchmark=true}; requires Docker. Results are logged, only result equality is asserted.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(classes = {
+	com.tispace.dataingestion.DataIngestionServiceApplication.class
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+	"scheduler.enabled=false",
+	"query-service.internal-token=test-token",
+	"external-api.news-api.api-key=test-key"
+})
+class ArticleReadPathBenchmarkTest {
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static final int ARTICLES = 5000;
+	private static final int WARMUP = 500;
+	private static final int ITERATIONS = 2000;
+
+	private final com.sun.management.ThreadMXBean threads =
+		(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private ArticleQueryService articleQueryService;
+
+	@Autowired
+	private ArticleRepository articleRepository;
+
+	@Autowired
+	private ArticleMapper articleMapper;
+
+	@Autowired
+	private ArticleBatchRepository articleBatchRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UUID sampleId;
+
+	@BeforeAll
+	void seed() {
+		List<Article> articles = new ArrayList<>();
+		LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+		for (int i = 0; i < ARTICLES; i++) {
+			Article article = new Article();
+			article.setTitle("Benchmark article " + i);
+			article.setDescription("Description of benchmark article " + i + " with a few more words of body text");
+			article.setAuthor("Author " + (i % 50));
+			article.setPublishedAt(start.plusMinutes(i));
+			article.setCategory(i % 2 == 0 ? "technology" : "business");
+			article.setLanguage("en");
+			article.setKeywords(List.of("benchmark", "article", "k" + (i % 10)));
+			article.setSlug("benchmark-article-" + i);
+			article.setReadingTimeMinutes(1 + i % 5);
+			articles.add(article);
+		}
+		articleBatchRepository.batchInsertIgnoreDuplicates(articles);
+		jdbcTemplate.execute("ANALYZE articles");
+		jdbcTemplate.execute("ANALYZE article_topics");
+		sampleId = articles.get(ARTICLES / 2).getId();
+	}
+
+	@Test
+	void listingPage() {
+		Pageable pageable = PageRequest.of(10, 50, Sort.by(Sort.Direction.DESC, "publishedAt"));
+		compare("list page=10 size=50 sort=publishedAt,desc",
+			() -> articleRepository.findAll(ArticleSortPlan.plan(pageable, null)).map(articleMapper::toDTO).getContent(),
+			() -> dtoPage(pageable, ArticleFilter.NONE));
+	}
+
+	@Test
+	void categoryPage() {
+		Pageable pageable = PageRequest.of(10, 50, Sort.by(Sort.Direction.DESC, "publishedAt"));
+		compare("list category=technology page=10 size=50",
+			() -> articleRepository.findByCategory("technology", ArticleSortPlan.plan(pageable, "technology"))
+				.map(articleMapper::toDTO).getContent(),
+			() -> dtoPage(pageable, ArticleFilter.category("technology")));
+	}
+
+	@Test
+	void singleArticle() {
+		compare("get by id",
+			() -> List.of(articleMapper.toDTO(articleRepository.findById(sampleId).orElseThrow())),
+			() -> List.of(articleQueryService.getArticleDTOById(sampleId)));
+	}
+
+	private List<ArticleDTO> dtoPage(Pageable pageable, ArticleFilter filter) {
+		return articleQueryService.getArticlesDTO(pageable, filter, CountMode.EXACT, ArticleFields.ALL).getContent();
+	}
+
+	private void compare(String scenario, Supplier<List<ArticleDTO>> entityPath, Supplier<List<ArticleDTO>> dtoPath) {
+		assertEquals(entityPath.get(), dtoPath.get(), "both read paths must return the same articles");
+
+		for (int i = 0; i < WARMUP; i++) {
+			entityPath.get();
+			dtoPath.get();
+		}
+		Result entity = measure(entityPath);
+		Result dto = measure(dtoPath);
+
+		log.info("{} | entity: p50={}us p99={}us alloc={}KB/req | dto: p50={}us p99={}us alloc={}KB/req",
+			scenario, entity.p50Micros(), entity.p99Micros(), entity.allocatedKb(),
+			dto.p50Micros(), dto.p99Micros(), dto.allocatedKb());
+	}
+
+	private Result measure(Supplier<List<ArticleDTO>> path) {
+		long threadId = Thread.currentThread().threadId();
+		long[] nanos = new long[ITERATIONS];
+		long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			path.get();
+			nanos[i] = System.nanoTime() - start;
+		}
+		long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		Arrays.sort(nanos);
+		return new Result(nanos[ITERATIONS / 2] / 1000, nanos[ITERATIONS * 99 / 100] / 1000,
+			allocated / ITERATIONS / 1024);
+	}
+
+	private record Result(long p50Micros, long p99Micros, long allocatedKb) {}
+}
@@ -0,0 +1,144 @@
+package com.tispace.dataingestion.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.projection.ArticleFields;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.repository.ArticleBatchRepository;
+import com.tispace.dataingestion.repository.ArticleDtoReadRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares a title-only page with a full page of the same listing: query plus serialization latency percentiles
+ * and response bytes. Descriptions are long enough to be stored out of line (TOAST), which is what a fieldset
+ * without them avoids reading. Opt-in with {@code -Dbenchmark=true}; requires Docker. Results are logged, only the
+ * ids of both pages are asserted equal.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(classes = {
+	com.tispace.dataingestion.DataIngestionServiceApplication.class
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+	"scheduler.enabled=false",
+	"query-service.internal-token=test-token",
+	"external-api.news-api.api-key=test-key"
+})
+class ArticleSparseFieldsBenchmarkTest {
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static final int ARTICLES = 5000;
+	private static final int WARMUP = 500;
+	private static final int ITERATIONS = 2000;
+	private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "publishedAt", "id");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private ArticleDtoReadRepository articleDtoReadRepository;
+
+	@Autowired
+	private ArticleBatchRepository articleBatchRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void seed() {
+		List<Article> articles = new ArrayList<>();
+		LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+		for (int i = 0; i < ARTICLES; i++) {
+			Article article = new Article();
+			article.setTitle("Benchmark article " + i);
+			// ~4KB of varied text, so it is neither compressed inline nor kept in the heap tuple
+			article.setDescription(("Paragraph " + i + " of benchmark article body text. ").repeat(80));
+			article.setAuthor("Author " + (i % 50));
+			article.setPublishedAt(start.plusMinutes(i));
+			article.setCategory(i % 2 == 0 ? "technology" : "business");
+			article.setLanguage("en");
+			article.setKeywords(List.of("benchmark", "article", "k" + (i % 10)));
+			article.setSlug("benchmark-article-" + i);
+			article.setReadingTimeMinutes(1 + i % 5);
+			articles.add(article);
+		}
+		articleBatchRepository.batchInsertIgnoreDuplicates(articles);
+		jdbcTemplate.execute("ANALYZE articles");
+		jdbcTemplate.execute("ANALYZE article_topics");
+	}
+
+	@Test
+	void titlesVersusFullPage() throws JsonProcessingException {
+		ArticleFields titles = ArticleFields.of(List.of("title", "publishedAt"));
+		assertEquals(ids(page(ArticleFields.ALL)), ids(page(titles)), "both fieldsets must list the same articles");
+
+		for (int i = 0; i < WARMUP; i++) {
+			serialize(ArticleFields.ALL);
+			serialize(titles);
+		}
+		Result full = measure(ArticleFields.ALL);
+		Result sparse = measure(titles);
+
+		log.info("list offset=500 size=50 | full: p50={}us p99={}us body={}B | fields={}: p50={}us p99={}us body={}B",
+			full.p50Micros(), full.p99Micros(), full.bodyBytes(),
+			titles, sparse.p50Micros(), sparse.p99Micros(), sparse.bodyBytes());
+	}
+
+	private List<ArticleDTO> page(ArticleFields fields) {
+		return articleDtoReadRepository.findPage(null, NEWEST_FIRST, 500L, 50, fields);
+	}
+
+	private byte[] serialize(ArticleFields fields) throws JsonProcessingException {
+		return objectMapper.writer(fields.filters()).writeValueAsBytes(page(fields));
+	}
+
+	private Result measure(ArticleFields fields) throws JsonProcessingException {
+		long[] nanos = new long[ITERATIONS];
+		int bodyBytes = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			bodyBytes = serialize(fields).length;
+			nanos[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(nanos);
+		return new Result(nanos[ITERATIONS / 2] / 1000, nanos[ITERATIONS * 99 / 100] / 1000, bodyBytes);
+	}
+
+	private static List<UUID> ids(List<ArticleDTO> page) {
+		return page.stream().map(ArticleDTO::getId).toList();
+	}
+
+	private record Result(long p50Micros, long p99Micros, int bodyBytes) {}
+}
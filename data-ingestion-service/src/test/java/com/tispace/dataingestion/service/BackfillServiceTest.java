@@ -0,0 +1,222 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.exception.BusinessException;
+import com.tispace.common.exception.ExternalApiException;
+import com.tispace.dataingestion.config.BackfillProperties;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.domain.validation.ArticleValidator;
+import com.tispace.dataingestion.repository.BackfillCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 1, 2, 0, 0);
+
+    @Mock
+    private ExternalApiClient externalApiClient;
+
+    @Mock
+    private ArticlePersistenceService articlePersistenceService;
+
+    @Mock
+    private ArticleValidator articleValidator;
+
+    @Mock
+    private ArticleEnrichmentService articleEnrichmentService;
+
+    @Mock
+    private BackfillCheckpointRepository checkpointRepository;
+
+    @Mock
+    private BackfillMetrics metrics;
+
+    private BackfillProperties properties;
+    private BackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BackfillProperties();
+        properties.setWindow(Duration.ofHours(6));
+        backfillService = new BackfillService(externalApiClient, articlePersistenceService, articleValidator,
+                articleEnrichmentService, checkpointRepository, metrics, properties, Runnable::run);
+        lenient().when(articleValidator.isValid(any(Article.class))).thenReturn(true);
+    }
+
+    @Test
+    void splitWindows_truncatesLastWindowAtUpperBound() {
+        List<BackfillService.TimeWindow> windows = BackfillService.splitWindows(
+                FROM, FROM.plusHours(14), Duration.ofHours(6));
+
+        assertEquals(3, windows.size());
+        assertEquals(FROM, windows.get(0).start());
+        assertEquals(FROM.plusHours(6), windows.get(0).end());
+        assertEquals(FROM.plusHours(12), windows.get(2).start());
+        assertEquals(FROM.plusHours(14), windows.get(2).end());
+    }
+
+    @Test
+    void run_fetchesEveryWindowAndCheckpointsIt() {
+        when(checkpointRepository.findCompletedWindows(anyString(), eq(FROM), eq(TO))).thenReturn(Map.of());
+        when(externalApiClient.fetchArticles(eq("ai"), eq("ai"), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(page(article("a"), article("b")));
+        when(articlePersistenceService.saveArticles(anyList())).thenReturn(2);
+
+        BackfillStatus status = backfillService.run(new BackfillService.BackfillRequest("ai", "ai", FROM, TO));
+
+        assertEquals(BackfillStatus.State.COMPLETED, status.state());
+        assertEquals(4, status.windowsTotal());
+        assertEquals(4, status.windowsCompleted());
+        assertEquals(8, status.rowsFetched());
+        assertEquals(8, status.rowsInserted());
+        verify(externalApiClient).fetchArticles("ai", "ai", FROM, FROM.plusHours(6));
+        verify(checkpointRepository).markCompleted(anyString(), eq(FROM.plusHours(18)), eq(TO), eq(2), eq(2));
+        verify(metrics, times(4)).onWindowCompleted(2, 2);
+    }
+
+    @Test
+    void run_resumesBySkippingCheckpointedWindows() {
+        when(checkpointRepository.findCompletedWindows(anyString(), eq(FROM), eq(TO)))
+                .thenReturn(Map.of(FROM, FROM.plusHours(6), FROM.plusHours(6), FROM.plusHours(12)));
+        when(externalApiClient.fetchArticles(anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(page(article("a")));
+        when(articlePersistenceService.saveArticles(anyList())).thenReturn(1);
+
+        BackfillStatus status = backfillService.run(new BackfillService.BackfillRequest("ai", "ai", FROM, TO));
+
+        assertEquals(2, status.windowsSkipped());
+        assertEquals(2, status.windowsCompleted());
+        verify(externalApiClient, never()).fetchArticles(anyString(), anyString(), eq(FROM), any(LocalDateTime.class));
+        verify(externalApiClient, times(2)).fetchArticles(anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void run_resumingWithLaterTo_refetchesWindowCutShortByEarlierRun() {
+        // an earlier run up to 14:00 checkpointed its last window as [12:00, 14:00)
+        when(checkpointRepository.findCompletedWindows(anyString(), eq(FROM), eq(TO))).thenReturn(Map.of(
+                FROM, FROM.plusHours(6), FROM.plusHours(6), FROM.plusHours(12), FROM.plusHours(12), FROM.plusHours(14)));
+        when(externalApiClient.fetchArticles(anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(page(article("a")));
+        when(articlePersistenceService.saveArticles(anyList())).thenReturn(1);
+
+        BackfillStatus status = backfillService.run(new BackfillService.BackfillRequest("ai", "ai", FROM, TO));
+
+        assertEquals(2, status.windowsSkipped());
+        assertEquals(2, status.windowsCompleted());
+        verify(externalApiClient).fetchArticles("ai", "ai", FROM.plusHours(12), FROM.plusHours(18));
+        verify(checkpointRepository).markCompleted(anyString(), eq(FROM.plusHours(12)), eq(FROM.plusHours(18)), eq(1), eq(1));
+    }
+
+    @Test
+    void run_failedWindowIsNotCheckpointed() {
+        when(checkpointRepository.findCompletedWindows(anyString(), eq(FROM), eq(TO))).thenReturn(Map.of());
+        when(externalApiClient.fetchArticles(anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenThrow(new ExternalApiException("NewsAPI down"))
+                .thenReturn(page());
+        when(articlePersistenceService.saveArticles(anyList())).thenReturn(0);
+
+        BackfillStatus status = backfillService.run(new BackfillService.BackfillRequest("ai", "ai", FROM, TO));
+
+        assertEquals(BackfillStatus.State.COMPLETED_WITH_FAILURES, status.state());
+        assertEquals(1, status.windowsFailed());
+        assertEquals(3, status.windowsCompleted());
+        verify(checkpointRepository, never()).markCompleted(anyString(), eq(FROM), any(), anyInt(), anyInt());
+        verify(metrics).onWindowFailed();
+    }
+
+    @Test
+    void run_rejectsInvalidRangeAndTooManyWindows() {
+        assertThrows(BusinessException.class,
+                () -> backfillService.run(new BackfillService.BackfillRequest("ai", null, TO, FROM)));
+        assertThrows(BusinessException.class,
+                () -> backfillService.run(new BackfillService.BackfillRequest(" ", null, FROM, TO)));
+
+        properties.setMaxWindows(2);
+        assertThrows(BusinessException.class,
+                () -> backfillService.run(new BackfillService.BackfillRequest("ai", null, FROM, TO)));
+        verifyNoInteractions(externalApiClient);
+    }
+
+    @Test
+    void getStatus_reportsLastJob() {
+        when(checkpointRepository.findCompletedWindows(anyString(), any(), any())).thenReturn(Map.of());
+        when(externalApiClient.fetchArticles(anyString(), any(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(page());
+        when(articlePersistenceService.saveArticles(anyList())).thenReturn(0);
+
+        assertTrue(backfillService.getStatus().isEmpty());
+        BackfillStatus finished = backfillService.run(new BackfillService.BackfillRequest("ai", null, FROM, TO));
+
+        assertEquals(finished.id(), backfillService.getStatus().orElseThrow().id());
+        assertNotNull(finished.finishedAt());
+    }
+
+    @Test
+    void run_windowWithMoreArticlesThanOneRequest_splitsItAndCheckpointsItOnce() {
+        properties.setWindow(Duration.ofDays(1));
+        LocalDateTime noon = FROM.plusHours(12);
+        when(checkpointRepository.findCompletedWindows(anyString(), eq(FROM), eq(TO))).thenReturn(Map.of());
+        when(externalApiClient.fetchArticles("ai", null, FROM, TO))
+                .thenReturn(new ExternalApiClient.WindowPage(List.of(article("a")), true));
+        when(externalApiClient.fetchArticles("ai", null, FROM, noon)).thenReturn(page(article("a"), article("b")));
+        when(externalApiClient.fetchArticles("ai", null, noon, TO)).thenReturn(page(article("c")));
+        when(articlePersistenceService.saveArticles(anyList())).thenReturn(2, 1);
+
+        BackfillStatus status = backfillService.run(new BackfillService.BackfillRequest("ai", null, FROM, TO));
+
+        assertEquals(BackfillStatus.State.COMPLETED, status.state());
+        assertEquals(1, status.windowsCompleted());
+        assertEquals(3, status.rowsFetched());
+        verify(articlePersistenceService, times(2)).saveArticles(anyList());
+        verify(checkpointRepository).markCompleted(anyString(), eq(FROM), eq(TO), eq(3), eq(3));
+        verify(metrics).onWindowCompleted(3, 3);
+    }
+
+    @Test
+    void run_windowTruncatedAtMinimumSize_storesArticlesWithoutCheckpoint() {
+        properties.setWindow(Duration.ofDays(1));
+        properties.setMinWindow(Duration.ofHours(12));
+        LocalDateTime noon = FROM.plusHours(12);
+        when(checkpointRepository.findCompletedWindows(anyString(), eq(FROM), eq(TO))).thenReturn(Map.of());
+        when(externalApiClient.fetchArticles("ai", null, FROM, TO))
+                .thenReturn(new ExternalApiClient.WindowPage(List.of(article("a")), true));
+        when(externalApiClient.fetchArticles("ai", null, FROM, noon))
+                .thenReturn(new ExternalApiClient.WindowPage(List.of(article("a"), article("b")), true));
+        when(externalApiClient.fetchArticles("ai", null, noon, TO)).thenReturn(page(article("c")));
+        when(articlePersistenceService.saveArticles(anyList())).thenReturn(2, 1);
+
+        BackfillStatus status = backfillService.run(new BackfillService.BackfillRequest("ai", null, FROM, TO));
+
+        assertEquals(BackfillStatus.State.COMPLETED_WITH_FAILURES, status.state());
+        assertEquals(1, status.windowsFailed());
+        assertEquals(3, status.rowsInserted());
+        verify(checkpointRepository, never()).markCompleted(anyString(), any(), any(), anyInt(), anyInt());
+        verify(metrics).onWindowTruncated(3, 3);
+    }
+
+    private static ExternalApiClient.WindowPage page(Article... articles) {
+        return new ExternalApiClient.WindowPage(List.of(articles), false);
+    }
+
+    private Article article(String title) {
+        Article article = new Article();
+        article.setTitle(title);
+        article.setPublishedAt(FROM);
+        article.setCategory("ai");
+        return article;
+    }
+}
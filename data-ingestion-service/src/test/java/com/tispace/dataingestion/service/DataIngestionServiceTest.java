@@ -28,6 +28,9 @@ class DataIngestionServiceTest {
 	@Mock
 	private ArticlePersistenceService articlePersistenceService;
 	
+	@Mock
+	private ArticleEnrichmentService articleEnrichmentService;
+	
 	@InjectMocks
 	private DataIngestionService dataIngestionService;
 	
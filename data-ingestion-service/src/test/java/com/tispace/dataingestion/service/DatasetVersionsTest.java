@@ -0,0 +1,61 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.dataingestion.repository.DatasetVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DatasetVersionsTest {
+
+    private final DatasetVersionRepository repository = mock(DatasetVersionRepository.class);
+    private final DatasetVersions versions = new DatasetVersions(repository);
+
+    @Test
+    void current_blankCategory_readsUnfilteredScope() {
+        when(repository.findAll()).thenReturn(Map.of(DatasetVersions.ALL, 4L, "technology", 2L));
+        versions.load();
+
+        assertEquals(4L, versions.current(null));
+        assertEquals(4L, versions.current("  "));
+        assertEquals(2L, versions.current(" technology "));
+        assertEquals(0L, versions.current("unknown"));
+    }
+
+    @Test
+    void advance_neverMovesBackwards() {
+        versions.advance("technology", 5L);
+        versions.advance("technology", 3L);
+
+        assertEquals(5L, versions.current("technology"));
+
+        // a reload that raced an in-flight notification keeps the newer version
+        when(repository.findAll()).thenReturn(Map.of("technology", 4L));
+        versions.reload();
+
+        assertEquals(5L, versions.current("technology"));
+    }
+
+    @Test
+    void changes_countsOnlyVersionsThatMovedForward() {
+        versions.advance("technology", 2L);
+        versions.advance(DatasetVersions.ALL, 1L);
+        versions.advance("technology", 2L);
+        versions.advance("technology", 1L);
+
+        assertEquals(2L, versions.changes());
+    }
+
+    @Test
+    void load_databaseUnavailable_startsFromZero() {
+        when(repository.findAll()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        versions.load();
+
+        assertEquals(0L, versions.current(null));
+    }
+}
@@ -1,44 +1,36 @@
 package com.tispace.dataingestion.service;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DistributedLockServiceTest {
 
-    @Mock
-    private EntityManager entityManager;
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
 
     @Mock
-    private Query query;
+    private JdbcTemplate jdbcTemplate;
 
     @InjectMocks
     private DistributedLockService distributedLockService;
 
-    @BeforeEach
-    void setUp() {
-        // Mock the chain: createNativeQuery().setParameter().getSingleResult()
-        lenient().when(entityManager.createNativeQuery(any(String.class))).thenReturn(query);
-        lenient().when(query.setParameter(anyInt(), any())).thenReturn(query);
-    }
-
     @Test
     void executeWithLock_whenLockAcquired_thenExecutesTaskAndReturnsTrue() {
         long lockId = 42L;
-        when(query.getSingleResult()).thenReturn(Boolean.TRUE);
+        whenLockQueried().thenReturn(Boolean.TRUE);
 
         @SuppressWarnings("unchecked")
         Supplier<Boolean> task = mock(Supplier.class);
@@ -47,16 +39,14 @@ class DistributedLockServiceTest {
         boolean result = distributedLockService.executeWithLock(lockId, task);
 
         assertTrue(result);
-        verify(entityManager).createNativeQuery("SELECT pg_try_advisory_xact_lock(?1)");
-        verify(query).setParameter(1, lockId);
-        verify(query).getSingleResult();
+        verify(jdbcTemplate).queryForObject(LOCK_SQL, Boolean.class, lockId);
         verify(task, times(1)).get();
     }
 
     @Test
     void executeWithLock_whenLockNotAcquired_thenReturnsFalseAndDoesNotExecuteTask() {
         long lockId = 99L;
-        when(query.getSingleResult()).thenReturn(Boolean.FALSE);
+        whenLockQueried().thenReturn(Boolean.FALSE);
 
         @SuppressWarnings("unchecked")
         Supplier<Boolean> task = mock(Supplier.class);
@@ -64,14 +54,14 @@ class DistributedLockServiceTest {
         boolean result = distributedLockService.executeWithLock(lockId, task);
 
         assertFalse(result);
-        verify(query).getSingleResult();
+        verifyLockQueried();
         verify(task, never()).get();
     }
 
     @Test
     void executeWithLock_whenTaskThrowsException_thenPropagatesException() {
         long lockId = 7L;
-        when(query.getSingleResult()).thenReturn(Boolean.TRUE);
+        whenLockQueried().thenReturn(Boolean.TRUE);
 
         @SuppressWarnings("unchecked")
         Supplier<Boolean> task = mock(Supplier.class);
@@ -81,14 +71,14 @@ class DistributedLockServiceTest {
                 () -> distributedLockService.executeWithLock(lockId, task));
 
         assertEquals("task failed", ex.getMessage());
-        verify(query).getSingleResult();
+        verifyLockQueried();
         verify(task, times(1)).get();
     }
 
     @Test
     void executeWithLock_whenDatabaseError_thenReturnsFalse() {
         long lockId = 13L;
-        when(entityManager.createNativeQuery(any(String.class))).thenThrow(new RuntimeException("db error"));
+        whenLockQueried().thenThrow(new CannotGetJdbcConnectionException("pool exhausted"));
 
         @SuppressWarnings("unchecked")
         Supplier<Boolean> task = mock(Supplier.class);
@@ -101,34 +91,34 @@ class DistributedLockServiceTest {
 
     @Test
     void executeScheduledTaskWithLock_whenLockAcquired_thenExecutesRunnableAndReturnsTrue() {
-        when(query.getSingleResult()).thenReturn(Boolean.TRUE);
+        whenLockQueried().thenReturn(Boolean.TRUE);
 
         Runnable runnable = mock(Runnable.class);
 
         boolean result = distributedLockService.executeScheduledTaskWithLock(runnable);
 
         assertTrue(result);
-        verify(query).getSingleResult();
+        verifyLockQueried();
         verify(runnable, times(1)).run();
     }
 
     @Test
     void executeScheduledTaskWithLock_whenLockNotAcquired_thenReturnsFalseAndDoesNotRun() {
-        when(query.getSingleResult()).thenReturn(Boolean.FALSE);
+        whenLockQueried().thenReturn(Boolean.FALSE);
 
         Runnable runnable = mock(Runnable.class);
 
         boolean result = distributedLockService.executeScheduledTaskWithLock(runnable);
 
         assertFalse(result);
-        verify(query).getSingleResult();
+        verifyLockQueried();
         verify(runnable, never()).run();
     }
 
     @Test
     void executeWithLock_whenTaskReturnsFalse_thenReturnsFalse() {
         long lockId = 55L;
-        when(query.getSingleResult()).thenReturn(Boolean.TRUE);
+        whenLockQueried().thenReturn(Boolean.TRUE);
 
         @SuppressWarnings("unchecked")
         Supplier<Boolean> task = mock(Supplier.class);
@@ -137,10 +127,15 @@ class DistributedLockServiceTest {
         boolean result = distributedLockService.executeWithLock(lockId, task);
 
         assertFalse(result);
-        verify(query).getSingleResult();
+        verifyLockQueried();
         verify(task, times(1)).get();
     }
-}
-
 
+    private OngoingStubbing<Boolean> whenLockQueried() {
+        return when(jdbcTemplate.queryForObject(eq(LOCK_SQL), eq(Boolean.class), anyLong()));
+    }
 
+    private void verifyLockQueried() {
+        verify(jdbcTemplate).queryForObject(eq(LOCK_SQL), eq(Boolean.class), anyLong());
+    }
+}
@@ -4,11 +4,14 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tispace.dataingestion.domain.entity.Article;
 import com.tispace.common.exception.ExternalApiException;
+import com.tispace.common.exception.RateLimitExceededException;
+import com.tispace.dataingestion.config.NewsApiKeyPoolProperties;
 import com.tispace.common.exception.SerializationException;
 import com.tispace.dataingestion.domain.validation.ArticleValidator;
 import com.tispace.dataingestion.adapter.NewsApiAdapter;
 import com.tispace.dataingestion.constants.NewsApiConstants;
 import com.tispace.dataingestion.mapper.NewsApiArticleMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +20,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -47,48 +52,74 @@ class NewsApiClientCoreTest {
 	private NewsApiClientMetrics metrics;
 
 	private NewsApiClientCore core;
+	
+	private SimpleMeterRegistry meterRegistry;
 
 	private static final String NEWS_API_URL = "https://newsapi.org/v2/everything";
 	private static final String API_KEY = "test-api-key";
 
 	@BeforeEach
 	void setUp() {
-		core = new NewsApiClientCore(
-			restTemplate,
-			objectMapper,
-			mapper,
-			validator,
-			metrics,
-			NEWS_API_URL,
-			API_KEY
-		);
+		core = newCore(API_KEY);
 		lenient().when(validator.isValid(any(Article.class))).thenReturn(true);
 	}
 
 	@Test
 	void testConstructor_WithBlankApiKey_ThrowsException() {
-		assertThrows(IllegalStateException.class, () -> new NewsApiClientCore(
-			restTemplate,
-			objectMapper,
-			mapper,
-			validator,
-			metrics,
-			NEWS_API_URL,
-			""
-		));
+		assertThrows(IllegalStateException.class, () -> newCore(""));
+	}
+	
+	@Test
+	void testFetchArticles_KeyRateLimited_RetriesWithNextKeyAndQuarantines() throws Exception {
+		core = newCore(API_KEY, "second-key");
+		String jsonResponse = createMockJsonResponse();
+		NewsApiAdapter adapter = createMockAdapter();
+		
+		ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
+		when(restTemplate.getForEntity(anyString(), eq(String.class)))
+			.thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null))
+			.thenReturn(new ResponseEntity<>(jsonResponse, HttpStatus.OK));
+		when(objectMapper.readValue(jsonResponse, NewsApiAdapter.class)).thenReturn(adapter);
+		when(mapper.toArticle(any(NewsApiAdapter.ArticleResponse.class))).thenReturn(createMockArticle("technology"));
+		
+		List<Article> result = core.fetchArticles("technology", "technology");
+		
+		assertEquals(1, result.size());
+		verify(restTemplate, times(2)).getForEntity(urlCaptor.capture(), eq(String.class));
+		assertTrue(urlCaptor.getAllValues().get(0).contains(API_KEY));
+		assertTrue(urlCaptor.getAllValues().get(1).contains("second-key"));
+		assertEquals(1.0, meterRegistry.get("newsapi_key_rejections_total")
+			.tags("key", "key-1", "reason", "rate_limited").counter().count());
+	}
+	
+	@Test
+	void testFetchArticles_AllKeysRejected_ThrowsRateLimitExceeded() {
+		core = newCore(API_KEY, "second-key");
+		when(restTemplate.getForEntity(anyString(), eq(String.class)))
+			.thenThrow(HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null))
+			.thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+		
+		assertThrows(RateLimitExceededException.class, () -> core.fetchArticles("technology", "technology"));
+		// both keys are quarantined, so the next call fails without an HTTP request
+		assertThrows(RateLimitExceededException.class, () -> core.fetchArticles("technology", "technology"));
+		verify(restTemplate, times(2)).getForEntity(anyString(), eq(String.class));
+	}
+	
+	@Test
+	void testFetchArticles_TransportErrorWithUrlInMessage_DoesNotExposeKey() {
+		when(restTemplate.getForEntity(anyString(), eq(String.class)))
+			.thenThrow(new ResourceAccessException("I/O error on GET request for \"" + NEWS_API_URL + "?apiKey=" + API_KEY + "\""));
+		
+		ExternalApiException exception = assertThrows(ExternalApiException.class,
+			() -> core.fetchArticles("technology", "technology"));
+		
+		assertFalse(exception.getCause().getMessage().contains(API_KEY));
+		assertTrue(exception.getCause().getMessage().contains("ResourceAccessException"));
 	}
 
 	@Test
 	void testConstructor_WithNullApiKey_ThrowsException() {
-		assertThrows(IllegalStateException.class, () -> new NewsApiClientCore(
-			restTemplate,
-			objectMapper,
-			mapper,
-			validator,
-			metrics,
-			NEWS_API_URL,
-			null
-		));
+		assertThrows(IllegalStateException.class, () -> newCore(null));
 	}
 
 	@Test
@@ -464,6 +495,60 @@ class NewsApiClientCoreTest {
 		assertTrue(capturedUrl.contains(API_KEY), "URL should contain API key");
 	}
 
+	@Test
+	void testFetchArticles_WithWindow_AddsFromAndToParams() throws Exception {
+		String jsonResponse = createMockJsonResponse();
+		NewsApiAdapter adapter = createMockAdapter();
+		Article mockArticle = createMockArticle("technology");
+
+		ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
+		when(restTemplate.getForEntity(anyString(), eq(String.class))).thenReturn(new ResponseEntity<>(jsonResponse, HttpStatus.OK));
+		when(objectMapper.readValue(jsonResponse, NewsApiAdapter.class)).thenReturn(adapter);
+		when(mapper.toArticle(any(NewsApiAdapter.ArticleResponse.class))).thenReturn(mockArticle);
+
+		ExternalApiClient.WindowPage result = core.fetchArticles("technology", "technology",
+			LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 6, 0));
+
+		assertEquals(1, result.articles().size());
+		assertFalse(result.truncated());
+		verify(restTemplate).getForEntity(urlCaptor.capture(), eq(String.class));
+		String capturedUrl = urlCaptor.getValue();
+		assertTrue(capturedUrl.contains(NewsApiConstants.PARAM_FROM + "=2025-01-01T00:00:00"));
+		assertTrue(capturedUrl.contains(NewsApiConstants.PARAM_TO + "=2025-01-01T05:59:59"));
+	}
+
+	@Test
+	void testFetchArticles_WindowWithMoreResultsThanReturned_IsTruncated() throws Exception {
+		String jsonResponse = createMockJsonResponse();
+		NewsApiAdapter adapter = createMockAdapter();
+		adapter.setTotalResults(250);
+		when(restTemplate.getForEntity(anyString(), eq(String.class))).thenReturn(new ResponseEntity<>(jsonResponse, HttpStatus.OK));
+		when(objectMapper.readValue(jsonResponse, NewsApiAdapter.class)).thenReturn(adapter);
+		when(mapper.toArticle(any(NewsApiAdapter.ArticleResponse.class))).thenReturn(createMockArticle("technology"));
+
+		ExternalApiClient.WindowPage result = core.fetchArticles("technology", "technology",
+			LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 6, 0));
+
+		assertEquals(1, result.articles().size());
+		assertTrue(result.truncated());
+	}
+
+	@Test
+	void testFetchArticles_WithEmptyWindow_ThrowsException() {
+		LocalDateTime at = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+		assertThrows(IllegalArgumentException.class, () -> core.fetchArticles("technology", "technology", at, at));
+		verifyNoInteractions(restTemplate);
+	}
+
+	private NewsApiClientCore newCore(String apiKey, String... poolKeys) {
+		meterRegistry = new SimpleMeterRegistry();
+		NewsApiKeyPoolProperties properties = new NewsApiKeyPoolProperties();
+		properties.setKeys(List.of(poolKeys));
+		NewsApiKeyPool keyPool = new NewsApiKeyPool(properties, apiKey, meterRegistry);
+		return new NewsApiClientCore(restTemplate, objectMapper, mapper, validator, metrics, keyPool, NEWS_API_URL);
+	}
+	
 	private String createMockJsonResponse() {
 		return "{\"status\":\"ok\",\"articles\":[{\"title\":\"Test Article\",\"description\":\"Test Description\",\"author\":\"Test Author\",\"publishedAt\":\"2025-01-18T10:00:00Z\"}]}";
 	}
@@ -1,5 +1,6 @@
 package com.tispace.dataingestion.service;
 
+import com.tispace.common.exception.RateLimitExceededException;
 import com.tispace.dataingestion.domain.entity.Article;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -197,5 +198,23 @@ class NewsApiClientResilienceIntegrationTest {
 		
 		verify(newsApiClientMetrics, atLeast(1)).onFallback();
 	}
-}
 
+	@Test
+	void testFetchArticles_KeyPoolExhausted_CircuitBreakerStaysClosed() {
+		// what the core throws once every key of the pool is quarantined
+		when(newsApiClientCore.fetchArticles(anyString(), anyString()))
+			.thenThrow(new RateLimitExceededException("NewsAPI rejected every available key"));
+		when(newsApiClientCore.fetchArticles(anyString(), any(), any(LocalDateTime.class), any(LocalDateTime.class)))
+			.thenThrow(new RateLimitExceededException("NewsAPI rejected every available key"));
+		LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+		
+		for (int i = 0; i < 5; i++) {
+			assertThrows(RateLimitExceededException.class, () -> newsApiClient.fetchArticles("technology", "technology"));
+			assertThrows(RateLimitExceededException.class,
+				() -> newsApiClient.fetchArticles("technology", null, from, from.plusHours(6)));
+		}
+		
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("newsApi").getState());
+		verify(newsApiClientMetrics, never()).onFallback();
+	}
+}
@@ -0,0 +1,123 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.exception.RateLimitExceededException;
+import com.tispace.dataingestion.config.NewsApiKeyPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NewsApiKeyPoolTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private NewsApiKeyPoolProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NewsApiKeyPoolProperties();
+        properties.setRequestsPerWindow(3);
+        properties.setBudgetWindow(Duration.ofHours(1));
+        properties.setRateLimitedQuarantine(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void acquire_spreadsRequestsToKeyWithMostRemainingBudget() {
+        NewsApiKeyPool pool = pool("k1", "k2");
+
+        assertEquals("key-1", pool.acquire().alias());
+        assertEquals("key-2", pool.acquire().alias());
+        assertEquals("key-1", pool.acquire().alias());
+        assertEquals(1.0, registry.get("newsapi_key_remaining_budget").tag("key", "key-1").gauge().value());
+        assertEquals(2.0, registry.get("newsapi_key_remaining_budget").tag("key", "key-2").gauge().value());
+    }
+
+    @Test
+    void acquire_whenBudgetSpent_failsUntilWindowResets() {
+        NewsApiKeyPool pool = pool("k1");
+        pool.acquire();
+        pool.acquire();
+        pool.acquire();
+
+        assertThrows(RateLimitExceededException.class, pool::acquire);
+
+        clock.advance(Duration.ofHours(1));
+        assertEquals("k1", pool.acquire().key());
+    }
+
+    @Test
+    void reject_quarantinesKeyForRetryAfterOrConfiguredDuration() {
+        NewsApiKeyPool pool = pool("k1", "k2");
+        NewsApiKeyPool.Lease first = pool.acquire();
+
+        pool.reject(first, NewsApiKeyPool.Rejection.RATE_LIMITED, Duration.ofSeconds(30));
+
+        assertEquals("key-2", pool.acquire().alias());
+        assertEquals("key-2", pool.acquire().alias());
+        assertEquals(0.0, registry.get("newsapi_key_available").tag("key", "key-1").gauge().value());
+
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals("key-1", pool.acquire().alias());
+
+        pool.reject(pool.acquire(), NewsApiKeyPool.Rejection.UNAUTHORIZED, null);
+        assertEquals(1.0, registry.get("newsapi_key_rejections_total")
+                .tags("key", "key-1", "reason", "rate_limited").counter().count());
+    }
+
+    @Test
+    void constructor_mergesSingleKeyWithPoolAndNeverExposesKeyValues() {
+        properties.setKeys(List.of("k1", " ", "k2"));
+        NewsApiKeyPool pool = new NewsApiKeyPool(properties, "k1", registry, clock);
+
+        assertEquals(2, pool.size());
+        NewsApiKeyPool.Lease lease = pool.acquire();
+        assertFalse(lease.toString().contains(lease.key()));
+        assertTrue(registry.getMeters().stream()
+                .flatMap(meter -> meter.getId().getTags().stream())
+                .noneMatch(tag -> tag.getValue().equals("k1") || tag.getValue().equals("k2")));
+    }
+
+    @Test
+    void constructor_withoutAnyKey_fails() {
+        assertThrows(IllegalStateException.class, () -> new NewsApiKeyPool(properties, " ", registry, clock));
+    }
+
+    private NewsApiKeyPool pool(String... keys) {
+        properties.setKeys(List.of(keys));
+        return new NewsApiKeyPool(properties, null, registry, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
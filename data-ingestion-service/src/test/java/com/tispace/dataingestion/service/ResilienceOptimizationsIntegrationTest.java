@@ -1,7 +1,12 @@
 package com.tispace.dataingestion.service;
 
+import com.tispace.common.contract.ArticleDTO;
+import com.tispace.dataingestion.application.filter.ArticleFilter;
+import com.tispace.dataingestion.application.pagination.CountMode;
+import com.tispace.dataingestion.application.projection.ArticleFields;
 import com.tispace.dataingestion.domain.entity.Article;
 import com.tispace.dataingestion.infrastructure.repository.ArticleRepository;
+import com.tispace.dataingestion.repository.ArticleDtoReadRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,14 +14,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.TransientDataAccessException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +32,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -44,6 +50,12 @@ class ResilienceOptimizationsIntegrationTest {
 	@Mock
 	private ArticleRepository articleRepository;
 	
+	@Mock
+	private ArticleDtoReadRepository articleDtoReadRepository;
+	
+	@Mock
+	private ArticleHotWindow articleHotWindow;
+	
 	@Mock
 	private DistributedLockService distributedLockService;
 
@@ -57,7 +69,7 @@ class ResilienceOptimizationsIntegrationTest {
 	private ArticleQueryService articleQueryService;
 	
 	private Article mockArticle;
-	private List<Article> mockArticles;
+	private ArticleDTO mockArticleDTO;
 	private static final UUID ARTICLE_ID = UUID.fromString("01234567-89ab-7def-0123-456789abcdef");
 	private static final LocalDateTime FIXED_NOW = LocalDateTime.of(2025, 1, 15, 12, 0, 0);
 	
@@ -72,8 +84,12 @@ class ResilienceOptimizationsIntegrationTest {
 		mockArticle.setCategory("technology");
 		mockArticle.setCreatedAt(FIXED_NOW);
 		
-		mockArticles = new ArrayList<>();
-		mockArticles.add(mockArticle);
+		mockArticleDTO = ArticleDTO.builder()
+			.id(ARTICLE_ID)
+			.title("Test Article")
+			.publishedAt(FIXED_NOW)
+			.category("technology")
+			.build();
 		// Executor runs task on caller thread so scheduled job runs synchronously in tests
 		lenient().doAnswer(invocation -> {
 			Runnable r = invocation.getArgument(0);
@@ -114,28 +130,22 @@ class ResilienceOptimizationsIntegrationTest {
 	
 	@Test
 	void testArticleQuery_TransientErrorWithRetry_EventuallySucceeds() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-		
 		// Simulate transient error that would trigger retry
-		when(articleRepository.findAll(any(Pageable.class)))
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
 			.thenThrow(new TransientDataAccessException("Connection timeout") {})
-			.thenReturn(page);
+			.thenReturn(List.of(mockArticleDTO));
 		
 		// Note: Actual retry requires Spring context with Resilience4j
 		// This test verifies error handling
 		assertThrows(TransientDataAccessException.class, 
-			() -> articleQueryService.getArticles(pageable, null));
+			() -> getArticles(ArticleFilter.NONE));
 		
-		verify(articleRepository, times(1)).findAll(pageable);
+		verify(articleDtoReadRepository, times(1)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 	}
 	
 	@Test
 	void testArticleQuery_LoadSpike_HandlesConcurrentRequests() throws InterruptedException {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL)).thenReturn(List.of(mockArticleDTO));
 		
 		int concurrentRequests = 50;
 		ExecutorService executor = Executors.newFixedThreadPool(concurrentRequests);
@@ -149,7 +159,7 @@ class ResilienceOptimizationsIntegrationTest {
 				executor.submit(() -> {
 					try {
 						startLatch.await();
-						Page<Article> result = articleQueryService.getArticles(pageable, null);
+						Slice<ArticleDTO> result = getArticles(ArticleFilter.NONE);
 						if (result != null && !result.isEmpty()) {
 							successCount.incrementAndGet();
 						}
@@ -168,7 +178,7 @@ class ResilienceOptimizationsIntegrationTest {
 			assertTrue(successCount.get() > 0, "At least some requests should succeed");
 			
 			// Verify repository was called (may be called multiple times due to retries)
-			verify(articleRepository, atLeast(concurrentRequests)).findAll(pageable);
+			verify(articleDtoReadRepository, atLeast(concurrentRequests)).findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL);
 			
 		} finally {
 			executor.shutdown();
@@ -202,14 +212,12 @@ class ResilienceOptimizationsIntegrationTest {
 	
 	@Test
 	void testArticleQuery_SlowQuery_CompletesEventually() {
-		Pageable pageable = PageRequest.of(0, 20);
-		
 		// Simulate slow query
-		// Note: Query timeout is enforced by Hibernate/JPA, not in unit tests with mocks
+		// Note: Query timeout is enforced by the JDBC statement timeout, not in unit tests with mocks
 		// This test verifies the method can handle slow queries
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(mockArticles, pageable, 1));
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL)).thenReturn(List.of(mockArticleDTO));
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, null);
+		Slice<ArticleDTO> result = getArticles(ArticleFilter.NONE);
 		
 		// Should complete successfully
 		assertNotNull(result);
@@ -240,12 +248,9 @@ class ResilienceOptimizationsIntegrationTest {
 	
 	@Test
 	void testArticleQuery_EmptyResult_ReturnsEmptyPage() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> emptyPage = new PageImpl<>(new ArrayList<>(), pageable, 0);
-		
-		when(articleRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
+		when(articleDtoReadRepository.findPage(ArticleFilter.NONE, Sort.unsorted(), 0L, 21, ArticleFields.ALL)).thenReturn(List.of());
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, null);
+		Slice<ArticleDTO> result = getArticles(ArticleFilter.NONE);
 		
 		assertNotNull(result);
 		assertTrue(result.isEmpty());
@@ -268,17 +273,19 @@ class ResilienceOptimizationsIntegrationTest {
 	
 	@Test
 	void testArticleQuery_WithCategory_FiltersCorrectly() {
-		Pageable pageable = PageRequest.of(0, 20);
-		Page<Article> page = new PageImpl<>(mockArticles, pageable, 1);
-		
-		when(articleRepository.findByCategory("technology", pageable)).thenReturn(page);
+		ArticleFilter technology = ArticleFilter.category("technology");
+		when(articleDtoReadRepository.findPage(technology, Sort.unsorted(), 0L, 21, ArticleFields.ALL))
+			.thenReturn(List.of(mockArticleDTO));
 		
-		Page<Article> result = articleQueryService.getArticles(pageable, "technology");
+		Slice<ArticleDTO> result = getArticles(technology);
 		
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
-		verify(articleRepository, times(1)).findByCategory("technology", pageable);
-		verify(articleRepository, never()).findAll(any(Pageable.class));
+		verify(articleDtoReadRepository, never()).findPage(eq(ArticleFilter.NONE), any(), anyLong(), anyInt(), any());
+	}
+	
+	private Slice<ArticleDTO> getArticles(ArticleFilter filter) {
+		return articleQueryService.getArticlesDTO(PageRequest.of(0, 20), filter, CountMode.NONE, ArticleFields.ALL);
 	}
 }
 
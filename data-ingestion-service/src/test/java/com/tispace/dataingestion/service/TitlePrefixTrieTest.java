@@ -0,0 +1,98 @@
+package com.tispace.dataingestion.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TitlePrefixTrieTest {
+
+    @Test
+    void find_returnsEntriesOfAllWordsBelowPrefix_bestFirst() {
+        TitlePrefixTrie trie = new TitlePrefixTrie(8, Long.MAX_VALUE);
+        TitlePrefixTrie.Entry electric = entry("Electric cars", 1);
+        TitlePrefixTrie.Entry election = entry("Election night", 3);
+        TitlePrefixTrie.Entry elf = entry("Elf", 2);
+        trie.add("electric", electric);
+        trie.add("election", election);
+        trie.add("elf", elf);
+
+        assertEquals(List.of(election, elf, electric), trie.find("el"));
+        assertEquals(List.of(election, electric), trie.find("elect"));
+        assertEquals(List.of(electric), trie.find("electri"));
+        assertEquals(List.of(election), trie.find("election"));
+        assertTrue(trie.find("electrics").isEmpty());
+        assertTrue(trie.find("x").isEmpty());
+        assertTrue(trie.find("").isEmpty());
+    }
+
+    @Test
+    void add_splitsEdgesIntoCompactNodes() {
+        TitlePrefixTrie trie = new TitlePrefixTrie(8, Long.MAX_VALUE);
+        trie.add("electric", entry("a", 1));
+        assertEquals(1, trie.nodeCount());
+
+        trie.add("election", entry("b", 2));
+        // "elect" + "ric" + "ion"
+        assertEquals(3, trie.nodeCount());
+
+        trie.add("elect", entry("c", 3));
+        assertEquals(3, trie.nodeCount());
+        assertEquals(3, trie.find("elect").size());
+    }
+
+    @Test
+    void add_keepsTopKPerPrefixAndReleasesEvictedEntries() {
+        TitlePrefixTrie trie = new TitlePrefixTrie(2, Long.MAX_VALUE);
+        TitlePrefixTrie.Entry oldest = entry("Chip one", 1);
+        TitlePrefixTrie.Entry middle = entry("Chip two", 2);
+        TitlePrefixTrie.Entry newest = entry("Chip three", 3);
+        trie.add("chip", oldest);
+        trie.add("chip", middle);
+        trie.add("chip", newest);
+
+        assertEquals(List.of(newest, middle), trie.find("ch"));
+        assertEquals(2, trie.entryCount());
+
+        trie.add("chip", entry("Chip zero", 0));
+        assertEquals(List.of(newest, middle), trie.find("chip"));
+        assertEquals(2, trie.entryCount());
+    }
+
+    @Test
+    void add_sameArticleTwice_isKeptOnce() {
+        TitlePrefixTrie trie = new TitlePrefixTrie(4, Long.MAX_VALUE);
+        UUID id = UUID.randomUUID();
+        trie.add("chips", new TitlePrefixTrie.Entry(id, "Chips", 5));
+        trie.add("chips", new TitlePrefixTrie.Entry(id, "Chips", 5));
+
+        assertEquals(1, trie.find("chip").size());
+        assertEquals(1, trie.entryCount());
+    }
+
+    @Test
+    void add_overBudget_stopsCreatingNodesButUpdatesExistingPrefixes() {
+        TitlePrefixTrie trie = new TitlePrefixTrie(4, 1);
+        TitlePrefixTrie.Entry chips = entry("Chips", 1);
+        assertTrue(trie.add("chips", chips));
+        long bytes = trie.estimatedBytes();
+
+        TitlePrefixTrie.Entry newer = entry("Chipsets", 2);
+        assertFalse(trie.add("chipsets", newer));
+        assertFalse(trie.add("chiplets", entry("Chiplets", 3)));
+        assertFalse(trie.add("memory", entry("Memory", 4)));
+
+        assertEquals(1, trie.nodeCount());
+        assertEquals(List.of(newer, chips), trie.find("chip"));
+        assertTrue(trie.find("memory").isEmpty());
+        assertTrue(trie.estimatedBytes() > bytes, "the newer title is accounted for");
+    }
+
+    private static TitlePrefixTrie.Entry entry(String title, long score) {
+        return new TitlePrefixTrie.Entry(UUID.randomUUID(), title, score);
+    }
+}
@@ -0,0 +1,111 @@
+package com.tispace.dataingestion.service;
+
+import com.tispace.common.contract.ArticleSuggestionDTO;
+import com.tispace.dataingestion.config.ArticleSuggestProperties;
+import com.tispace.dataingestion.domain.entity.Article;
+import com.tispace.dataingestion.domain.event.ArticlesInsertedEvent;
+import com.tispace.dataingestion.repository.ArticleTitleRepository;
+import com.tispace.dataingestion.repository.ArticleTitleRepository.ArticleTitle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class TitleSuggestIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 1, 18, 10, 0);
+
+    private final ArticleTitleRepository repository = mock(ArticleTitleRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TitleSuggestIndex index = new TitleSuggestIndex(repository, new ArticleSuggestProperties(), registry);
+
+    @Test
+    void load_streamsTitlesAndSuggestsNewestFirst() {
+        stream(new ArticleTitle(UUID.randomUUID(), "Electric vehicles: sales surge", DAY),
+                new ArticleTitle(UUID.randomUUID(), "Election results are in", DAY.plusDays(1)),
+                new ArticleTitle(UUID.randomUUID(), "Undated electricity story", null));
+
+        index.load();
+
+        assertTrue(index.isLoaded());
+        assertEquals(List.of("Election results are in", "Electric vehicles: sales surge", "Undated electricity story"),
+                titles(index.suggest("ELEC", 10)));
+        assertEquals(List.of("Electric vehicles: sales surge"), titles(index.suggest("elect veh", 10)));
+        assertEquals(List.of("Election results are in"), titles(index.suggest("elec", 1)));
+        assertEquals(DAY.plusDays(1), index.suggest("results", 1).getFirst().getPublishedAt());
+    }
+
+    @Test
+    void suggest_blankOrPunctuationOnlyPrefix_returnsNothing() {
+        stream(new ArticleTitle(UUID.randomUUID(), "Chips", DAY));
+        index.load();
+
+        assertTrue(index.suggest(null, 10).isEmpty());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+        assertTrue(index.suggest("?!", 10).isEmpty());
+    }
+
+    @Test
+    void onArticlesInserted_makesNewTitlesSuggestible() {
+        Article article = new Article();
+        article.setId(UUID.randomUUID());
+        article.setTitle("Quantum chips ship");
+        article.setPublishedAt(DAY);
+
+        index.onArticlesInserted(new ArticlesInsertedEvent(List.of(article)));
+
+        List<ArticleSuggestionDTO> suggestions = index.suggest("quant", 10);
+        assertEquals(1, suggestions.size());
+        assertEquals(article.getId(), suggestions.getFirst().getId());
+    }
+
+    @Test
+    void load_databaseUnavailable_keepsServingInsertedTitles() {
+        doThrow(new DataAccessResourceFailureException("down")).when(repository).forEachTitle(eq(1000), any());
+
+        index.load();
+
+        assertFalse(index.isLoaded());
+        assertTrue(index.suggest("anything", 10).isEmpty());
+    }
+
+    @Test
+    void gauges_reportIndexFootprint() {
+        stream(new ArticleTitle(UUID.randomUUID(), "Chips", DAY));
+        index.load();
+
+        assertEquals(1.0, registry.get("article_suggest_index_titles").gauge().value());
+        assertEquals(1.0, registry.get("article_suggest_index_nodes").gauge().value());
+        assertEquals((double) index.estimatedBytes(), registry.get("article_suggest_index_bytes").gauge().value());
+        index.suggest("chi", 10);
+        assertEquals(1, registry.get("article_suggest_latency_seconds").timer().count());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stream(ArticleTitle... titles) {
+        doAnswer(invocation -> {
+            Consumer<ArticleTitle> consumer = invocation.getArgument(1);
+            for (ArticleTitle title : titles) {
+                consumer.accept(title);
+            }
+            return null;
+        }).when(repository).forEachTitle(eq(1000), any(Consumer.class));
+    }
+
+    private static List<String> titles(List<ArticleSuggestionDTO> suggestions) {
+        return suggestions.stream().map(ArticleSuggestionDTO::getTitle).toList();
+    }
+}
@@ -0,0 +1,95 @@
+package com.tispace.dataingestion.web;
+
+import com.tispace.common.exception.RateLimitExceededException;
+import com.tispace.dataingestion.config.AdaptiveConcurrencyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyInterceptorTest {
+
+    private final AdaptiveConcurrencyProperties properties = new AdaptiveConcurrencyProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AdaptiveConcurrencyInterceptor interceptor;
+
+    AdaptiveConcurrencyInterceptorTest() {
+        properties.setInitialLimit(6);
+        limiter = new AdaptiveConcurrencyLimiter(properties, registry);
+        interceptor = new AdaptiveConcurrencyInterceptor(limiter);
+    }
+
+    @Test
+    void preHandle_takesAnnotatedCost() throws Exception {
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("summary")));
+        assertEquals(5, limiter.inFlight());
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("detail")));
+        assertEquals(6, limiter.inFlight());
+    }
+
+    @Test
+    void preHandle_atLimit_throwsBeforeHandler() throws Exception {
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("summary"));
+
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("summary")));
+
+        assertEquals(AdaptiveConcurrencyInterceptor.SHED_MESSAGE, ex.getMessage());
+        assertEquals(1.0, registry.get("adaptive_concurrency_shed_total").tag("endpoint", "summary").counter().count());
+    }
+
+    @Test
+    void afterCompletion_releasesOnce() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler("summary"));
+
+        interceptor.afterCompletion(request, response, handler("summary"), null);
+        interceptor.afterCompletion(request, response, handler("summary"), null);
+
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void afterConcurrentHandlingStarted_releasesWhileResponseStreams() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler("detail"));
+
+        interceptor.afterConcurrentHandlingStarted(request, response, handler("detail"));
+        assertEquals(0, limiter.inFlight());
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, handler("detail"));
+        interceptor.afterCompletion(request, response, handler("detail"), null);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void preHandle_notAHandlerMethod_isNotLimited() throws Exception {
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object()));
+        assertEquals(0, limiter.inFlight());
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(name));
+    }
+
+    static class Handlers {
+
+        @AdmissionCost(5)
+        public void summary() {
+        }
+
+        public void detail() {
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.tispace.dataingestion.web;
+
+import com.tispace.dataingestion.config.AdaptiveConcurrencyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AdaptiveConcurrencyProperties properties = new AdaptiveConcurrencyProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void tryAcquire_overLimit_shedsAndCountsByEndpoint() {
+        properties.setInitialLimit(10);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        assertNotNull(limiter.tryAcquire("getArticleSummary", 5));
+        assertNotNull(limiter.tryAcquire("getArticleSummary", 5));
+        assertNull(limiter.tryAcquire("getArticleSummary", 5));
+        assertNull(limiter.tryAcquire("getArticleById", 1));
+
+        assertEquals(10, limiter.inFlight());
+        assertEquals(1.0, shed("getArticleSummary"));
+        assertEquals(1.0, shed("getArticleById"));
+        assertEquals(10.0, registry.get("adaptive_concurrency_in_flight").gauge().value());
+    }
+
+    @Test
+    void tryAcquire_costAboveLimitWithNothingInFlight_isAdmitted() {
+        properties.setInitialLimit(4);
+        properties.setMinLimit(1);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire("getArticleSummary", 5);
+
+        assertNotNull(permit);
+        assertNull(limiter.tryAcquire("getArticleById", 1));
+        permit.release();
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void permit_releasedTwice_givesUnitsBackOnce() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire("getArticleById", 3);
+
+        permit.complete();
+        permit.release();
+
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void complete_steadyLatencyUnderLoad_growsLimit() {
+        properties.setInitialLimit(10);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        for (int i = 0; i < 20; i++) {
+            runConcurrently(limiter, "getArticles", 10, 20);
+        }
+
+        assertTrue(limiter.limit() > 10, "limit was " + limiter.limit());
+        assertEquals(limiter.limit(), (int) registry.get("adaptive_concurrency_limit").gauge().value());
+    }
+
+    @Test
+    void complete_latencyRisingUnderLoad_shrinksLimit() {
+        properties.setInitialLimit(40);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        runConcurrently(limiter, "getArticles", 40, 20);
+        int before = limiter.limit();
+
+        for (int i = 0; i < 10; i++) {
+            runConcurrently(limiter, "getArticles", limiter.limit(), 200);
+        }
+
+        assertTrue(limiter.limit() < before, "limit went from " + before + " to " + limiter.limit());
+        assertTrue(limiter.limit() >= properties.getMinLimit());
+    }
+
+    @Test
+    void complete_slowEndpointAtItsUsualLatency_doesNotShrinkLimit() {
+        properties.setInitialLimit(20);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        runConcurrently(limiter, "getArticles", 20, 20);
+        runConcurrently(limiter, "getArticleSummary", 20, 3_000);
+        int before = limiter.limit();
+
+        for (int i = 0; i < 5; i++) {
+            runConcurrently(limiter, "getArticleSummary", limiter.limit(), 3_000);
+            runConcurrently(limiter, "getArticles", limiter.limit(), 20);
+        }
+
+        assertTrue(limiter.limit() >= before, "limit went from " + before + " to " + limiter.limit());
+    }
+
+    @Test
+    void complete_lowUtilization_leavesLimitAsIs() {
+        properties.setInitialLimit(20);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        for (int i = 0; i < 20; i++) {
+            runConcurrently(limiter, "getArticles", 2, i % 2 == 0 ? 20 : 500);
+        }
+
+        assertEquals(20, limiter.limit());
+    }
+
+    @Test
+    void complete_neverLeavesConfiguredBounds() {
+        properties.setInitialLimit(10);
+        properties.setMaxLimit(12);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        for (int i = 0; i < 50; i++) {
+            runConcurrently(limiter, "getArticles", limiter.limit(), 20);
+        }
+
+        assertEquals(12, limiter.limit());
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter(properties, registry, clock::get);
+    }
+
+    // admits `count` unit requests together, then completes them all after `latencyMillis`
+    private void runConcurrently(AdaptiveConcurrencyLimiter limiter, String endpoint, int count, long latencyMillis) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(endpoint, 1);
+            if (permit != null) {
+                permits.add(permit);
+            }
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::complete);
+    }
+
+    private double shed(String endpoint) {
+        return registry.get("adaptive_concurrency_shed_total").tag("endpoint", endpoint).counter().count();
+    }
+}
@@ -0,0 +1,4 @@
+#!/bin/sh
+# Lets postgres-replica (compose profile "replica") stream from this server. Runs only when the data volume is
+# initialized; an existing volume needs the same line added to its pg_hba.conf.
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"